@@ -35,6 +35,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 
+    // Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
     // DB
 	runtimeOnly("com.mysql:mysql-connector-j")
 
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.amount.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -16,7 +17,8 @@ import java.math.BigDecimal;
 public class Amount {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "amount_id")
+    @SequenceGenerator(name = "amount_id", sequenceName = "amounts_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
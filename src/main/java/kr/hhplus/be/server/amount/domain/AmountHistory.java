@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.amount.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class AmountHistory {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "amount_history_id")
+    @SequenceGenerator(name = "amount_history_id", sequenceName = "amount_histories_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
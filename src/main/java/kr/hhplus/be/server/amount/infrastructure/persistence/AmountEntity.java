@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.amount.infrastructure.persistence;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.amount.domain.model.Amount;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +21,8 @@ import java.math.BigDecimal;
 public class AmountEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "amount_entity_id")
+    @SequenceGenerator(name = "amount_entity_id", sequenceName = "amounts_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -27,4 +30,11 @@ public class AmountEntity {
     
     @Column(nullable = false)
     private BigDecimal balance;
+    
+    /**
+     * 도메인 모델에서 바뀔 수 있는 상태만 옮긴다.
+     */
+    public void apply(Amount amount) {
+        this.balance = amount.getBalance();
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.amount.infrastructure.persistence;
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.amount.domain.AmountRepository;
 import kr.hhplus.be.server.amount.domain.model.Amount;
+import kr.hhplus.be.server.common.persistence.ManagedEntities;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -20,8 +21,8 @@ public class AmountJpaRepository implements AmountRepository {
     
     @Override
     public Amount save(Amount amount) {
-        AmountEntity entity = toEntity(amount);
-        AmountEntity savedEntity = springAmountJpa.save(entity);
+        AmountEntity savedEntity = ManagedEntities.save(springAmountJpa, amount.getId(),
+                () -> toEntity(amount), entity -> entity.apply(amount));
         amount.assignId(savedEntity.getId());
         return amount;
     }
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.common.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 대기열 입장 상한 조절에 쓰이는 하위 시스템 지연 신호를 측정할 메서드에 붙인다.
+ * 실행 시간과 락 대기 실패가 AdaptiveAdmissionController 로 전달된다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionSignal {
+
+    /**
+     * 지표 태그로 쓰이는 작업 이름
+     */
+    String value();
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.common.exception;
 
 import kr.hhplus.be.server.queue.exception.QueueTokenNotFoundException;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +52,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(SeatAlreadyTakenException.class)
+    public ResponseEntity<ErrorResponse> handleSeatAlreadyTakenException(SeatAlreadyTakenException ex) {
+        // 좌석 경합에서 진 요청은 정상 흐름이므로 스택 트레이스를 남기지 않는다
+        log.debug("SeatAlreadyTakenException: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(ex.getMessage())
+                .build();
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
         log.error("IllegalStateException: ", ex);
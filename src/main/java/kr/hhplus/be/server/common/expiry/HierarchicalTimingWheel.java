@@ -0,0 +1,149 @@
+package kr.hhplus.be.server.common.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠
+ * 마감 시각을 tick 단위 슬롯에 넣어 두고 시간이 지난 슬롯만 꺼내므로, 만료 대상을 찾으려고 DB 범위를 스캔하지 않는다.
+ * 하위 휠 범위를 넘는 마감은 상위 휠에 두었다가 가까워지면 하위 휠로 내려 보낸다(cascade).
+ * 같은 키를 다시 등록하면 이전 마감은 무시되고, 취소된 항목은 슬롯에서 꺼낼 때 버린다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final List<Entry<K>>[][] levels;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private final List<Entry<K>> overdue = new ArrayList<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis  슬롯 하나의 길이
+     * @param wheelBits   휠 하나의 슬롯 수 (2^wheelBits)
+     * @param levelCount  휠 단계 수. 최상위 범위를 넘는 마감은 최상위 휠을 여러 바퀴 돌며 내려온다.
+     * @param nowMillis   시작 시각
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelBits, int levelCount, long nowMillis) {
+        if (tickMillis <= 0 || wheelBits <= 0 || levelCount <= 0) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = new List[levelCount][1 << wheelBits];
+        for (List<Entry<K>>[] level : levels) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = new ArrayList<>();
+            }
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * 키의 마감 시각을 등록한다. 이미 등록된 키면 새 마감으로 바꾼다.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        // 마감이 속한 tick 이 지나야 꺼내므로 마감보다 일찍 만료되지 않는다
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        deadlineTicks.put(key, deadlineTick);
+        place(new Entry<>(key, deadlineTick));
+    }
+
+    public synchronized void cancel(K key) {
+        deadlineTicks.remove(key);
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행하고 마감이 지난 키를 돌려준다.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drain(overdue, expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (wheelBits * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            drain(levels[0][(int) (currentTick & wheelMask)], expired);
+            drain(overdue, expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            overdue.add(entry);
+            return;
+        }
+        int level = 0;
+        while (level < levels.length - 1 && delta >= (1L << (wheelBits * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((entry.deadlineTick >>> (wheelBits * level)) & wheelMask);
+        levels[level][slot].add(entry);
+    }
+
+    private void cascade(int level) {
+        int slot = (int) ((currentTick >>> (wheelBits * level)) & wheelMask);
+        List<Entry<K>> entries = levels[level][slot];
+        if (entries.isEmpty()) {
+            return;
+        }
+        levels[level][slot] = new ArrayList<>();
+        for (Entry<K> entry : entries) {
+            if (isLive(entry)) {
+                place(entry);
+            }
+        }
+    }
+
+    private void drain(List<Entry<K>> entries, List<K> expired) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Entry<K>> pending = new ArrayList<>(entries);
+        entries.clear();
+        for (Entry<K> entry : pending) {
+            if (!isLive(entry)) {
+                continue;
+            }
+            if (entry.deadlineTick > currentTick) {
+                // 최상위 휠 범위를 넘는 마감이 한 바퀴 일찍 내려온 경우
+                place(entry);
+                continue;
+            }
+            deadlineTicks.remove(entry.key);
+            expired.add(entry.key);
+        }
+    }
+
+    private boolean isLive(Entry<K> entry) {
+        Long deadlineTick = deadlineTicks.get(entry.key);
+        return deadlineTick != null && deadlineTick == entry.deadlineTick;
+    }
+
+    private static class Entry<K> {
+
+        private final K key;
+        private final long deadlineTick;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package kr.hhplus.be.server.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 붙은 POST 요청의 첫 응답을 TTL 동안 저장하고, 같은 키로 다시 오면 컨트롤러를 거치지 않고 저장한 응답을 돌려준다.
+ * 키는 대기열 토큰별로 구분한다. 같은 키의 요청이 처리 중이면 그 결과를 기다려 같은 응답을 보낸다.
+ * 2xx 와 다시 보내도 결과가 같은 4xx 만 저장한다. 5xx 와 인증(401, 403), 시간 초과(408), 충돌(409), 요청 제한(429) 응답은
+ * 다시 시도하면 결과가 달라질 수 있으므로 저장하지 않는다. 저장은 노드 로컬이다.
+ */
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String TOKEN_HEADER = "Queue-Token";
+    private static final Set<Integer> TRANSIENT_CLIENT_ERRORS = Set.of(
+            HttpStatus.UNAUTHORIZED.value(),
+            HttpStatus.FORBIDDEN.value(),
+            HttpStatus.REQUEST_TIMEOUT.value(),
+            HttpStatus.CONFLICT.value(),
+            HttpStatus.TOO_MANY_REQUESTS.value());
+
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long waitMillis;
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter joinedCounter;
+
+    public IdempotencyKeyFilter(MeterRegistry meterRegistry, long maximumSize, long ttlSeconds, long waitMillis) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.waitMillis = waitMillis;
+        this.executedCounter = outcomeCounter(meterRegistry, "executed");
+        this.replayedCounter = outcomeCounter(meterRegistry, "replayed");
+        this.joinedCounter = outcomeCounter(meterRegistry, "joined");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = String.join("|", request.getRequestURI(),
+                String.valueOf(request.getHeader(TOKEN_HEADER)), request.getHeader(HEADER));
+        byte[] body = request.getInputStream().readAllBytes();
+
+        while (true) {
+            StoredResponse stored = responses.getIfPresent(key);
+            if (stored != null) {
+                replayedCounter.increment();
+                replay(stored, body, response);
+                return;
+            }
+
+            CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, execution);
+            if (running == null) {
+                executedCounter.increment();
+                execute(key, body, request, response, filterChain, execution);
+                return;
+            }
+
+            try {
+                stored = running.get(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.sendError(HttpStatus.CONFLICT.value(), "같은 Idempotency-Key 의 요청을 처리하고 있습니다");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            } catch (ExecutionException e) {
+                stored = null;
+            }
+            if (stored != null) {
+                joinedCounter.increment();
+                replay(stored, body, response);
+                return;
+            }
+            // 먼저 온 요청이 저장하지 않는 결과로 끝났으면 다시 처리한다
+        }
+    }
+
+    private void execute(String key, byte[] body, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, CompletableFuture<StoredResponse> execution)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+            if (isReplayable(cachingResponse.getStatus())) {
+                stored = new StoredResponse(body, cachingResponse.getStatus(),
+                        cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+                responses.put(key, stored);
+            }
+            cachingResponse.copyBodyToResponse();
+        } finally {
+            inFlight.remove(key);
+            execution.complete(stored);
+        }
+    }
+
+    private static boolean isReplayable(int status) {
+        HttpStatus.Series series = HttpStatus.Series.resolve(status);
+        if (series == HttpStatus.Series.SUCCESSFUL) {
+            return true;
+        }
+        return series == HttpStatus.Series.CLIENT_ERROR && !TRANSIENT_CLIENT_ERRORS.contains(status);
+    }
+
+    private void replay(StoredResponse stored, byte[] body, HttpServletResponse response) throws IOException {
+        if (!Arrays.equals(stored.requestBody(), body)) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .tag("outcome", outcome)
+                .description("Requests carrying an Idempotency-Key by outcome")
+                .register(meterRegistry);
+    }
+
+    private record StoredResponse(byte[] requestBody, int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * 요청 본문을 미리 읽어 비교에 쓰고, 컨트롤러에는 같은 본문을 다시 읽을 수 있게 넘긴다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+    }
+}
@@ -2,12 +2,19 @@ package kr.hhplus.be.server.common.interceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.queue.domain.QueueAccessClaims;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.queue.service.QueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -16,6 +23,13 @@ public class QueueTokenInterceptor implements HandlerInterceptor {
     private final QueueService queueService;
     
     private static final String QUEUE_TOKEN_HEADER = "Queue-Token";
+    private static final String QUEUE_ACCESS_TOKEN_HEADER = "Queue-Access-Token";
+    private static final Pattern CONCERT_PATH = Pattern.compile("^/api/concerts/(\\d{1,18})(/.*)?$");
+    public static final String QUEUE_TOKEN_ATTRIBUTE = "queueToken";
+    /** 활성 토큰이 필요한 경로에서 검증된 사용자 ID */
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    /** 콘서트 전용 대기열 토큰일 때만 설정된다 */
+    public static final String QUEUE_CONCERT_ID_ATTRIBUTE = "queueConcertId";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -35,23 +49,62 @@ public class QueueTokenInterceptor implements HandlerInterceptor {
         // Validate token for active endpoints
         if (requiresActiveToken(requestURI)) {
             try {
-                String userId = queueService.validateAndGetUserId(token);
-                request.setAttribute("userId", userId);
+                String accessToken = request.getHeader(QUEUE_ACCESS_TOKEN_HEADER);
+                if (accessToken == null || accessToken.isBlank()) {
+                    request.setAttribute(USER_ID_ATTRIBUTE, queueService.validateAndGetUserId(token));
+                    // validateAndGetUserId 가 채운 캐시에서 대기열 범위를 읽는다
+                    queueService.resolveToken(token)
+                            .ifPresent(snapshot -> setConcertScope(request, snapshot.getConcertId()));
+                } else {
+                    // Signed access token: verified with CPU work only, no queue_tokens lookup
+                    QueueAccessClaims claims = queueService.verifyAccessToken(token, accessToken);
+                    request.setAttribute(USER_ID_ATTRIBUTE, claims.getUserId());
+                    setConcertScope(request, claims.getConcertId());
+                }
             } catch (Exception e) {
                 log.warn("Token validation failed: {}", e.getMessage());
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or inactive token");
                 return false;
             }
+        } else {
+            // Resolve once per request so controllers can reuse the result
+            Optional<QueueTokenSnapshot> snapshot = queueService.resolveToken(token);
+            if (snapshot.isPresent()) {
+                request.setAttribute(QUEUE_TOKEN_ATTRIBUTE, snapshot.get());
+                setConcertScope(request, snapshot.get().getConcertId());
+                if (!isInConcertScope(requestURI, snapshot.get())) {
+                    response.sendError(HttpServletResponse.SC_FORBIDDEN, "Queue token is for another concert");
+                    return false;
+                }
+            }
         }
         
         return true;
     }
 
+    private void setConcertScope(HttpServletRequest request, long concertId) {
+        if (concertId != QueueToken.GENERAL_QUEUE_ID) {
+            request.setAttribute(QUEUE_CONCERT_ID_ATTRIBUTE, concertId);
+        }
+    }
+
+    /**
+     * 콘서트 전용 대기열 토큰은 해당 콘서트 경로(/api/concerts/{id}/**)에서만 쓸 수 있다.
+     */
+    private boolean isInConcertScope(String requestURI, QueueTokenSnapshot snapshot) {
+        if (snapshot.isGeneralQueue()) {
+            return true;
+        }
+        Matcher matcher = CONCERT_PATH.matcher(requestURI);
+        return !matcher.matches() || Long.parseLong(matcher.group(1)) == snapshot.getConcertId();
+    }
+
     private boolean shouldSkipTokenValidation(String requestURI) {
         return requestURI.equals("/api/queue/token") ||
                requestURI.startsWith("/swagger-ui") ||
                requestURI.startsWith("/v3/api-docs") ||
                requestURI.equals("/api/queue/status") ||
+               requestURI.equals("/api/queue/status/stream") ||
                requestURI.startsWith("/actuator");
     }
 
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.common.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 도메인 모델 저장을 엔티티에 옮기는 도우미
+ * 새 엔티티를 만들어 save 하면 id 가 있는 경우 merge 가 되고, 영속성 컨텍스트에 없으면 SELECT 로 다시 읽는다.
+ * 트랜잭션 안에서는 이미 읽은(관리 중인) 엔티티를 1차 캐시에서 꺼내 변경만 덮어쓰고, UPDATE 는 dirty checking 에 맡긴다.
+ */
+public final class ManagedEntities {
+
+    private ManagedEntities() {
+    }
+
+    public static <E> E save(JpaRepository<E, Long> repository, Long id,
+                             Supplier<E> newEntity, Consumer<E> applyChanges) {
+        // 트랜잭션 밖에서는 꺼낸 엔티티가 바로 준영속이 되어 변경이 반영되지 않는다
+        if (id == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return repository.save(newEntity.get());
+        }
+        Optional<E> managed = repository.findById(id);
+        if (managed.isEmpty()) {
+            return repository.save(newEntity.get());
+        }
+        applyChanges.accept(managed.get());
+        return managed.get();
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.common.persistence;
+
+/**
+ * 엔티티 ID 할당 설정
+ * IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼진다. 대신 테이블별 시퀀스 테이블에서 ALLOCATION_SIZE 만큼 미리 받아 메모리에서 나눠 준다.
+ * MySQL 에는 시퀀스가 없으므로 Hibernate 가 {테이블}_seq 테이블(next_val)로 대신한다. 한 노드 안에서는 증가 순서가 곧 생성 순서다.
+ * 배치 크기(hibernate.jdbc.batch_size)와 맞춰 둔다.
+ * 운영 스키마의 시퀀스 테이블은 db/migration/V1__pooled_id_sequences.sql 로 만들고 기존 MAX(id) 뒤에서 시작한다.
+ */
+public final class PooledIds {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
@@ -10,7 +10,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.hhplus.be.server.concert.dto.ConcertResponse;
 import kr.hhplus.be.server.concert.service.ConcertService;
-import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.common.interceptor.QueueTokenInterceptor;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,7 +28,6 @@ import java.util.Map;
 public class ConcertController {
 
     private final ConcertService concertService;
-    private final QueueService queueService;
 
     @Operation(summary = "콘서트 목록 조회", description = "예약 가능한 콘서트 목록을 조회합니다.")
     @ApiResponses(value = {
@@ -38,8 +38,9 @@ public class ConcertController {
     @GetMapping
     public ResponseEntity<List<ConcertResponse>> getConcerts(
             @Parameter(description = "대기열 토큰", required = true)
-            @RequestHeader("Queue-Token") String token) {
-        if (!queueService.validateToken(token)) {
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
             return ResponseEntity.status(401).build();
         }
         List<ConcertResponse> concerts = concertService.getAllConcerts();
@@ -57,8 +58,9 @@ public class ConcertController {
             @Parameter(description = "콘서트 ID", required = true)
             @PathVariable Long concertId,
             @Parameter(description = "대기열 토큰", required = true)
-            @RequestHeader("Queue-Token") String token) {
-        if (!queueService.validateToken(token)) {
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
             return ResponseEntity.status(401).build();
         }
         List<LocalDate> availableDates = concertService.getAvailableDates(concertId);
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.concert.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 @Entity
@@ -12,7 +13,8 @@ import lombok.*;
 public class Concert {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "concert_id")
+    @SequenceGenerator(name = "concert_id", sequenceName = "concerts_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.common.aop.AdmissionSignal;
+import kr.hhplus.be.server.queue.service.AdaptiveAdmissionController;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * @AdmissionSignal 메서드의 지연과 락 대기 실패를 입장 상한 조절기에 전달하는 어드바이저
+ * @Transactional 과 같은 인프라 어드바이저로 등록해 별도 AOP 의존성 없이 적용되며,
+ * 트랜잭션 커밋까지 포함해 측정하도록 트랜잭션 어드바이스보다 바깥에서 실행된다.
+ */
+@Configuration
+public class AdmissionSignalConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor admissionSignalAdvisor(ObjectProvider<AdaptiveAdmissionController> admissionController) {
+        MethodInterceptor interceptor = invocation -> {
+            String operation = invocation.getMethod().getAnnotation(AdmissionSignal.class).value();
+            long startedAt = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                admissionController.getObject().recordFailure(e);
+                throw e;
+            } finally {
+                admissionController.getObject().recordLatency(operation, System.nanoTime() - startedAt);
+            }
+        };
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(AdmissionSignal.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -4,8 +4,9 @@ import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
 import kr.hhplus.be.server.schedule.domain.Schedule;
 import kr.hhplus.be.server.schedule.repository.ScheduleRepository;
-import kr.hhplus.be.server.seat.domain.model.Seat;
-import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -18,7 +19,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -27,9 +27,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DataInitializer implements ApplicationRunner {
 
+    // 1~10 VIP, 11~30 R, 31~50 S
+    private static final SeatLayout SAMPLE_LAYOUT = SeatLayout.builder()
+            .sections(List.of(
+                    section("VIP", 1, "VIP", 150000),
+                    section("R", 2, "R", 100000),
+                    section("S", 2, "S", 80000)))
+            .build();
+
     private final ConcertRepository concertRepository;
     private final ScheduleRepository scheduleRepository;
-    private final SeatRepository seatRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final ScheduleSeatCounter seatCounter;
 
     @Override
     @Transactional
@@ -79,41 +88,23 @@ public class DataInitializer implements ApplicationRunner {
                     .concertId(concert.getId())
                     .performanceDate(performanceDate)
                     .performanceTime(performanceTime)
-                    .totalSeats(50)
-                    .availableSeats(50)
+                    .totalSeats(SAMPLE_LAYOUT.seatCount())
+                    .availableSeats(SAMPLE_LAYOUT.seatCount())
                     .build();
             
             Schedule savedSchedule = scheduleRepository.save(schedule);
-            
-            // Create seats (1-50)
-            List<Seat> seats = new ArrayList<>();
-            for (int seatNumber = 1; seatNumber <= 50; seatNumber++) {
-                String grade;
-                BigDecimal price;
-                
-                if (seatNumber <= 10) {
-                    grade = "VIP";
-                    price = BigDecimal.valueOf(150000);
-                } else if (seatNumber <= 30) {
-                    grade = "R";
-                    price = BigDecimal.valueOf(100000);
-                } else {
-                    grade = "S";
-                    price = BigDecimal.valueOf(80000);
-                }
-                
-                Seat seat = Seat.builder()
-                        .scheduleId(savedSchedule.getId())
-                        .seatNumber(seatNumber)
-                        .grade(grade)
-                        .price(price)
-                        .status(Seat.Status.AVAILABLE)
-                        .build();
-                
-                seats.add(seat);
-            }
-            
-            seatRepository.saveAll(seats);
+            seatInventoryService.createInventory(savedSchedule.getId(), SAMPLE_LAYOUT);
+            seatCounter.initialize(savedSchedule.getId(), savedSchedule.getAvailableSeats());
         }
     }
-}
\ No newline at end of file
+    
+    private static SeatLayout.Section section(String name, int rows, String grade, long price) {
+        return SeatLayout.Section.builder()
+                .name(name)
+                .rows(rows)
+                .seatsPerRow(10)
+                .grade(grade)
+                .price(BigDecimal.valueOf(price))
+                .build();
+    }
+}
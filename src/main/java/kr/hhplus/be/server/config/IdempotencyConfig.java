@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.idempotency.IdempotencyKeyFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 예약/결제 POST 에 Idempotency-Key 필터를 건다.
+ * 필터는 인터셉터와 컨트롤러보다 앞에서 실행되므로, 다시 온 요청은 토큰 검증과 트랜잭션 없이 저장된 응답을 받는다.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.maximum-size:100000}") long maximumSize,
+            @Value("${idempotency.ttl-seconds:300}") long ttlSeconds,
+            @Value("${idempotency.wait-millis:5000}") long waitMillis) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyKeyFilter(meterRegistry, maximumSize, ttlSeconds, waitMillis));
+        registration.addUrlPatterns("/api/reservations", "/api/reservations/best-available", "/api/payments");
+        return registration;
+    }
+}
@@ -1,9 +1,37 @@
 package kr.hhplus.be.server.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄러 구성
+ * 일반 작업은 spring.task.scheduling 설정을 따르는 taskScheduler 에서 돌고,
+ * 입장 tick 과 만료 타이밍 휠처럼 수백 ms 주기를 지켜야 하는 작업은 tickScheduler 를 따로 쓴다.
+ * 그래서 분 단위 스캔이 길어져도 tick 이 밀리지 않는다.
+ */
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-}
\ No newline at end of file
+
+    public static final String TICK_SCHEDULER = "tickScheduler";
+
+    /**
+     * tickScheduler 를 등록하면 기본 스케줄러 자동 구성이 빠지므로 같은 설정으로 직접 만든다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(TICK_SCHEDULER)
+    public ThreadPoolTaskScheduler tickScheduler(@Value("${scheduling.tick.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("tick-");
+        return scheduler;
+    }
+}
@@ -19,6 +19,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .excludePathPatterns(
                         "/api/queue/token",
                         "/api/queue/status",
+                        "/api/queue/status/stream",
                         "/swagger-ui/**",
                         "/v3/api-docs/**"
                 );
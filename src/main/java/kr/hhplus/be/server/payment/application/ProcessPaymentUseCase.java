@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.payment.application;
 
 import kr.hhplus.be.server.amount.domain.AmountRepository;
+import kr.hhplus.be.server.common.aop.AdmissionSignal;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.domain.ConcertRepository;
 import kr.hhplus.be.server.payment.domain.PaymentRepository;
@@ -30,6 +31,7 @@ public class ProcessPaymentUseCase {
     private final AmountRepository amountRepository;
 
     @Transactional
+    @AdmissionSignal("payment.execute")
     public PaymentResponse execute(String userId, Long reservationId) {
         // Get reservation with lock
         Reservation reservation = reservationRepository.findByIdWithLock(reservationId)
@@ -39,9 +39,11 @@ public class PaymentController {
     public ResponseEntity<PaymentResponse> processPayment(
             @Parameter(description = "대기열 토큰", required = true)
             @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = "userId", required = false) String verifiedUserId,
             @Valid @RequestBody PaymentRequest request) {
         try {
-            String userId = queueService.validateAndGetUserId(token);
+            // 인터셉터에서 검증된 사용자가 있으면 토큰을 다시 조회하지 않는다
+            String userId = verifiedUserId != null ? verifiedUserId : queueService.validateAndGetUserId(token);
             PaymentResponse response = paymentService.processPayment(userId, request.getReservationId());
             
             // 결제 성공시 토큰 만료
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.payment.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -20,7 +21,8 @@ import java.time.temporal.ChronoUnit;
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_id")
+    @SequenceGenerator(name = "payment_id", sequenceName = "payments_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.payment.infrastructure.persistence;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import kr.hhplus.be.server.payment.domain.model.Payment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +24,8 @@ import java.time.LocalDateTime;
 public class PaymentEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_entity_id")
+    @SequenceGenerator(name = "payment_entity_id", sequenceName = "payments_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -51,4 +53,16 @@ public class PaymentEntity {
     private LocalDateTime cancelledAt;
     
     private String cancelReason;
+    
+    /**
+     * 도메인 모델에서 바뀔 수 있는 상태만 옮긴다.
+     */
+    public void apply(Payment payment) {
+        this.status = payment.getStatus();
+        this.paidAt = payment.getPaidAt();
+        this.failedAt = payment.getFailedAt();
+        this.failureReason = payment.getFailureReason();
+        this.cancelledAt = payment.getCancelledAt();
+        this.cancelReason = payment.getCancelReason();
+    }
 }
\ No newline at end of file
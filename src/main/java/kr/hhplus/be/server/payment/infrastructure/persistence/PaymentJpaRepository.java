@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.payment.infrastructure.persistence;
 
+import kr.hhplus.be.server.common.persistence.ManagedEntities;
 import kr.hhplus.be.server.payment.domain.PaymentRepository;
 import kr.hhplus.be.server.payment.domain.model.Payment;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +18,8 @@ public class PaymentJpaRepository implements PaymentRepository {
     
     @Override
     public Payment save(Payment payment) {
-        PaymentEntity entity = toEntity(payment);
-        PaymentEntity savedEntity = springPaymentJpa.save(entity);
+        PaymentEntity savedEntity = ManagedEntities.save(springPaymentJpa, payment.getId(),
+                () -> toEntity(payment), entity -> entity.apply(payment));
         payment.assignId(savedEntity.getId());
         return payment;
     }
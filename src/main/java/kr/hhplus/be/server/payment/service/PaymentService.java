@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.payment.service;
 
 import kr.hhplus.be.server.amount.service.AmountService;
+import kr.hhplus.be.server.common.aop.AdmissionSignal;
 import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.concert.domain.ConcertRepository;
 import kr.hhplus.be.server.payment.domain.model.Payment;
@@ -32,6 +33,7 @@ public class PaymentService {
     private final AmountService amountService;
 
     @Transactional
+    @AdmissionSignal("payment.process")
     public PaymentResponse processPayment(String userId, Long reservationId) {
         // Get reservation with lock
         Reservation reservation = reservationRepository.findByIdWithLock(reservationId)
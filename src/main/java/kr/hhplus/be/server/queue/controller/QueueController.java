@@ -12,8 +12,10 @@ import kr.hhplus.be.server.queue.dto.QueueTokenRequest;
 import kr.hhplus.be.server.queue.dto.QueueTokenResponse;
 import kr.hhplus.be.server.queue.service.QueueService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "대기열 API", description = "대기열 토큰 발급 및 조회 API")
 @RestController
@@ -32,7 +34,7 @@ public class QueueController {
     @PostMapping("/token")
     public ResponseEntity<QueueTokenResponse> issueToken(
             @Valid @RequestBody QueueTokenRequest request) {
-        QueueTokenResponse response = queueService.issueToken(request.getUserId());
+        QueueTokenResponse response = queueService.issueToken(request.getUserId(), request.getConcertId());
         return ResponseEntity.ok(response);
     }
 
@@ -50,4 +52,31 @@ public class QueueController {
         QueueTokenResponse response = queueService.getQueueStatus(token);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "대기열 상태 스트림", description = "대기 순번이 바뀔 때와 토큰이 활성화될 때 SSE 로 알림을 받습니다. 폴링 대신 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공 (position, activated 이벤트)"),
+            @ApiResponse(responseCode = "400", description = "만료된 토큰"),
+            @ApiResponse(responseCode = "404", description = "토큰을 찾을 수 없음")
+    })
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("Queue-Token") String token) {
+        return queueService.subscribeQueueStatus(token);
+    }
+
+    @Operation(summary = "대기열 이탈", description = "대기 중인 토큰을 반납하고 대기열에서 나갑니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "이탈 성공"),
+            @ApiResponse(responseCode = "400", description = "대기 중인 토큰이 아님"),
+            @ApiResponse(responseCode = "404", description = "토큰을 찾을 수 없음")
+    })
+    @DeleteMapping("/token")
+    public ResponseEntity<Void> leaveQueue(
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("Queue-Token") String token) {
+        queueService.leaveQueue(token);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
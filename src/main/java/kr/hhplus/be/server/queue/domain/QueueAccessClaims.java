@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.queue.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명된 접근 토큰에 담기는 값
+ * 검증이 끝난 뒤에만 만들어지므로 DB 조회 없이 신뢰할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class QueueAccessClaims {
+
+    private final String userId;
+    private final String token;
+    private final long concertId;
+    private final Instant activatedAt;
+    private final Instant expiresAt;
+}
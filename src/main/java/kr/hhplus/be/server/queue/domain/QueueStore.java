@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 대기열 상태 저장소
+ * queue.store 속성으로 구현체를 선택한다 (jdbc: queue_tokens 테이블, memory: 단일 노드 인메모리)
+ * 대기열은 concertId 로 나뉘며 입장 순번과 활성화 순서는 대기열마다 독립적이다.
+ */
+public interface QueueStore {
+
+    Optional<QueueToken> findByToken(String token);
+
+    Optional<QueueToken> findLiveTokenByUserId(String userId, long concertId);
+
+    /**
+     * 토큰 상태를 저장한다. 같은 대기열에 같은 사용자의 대기/활성 토큰이 이미 있으면 기존 토큰을 반환할 수 있다.
+     */
+    QueueToken save(QueueToken token);
+
+    /**
+     * 대기 토큰에 대기열의 다음 입장 순번을 붙여 저장한다. 순번은 노드가 여럿이어도 겹치지 않고 한 노드 안에서는 커지기만 하지만,
+     * 빈틈없이 이어진다는 보장은 없다. 빈 순번은 대기 순번을 그만큼 크게 보이게 할 뿐 활성화 순서에는 영향이 없다.
+     * 같은 사용자의 토큰이 이미 있으면 기존 토큰을 반환할 수 있다.
+     */
+    QueueToken issue(QueueToken token);
+
+    /**
+     * 모든 대기열의 활성 토큰 수
+     */
+    long countActive();
+
+    long countActive(long concertId);
+
+    long countWaitingCreatedBefore(long concertId, LocalDateTime createdAt);
+
+    /**
+     * 대기/활성 토큰이 남아 있는 대기열 목록
+     */
+    List<Long> findLiveQueueIds();
+
+    /**
+     * 대기열에서 입장 순번이 가장 빠른 대기 토큰을 limit 개까지 활성화하고 활성화된 토큰을 반환한다.
+     */
+    List<QueueToken> activateNext(long concertId, int limit);
+
+    /**
+     * cutoff 이전에 활성화된 토큰을 만료시키고 만료된 토큰 수를 반환한다. 토큰을 읽어 오지 않는다.
+     */
+    long expireActivatedBefore(LocalDateTime cutoff);
+
+    /**
+     * 주어진 토큰 중 cutoff 이전에 활성화된 토큰만 만료시키고 만료된 토큰 수를 반환한다.
+     */
+    long expireTokens(Collection<String> tokens, LocalDateTime cutoff);
+
+    /**
+     * 만료 타이밍 휠 복원용. 활성 인원은 AIMD 상한으로 제한되므로 한 번에 읽어도 된다.
+     */
+    List<QueueToken> findActiveTokens();
+
+    long findMaxAdmissionSeq(long concertId);
+
+    Optional<Long> findMinWaitingAdmissionSeq(long concertId);
+
+    List<Long> findDepartedAdmissionSeqsAfter(long concertId, long admissionSeq);
+
+    /**
+     * since 이후에 대기열을 떠난 토큰 중 admissionSeq 뒤의 입장 순번
+     */
+    List<Long> findDepartedAdmissionSeqsSince(long concertId, long admissionSeq, LocalDateTime since);
+}
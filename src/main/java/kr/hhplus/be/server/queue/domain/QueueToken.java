@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.queue.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,7 +11,12 @@ import java.time.temporal.ChronoUnit;
 @Table(name = "queue_tokens", indexes = {
         @Index(name = "idx_token", columnList = "token"),
         @Index(name = "idx_user_id_status", columnList = "userId,status"),
-        @Index(name = "idx_status_created_at", columnList = "status,createdAt")
+        @Index(name = "idx_concert_status_created_at", columnList = "concertId,status,createdAt"),
+        @Index(name = "idx_concert_status_admission_seq", columnList = "concertId,status,admissionSeq"),
+        @Index(name = "idx_status_activated_at", columnList = "status,activatedAt"),
+        @Index(name = "idx_concert_status_expired_at", columnList = "concertId,status,expiredAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_concert_admission_seq", columnNames = {"concertId", "admissionSeq"})
 })
 @Getter
 @Builder
@@ -19,7 +25,8 @@ import java.time.temporal.ChronoUnit;
 public class QueueToken {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "queue_token_id")
+    @SequenceGenerator(name = "queue_token_id", sequenceName = "queue_tokens_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -28,10 +35,18 @@ public class QueueToken {
     @Column(nullable = false)
     private String userId;
     
-    @Setter
     @Column(nullable = false)
     private Integer position;
     
+    /**
+     * 대기열 구분 키. 콘서트별 대기열은 concertId, 공용 대기열은 GENERAL_QUEUE_ID 를 쓴다.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private Long concertId = GENERAL_QUEUE_ID;
+    
+    private Long admissionSeq;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Status status;
@@ -49,7 +64,19 @@ public class QueueToken {
         EXPIRED
     }
     
-    private static final int ACTIVE_DURATION_MINUTES = 5;
+    public static final long GENERAL_QUEUE_ID = 0L;
+    
+    public static final int ACTIVE_DURATION_MINUTES = 5;
+    
+    /**
+     * 저장소가 발급한 입장 순번을 붙인다. 한 번 붙은 순번은 바꾸지 않는다.
+     */
+    public void assignAdmissionSeq(long admissionSeq) {
+        if (this.admissionSeq != null) {
+            throw new IllegalStateException("이미 입장 순번이 발급된 토큰입니다");
+        }
+        this.admissionSeq = admissionSeq;
+    }
     
     public void activate() {
         if (this.status == Status.ACTIVE) {
@@ -76,6 +103,33 @@ public class QueueToken {
         this.expiredAt = LocalDateTime.now();
     }
     
+    public void leave() {
+        if (this.status != Status.WAITING) {
+            throw new IllegalStateException("대기 중인 토큰만 대기열을 떠날 수 있습니다");
+        }
+        
+        this.status = Status.EXPIRED;
+        this.expiredAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 같은 상태의 새 인스턴스. 인메모리 저장소는 저장한 인스턴스 대신 복사본을 내보낸다.
+     */
+    public QueueToken copy() {
+        return QueueToken.builder()
+                .id(id)
+                .token(token)
+                .userId(userId)
+                .position(position)
+                .concertId(concertId)
+                .admissionSeq(admissionSeq)
+                .status(status)
+                .createdAt(createdAt)
+                .activatedAt(activatedAt)
+                .expiredAt(expiredAt)
+                .build();
+    }
+    
     public boolean isActive() {
         return this.status == Status.ACTIVE;
     }
@@ -84,6 +138,14 @@ public class QueueToken {
         return this.status == Status.EXPIRED;
     }
     
+    public Long getConcertId() {
+        return concertId == null ? GENERAL_QUEUE_ID : concertId;
+    }
+    
+    public boolean isGeneralQueue() {
+        return getConcertId() == GENERAL_QUEUE_ID;
+    }
+    
     public boolean isWaiting() {
         return this.status == Status.WAITING;
     }
@@ -103,6 +165,10 @@ public class QueueToken {
         return ChronoUnit.SECONDS.between(now, expirationTime);
     }
     
+    public LocalDateTime getActiveUntil() {
+        return activatedAt == null ? null : activatedAt.plusMinutes(ACTIVE_DURATION_MINUTES);
+    }
+    
     public boolean shouldAutoExpire() {
         return isActive() && getRemainingActiveTimeSeconds() == 0;
     }
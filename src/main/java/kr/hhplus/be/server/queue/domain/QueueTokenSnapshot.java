@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.queue.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 검증에 필요한 값만 담은 불변 스냅샷
+ * 토큰 검증 캐시와 요청 속성(request attribute)에 저장되어 한 요청 안에서 재사용된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueueTokenSnapshot {
+
+    private static final int ACTIVE_DURATION_MINUTES = 5;
+
+    private final String token;
+    private final String userId;
+    private final long concertId;
+    private final QueueToken.Status status;
+    private final LocalDateTime activatedAt;
+
+    public static QueueTokenSnapshot from(QueueToken queueToken) {
+        return new QueueTokenSnapshot(
+                queueToken.getToken(),
+                queueToken.getUserId(),
+                queueToken.getConcertId(),
+                queueToken.getStatus(),
+                queueToken.getActivatedAt()
+        );
+    }
+
+    public boolean isActive() {
+        return status == QueueToken.Status.ACTIVE;
+    }
+
+    public boolean isWaiting() {
+        return status == QueueToken.Status.WAITING;
+    }
+
+    public boolean isGeneralQueue() {
+        return concertId == QueueToken.GENERAL_QUEUE_ID;
+    }
+
+    public boolean shouldAutoExpire() {
+        return isActive() && activatedAt != null
+                && !LocalDateTime.now().isBefore(activatedAt.plusMinutes(ACTIVE_DURATION_MINUTES));
+    }
+}
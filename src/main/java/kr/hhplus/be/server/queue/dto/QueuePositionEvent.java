@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuePositionEvent {
+
+    private String token;
+    private Integer queuePosition;
+    private Integer estimatedWaitTime; // in seconds
+}
@@ -12,4 +12,10 @@ public class QueueTokenRequest {
     
     @NotBlank(message = "User ID is required")
     private String userId;
+    
+    private Long concertId; // null 이면 공용 대기열
+    
+    public QueueTokenRequest(String userId) {
+        this.userId = userId;
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@ public class QueueTokenResponse {
     
     private String token;
     private String userId;
+    private Long concertId;
     private Integer queuePosition;
     private Integer estimatedWaitTime; // in seconds
     private String status;
+    private String accessToken; // only for active tokens
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
@@ -0,0 +1,337 @@
+package kr.hhplus.be.server.queue.infrastructure.memory;
+
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 노드용 인메모리 대기열 저장소
+ * 대기열(concertId)마다 입장 순번 기준 skip-list 와 활성 토큰 집합을 따로 두어 DB 왕복 없이 동작한다.
+ * 저장한 토큰 인스턴스는 저장소 밖으로 내보내지 않고 복사본만 돌려준다. 상태 전이는 토큰 키의 compute 안에서
+ * 새 인스턴스로 바꿔 끼우며 색인도 함께 고치므로, 같은 토큰의 전이는 줄을 서고 읽는 쪽은 잠그지 않는다.
+ * 만료된 토큰은 대기열에서 빠진 뒤에도 tombstone-seconds 동안 남겨 JDBC 저장소처럼 만료된 토큰으로 응답한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "memory")
+public class InMemoryQueueStore implements QueueStore {
+
+    private final Map<String, QueueToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, String> liveTokenByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Tombstone> tombstones = new ConcurrentLinkedQueue<>();
+    private final long tombstoneNanos;
+
+    public InMemoryQueueStore(@Value("${queue.memory.tombstone-seconds:600}") long tombstoneSeconds) {
+        if (tombstoneSeconds < 0) {
+            throw new IllegalArgumentException("만료 토큰 보관 시간은 0 이상이어야 합니다");
+        }
+        this.tombstoneNanos = TimeUnit.SECONDS.toNanos(tombstoneSeconds);
+    }
+
+    /**
+     * 보관 시간이 모두 같아 큐 순서가 곧 정리 순서다.
+     */
+    private record Tombstone(String token, long removeAtNanos) {
+    }
+
+    private static class Room {
+        private final ConcurrentSkipListMap<Long, String> waitingBySeq = new ConcurrentSkipListMap<>();
+        private final Set<String> activeTokens = ConcurrentHashMap.newKeySet();
+        private final AtomicLong maxAdmissionSeq = new AtomicLong();
+
+        private boolean isEmpty() {
+            return waitingBySeq.isEmpty() && activeTokens.isEmpty();
+        }
+    }
+
+    @Override
+    public Optional<QueueToken> findByToken(String token) {
+        return Optional.ofNullable(tokens.get(token)).map(QueueToken::copy);
+    }
+
+    @Override
+    public Optional<QueueToken> findLiveTokenByUserId(String userId, long concertId) {
+        String token = liveTokenByUser.get(userKey(userId, concertId));
+        return token == null ? Optional.empty() : findByToken(token);
+    }
+
+    /**
+     * 상태는 앞으로만 움직이므로, 다른 경로가 먼저 더 나아간 토큰은 낡은 복사본으로 되돌리지 않는다.
+     */
+    @Override
+    public QueueToken save(QueueToken token) {
+        if (token.isWaiting()) {
+            return saveWaiting(token.copy());
+        }
+        QueueToken saved = tokens.compute(token.getToken(), (key, current) -> {
+            if (current != null && current.getStatus().compareTo(token.getStatus()) > 0) {
+                return current;
+            }
+            QueueToken next = token.copy();
+            index(next);
+            return next;
+        });
+        purgeTombstones();
+        return saved.copy();
+    }
+
+    /**
+     * 대기열 안에서 순번을 정하고 저장하는 동안 다른 발급을 막는다. 기존 토큰이 반환되면 순번은 올라가지 않는다.
+     */
+    @Override
+    public QueueToken issue(QueueToken token) {
+        Room room = room(token.getConcertId());
+        synchronized (room) {
+            QueueToken issued = token.copy();
+            issued.assignAdmissionSeq(room.maxAdmissionSeq.get() + 1);
+            return saveWaiting(issued);
+        }
+    }
+
+    private QueueToken saveWaiting(QueueToken token) {
+        QueueToken current = tokens.putIfAbsent(token.getToken(), token);
+        if (current != null) {
+            // 이미 저장된 토큰은 대기 상태로 되돌리지 않는다
+            return current.copy();
+        }
+        String liveToken = liveTokenByUser.putIfAbsent(userKey(token), token.getToken());
+        if (liveToken != null && !liveToken.equals(token.getToken())) {
+            // 같은 사용자의 동시 발급 경합에서 진 토큰은 버리고 먼저 등록된 토큰을 돌려준다
+            tokens.remove(token.getToken());
+            QueueToken existing = tokens.get(liveToken);
+            if (existing != null) {
+                return existing.copy();
+            }
+            liveTokenByUser.put(userKey(token), token.getToken());
+            tokens.put(token.getToken(), token);
+        }
+        index(token);
+        return token.copy();
+    }
+
+    /**
+     * 저장된 토큰이 applicable 을 만족하면 복사본에 전이를 적용해 바꿔 끼운다.
+     *
+     * @return 바뀐 토큰, 적용하지 않았으면 null
+     */
+    private QueueToken transition(String tokenId, Predicate<QueueToken> applicable, Consumer<QueueToken> change) {
+        AtomicReference<QueueToken> changed = new AtomicReference<>();
+        tokens.computeIfPresent(tokenId, (key, current) -> {
+            if (!applicable.test(current)) {
+                return current;
+            }
+            QueueToken next = current.copy();
+            change.accept(next);
+            index(next);
+            changed.set(next);
+            return next;
+        });
+        return changed.get();
+    }
+
+    /**
+     * 토큰 상태에 맞게 대기열 색인을 고친다. 토큰 키의 compute 안에서 부르므로 같은 토큰의 색인 갱신은 섞이지 않는다.
+     */
+    private void index(QueueToken token) {
+        Room room = room(token.getConcertId());
+        switch (token.getStatus()) {
+            case WAITING -> {
+                if (token.getAdmissionSeq() != null) {
+                    room.waitingBySeq.put(token.getAdmissionSeq(), token.getToken());
+                    room.maxAdmissionSeq.accumulateAndGet(token.getAdmissionSeq(), Math::max);
+                }
+            }
+            case ACTIVE -> {
+                removeFromWaiting(room, token);
+                room.activeTokens.add(token.getToken());
+                liveTokenByUser.put(userKey(token), token.getToken());
+            }
+            case EXPIRED -> {
+                removeFromWaiting(room, token);
+                room.activeTokens.remove(token.getToken());
+                liveTokenByUser.remove(userKey(token), token.getToken());
+                tombstones.add(new Tombstone(token.getToken(), System.nanoTime() + tombstoneNanos));
+            }
+        }
+    }
+
+    private void purgeTombstones() {
+        long now = System.nanoTime();
+        for (Tombstone head = tombstones.peek(); head != null && head.removeAtNanos() - now <= 0;
+             head = tombstones.peek()) {
+            if (tombstones.remove(head)) {
+                tokens.computeIfPresent(head.token(), (key, token) -> token.isExpired() ? null : token);
+            }
+        }
+    }
+
+    private void removeFromWaiting(Room room, QueueToken token) {
+        if (token.getAdmissionSeq() != null) {
+            room.waitingBySeq.remove(token.getAdmissionSeq(), token.getToken());
+        }
+    }
+
+    @Override
+    public long countActive() {
+        return rooms.values().stream()
+                .mapToLong(room -> room.activeTokens.size())
+                .sum();
+    }
+
+    @Override
+    public long countActive(long concertId) {
+        Room room = rooms.get(concertId);
+        return room == null ? 0 : room.activeTokens.size();
+    }
+
+    @Override
+    public long countWaitingCreatedBefore(long concertId, LocalDateTime createdAt) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return 0;
+        }
+        return room.waitingBySeq.values().stream()
+                .map(tokens::get)
+                .filter(token -> token != null && token.getCreatedAt().isBefore(createdAt))
+                .count();
+    }
+
+    @Override
+    public List<Long> findLiveQueueIds() {
+        return rooms.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public List<QueueToken> activateNext(long concertId, int limit) {
+        Room room = rooms.get(concertId);
+        List<QueueToken> activated = new ArrayList<>(limit);
+        if (room == null) {
+            return activated;
+        }
+        while (activated.size() < limit) {
+            Map.Entry<Long, String> head = room.waitingBySeq.pollFirstEntry();
+            if (head == null) {
+                break;
+            }
+            // 꺼내는 사이에 대기열을 떠난 토큰은 건너뛴다
+            QueueToken token = transition(head.getValue(), QueueToken::isWaiting, QueueToken::activate);
+            if (token != null) {
+                activated.add(token.copy());
+            }
+        }
+        return activated;
+    }
+
+    @Override
+    public long expireActivatedBefore(LocalDateTime cutoff) {
+        long expired = 0;
+        for (Room room : rooms.values()) {
+            for (String token : room.activeTokens) {
+                if (expireIf(token, activatedAt -> activatedAt.isBefore(cutoff))) {
+                    expired++;
+                }
+            }
+        }
+        purgeTombstones();
+        return expired;
+    }
+
+    @Override
+    public long expireTokens(Collection<String> tokenIds, LocalDateTime cutoff) {
+        long expired = 0;
+        for (String tokenId : tokenIds) {
+            if (expireIf(tokenId, activatedAt -> !activatedAt.isAfter(cutoff))) {
+                expired++;
+            }
+        }
+        purgeTombstones();
+        return expired;
+    }
+
+    /**
+     * 활성 상태와 활성화 시각을 전이 안에서 다시 확인하고 만료시킨다. 다른 경로에서 먼저 만료된 토큰은 세지 않는다.
+     * 한 토큰의 실패가 나머지 토큰의 만료를 막지 않도록 여기서 처리한다.
+     */
+    private boolean expireIf(String tokenId, Predicate<LocalDateTime> activatedBefore) {
+        try {
+            return transition(tokenId,
+                    token -> token.isActive() && token.getActivatedAt() != null
+                            && activatedBefore.test(token.getActivatedAt()),
+                    QueueToken::expire) != null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to expire in-memory queue token {}", tokenId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public List<QueueToken> findActiveTokens() {
+        return rooms.values().stream()
+                .flatMap(room -> room.activeTokens.stream())
+                .map(tokens::get)
+                .filter(Objects::nonNull)
+                .map(QueueToken::copy)
+                .toList();
+    }
+
+    @Override
+    public long findMaxAdmissionSeq(long concertId) {
+        Room room = rooms.get(concertId);
+        return room == null ? 0 : room.maxAdmissionSeq.get();
+    }
+
+    @Override
+    public Optional<Long> findMinWaitingAdmissionSeq(long concertId) {
+        Room room = rooms.get(concertId);
+        Map.Entry<Long, String> head = room == null ? null : room.waitingBySeq.firstEntry();
+        return head == null ? Optional.empty() : Optional.of(head.getKey());
+    }
+
+    @Override
+    public List<Long> findDepartedAdmissionSeqsAfter(long concertId, long admissionSeq) {
+        // 이탈한 토큰은 보관 시간이 지나면 사라지고, 재시작 시 인메모리 대기열은 비어 있다
+        return List.of();
+    }
+
+    @Override
+    public List<Long> findDepartedAdmissionSeqsSince(long concertId, long admissionSeq, LocalDateTime since) {
+        // 이탈은 같은 노드의 QueueService 가 바로 트래커에 반영한다
+        return List.of();
+    }
+
+    private Room room(long concertId) {
+        return rooms.computeIfAbsent(concertId, id -> new Room());
+    }
+
+    private String userKey(QueueToken token) {
+        return userKey(token.getUserId(), token.getConcertId());
+    }
+
+    private String userKey(String userId, long concertId) {
+        return concertId + ":" + userId;
+    }
+}
@@ -0,0 +1,209 @@
+package kr.hhplus.be.server.queue.infrastructure.persistence;
+
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.repository.QueueTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "jdbc", matchIfMissing = true)
+public class JpaQueueStore implements QueueStore {
+
+    private static final List<QueueToken.Status> LIVE_STATUSES = List.of(
+            QueueToken.Status.WAITING,
+            QueueToken.Status.ACTIVE
+    );
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final SpringQueueAdmissionSeqJpa admissionSeqJpa;
+    private final TransactionTemplate newTransaction;
+    private final int expiryChunkSize;
+    private final int admissionSeqBlockSize;
+    private final Map<Long, AdmissionSeqBlock> admissionSeqBlocks = new ConcurrentHashMap<>();
+
+    public JpaQueueStore(QueueTokenRepository queueTokenRepository,
+                         SpringQueueAdmissionSeqJpa admissionSeqJpa,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${queue.expiry.chunk-size:1000}") int expiryChunkSize,
+                         @Value("${queue.admission-seq.block-size:50}") int admissionSeqBlockSize) {
+        if (expiryChunkSize <= 0) {
+            throw new IllegalArgumentException("만료 처리 단위는 1 이상이어야 합니다");
+        }
+        if (admissionSeqBlockSize <= 0) {
+            throw new IllegalArgumentException("입장 순번 블록 크기는 1 이상이어야 합니다");
+        }
+        this.queueTokenRepository = queueTokenRepository;
+        this.admissionSeqJpa = admissionSeqJpa;
+        // 카운터 행 락은 블록을 떼어 가는 동안만 잡는다
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.expiryChunkSize = expiryChunkSize;
+        this.admissionSeqBlockSize = admissionSeqBlockSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<QueueToken> findByToken(String token) {
+        return queueTokenRepository.findByToken(token);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<QueueToken> findLiveTokenByUserId(String userId, long concertId) {
+        return queueTokenRepository.findByUserIdAndConcertIdAndStatusIn(userId, concertId, LIVE_STATUSES);
+    }
+
+    @Override
+    @Transactional
+    public QueueToken save(QueueToken token) {
+        return queueTokenRepository.save(token);
+    }
+
+    /**
+     * 이 노드가 떼어 둔 순번 블록에서 다음 순번을 꺼내 토큰을 저장한다. 카운터 행은 블록이 바닥날 때만 갱신하므로
+     * 발급마다 같은 행에서 줄을 서지 않는다. 블록은 노드마다 따로라 순번은 노드 안에서만 발급 순서를 따르고,
+     * 저장에 실패했거나 노드가 내려가며 남긴 순번은 빈 채로 남는다.
+     */
+    @Override
+    public QueueToken issue(QueueToken token) {
+        token.assignAdmissionSeq(nextAdmissionSeq(token.getConcertId()));
+        return queueTokenRepository.saveAndFlush(token);
+    }
+
+    private long nextAdmissionSeq(Long concertId) {
+        AdmissionSeqBlock block = admissionSeqBlocks.computeIfAbsent(concertId, id -> new AdmissionSeqBlock());
+        synchronized (block) {
+            if (block.next > block.last) {
+                block.last = reserveAdmissionSeqBlock(concertId);
+                block.next = block.last - admissionSeqBlockSize + 1;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 카운터 행을 블록 크기만큼 올리고 블록의 마지막 순번을 반환한다.
+     */
+    private long reserveAdmissionSeqBlock(Long concertId) {
+        return newTransaction.execute(status -> {
+            if (admissionSeqJpa.increment(concertId, admissionSeqBlockSize) == 0) {
+                admissionSeqJpa.insertIgnore(concertId);
+                admissionSeqJpa.increment(concertId, admissionSeqBlockSize);
+            }
+            return admissionSeqJpa.lastIncremented();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countActive() {
+        return queueTokenRepository.countByStatus(QueueToken.Status.ACTIVE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countActive(long concertId) {
+        return queueTokenRepository.countByConcertIdAndStatus(concertId, QueueToken.Status.ACTIVE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countWaitingCreatedBefore(long concertId, LocalDateTime createdAt) {
+        return queueTokenRepository.countByConcertIdAndStatusAndCreatedAtBefore(
+                concertId, QueueToken.Status.WAITING, createdAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findLiveQueueIds() {
+        return queueTokenRepository.findConcertIdsByStatusIn(LIVE_STATUSES);
+    }
+
+    /**
+     * 대기 토큰을 SKIP LOCKED 로 잠가 읽고 같은 트랜잭션에서 활성화한다. 여러 노드가 동시에 돌아도 토큰마다 한 노드만 활성화하고,
+     * 잠겨 있던 토큰은 다음 순번 토큰으로 채운다.
+     */
+    @Override
+    @Transactional
+    public List<QueueToken> activateNext(long concertId, int limit) {
+        List<QueueToken> waitingTokens = queueTokenRepository.findWaitingTokensToActivate(concertId, limit);
+        waitingTokens.forEach(QueueToken::activate);
+        queueTokenRepository.saveAll(waitingTokens);
+        return waitingTokens;
+    }
+
+    /**
+     * 청크 단위 UPDATE 를 반복한다. 청크마다 커밋되므로 행 락은 한 청크 동안만 유지된다.
+     */
+    @Override
+    public long expireActivatedBefore(LocalDateTime cutoff) {
+        LocalDateTime expiredAt = LocalDateTime.now();
+        long total = 0;
+        int affected;
+        do {
+            affected = queueTokenRepository.expireActiveTokensActivatedBefore(cutoff, expiredAt, expiryChunkSize);
+            total += affected;
+        } while (affected == expiryChunkSize);
+        return total;
+    }
+
+    @Override
+    public long expireTokens(Collection<String> tokens, LocalDateTime cutoff) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        return queueTokenRepository.expireActiveTokens(tokens, cutoff, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QueueToken> findActiveTokens() {
+        return queueTokenRepository.findByStatus(QueueToken.Status.ACTIVE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long findMaxAdmissionSeq(long concertId) {
+        return queueTokenRepository.findMaxAdmissionSeq(concertId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findMinWaitingAdmissionSeq(long concertId) {
+        return Optional.ofNullable(
+                queueTokenRepository.findMinAdmissionSeqByStatus(concertId, QueueToken.Status.WAITING));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDepartedAdmissionSeqsAfter(long concertId, long admissionSeq) {
+        return queueTokenRepository.findDepartedAdmissionSeqsAfter(concertId, admissionSeq);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDepartedAdmissionSeqsSince(long concertId, long admissionSeq, LocalDateTime since) {
+        return queueTokenRepository.findDepartedAdmissionSeqsSince(concertId, admissionSeq, since);
+    }
+
+    /**
+     * 이 노드가 떼어 둔 입장 순번 구간 [next, last]
+     */
+    private static final class AdmissionSeqBlock {
+        private long next = 1;
+        private long last = 0;
+    }
+}
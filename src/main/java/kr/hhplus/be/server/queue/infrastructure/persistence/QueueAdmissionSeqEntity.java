@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.queue.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대기열별로 노드들이 떼어 간 마지막 입장 순번. 블록을 떼어 갈 때만 이 행을 잠그고 올리므로 노드가 여럿이어도 순번이 겹치지 않는다.
+ */
+@Entity
+@Table(name = "queue_admission_seqs")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueAdmissionSeqEntity {
+    
+    @Id
+    private Long concertId;
+    
+    @Column(nullable = false)
+    private Long lastSeq;
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.queue.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringQueueAdmissionSeqJpa extends JpaRepository<QueueAdmissionSeqEntity, Long> {
+    
+    /**
+     * 순번을 size 만큼 올리고 올린 값을 LAST_INSERT_ID 에 남긴다. 행 락은 호출한 트랜잭션이 끝날 때까지 유지된다.
+     */
+    @Modifying
+    @Query(value = "UPDATE queue_admission_seqs SET last_seq = LAST_INSERT_ID(last_seq + :size) " +
+                   "WHERE concert_id = :concertId",
+           nativeQuery = true)
+    int increment(@Param("concertId") Long concertId, @Param("size") int size);
+    
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    long lastIncremented();
+    
+    /**
+     * 카운터 행이 없던 대기열은 이미 발급된 가장 큰 순번에서 시작한다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO queue_admission_seqs (concert_id, last_seq) " +
+                   "SELECT :concertId, COALESCE(MAX(admission_seq), 0) FROM queue_tokens WHERE concert_id = :concertId",
+           nativeQuery = true)
+    int insertIgnore(@Param("concertId") Long concertId);
+}
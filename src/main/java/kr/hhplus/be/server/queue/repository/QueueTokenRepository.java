@@ -2,13 +2,14 @@ package kr.hhplus.be.server.queue.repository;
 
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,23 +22,86 @@ public interface QueueTokenRepository extends JpaRepository<QueueToken, Long> {
     Optional<QueueToken> findByUserIdAndStatusIn(@Param("userId") String userId, 
                                                   @Param("statuses") List<QueueToken.Status> statuses);
     
+    @Query("SELECT qt FROM QueueToken qt WHERE qt.userId = :userId AND qt.concertId = :concertId AND qt.status IN :statuses")
+    Optional<QueueToken> findByUserIdAndConcertIdAndStatusIn(@Param("userId") String userId,
+                                                             @Param("concertId") Long concertId,
+                                                             @Param("statuses") List<QueueToken.Status> statuses);
+    
     @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.status = :status AND qt.createdAt < :createdAt")
     Long countByStatusAndCreatedAtBefore(@Param("status") QueueToken.Status status, 
                                         @Param("createdAt") LocalDateTime createdAt);
     
+    @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.concertId = :concertId AND qt.status = :status AND qt.createdAt < :createdAt")
+    Long countByConcertIdAndStatusAndCreatedAtBefore(@Param("concertId") Long concertId,
+                                                     @Param("status") QueueToken.Status status,
+                                                     @Param("createdAt") LocalDateTime createdAt);
+    
     Long countByStatus(QueueToken.Status status);
     
+    Long countByConcertIdAndStatus(Long concertId, QueueToken.Status status);
+    
+    @Query("SELECT DISTINCT qt.concertId FROM QueueToken qt WHERE qt.status IN :statuses")
+    List<Long> findConcertIdsByStatusIn(@Param("statuses") List<QueueToken.Status> statuses);
+    
     @Query(value = "SELECT * FROM queue_tokens WHERE status = :#{#status.name()} ORDER BY created_at ASC LIMIT :limit", 
            nativeQuery = true)
     List<QueueToken> findTopNByStatusOrderByCreatedAt(@Param("status") QueueToken.Status status, 
                                                       @Param("limit") int limit);
     
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT qt FROM QueueToken qt WHERE qt.status = kr.hhplus.be.server.queue.domain.QueueToken$Status.ACTIVE " +
-           "AND qt.activatedAt < :expirationTime")
-    List<QueueToken> findExpiredActiveTokens(@Param("expirationTime") LocalDateTime expirationTime);
+    /**
+     * QueueToken.expire() 와 같은 규칙(ACTIVE 토큰만 EXPIRED 로 전이)을 조건부 UPDATE 한 번으로 적용한다.
+     * 행을 읽어 오지 않고, LIMIT 으로 한 번에 잡는 행 락 수를 제한한다. 호출마다 별도 트랜잭션으로 커밋된다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE queue_tokens SET status = 'EXPIRED', expired_at = :expiredAt " +
+                   "WHERE status = 'ACTIVE' AND activated_at < :cutoff LIMIT :chunkSize",
+           nativeQuery = true)
+    int expireActiveTokensActivatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("expiredAt") LocalDateTime expiredAt,
+                                          @Param("chunkSize") int chunkSize);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE QueueToken qt SET qt.status = kr.hhplus.be.server.queue.domain.QueueToken$Status.EXPIRED, " +
+           "qt.expiredAt = :expiredAt " +
+           "WHERE qt.token IN :tokens " +
+           "AND qt.status = kr.hhplus.be.server.queue.domain.QueueToken$Status.ACTIVE " +
+           "AND qt.activatedAt <= :cutoff")
+    int expireActiveTokens(@Param("tokens") Collection<String> tokens,
+                           @Param("cutoff") LocalDateTime cutoff,
+                           @Param("expiredAt") LocalDateTime expiredAt);
     
-    @Query(value = "SELECT * FROM queue_tokens WHERE status = 'WAITING' ORDER BY created_at ASC LIMIT :limit", 
+    List<QueueToken> findByStatus(QueueToken.Status status);
+    
+    /**
+     * 활성화할 대기 토큰을 잠가서 읽는다. 다른 노드가 잠근 행은 건너뛰므로 같은 토큰을 두 노드가 함께 활성화하지 않는다.
+     * 호출한 트랜잭션 안에서 상태를 바꿔 저장해야 한다.
+     */
+    @Query(value = "SELECT * FROM queue_tokens WHERE concert_id = :concertId AND status = 'WAITING' " +
+                   "ORDER BY admission_seq ASC, created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED", 
            nativeQuery = true)
-    List<QueueToken> findWaitingTokensToActivate(@Param("limit") int limit);
+    List<QueueToken> findWaitingTokensToActivate(@Param("concertId") Long concertId, @Param("limit") int limit);
+    
+    @Query("SELECT COALESCE(MAX(qt.admissionSeq), 0) FROM QueueToken qt WHERE qt.concertId = :concertId")
+    Long findMaxAdmissionSeq(@Param("concertId") Long concertId);
+    
+    @Query("SELECT MIN(qt.admissionSeq) FROM QueueToken qt WHERE qt.concertId = :concertId AND qt.status = :status")
+    Long findMinAdmissionSeqByStatus(@Param("concertId") Long concertId, @Param("status") QueueToken.Status status);
+    
+    @Query("SELECT qt.admissionSeq FROM QueueToken qt " +
+           "WHERE qt.concertId = :concertId " +
+           "AND qt.status = kr.hhplus.be.server.queue.domain.QueueToken$Status.EXPIRED " +
+           "AND qt.activatedAt IS NULL AND qt.admissionSeq > :admissionSeq")
+    List<Long> findDepartedAdmissionSeqsAfter(@Param("concertId") Long concertId,
+                                              @Param("admissionSeq") Long admissionSeq);
+    
+    @Query("SELECT qt.admissionSeq FROM QueueToken qt " +
+           "WHERE qt.concertId = :concertId " +
+           "AND qt.status = kr.hhplus.be.server.queue.domain.QueueToken$Status.EXPIRED " +
+           "AND qt.expiredAt >= :since " +
+           "AND qt.activatedAt IS NULL AND qt.admissionSeq > :admissionSeq")
+    List<Long> findDepartedAdmissionSeqsSince(@Param("concertId") Long concertId,
+                                              @Param("admissionSeq") Long admissionSeq,
+                                              @Param("since") LocalDateTime since);
 }
\ No newline at end of file
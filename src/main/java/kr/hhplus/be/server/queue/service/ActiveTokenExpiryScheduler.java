@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.common.expiry.HierarchicalTimingWheel;
+import kr.hhplus.be.server.config.SchedulingConfig;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 활성 토큰 만료 스케줄러
+ * 토큰이 활성화될 때 만료 시각을 타이밍 휠에 등록하고, 짧은 주기로 마감이 지난 토큰만 골라 만료시킨다.
+ * 재시작 시에는 저장소의 활성 토큰으로 휠을 다시 채운다. 전체 스캔(QueueService.expireOldActiveTokens)은 안전망으로만 남는다.
+ */
+@Slf4j
+@Component
+public class ActiveTokenExpiryScheduler {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final QueueStore queueStore;
+    private final QueueTokenCache tokenCache;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<String> wheel;
+    private final Counter expiredCounter;
+
+    @Autowired
+    public ActiveTokenExpiryScheduler(QueueStore queueStore,
+                                      QueueTokenCache tokenCache,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${queue.expiry.wheel-tick-millis:250}") long tickMillis) {
+        this(queueStore, tokenCache, meterRegistry, tickMillis, Clock.systemDefaultZone());
+    }
+
+    ActiveTokenExpiryScheduler(QueueStore queueStore,
+                               QueueTokenCache tokenCache,
+                               MeterRegistry meterRegistry,
+                               long tickMillis,
+                               Clock clock) {
+        this.queueStore = queueStore;
+        this.tokenCache = tokenCache;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_BITS, WHEEL_LEVELS, clock.millis());
+        this.expiredCounter = Counter.builder("expiry.wheel.expired")
+                .tag("wheel", "queue-token")
+                .description("Entries expired by the timing wheel")
+                .register(meterRegistry);
+        Gauge.builder("expiry.wheel.pending", wheel, HierarchicalTimingWheel::size)
+                .tag("wheel", "queue-token")
+                .description("Deadlines registered in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void rebuild() {
+        List<QueueToken> activeTokens = queueStore.findActiveTokens();
+        activeTokens.forEach(this::register);
+        log.info("Active token expiry wheel rebuilt with {} tokens", activeTokens.size());
+    }
+
+    public void register(QueueToken token) {
+        if (token.getActiveUntil() != null) {
+            wheel.schedule(token.getToken(), toMillis(token.getActiveUntil()));
+        }
+    }
+
+    public void cancel(String token) {
+        wheel.cancel(token);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.expiry.wheel-tick-millis:250}", scheduler = SchedulingConfig.TICK_SCHEDULER)
+    public void expireDue() {
+        List<String> dueTokens = wheel.advance(clock.millis());
+        if (dueTokens.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now(clock).minusMinutes(QueueToken.ACTIVE_DURATION_MINUTES);
+            long expired = queueStore.expireTokens(dueTokens, cutoff);
+            tokenCache.invalidateAll(dueTokens);
+            expiredCounter.increment(expired);
+            log.debug("Expired {} of {} due active tokens", expired, dueTokens.size());
+        } catch (Exception e) {
+            // 실패한 토큰은 안전망 스캔이 처리한다
+            log.error("Error expiring due active tokens", e);
+        }
+    }
+
+    int pendingCount() {
+        return wheel.size();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
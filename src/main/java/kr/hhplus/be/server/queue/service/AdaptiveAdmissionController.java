@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 사용자 상한 AIMD 조절기
+ * 예약/결제 p99 지연, Hikari 커넥션 대기 스레드 수, 락 대기 실패를 주기적으로 확인해
+ * 혼잡하면 상한을 비율로 줄이고(multiplicative decrease), 여유가 있으면 일정량씩 늘린다(additive increase).
+ * 늘리는 것은 직전 구간의 최대 활성 인원이 상한에 가까웠을 때뿐이다. 상한을 다 쓰지 않는 동안 늘리면
+ * 부하를 확인하지 못한 상한이 쌓여 몰림이 시작될 때 한꺼번에 입장시킨다.
+ * 상한은 설정한 최소/최대 범위를 벗어나지 않는다.
+ */
+@Slf4j
+@Component
+public class AdaptiveAdmissionController {
+
+    private static final String LATENCY_METRIC = "queue.admission.signal.latency";
+    private static final String HIKARI_PENDING_METRIC = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+    private final int minCeiling;
+    private final int maxCeiling;
+    private final int additiveStep;
+    private final double decreaseFactor;
+    private final double latencyTargetMillis;
+    private final double pendingThreshold;
+    private final double increaseUtilization;
+
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Counter lockTimeoutCounter;
+    private final Counter increaseCounter;
+    private final Counter decreaseCounter;
+
+    private volatile int ceiling;
+    private volatile double observedP99Millis;
+    private volatile double observedPending;
+    private double lastLockTimeouts;
+    private final AtomicLong peakActive = new AtomicLong();
+
+    public AdaptiveAdmissionController(
+            MeterRegistry meterRegistry,
+            @Value("${queue.admission.ceiling.initial:100}") int initialCeiling,
+            @Value("${queue.admission.ceiling.min:20}") int minCeiling,
+            @Value("${queue.admission.ceiling.max:1000}") int maxCeiling,
+            @Value("${queue.admission.ceiling.additive-step:5}") int additiveStep,
+            @Value("${queue.admission.ceiling.decrease-factor:0.7}") double decreaseFactor,
+            @Value("${queue.admission.ceiling.latency-target-millis:500}") double latencyTargetMillis,
+            @Value("${queue.admission.ceiling.pending-threshold:2}") double pendingThreshold,
+            @Value("${queue.admission.ceiling.increase-utilization:0.9}") double increaseUtilization) {
+        if (minCeiling <= 0 || minCeiling > maxCeiling) {
+            throw new IllegalArgumentException("입장 상한 범위가 올바르지 않습니다");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("감소 비율은 0과 1 사이여야 합니다");
+        }
+        if (increaseUtilization <= 0 || increaseUtilization > 1) {
+            throw new IllegalArgumentException("증가 기준 사용률은 0 초과 1 이하여야 합니다");
+        }
+        this.meterRegistry = meterRegistry;
+        this.minCeiling = minCeiling;
+        this.maxCeiling = maxCeiling;
+        this.additiveStep = additiveStep;
+        this.decreaseFactor = decreaseFactor;
+        this.latencyTargetMillis = latencyTargetMillis;
+        this.pendingThreshold = pendingThreshold;
+        this.increaseUtilization = increaseUtilization;
+        this.ceiling = Math.max(minCeiling, Math.min(maxCeiling, initialCeiling));
+
+        this.lockTimeoutCounter = Counter.builder("queue.admission.signal.lock.timeouts")
+                .description("Lock wait failures observed in admission-signal operations")
+                .register(meterRegistry);
+        this.increaseCounter = Counter.builder("queue.admission.ceiling.adjustments")
+                .tag("direction", "increase")
+                .register(meterRegistry);
+        this.decreaseCounter = Counter.builder("queue.admission.ceiling.adjustments")
+                .tag("direction", "decrease")
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.ceiling", this, AdaptiveAdmissionController::getCeiling)
+                .description("Current active-user ceiling")
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.signal.p99", this, controller -> controller.observedP99Millis)
+                .description("Worst p99 latency in milliseconds seen at the last evaluation")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.signal.pending", this, controller -> controller.observedPending)
+                .description("Hikari threads awaiting a connection at the last evaluation")
+                .register(meterRegistry);
+    }
+
+    public int getCeiling() {
+        return ceiling;
+    }
+
+    public void recordLatency(String operation, long nanos) {
+        latencyTimers.computeIfAbsent(operation, this::registerLatencyTimer)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 입장 tick 이 본 전체 활성 인원. 다음 평가까지의 최댓값만 남긴다.
+     */
+    public void recordActive(long activeCount) {
+        peakActive.accumulateAndGet(activeCount, Math::max);
+    }
+
+    public void recordFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException
+                    || cause instanceof LockTimeoutException
+                    || cause instanceof PessimisticLockException) {
+                lockTimeoutCounter.increment();
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admission.ceiling.interval-millis:5000}")
+    public synchronized void evaluate() {
+        observedP99Millis = worstP99Millis();
+        observedPending = meterRegistry.find(HIKARI_PENDING_METRIC).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+        double lockTimeouts = lockTimeoutCounter.count();
+        double newLockTimeouts = lockTimeouts - lastLockTimeouts;
+        lastLockTimeouts = lockTimeouts;
+        long peak = peakActive.getAndSet(0);
+
+        boolean congested = observedP99Millis > latencyTargetMillis
+                || observedPending > pendingThreshold
+                || newLockTimeouts > 0;
+
+        int previous = ceiling;
+        if (congested) {
+            ceiling = Math.max(minCeiling, (int) (previous * decreaseFactor));
+            if (ceiling != previous) {
+                decreaseCounter.increment();
+                log.info("Admission ceiling decreased {} -> {} (p99={}ms, pending={}, lockTimeouts={})",
+                        previous, ceiling, observedP99Millis, observedPending, newLockTimeouts);
+            }
+        } else if (peak >= previous * increaseUtilization) {
+            ceiling = Math.min(maxCeiling, previous + additiveStep);
+            if (ceiling != previous) {
+                increaseCounter.increment();
+            }
+        }
+    }
+
+    private double worstP99Millis() {
+        double worst = 0;
+        for (Timer timer : latencyTimers.values()) {
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                worst = Math.max(worst, percentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        return worst;
+    }
+
+    private Timer registerLatencyTimer(String operation) {
+        return Timer.builder(LATENCY_METRIC)
+                .tag("operation", operation)
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(Duration.ofSeconds(30))
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+}
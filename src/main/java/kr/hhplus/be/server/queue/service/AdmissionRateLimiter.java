@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.queue.service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 대기열 입장 속도 제한기 (token bucket)
+ * 초당 ratePerSecond 개씩 입장 허가가 쌓이고 burst 개까지 모아둘 수 있다.
+ * 스케줄러가 짧은 주기로 허가를 꺼내 쓰므로 입장이 큰 묶음이 아니라 고르게 이루어진다.
+ * 대기열(WaitingRoom)마다 하나씩 존재한다.
+ */
+public class AdmissionRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final LongSupplier nanoTime;
+
+    private double permits;
+    private long lastRefillNanos;
+
+    public AdmissionRateLimiter(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    AdmissionRateLimiter(double ratePerSecond, int burst, LongSupplier nanoTime) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("입장 속도와 버스트 크기는 0보다 커야 합니다");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.permits = burst;
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * 최대 max 개의 입장 허가를 꺼내고 실제로 꺼낸 개수를 돌려준다.
+     */
+    public synchronized int tryAcquire(int max) {
+        refill();
+        int acquired = (int) Math.min(max, Math.floor(permits));
+        if (acquired <= 0) {
+            return 0;
+        }
+        permits -= acquired;
+        return acquired;
+    }
+
+    /**
+     * 허가를 받았지만 입장시킬 대기자가 없었던 만큼 되돌린다.
+     */
+    public synchronized void refund(int unused) {
+        if (unused > 0) {
+            permits = Math.min(burst, permits + unused);
+        }
+    }
+
+    public synchronized int availablePermits() {
+        refill();
+        return (int) Math.floor(permits);
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            permits = Math.min(burst, permits + elapsed * ratePerSecond / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.queue.service;
+
+import java.util.BitSet;
+
+/**
+ * 워터마크 뒤에서 대기열을 떠난 입장 순번 집합
+ * seq - base 를 인덱스로 쓰는 Fenwick 트리에 이탈 여부를 세어 두 순번 사이의 이탈 수를 O(log n) 으로 센다.
+ * floor 이하 순번은 세지 않으며, floor 가 배열 절반을 넘어가면 남은 순번만 앞으로 당겨 다시 만든다.
+ */
+final class DepartedSeqCounter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long base;
+    private long floor;
+    private int capacity = INITIAL_CAPACITY;
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private BitSet marked = new BitSet(INITIAL_CAPACITY + 1);
+
+    synchronized void reset(long servedUpTo) {
+        base = servedUpTo;
+        floor = servedUpTo;
+        capacity = INITIAL_CAPACITY;
+        tree = new int[INITIAL_CAPACITY + 1];
+        marked = new BitSet(INITIAL_CAPACITY + 1);
+    }
+
+    synchronized void add(long seq) {
+        if (seq <= floor) {
+            return;
+        }
+        ensureCapacity(seq - base);
+        int index = (int) (seq - base);
+        if (marked.get(index)) {
+            return;
+        }
+        marked.set(index);
+        for (int i = index; i <= capacity; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /**
+     * servedUpTo 이하 순번을 더 이상 세지 않는다.
+     */
+    synchronized void advanceFloor(long servedUpTo) {
+        if (servedUpTo <= floor) {
+            return;
+        }
+        floor = servedUpTo;
+        if (floor - base > capacity / 2) {
+            rebuild(floor, capacity);
+        }
+    }
+
+    /**
+     * fromExclusive 와 toExclusive 사이에서 떠난 순번 수. floor 이하 순번은 세지 않는다.
+     */
+    synchronized long countBetween(long fromExclusive, long toExclusive) {
+        long from = Math.max(fromExclusive, floor);
+        if (toExclusive - 1 <= from) {
+            return 0;
+        }
+        return prefix(toExclusive - 1) - prefix(from);
+    }
+
+    synchronized long countAfter(long fromExclusive) {
+        return countBetween(fromExclusive, base + capacity + 1);
+    }
+
+    private long prefix(long seq) {
+        long index = Math.min(seq - base, capacity);
+        long sum = 0;
+        for (int i = (int) index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void ensureCapacity(long index) {
+        if (index <= capacity) {
+            return;
+        }
+        int newCapacity = capacity;
+        while (newCapacity < index) {
+            if (newCapacity > Integer.MAX_VALUE / 2 - 1) {
+                throw new IllegalStateException("이탈 순번 범위가 너무 넓습니다");
+            }
+            newCapacity <<= 1;
+        }
+        rebuild(base, newCapacity);
+    }
+
+    /**
+     * newBase 뒤에 남은 순번만 옮겨 O(n) 으로 트리를 다시 만든다.
+     */
+    private void rebuild(long newBase, int newCapacity) {
+        int shift = (int) (newBase - base);
+        BitSet moved = new BitSet(newCapacity + 1);
+        int[] newTree = new int[newCapacity + 1];
+        for (int index = marked.nextSetBit(shift + 1); index >= 0; index = marked.nextSetBit(index + 1)) {
+            moved.set(index - shift);
+            newTree[index - shift] = 1;
+        }
+        for (int i = 1; i <= newCapacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= newCapacity) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        base = newBase;
+        capacity = newCapacity;
+        tree = newTree;
+        marked = moved;
+    }
+}
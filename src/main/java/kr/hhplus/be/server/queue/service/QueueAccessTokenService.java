@@ -0,0 +1,228 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.QueueAccessClaims;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 토큰용 HMAC 서명 접근 토큰 발급/검증기
+ * 형식: v1.{kid}.{payload}.{signature} (payload, signature 는 base64url)
+ * 서명 키는 마스터 시크릿에서 회전 주기(epoch)마다 파생되므로 여러 노드가 같은 시크릿만 공유하면 키 교환 없이 회전된다.
+ * 검증은 현재/직전 epoch 키만 허용하며, 결제 완료 등으로 먼저 만료된 토큰은 메모리 폐기 목록으로 거부한다.
+ * 폐기 목록은 노드 로컬이라 다른 노드는 폐기를 모르고, 그 노드에서는 토큰이 활성 시간(5분) 끝까지 통과한다.
+ * 시크릿은 local, test 프로필에서만 비워 둘 수 있고(프로세스마다 임의 키), 그 밖에서는 시작하지 않는다.
+ */
+@Slf4j
+@Component
+public class QueueAccessTokenService {
+
+    private static final String VERSION = "v1";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final Profiles RANDOM_SECRET_PROFILES = Profiles.of("local", "test");
+
+    private final byte[] masterSecret;
+    private final long rotationSeconds;
+    private final Clock clock;
+    private final Map<Long, SecretKeySpec> signingKeys = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QueueAccessTokenService(
+            @Value("${queue.access-token.secret:}") String secret,
+            @Value("${queue.access-token.key-rotation-minutes:60}") long rotationMinutes,
+            Environment environment) {
+        this(resolveSecret(secret, environment), Duration.ofMinutes(rotationMinutes), Clock.systemUTC());
+    }
+
+    QueueAccessTokenService(String secret, Duration rotation, Clock clock) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("접근 토큰 시크릿이 비어 있습니다");
+        }
+        this.masterSecret = secret.getBytes(StandardCharsets.UTF_8);
+        this.rotationSeconds = rotation.toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * 노드마다 다른 임의 키로는 다른 노드가 발급한 접근 토큰을 검증할 수 없으므로 local, test 프로필에서만 허용한다.
+     */
+    static String resolveSecret(String secret, Environment environment) {
+        if (secret != null && !secret.isBlank()) {
+            return secret;
+        }
+        if (!environment.acceptsProfiles(RANDOM_SECRET_PROFILES)) {
+            throw new IllegalStateException("queue.access-token.secret 을 설정해야 합니다");
+        }
+        log.warn("queue.access-token.secret is not set; using a random per-process key");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return ENCODER.encodeToString(random);
+    }
+
+    public String issue(QueueToken queueToken) {
+        if (!queueToken.isActive() || queueToken.getActivatedAt() == null) {
+            throw new IllegalStateException("활성화된 토큰만 접근 토큰을 발급할 수 있습니다");
+        }
+
+        long kid = currentEpoch();
+        byte[] payload = encode(new QueueAccessClaims(
+                queueToken.getUserId(),
+                queueToken.getToken(),
+                queueToken.getConcertId(),
+                toInstant(queueToken.getActivatedAt()),
+                toInstant(queueToken.getActiveUntil())
+        ));
+        String header = VERSION + "." + kid + "." + ENCODER.encodeToString(payload);
+        return header + "." + ENCODER.encodeToString(sign(kid, header));
+    }
+
+    /**
+     * 서명, 만료, 폐기 여부를 확인하고 클레임을 돌려준다. DB 는 조회하지 않는다.
+     */
+    public QueueAccessClaims verify(String accessToken) {
+        String[] parts = accessToken.split("\\.");
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalStateException("유효하지 않은 접근 토큰입니다");
+        }
+
+        long kid;
+        byte[] payload;
+        byte[] signature;
+        try {
+            kid = Long.parseLong(parts[1]);
+            payload = DECODER.decode(parts[2]);
+            signature = DECODER.decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("유효하지 않은 접근 토큰입니다");
+        }
+
+        long currentEpoch = currentEpoch();
+        if (kid != currentEpoch && kid != currentEpoch - 1) {
+            throw new IllegalStateException("서명 키가 만료된 접근 토큰입니다");
+        }
+        String header = parts[0] + "." + parts[1] + "." + parts[2];
+        if (!MessageDigest.isEqual(sign(kid, header), signature)) {
+            throw new IllegalStateException("서명이 올바르지 않은 접근 토큰입니다");
+        }
+
+        QueueAccessClaims claims = decode(payload);
+        if (!clock.instant().isBefore(claims.getExpiresAt())) {
+            throw new IllegalStateException("접근 토큰이 만료되었습니다");
+        }
+        if (revokedTokens.containsKey(claims.getToken())) {
+            throw new IllegalStateException("폐기된 접근 토큰입니다");
+        }
+        return claims;
+    }
+
+    /**
+     * 접근 토큰이 자연 만료될 때까지만 이 노드의 폐기 목록에 보관한다.
+     */
+    public void revoke(QueueToken queueToken) {
+        if (queueToken.getActiveUntil() == null) {
+            return;
+        }
+        Instant expiresAt = toInstant(queueToken.getActiveUntil());
+        if (clock.instant().isBefore(expiresAt)) {
+            revokedTokens.put(queueToken.getToken(), expiresAt);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        revokedTokens.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+        long currentEpoch = currentEpoch();
+        signingKeys.keySet().removeIf(epoch -> epoch < currentEpoch - 1);
+    }
+
+    int revokedCount() {
+        return revokedTokens.size();
+    }
+
+    private long currentEpoch() {
+        return clock.instant().getEpochSecond() / rotationSeconds;
+    }
+
+    private byte[] sign(long kid, String header) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKeys.computeIfAbsent(kid, this::deriveKey));
+            return mac.doFinal(header.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("접근 토큰 서명에 실패했습니다", e);
+        }
+    }
+
+    private SecretKeySpec deriveKey(long epoch) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(masterSecret, HMAC_ALGORITHM));
+            byte[] key = mac.doFinal(("queue-access-key:" + epoch).getBytes(StandardCharsets.US_ASCII));
+            return new SecretKeySpec(key, HMAC_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 생성에 실패했습니다", e);
+        }
+    }
+
+    private byte[] encode(QueueAccessClaims claims) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(claims.getUserId());
+            out.writeUTF(claims.getToken());
+            out.writeLong(claims.getConcertId());
+            out.writeLong(claims.getActivatedAt().getEpochSecond());
+            out.writeLong(claims.getExpiresAt().getEpochSecond());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("접근 토큰 생성에 실패했습니다", e);
+        }
+    }
+
+    private QueueAccessClaims decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return new QueueAccessClaims(
+                    in.readUTF(),
+                    in.readUTF(),
+                    in.readLong(),
+                    Instant.ofEpochSecond(in.readLong()),
+                    Instant.ofEpochSecond(in.readLong())
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("유효하지 않은 접근 토큰입니다");
+        }
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 입장 지표
+ * 목표 입장 속도, 실제 입장 수, 대기 인원(backlog), 활성 슬롯 사용률을 대기열별 concert 태그로 Micrometer 에 노출한다.
+ * 대기 인원은 순번 계산기에서 바로 구하므로 COUNT 쿼리를 쓰지 않는다.
+ */
+public class QueueAdmissionMetrics {
+
+    private final Counter admittedCounter;
+    private final AtomicLong activeCount = new AtomicLong();
+    private final AtomicLong activeCapacity = new AtomicLong(1);
+
+    public QueueAdmissionMetrics(MeterRegistry meterRegistry,
+                                 long concertId,
+                                 AdmissionRateLimiter admissionRateLimiter,
+                                 QueuePositionTracker positionTracker) {
+        Tags tags = Tags.of("concert", String.valueOf(concertId));
+        this.admittedCounter = Counter.builder("queue.admission.admitted")
+                .description("Number of waiting tokens activated")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.rate.target", admissionRateLimiter, AdmissionRateLimiter::getRatePerSecond)
+                .description("Configured admission rate in users per second")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.permits", admissionRateLimiter, AdmissionRateLimiter::availablePermits)
+                .description("Admission permits currently available in the bucket")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.backlog", positionTracker, QueuePositionTracker::waitingCount)
+                .description("Number of tokens waiting to be admitted")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.slot.utilization", this,
+                        metrics -> (double) metrics.activeCount.get() / metrics.activeCapacity.get())
+                .description("Active tokens divided by the queue capacity")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    public void recordTick(long activeCount, long activeCapacity, int admitted) {
+        this.activeCount.set(activeCount);
+        this.activeCapacity.set(Math.max(1, activeCapacity));
+        if (admitted > 0) {
+            admittedCounter.increment(admitted);
+        }
+    }
+}
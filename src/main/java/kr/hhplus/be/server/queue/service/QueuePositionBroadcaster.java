@@ -0,0 +1,269 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.queue.dto.QueuePositionEvent;
+import kr.hhplus.be.server.queue.dto.QueueTokenResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대기 순번 SSE 브로드캐스터
+ * 활성화/이탈로 순번이 바뀌면 dirty 표시만 해두고, 주기적인 flush 한 번에 모든 구독자의 순번을 순번 계산기로 다시 계산해
+ * 바뀐 구독자에게만 push 한다. 구독자별 DB 조회는 없으며, 순번과 예상 대기 시간은 구독자가 속한 대기열 기준이다.
+ * 활성화된 토큰에는 activated 이벤트(접근 토큰 포함)를 보내고 스트림을 닫는다.
+ * SseEmitter.send 는 느린 클라이언트에서 막힐 수 있으므로 flush 와 activated 전송은 크기가 정해진 전송 풀에 넘긴다.
+ * 구독자마다 전송은 하나씩만 돌고, 그동안 바뀐 순번은 마지막 값만 이어서 보낸다. 풀이 가득 차면 다음 flush 에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class QueuePositionBroadcaster {
+
+    static final String POSITION_EVENT = "position";
+    static final String ACTIVATED_EVENT = "activated";
+
+    private final long emitterTimeoutMillis;
+    private final Executor sendExecutor;
+    private final Timer pushLagTimer;
+    private final Counter rejectedCounter;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile long dirtySinceNanos;
+
+    @Autowired
+    public QueuePositionBroadcaster(MeterRegistry meterRegistry,
+                                    @Value("${queue.stream.timeout-millis:300000}") long emitterTimeoutMillis,
+                                    @Value("${queue.stream.send-threads:4}") int sendThreads,
+                                    @Value("${queue.stream.send-queue-size:10000}") int sendQueueSize) {
+        this(meterRegistry, emitterTimeoutMillis, newSendExecutor(sendThreads, sendQueueSize));
+    }
+
+    QueuePositionBroadcaster(MeterRegistry meterRegistry, long emitterTimeoutMillis, Executor sendExecutor) {
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendExecutor = sendExecutor;
+        this.pushLagTimer = Timer.builder("queue.stream.push.lag")
+                .description("Time from a queue change to the position push")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("queue.stream.send.rejected")
+                .description("Stream sends deferred because the send pool was full")
+                .register(meterRegistry);
+        Gauge.builder("queue.stream.connections", subscriptions, Map::size)
+                .description("Open queue position streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 토큰의 순번 스트림을 연다. 첫 이벤트로 현재 상태를 바로 보낸다.
+     */
+    public SseEmitter subscribe(QueueTokenResponse current, Long admissionSeq, WaitingRoom room) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(current, admissionSeq, room, emitter);
+        return emitter;
+    }
+
+    void register(QueueTokenResponse current, Long admissionSeq, WaitingRoom room, SseEmitter emitter) {
+        String token = current.getToken();
+        Subscription subscription = new Subscription(emitter, room, admissionSeq, current.getQueuePosition());
+        subscription.sentPosition = current.getQueuePosition();
+        Subscription previous = subscriptions.put(token, subscription);
+        if (previous != null) {
+            previous.emitter.complete();
+        }
+        emitter.onCompletion(() -> subscriptions.remove(token, subscription));
+        emitter.onTimeout(() -> subscriptions.remove(token, subscription));
+        emitter.onError(e -> subscriptions.remove(token, subscription));
+
+        send(token, subscription, POSITION_EVENT, toPositionEvent(token, current.getQueuePosition(), room));
+    }
+
+    /**
+     * 이미 활성화된 토큰에는 activated 이벤트 하나만 보내고 닫는 스트림을 돌려준다.
+     */
+    public SseEmitter activatedStream(QueueTokenResponse activated) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        try {
+            emitter.send(SseEmitter.event().name(ACTIVATED_EVENT).data(activated));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 활성화된 토큰의 스트림에 activated 이벤트를 보내고 닫는다.
+     */
+    public void publishActivated(String token, Supplier<QueueTokenResponse> activated) {
+        Subscription subscription = subscriptions.remove(token);
+        if (subscription == null) {
+            return;
+        }
+        QueueTokenResponse response = activated.get();
+        try {
+            sendExecutor.execute(() -> {
+                if (send(token, subscription, ACTIVATED_EVENT, response)) {
+                    subscription.emitter.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 전송 풀이 가득 차면 스트림을 닫는다. 클라이언트는 다시 연결해 활성 상태를 받는다
+            rejectedCounter.increment();
+            subscription.emitter.complete();
+        }
+    }
+
+    /**
+     * 토큰 이탈 등 대기열에서 더 이상 추적하지 않는 스트림을 닫는다.
+     */
+    public void close(String token) {
+        Subscription subscription = subscriptions.remove(token);
+        if (subscription != null) {
+            subscription.emitter.complete();
+        }
+    }
+
+    /**
+     * 순번이 바뀌었음을 표시한다. 실제 push 는 다음 flush 에서 한 번에 이루어진다.
+     */
+    public void markPositionsChanged() {
+        if (dirty.compareAndSet(false, true)) {
+            dirtySinceNanos = System.nanoTime();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.stream.flush-millis:1000}")
+    public void flush() {
+        if (subscriptions.isEmpty() || !dirty.getAndSet(false)) {
+            return;
+        }
+        long changedAt = dirtySinceNanos;
+
+        subscriptions.forEach((token, subscription) -> {
+            if (subscription.admissionSeq == null) {
+                return;
+            }
+            int position = (int) subscription.room.getPositionTracker().positionOf(subscription.admissionSeq);
+            if (position == subscription.targetPosition && position == subscription.sentPosition) {
+                return;
+            }
+            subscription.targetPosition = position;
+            subscription.changedAtNanos = changedAt;
+            schedulePush(token, subscription);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void schedulePush(String token, Subscription subscription) {
+        if (!subscription.sending.compareAndSet(false, true)) {
+            // 돌고 있는 전송이 끝나기 전에 마지막 순번을 이어서 보낸다
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> push(token, subscription));
+        } catch (RejectedExecutionException e) {
+            subscription.sending.set(false);
+            rejectedCounter.increment();
+            markPositionsChanged();
+        }
+    }
+
+    private void push(String token, Subscription subscription) {
+        try {
+            int position;
+            while ((position = subscription.targetPosition) != subscription.sentPosition) {
+                if (!send(token, subscription, POSITION_EVENT, toPositionEvent(token, position, subscription.room))) {
+                    return;
+                }
+                subscription.sentPosition = position;
+                pushLagTimer.record(System.nanoTime() - subscription.changedAtNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            subscription.sending.set(false);
+        }
+        if (subscription.targetPosition != subscription.sentPosition && subscriptions.get(token) == subscription) {
+            schedulePush(token, subscription);
+        }
+    }
+
+    int connectionCount() {
+        return subscriptions.size();
+    }
+
+    private QueuePositionEvent toPositionEvent(String token, int position, WaitingRoom room) {
+        return QueuePositionEvent.builder()
+                .token(token)
+                .queuePosition(position)
+                .estimatedWaitTime(room.estimatedWaitSeconds(position))
+                .build();
+    }
+
+    private boolean send(String token, Subscription subscription, String eventName, Object data) {
+        try {
+            subscription.emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping queue stream for token {}: {}", token, e.getMessage());
+            subscriptions.remove(token, subscription);
+            subscription.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static ExecutorService newSendExecutor(int threads, int queueSize) {
+        if (threads <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("전송 풀 크기는 1 이상이어야 합니다");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "queue-stream-send-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static class Subscription {
+
+        private final SseEmitter emitter;
+        private final WaitingRoom room;
+        private final Long admissionSeq;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile int targetPosition;
+        private volatile int sentPosition;
+        private volatile long changedAtNanos;
+
+        private Subscription(SseEmitter emitter, WaitingRoom room, Long admissionSeq, int targetPosition) {
+            this.emitter = emitter;
+            this.room = room;
+            this.admissionSeq = admissionSeq;
+            this.targetPosition = targetPosition;
+        }
+    }
+}
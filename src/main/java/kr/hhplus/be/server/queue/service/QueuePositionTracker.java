@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.queue.service;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 순번 계산기
+ * 입장 순번(admissionSeq)은 저장소가 발급하고, 여기서는 발급된 마지막 순번과 활성화가 진행된 지점(served watermark)을 기억해
+ * COUNT 쿼리 없이 seq - watermark 로 대기 순번을 계산한다.
+ * 워터마크 뒤에서 먼저 대기열을 떠난 토큰은 DepartedSeqCounter 로 보정하며, 워터마크가 지나가면 세지 않는다.
+ * 다른 노드가 발급·활성화한 몫은 refresh 로 저장소 상태를 받아 따라잡는다. 모든 값은 앞으로만 움직인다.
+ * 대기열(WaitingRoom)마다 하나씩 존재한다.
+ */
+public class QueuePositionTracker {
+
+    private final AtomicLong lastIssuedSeq = new AtomicLong();
+    private final AtomicLong servedWatermark = new AtomicLong();
+    private final DepartedSeqCounter departedAhead = new DepartedSeqCounter();
+
+    public void restore(long lastIssued, long servedUpTo, Collection<Long> departedSeqs) {
+        lastIssuedSeq.set(lastIssued);
+        servedWatermark.set(servedUpTo);
+        departedAhead.reset(servedUpTo);
+        departedSeqs.forEach(departedAhead::add);
+    }
+
+    /**
+     * 저장소에서 다시 읽은 상태를 합친다. 이 노드가 이미 더 앞서 있으면 그대로 둔다.
+     * 워터마크를 먼저 옮겨 그 아래로 지나간 이탈 순번은 담지 않는다.
+     */
+    public void refresh(long lastIssued, long servedUpTo, Collection<Long> departedSeqs) {
+        observeIssued(lastIssued);
+        advanceServedTo(servedUpTo);
+        departedSeqs.forEach(this::markDeparted);
+    }
+
+    public void observeIssued(long seq) {
+        lastIssuedSeq.accumulateAndGet(seq, Math::max);
+    }
+
+    public void advanceServedTo(long seq) {
+        long watermark = servedWatermark.accumulateAndGet(seq, Math::max);
+        departedAhead.advanceFloor(watermark);
+    }
+
+    public void markDeparted(long seq) {
+        departedAhead.add(seq);
+    }
+
+    public long positionOf(long seq) {
+        long watermark = servedWatermark.get();
+        if (seq <= watermark) {
+            // 커밋 순서가 뒤바뀌어 워터마크가 먼저 지나간 토큰은 다음 활성화 대상이다
+            return 1;
+        }
+        long departed = departedAhead.countBetween(watermark, seq);
+        return Math.max(1, seq - watermark - departed);
+    }
+
+    /**
+     * 아직 활성화되지 않고 대기열에 남아 있는 토큰 수
+     */
+    public long waitingCount() {
+        long watermark = servedWatermark.get();
+        return Math.max(0, lastIssuedSeq.get() - watermark - departedAhead.countAfter(watermark));
+    }
+
+    public long getLastIssuedSeq() {
+        return lastIssuedSeq.get();
+    }
+
+    public long getServedWatermark() {
+        return servedWatermark.get();
+    }
+}
@@ -1,64 +1,99 @@
 package kr.hhplus.be.server.queue.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.config.SchedulingConfig;
+import kr.hhplus.be.server.queue.domain.QueueAccessClaims;
+import kr.hhplus.be.server.queue.domain.QueueStore;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.queue.dto.QueueTokenResponse;
 import kr.hhplus.be.server.queue.exception.QueueTokenNotFoundException;
-import kr.hhplus.be.server.queue.repository.QueueTokenRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueService {
 
-    private final QueueTokenRepository queueTokenRepository;
+    private final QueueStore queueStore;
+    private final WaitingRoomRegistry waitingRooms;
+    private final QueueTokenCache tokenCache;
+    private final QueueAccessTokenService accessTokenService;
+    private final AdaptiveAdmissionController admissionController;
+    private final QueuePositionBroadcaster positionBroadcaster;
+    private final ActiveTokenExpiryScheduler expiryScheduler;
+    private final ConcertRepository concertRepository;
+    private final MeterRegistry meterRegistry;
     
-    private static final int MAX_ACTIVE_USERS = 100;
-    private static final int ACTIVATION_BATCH_SIZE = 10;
-    private static final int ESTIMATED_WAIT_TIME_PER_POSITION = 30; // seconds
+    private final AtomicInteger roomCursor = new AtomicInteger();
+
+    /**
+     * 대기 중이거나 활성 토큰이 남아 있는 대기열을 미리 열어 재시작 직후부터 입장이 이어지게 한다.
+     */
+    @PostConstruct
+    void restoreWaitingRooms() {
+        List<Long> queueIds = queueStore.findLiveQueueIds();
+        queueIds.forEach(waitingRooms::room);
+        log.info("Waiting rooms restored: {}", queueIds);
+    }
 
-    @Transactional
     public QueueTokenResponse issueToken(String userId) {
-        // Check if user already has an active token
-        List<QueueToken.Status> activeStatuses = Arrays.asList(
-            QueueToken.Status.WAITING, 
-            QueueToken.Status.ACTIVE
-        );
+        return issueToken(userId, null);
+    }
+
+    /**
+     * 콘서트별 대기열 토큰을 발급한다. concertId 가 없으면 공용 대기열에 줄을 선다.
+     */
+    public QueueTokenResponse issueToken(String userId, Long concertId) {
+        long queueId = concertId == null ? QueueToken.GENERAL_QUEUE_ID : concertId;
         
-        var existingToken = queueTokenRepository.findByUserIdAndStatusIn(userId, activeStatuses);
+        // Check if user already has a waiting or active token in this queue
+        var existingToken = queueStore.findLiveTokenByUserId(userId, queueId);
         if (existingToken.isPresent()) {
             return convertToResponse(existingToken.get());
         }
         
-        // Create new token
+        if (queueId != QueueToken.GENERAL_QUEUE_ID && !concertRepository.existsById(queueId)) {
+            throw new IllegalArgumentException("콘서트를 찾을 수 없습니다");
+        }
+        
+        // The store assigns the next admission sequence of the room, so every node sees the same order
+        QueuePositionTracker positionTracker = waitingRooms.room(queueId).getPositionTracker();
         QueueToken newToken = QueueToken.builder()
                 .token(UUID.randomUUID().toString())
                 .userId(userId)
+                .concertId(queueId)
+                .position((int) positionTracker.waitingCount() + 1)
                 .status(QueueToken.Status.WAITING)
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        QueueToken savedToken = queueTokenRepository.save(newToken);
-        
-        // Calculate position
-        Long position = calculateQueuePosition(savedToken);
-        savedToken.setPosition(position.intValue());
+        QueueToken savedToken = queueStore.issue(newToken);
+        if (savedToken.isWaiting() && savedToken.getAdmissionSeq() != null) {
+            positionTracker.observeIssued(savedToken.getAdmissionSeq());
+            return convertToResponse(savedToken, (int) positionTracker.positionOf(savedToken.getAdmissionSeq()));
+        }
         
         return convertToResponse(savedToken);
     }
 
-    @Transactional(readOnly = true)
     public QueueTokenResponse getQueueStatus(String token) {
-        QueueToken queueToken = queueTokenRepository.findByToken(token)
+        QueueToken queueToken = queueStore.findByToken(token)
                 .orElseThrow(() -> new QueueTokenNotFoundException("대기열 토큰을 찾을 수 없습니다"));
         
         if (queueToken.isExpired()) {
@@ -66,29 +101,54 @@ public class QueueService {
         }
         
         if (queueToken.isWaiting()) {
-            // Update position for waiting tokens
-            Long currentPosition = calculateQueuePosition(queueToken);
-            queueToken.setPosition(currentPosition.intValue());
+            // Waiting tokens report the current position, the stored one is only the position at issue
+            return convertToResponse(queueToken, calculateQueuePosition(queueToken).intValue());
         }
         
         return convertToResponse(queueToken);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 토큰 검증용 스냅샷을 로컬 캐시를 거쳐 조회한다.
+     */
+    public Optional<QueueTokenSnapshot> resolveToken(String token) {
+        return tokenCache.get(token, key -> queueStore.findByToken(key).map(QueueTokenSnapshot::from));
+    }
+
+    /**
+     * 대기 순번 스트림을 연다. 이미 활성화된 토큰은 activated 이벤트 하나를 보내고 바로 닫는다.
+     */
+    public SseEmitter subscribeQueueStatus(String token) {
+        QueueToken queueToken = queueStore.findByToken(token)
+                .orElseThrow(() -> new QueueTokenNotFoundException("대기열 토큰을 찾을 수 없습니다"));
+        
+        if (queueToken.isExpired()) {
+            throw new IllegalStateException("만료된 토큰입니다");
+        }
+        
+        if (queueToken.isActive()) {
+            return positionBroadcaster.activatedStream(convertToResponse(queueToken));
+        }
+        
+        QueueTokenResponse current = convertToResponse(queueToken, calculateQueuePosition(queueToken).intValue());
+        return positionBroadcaster.subscribe(current, queueToken.getAdmissionSeq(),
+                waitingRooms.room(queueToken.getConcertId()));
+    }
+
     public boolean validateToken(String token) {
         try {
-            QueueToken queueToken = queueTokenRepository.findByToken(token)
-                    .orElse(null);
-            return queueToken != null && queueToken.isActive();
+            // 일괄 만료 직후 캐시에 남은 ACTIVE 스냅샷도 5분 규칙으로 걸러낸다
+            return resolveToken(token)
+                    .map(snapshot -> snapshot.isActive() && !snapshot.shouldAutoExpire())
+                    .orElse(false);
         } catch (Exception e) {
             log.error("Error validating token: {}", token, e);
             return false;
         }
     }
 
-    @Transactional(readOnly = true)
     public String validateAndGetUserId(String token) {
-        QueueToken queueToken = queueTokenRepository.findByToken(token)
+        QueueTokenSnapshot queueToken = resolveToken(token)
                 .orElseThrow(() -> new IllegalStateException("유효하지 않은 토큰입니다"));
         
         if (!queueToken.isActive()) {
@@ -102,70 +162,146 @@ public class QueueService {
         return queueToken.getUserId();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 서명된 접근 토큰으로 사용자와 대기열을 확인한다. 토큰 저장소는 조회하지 않는다.
+     */
+    public QueueAccessClaims verifyAccessToken(String token, String accessToken) {
+        QueueAccessClaims claims = accessTokenService.verify(accessToken);
+        if (!claims.getToken().equals(token)) {
+            throw new IllegalStateException("대기열 토큰과 접근 토큰이 일치하지 않습니다");
+        }
+        return claims;
+    }
+
     public String getUserIdFromToken(String token) {
-        QueueToken queueToken = queueTokenRepository.findByToken(token)
+        QueueTokenSnapshot queueToken = resolveToken(token)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다"));
         
         return queueToken.getUserId();
     }
 
-    @Transactional
     public void expireToken(String token) {
-        QueueToken queueToken = queueTokenRepository.findByToken(token)
+        QueueToken queueToken = queueStore.findByToken(token)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다"));
         
         queueToken.expire();
-        queueTokenRepository.save(queueToken);
+        queueStore.save(queueToken);
+        tokenCache.invalidate(token);
+        expiryScheduler.cancel(token);
+        accessTokenService.revoke(queueToken);
         log.info("Token expired: {}", token);
     }
 
-    @Scheduled(fixedDelay = 30000) // Every 30 seconds
-    @Transactional
+    public void leaveQueue(String token) {
+        QueueToken queueToken = queueStore.findByToken(token)
+                .orElseThrow(() -> new QueueTokenNotFoundException("대기열 토큰을 찾을 수 없습니다"));
+        
+        queueToken.leave();
+        queueStore.save(queueToken);
+        tokenCache.invalidate(token);
+        
+        if (queueToken.getAdmissionSeq() != null) {
+            waitingRooms.room(queueToken.getConcertId()).getPositionTracker()
+                    .markDeparted(queueToken.getAdmissionSeq());
+        }
+        positionBroadcaster.close(token);
+        positionBroadcaster.markPositionsChanged();
+        log.info("Token left queue: {}", token);
+    }
+
+    /**
+     * 대기열마다 토큰 버킷에서 입장 허가를 꺼내 짧은 주기로 대기 토큰을 활성화한다.
+     * 대기열별 수용량과 전체 AIMD 상한을 함께 지키며, 상한이 빠듯할 때 한 대기열이 계속 앞서지 않도록 시작 대기열을 돌려가며 정한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.tick-millis:200}", scheduler = SchedulingConfig.TICK_SCHEDULER)
     public void activateWaitingTokens() {
         try {
-            // First, expire old active tokens
-            expireOldActiveTokens();
-            
-            // Calculate how many tokens we can activate
-            Long activeCount = queueTokenRepository.countByStatus(QueueToken.Status.ACTIVE);
-            int slotsAvailable = MAX_ACTIVE_USERS - activeCount.intValue();
-            
-            if (slotsAvailable <= 0) {
+            // 허가나 대기자가 없는 대기열은 DB 를 조회하지 않고 건너뛴다
+            List<WaitingRoom> rooms = new ArrayList<>();
+            for (WaitingRoom room : waitingRooms.rooms()) {
+                if (room.canAdmit()) {
+                    rooms.add(room);
+                }
+            }
+            if (rooms.isEmpty()) {
                 return;
             }
             
-            int tokensToActivate = Math.min(slotsAvailable, ACTIVATION_BATCH_SIZE);
-            
-            // Get waiting tokens to activate
-            List<QueueToken> waitingTokens = queueTokenRepository
-                    .findWaitingTokensToActivate(tokensToActivate);
-            
-            // Activate tokens
-            for (QueueToken token : waitingTokens) {
-                token.activate();
-                log.info("Activated token for user: {}", token.getUserId());
+            int ceiling = admissionController.getCeiling();
+            long totalActive = queueStore.countActive();
+            int start = Math.floorMod(roomCursor.getAndIncrement(), rooms.size());
+            for (int i = 0; i < rooms.size() && totalActive < ceiling; i++) {
+                WaitingRoom room = rooms.get((start + i) % rooms.size());
+                totalActive += activateRoom(room, ceiling - totalActive);
             }
-            
-            queueTokenRepository.saveAll(waitingTokens);
+            admissionController.recordActive(totalActive);
             
         } catch (Exception e) {
             log.error("Error during token activation", e);
         }
     }
 
-    private void expireOldActiveTokens() {
-        LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(5);
-        List<QueueToken> expiredTokens = queueTokenRepository
-                .findExpiredActiveTokens(expirationTime);
+    private int activateRoom(WaitingRoom room, long globalSlots) {
+        AdmissionRateLimiter admissionRateLimiter = room.getAdmissionRateLimiter();
+        long activeCount = queueStore.countActive(room.getConcertId());
+        int slotsAvailable = (int) Math.min(globalSlots, room.getCapacity() - activeCount);
+        if (slotsAvailable <= 0) {
+            room.getAdmissionMetrics().recordTick(activeCount, room.getCapacity(), 0);
+            return 0;
+        }
+        
+        int permits = admissionRateLimiter.tryAcquire(slotsAvailable);
+        if (permits == 0) {
+            room.getAdmissionMetrics().recordTick(activeCount, room.getCapacity(), 0);
+            return 0;
+        }
         
-        for (QueueToken token : expiredTokens) {
-            token.expire();
-            log.info("Expired old active token: {}", token.getToken());
+        // Activate the earliest waiting tokens of this room
+        List<QueueToken> activatedTokens = queueStore.activateNext(room.getConcertId(), permits);
+        admissionRateLimiter.refund(permits - activatedTokens.size());
+        tokenCache.invalidateAll(activatedTokens.stream().map(QueueToken::getToken).toList());
+        for (QueueToken token : activatedTokens) {
+            expiryScheduler.register(token);
+            log.info("Activated token for user: {} (concert {})", token.getUserId(), room.getConcertId());
+            positionBroadcaster.publishActivated(token.getToken(), () -> convertToResponse(token));
         }
         
-        if (!expiredTokens.isEmpty()) {
-            queueTokenRepository.saveAll(expiredTokens);
+        // Advance the served watermark so waiting positions shift without a COUNT query
+        activatedTokens.stream()
+                .map(QueueToken::getAdmissionSeq)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .ifPresent(room.getPositionTracker()::advanceServedTo);
+        if (!activatedTokens.isEmpty()) {
+            positionBroadcaster.markPositionsChanged();
+        }
+        
+        room.getAdmissionMetrics().recordTick(activeCount + activatedTokens.size(), room.getCapacity(),
+                activatedTokens.size());
+        return activatedTokens.size();
+    }
+
+    /**
+     * 안전망 스캔. 평소 만료는 ActiveTokenExpiryScheduler 가 마감 시각에 맞춰 처리하고,
+     * 여기서는 활성화한 노드가 내려갔거나 휠 처리에 실패해 남은 토큰만 정리한다.
+     * 활성화된 지 5분이 지난 토큰을 조건부 UPDATE 로 한 번에 만료시킨다. 토큰을 읽어 오지 않으므로
+     * 캐시는 개별 무효화하지 않고, 남은 스냅샷은 TTL 안에서 shouldAutoExpire 로 거부된다.
+     * 접근 토큰도 같은 시각에 자연 만료되므로 폐기 목록에 올리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${queue.expiry.safety-scan-millis:300000}")
+    public void expireOldActiveTokens() {
+        try {
+            long startedAt = System.nanoTime();
+            LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(QueueToken.ACTIVE_DURATION_MINUTES);
+            long expiredCount = queueStore.expireActivatedBefore(expirationTime);
+            
+            meterRegistry.timer("queue.token.expiry.duration").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("queue.token.expired").increment(expiredCount);
+            if (expiredCount > 0) {
+                log.info("Expired {} active tokens activated before {}", expiredCount, expirationTime);
+            }
+        } catch (Exception e) {
+            log.error("Error during token expiration", e);
         }
     }
 
@@ -174,22 +310,32 @@ public class QueueService {
             return 0L;
         }
         
-        return queueTokenRepository.countByStatusAndCreatedAtBefore(
-            QueueToken.Status.WAITING, 
-            token.getCreatedAt()
-        ) + 1;
+        if (token.getAdmissionSeq() != null) {
+            return waitingRooms.room(token.getConcertId()).getPositionTracker()
+                    .positionOf(token.getAdmissionSeq());
+        }
+        
+        // Tokens issued before admission sequences existed fall back to counting
+        return queueStore.countWaitingCreatedBefore(token.getConcertId(), token.getCreatedAt()) + 1;
     }
 
     private QueueTokenResponse convertToResponse(QueueToken token) {
+        return convertToResponse(token, token.getPosition());
+    }
+
+    private QueueTokenResponse convertToResponse(QueueToken token, int position) {
+        // Waiting users are admitted at the configured rate, so position / rate approximates the wait
         int estimatedWaitTime = token.isActive() ? 0 : 
-                token.getPosition() * ESTIMATED_WAIT_TIME_PER_POSITION;
+                waitingRooms.room(token.getConcertId()).estimatedWaitSeconds(position);
         
         return QueueTokenResponse.builder()
                 .token(token.getToken())
                 .userId(token.getUserId())
-                .queuePosition(token.getPosition())
+                .concertId(token.isGeneralQueue() ? null : token.getConcertId())
+                .queuePosition(position)
                 .estimatedWaitTime(estimatedWaitTime)
                 .status(token.getStatus().name())
+                .accessToken(token.isActive() ? accessTokenService.issue(token) : null)
                 .createdAt(token.getCreatedAt())
                 .activatedAt(token.getActivatedAt())
                 .expiredAt(token.getExpiredAt())
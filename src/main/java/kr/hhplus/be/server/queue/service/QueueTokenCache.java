@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.queue.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 토큰 검증 결과 로컬 캐시
+ * 크기 제한과 TTL 을 둔 Caffeine 캐시로 토큰 조회 쿼리를 줄이고, 상태가 바뀌는 시점(활성화/만료/이탈)에 명시적으로 무효화한다.
+ * 히트/미스 지표는 queue.token.cache 이름으로 Micrometer 에 노출된다.
+ */
+@Component
+public class QueueTokenCache {
+
+    private static final String CACHE_NAME = "queue.token.cache";
+
+    private final Cache<String, QueueTokenSnapshot> cache;
+
+    public QueueTokenCache(
+            @Value("${queue.token-cache.maximum-size:100000}") long maximumSize,
+            @Value("${queue.token-cache.ttl-seconds:5}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해 적재한다. loader 가 빈 값을 돌려주면 캐시하지 않는다.
+     */
+    public Optional<QueueTokenSnapshot> get(String token, Function<String, Optional<QueueTokenSnapshot>> loader) {
+        return Optional.ofNullable(cache.get(token, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(token);
+    }
+
+    public void invalidateAll(Collection<String> tokens) {
+        cache.invalidateAll(tokens);
+    }
+}
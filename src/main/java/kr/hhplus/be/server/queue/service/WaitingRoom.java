@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.queue.service;
+
+import lombok.Getter;
+
+/**
+ * 콘서트별 대기열
+ * 대기열마다 입장 순번, 입장 속도, 활성 사용자 수용량, 지표를 따로 가져 한 콘서트의 몰림이 다른 콘서트 대기열을 막지 않는다.
+ */
+@Getter
+public class WaitingRoom {
+
+    private final long concertId;
+    private final int capacity;
+    private final QueuePositionTracker positionTracker;
+    private final AdmissionRateLimiter admissionRateLimiter;
+    private final QueueAdmissionMetrics admissionMetrics;
+
+    public WaitingRoom(long concertId,
+                       int capacity,
+                       QueuePositionTracker positionTracker,
+                       AdmissionRateLimiter admissionRateLimiter,
+                       QueueAdmissionMetrics admissionMetrics) {
+        this.concertId = concertId;
+        this.capacity = capacity;
+        this.positionTracker = positionTracker;
+        this.admissionRateLimiter = admissionRateLimiter;
+        this.admissionMetrics = admissionMetrics;
+    }
+
+    /**
+     * 입장 허가와 대기자가 모두 있을 때만 활성화를 시도한다. DB 를 조회하지 않는다.
+     */
+    public boolean canAdmit() {
+        return admissionRateLimiter.availablePermits() > 0 && positionTracker.waitingCount() > 0;
+    }
+
+    public int estimatedWaitSeconds(int position) {
+        return (int) Math.ceil(position / admissionRateLimiter.getRatePerSecond());
+    }
+}
@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 목록
+ * 대기열은 처음 쓰일 때 만들어진다. 설정은 queue.admission.rate-per-second / burst / room-capacity 기본값을 쓰고,
+ * queue.rooms.{concertId}.rate-per-second / burst / capacity 로 콘서트별로 덮어쓸 수 있다.
+ * 대기열을 열 때 저장소에서 입장 순번 상태를 복원하므로 재시작 후에도 순번이 이어진다.
+ * 다른 노드가 발급·활성화·이탈시킨 몫은 queue.position.refresh-millis 주기로 저장소에서 다시 읽어 합친다.
+ * 이탈 순번은 복원할 때만 전부 읽고, 그 뒤로는 지난 확인 이후(queue.position.departure-lookback-millis 만큼 겹쳐서) 떠난 몫만 읽는다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomRegistry {
+
+    private static final String ROOM_PREFIX = "queue.rooms.";
+
+    private final QueueStore queueStore;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Duration departureLookback;
+    private final Clock clock;
+    private final Map<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDateTime> departuresCheckedAt = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WaitingRoomRegistry(QueueStore queueStore, MeterRegistry meterRegistry, Environment environment,
+                               @Value("${queue.position.departure-lookback-millis:5000}") long departureLookbackMillis) {
+        this(queueStore, meterRegistry, environment, departureLookbackMillis, Clock.systemDefaultZone());
+    }
+
+    WaitingRoomRegistry(QueueStore queueStore, MeterRegistry meterRegistry, Environment environment,
+                        long departureLookbackMillis, Clock clock) {
+        this.queueStore = queueStore;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.departureLookback = Duration.ofMillis(departureLookbackMillis);
+        this.clock = clock;
+    }
+
+    public WaitingRoom room(long concertId) {
+        return rooms.computeIfAbsent(concertId, this::createRoom);
+    }
+
+    public Collection<WaitingRoom> rooms() {
+        return rooms.values();
+    }
+
+    private WaitingRoom createRoom(long concertId) {
+        double ratePerSecond = setting(concertId, "rate-per-second", "rate-per-second", Double.class, 20.0);
+        int burst = setting(concertId, "burst", "burst", Integer.class, 50);
+        int capacity = setting(concertId, "room-capacity", "capacity", Integer.class, 100);
+
+        QueuePositionTracker positionTracker = new QueuePositionTracker();
+        restore(concertId, positionTracker);
+        AdmissionRateLimiter admissionRateLimiter = new AdmissionRateLimiter(ratePerSecond, burst);
+        QueueAdmissionMetrics admissionMetrics =
+                new QueueAdmissionMetrics(meterRegistry, concertId, admissionRateLimiter, positionTracker);
+        return new WaitingRoom(concertId, capacity, positionTracker, admissionRateLimiter, admissionMetrics);
+    }
+
+    /**
+     * 열려 있는 대기열의 순번 상태를 저장소 기준으로 따라잡는다. 트래커 값은 앞으로만 움직인다.
+     */
+    @Scheduled(fixedDelayString = "${queue.position.refresh-millis:1000}")
+    public void refreshPositions() {
+        for (WaitingRoom room : rooms.values()) {
+            try {
+                long concertId = room.getConcertId();
+                LocalDateTime checkedAt = LocalDateTime.now(clock);
+                long lastIssuedSeq = queueStore.findMaxAdmissionSeq(concertId);
+                long servedUpTo = servedUpTo(concertId, lastIssuedSeq);
+                room.getPositionTracker().refresh(lastIssuedSeq, servedUpTo,
+                        departedSince(concertId, lastIssuedSeq, servedUpTo));
+                departuresCheckedAt.put(concertId, checkedAt);
+            } catch (Exception e) {
+                log.warn("Failed to refresh waiting room {} positions", room.getConcertId(), e);
+            }
+        }
+    }
+
+    /**
+     * 지난 확인 이후 워터마크 뒤에서 떠난 순번. 대기자가 없으면 워터마크 뒤에 셀 순번도 없으므로 읽지 않는다.
+     * 커밋이 늦게 보이거나 노드 시계가 어긋난 몫은 lookback 만큼 겹쳐 읽어 잡는다. 다시 읽은 순번은 한 번만 센다.
+     */
+    private List<Long> departedSince(long concertId, long lastIssuedSeq, long servedUpTo) {
+        if (servedUpTo >= lastIssuedSeq) {
+            return List.of();
+        }
+        LocalDateTime lastChecked = departuresCheckedAt.get(concertId);
+        if (lastChecked == null) {
+            return queueStore.findDepartedAdmissionSeqsAfter(concertId, servedUpTo);
+        }
+        return queueStore.findDepartedAdmissionSeqsSince(concertId, servedUpTo, lastChecked.minus(departureLookback));
+    }
+
+    private void restore(long concertId, QueuePositionTracker positionTracker) {
+        LocalDateTime checkedAt = LocalDateTime.now(clock);
+        long lastIssuedSeq = queueStore.findMaxAdmissionSeq(concertId);
+        long servedUpTo = servedUpTo(concertId, lastIssuedSeq);
+
+        positionTracker.restore(lastIssuedSeq, servedUpTo,
+                queueStore.findDepartedAdmissionSeqsAfter(concertId, servedUpTo));
+        departuresCheckedAt.put(concertId, checkedAt);
+        log.info("Waiting room {} restored: lastIssuedSeq={}, servedUpTo={}", concertId, lastIssuedSeq, servedUpTo);
+    }
+
+    private long servedUpTo(long concertId, long lastIssuedSeq) {
+        return queueStore.findMinWaitingAdmissionSeq(concertId)
+                .map(firstWaitingSeq -> firstWaitingSeq - 1)
+                .orElse(lastIssuedSeq);
+    }
+
+    private <T> T setting(long concertId, String defaultKey, String roomKey, Class<T> type, T defaultValue) {
+        T fallback = environment.getProperty("queue.admission." + defaultKey, type, defaultValue);
+        return environment.getProperty(ROOM_PREFIX + concertId + "." + roomKey, type, fallback);
+    }
+}
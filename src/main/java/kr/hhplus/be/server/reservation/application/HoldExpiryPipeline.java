@@ -0,0 +1,167 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 임시 예약 만료 파이프라인
+ * 만료된 임시 예약의 좌석 반환, 일정별 잔여석 증가, 예약 만료를 한곳에서 처리한다.
+ * 처리한 reservedAt 의 최고 수위(checkpoint)를 기억해 다음 실행은 그 뒤에 새로 만료 대상이 된 예약만 읽는다.
+ * 늦게 커밋된 예약을 놓치지 않도록 checkpoint 에서 grace 만큼 겹쳐 읽는다. checkpoint 는 노드 메모리에 두므로 재시작 뒤 첫 실행은 처음부터 읽는다.
+ * 좌석은 예약과 같은 트랜잭션에서 잡히므로 좌석만 따로 훑지 않는다. 마감 시각의 개별 해제는 SeatHoldExpiryScheduler 가 맡는다.
+ */
+@Slf4j
+@Component
+public class HoldExpiryPipeline {
+
+    private static final LocalDateTime INITIAL_CHECKPOINT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ScheduleSeatCounter seatCounter;
+    private final SeatHoldEngine seatHoldEngine;
+    private final SeatMapCache seatMapCache;
+    private final SeatSingleFlight seatSingleFlight;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration grace;
+    private final Counter expiredReservationCounter;
+    private final Counter releasedSeatCounter;
+    private final Timer chunkTimer;
+    private volatile LocalDateTime checkpoint = INITIAL_CHECKPOINT;
+
+    public HoldExpiryPipeline(ReservationRepository reservationRepository,
+                              SeatRepository seatRepository,
+                              ScheduleSeatCounter seatCounter,
+                              SeatHoldEngine seatHoldEngine,
+                              SeatMapCache seatMapCache,
+                              SeatSingleFlight seatSingleFlight,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${reservation.expiry.chunk-size:500}") int chunkSize,
+                              @Value("${reservation.expiry.grace-seconds:60}") long graceSeconds) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("만료 처리 단위는 1 이상이어야 합니다");
+        }
+        this.reservationRepository = reservationRepository;
+        this.seatRepository = seatRepository;
+        this.seatCounter = seatCounter;
+        this.seatHoldEngine = seatHoldEngine;
+        this.seatMapCache = seatMapCache;
+        this.seatSingleFlight = seatSingleFlight;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.expiredReservationCounter = Counter.builder("expiry.pipeline.processed")
+                .tag("type", "reservation")
+                .description("Rows expired by the hold expiry pipeline")
+                .register(meterRegistry);
+        this.releasedSeatCounter = Counter.builder("expiry.pipeline.processed")
+                .tag("type", "seat")
+                .description("Rows expired by the hold expiry pipeline")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("expiry.pipeline.chunk")
+                .description("Time spent per hold expiry chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("expiry.pipeline.lag.seconds", this, HoldExpiryPipeline::lagSeconds)
+                .description("How far the expiry checkpoint trails the expiration horizon")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적으로 만료된 임시 예약을 해제하고 좌석을 반환합니다.
+     * 청크마다 좌석 반환, 일정별 잔여석 증가, 예약 만료를 각각 UPDATE 한 번으로 처리하고 따로 커밋합니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.expiry.interval-millis:60000}")
+    public void releaseExpiredReservations() {
+        LocalDateTime expirationTime = expirationHorizon();
+        LocalDateTime from = checkpoint.minus(grace);
+        int expired = 0;
+        int releasedSeats = 0;
+        boolean caughtUp;
+        while (true) {
+            ChunkResult result = chunkTimer.record(() ->
+                    transactionTemplate.execute(status -> releaseChunk(from, expirationTime)));
+            expired += result.expired();
+            releasedSeats += result.releasedSeats().size();
+            expiredReservationCounter.increment(result.expired());
+            releasedSeatCounter.increment(result.releasedSeats().size());
+            // 커밋된 좌석만 인메모리 배정과 좌석 배치도에서도 되돌린다
+            result.releasedSeats().forEach(seat -> {
+                seatHoldEngine.release(seat.getScheduleId(), seat.getSeatNumber(), seat.getReservedBy());
+                seatMapCache.seatReleased(seat);
+                seatSingleFlight.seatReleased(seat.getScheduleId(), seat.getSeatNumber());
+            });
+            caughtUp = result.read() < chunkSize;
+            if (caughtUp || result.expired() == 0) {
+                break;
+            }
+        }
+        if (caughtUp) {
+            // 끝까지 읽었으므로 이번 만료 기준 이전 예약은 모두 처리되었다
+            checkpoint = expirationTime;
+        }
+        if (expired > 0 || releasedSeats > 0) {
+            log.info("Expired {} temporary reservations and released {} seats", expired, releasedSeats);
+        }
+    }
+
+    LocalDateTime checkpoint() {
+        return checkpoint;
+    }
+
+    private ChunkResult releaseChunk(LocalDateTime from, LocalDateTime expirationTime) {
+        // 처리한 예약은 상태가 바뀌어 빠지므로 매 청크를 같은 구간에서 다시 읽는다
+        List<Reservation> reservations = reservationRepository.findExpiredTemporaryReservations(
+                from, expirationTime, chunkSize);
+        if (reservations.isEmpty()) {
+            return new ChunkResult(0, 0, List.of());
+        }
+
+        // 그 사이 결제되었거나 이미 풀린 좌석은 잠금 조회에서 빠진다
+        Set<Long> seatIds = reservations.stream().map(Reservation::getSeatId).collect(Collectors.toSet());
+        List<Seat> heldSeats = seatRepository.findExpiredHoldsForUpdate(seatIds, expirationTime);
+        if (!heldSeats.isEmpty()) {
+            seatRepository.releaseHolds(heldSeats.stream().map(Seat::getId).toList());
+            Map<Long, Long> releasedPerSchedule = heldSeats.stream()
+                    .collect(Collectors.groupingBy(Seat::getScheduleId, Collectors.counting()));
+            releasedPerSchedule.forEach((scheduleId, count) -> seatCounter.release(scheduleId, count.intValue()));
+        }
+
+        int expired = reservationRepository.expireTemporaryReservations(
+                reservations.stream().map(Reservation::getId).toList(), LocalDateTime.now());
+        return new ChunkResult(reservations.size(), expired, heldSeats);
+    }
+
+    private double lagSeconds() {
+        return Math.max(0, Duration.between(checkpoint, expirationHorizon()).toSeconds());
+    }
+
+    private static LocalDateTime expirationHorizon() {
+        return LocalDateTime.now().minusMinutes(Seat.TEMPORARY_RESERVATION_MINUTES);
+    }
+
+    private record ChunkResult(int read, int expired, List<Seat> releasedSeats) {
+    }
+}
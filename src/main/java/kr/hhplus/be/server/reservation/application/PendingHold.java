@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * write-behind 나 파이프라인에 넘긴 좌석 배정의 저장 결과
+ * 기다리던 호출자는 abandon 으로 배정을 거두고, 저장하는 쪽은 claim 에 성공한 배정만 트랜잭션에 넣는다.
+ * 둘 중 먼저 부른 쪽만 성공하므로 거둔 배정은 뒤늦게 커밋되지 않고, 트랜잭션에 들어간 배정은 결과를 끝까지 알린다.
+ */
+public class PendingHold extends CompletableFuture<Reservation> {
+
+    static final String ABANDONED_MESSAGE = "예약 저장이 지연되어 요청을 취소했습니다. 다시 시도해 주세요";
+
+    private final AtomicBoolean decided = new AtomicBoolean();
+
+    /**
+     * 저장하는 쪽이 배정을 트랜잭션에 넣기 전에 부른다.
+     *
+     * @return 호출자가 이미 거둔 배정이면 false
+     */
+    boolean claim() {
+        return decided.compareAndSet(false, true);
+    }
+
+    /**
+     * 아직 트랜잭션에 들어가지 않은 배정을 거두고 실패로 완료한다.
+     *
+     * @return 이미 트랜잭션에 들어가 거둘 수 없으면 false
+     */
+    boolean abandon() {
+        if (!decided.compareAndSet(false, true)) {
+            return false;
+        }
+        completeExceptionally(new IllegalStateException(ABANDONED_MESSAGE));
+        return true;
+    }
+}
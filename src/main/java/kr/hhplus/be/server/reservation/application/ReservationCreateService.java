@@ -1,29 +1,81 @@
 package kr.hhplus.be.server.reservation.application;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import kr.hhplus.be.server.common.aop.AdmissionSignal;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
 import kr.hhplus.be.server.schedule.domain.model.Schedule;
 import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatLockStrategy;
 import kr.hhplus.be.server.seat.domain.model.Seat;
 import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ReservationCreateService {
 
+    private static final int BEST_AVAILABLE_ATTEMPTS = 3;
+
+    private static final String DUPLICATE_RESERVATION_MESSAGE = "이미 해당 일정에 예약이 있습니다";
+
+    private static final List<Reservation.Status> ACTIVE_STATUSES = Arrays.asList(
+        Reservation.Status.TEMPORARY_RESERVED,
+        Reservation.Status.CONFIRMED
+    );
+
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
     private final ScheduleRepository scheduleRepository;
+    private final SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+    private final ScheduleSeatCounter seatCounter;
+    private final SeatHoldEngine seatHoldEngine;
+    private final ReservationWriteBehind reservationWriteBehind;
+    private final ReservationPipeline reservationPipeline;
+    private final SeatSingleFlight seatSingleFlight;
+    private final SeatMapCache seatMapCache;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatClaimMode claimMode;
+    private final long writeAckTimeoutMillis;
 
-    public ReservationCreateService(ReservationRepository reservationRepository, SeatRepository seatRepository, ScheduleRepository scheduleRepository) {
+    public ReservationCreateService(ReservationRepository reservationRepository, SeatRepository seatRepository, ScheduleRepository scheduleRepository,
+                                    SeatHoldExpiryScheduler seatHoldExpiryScheduler, ScheduleSeatCounter seatCounter,
+                                    SeatHoldEngine seatHoldEngine, ReservationWriteBehind reservationWriteBehind,
+                                    ReservationPipeline reservationPipeline, SeatSingleFlight seatSingleFlight, SeatMapCache seatMapCache,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${reservation.seat-claim.mode:LOCK}") SeatClaimMode claimMode,
+                                    @Value("${seat.hold.engine.ack-timeout-millis:3000}") long writeAckTimeoutMillis) {
         this.reservationRepository = reservationRepository;
         this.seatRepository = seatRepository;
         this.scheduleRepository = scheduleRepository;
+        this.seatHoldExpiryScheduler = seatHoldExpiryScheduler;
+        this.seatCounter = seatCounter;
+        this.seatHoldEngine = seatHoldEngine;
+        this.reservationWriteBehind = reservationWriteBehind;
+        this.reservationPipeline = reservationPipeline;
+        this.seatSingleFlight = seatSingleFlight;
+        this.seatMapCache = seatMapCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimMode = claimMode == null ? SeatClaimMode.LOCK : claimMode;
+        this.writeAckTimeoutMillis = writeAckTimeoutMillis;
     }
 
     /**
@@ -33,11 +85,274 @@ public class ReservationCreateService {
      * @param request 예약 요청 정보
      * @return 예약 정보
      */
-    @Transactional
+    @AdmissionSignal("reservation.reserve-seat")
     public Reservation reserveSeat(String userId, ReservationRequest request) {
+        return reserveSeat(userId, request, null);
+    }
+
+    /**
+     * 콘서트 전용 대기열 토큰으로 들어온 요청은 해당 콘서트의 일정만 예약할 수 있습니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 예약 요청 정보
+     * @param concertScope 대기열 토큰의 콘서트 ID (공용 대기열이면 null)
+     * @return 예약 정보
+     */
+    @AdmissionSignal("reservation.reserve-seat")
+    public Reservation reserveSeat(String userId, ReservationRequest request, Long concertScope) {
+        if (reservationPipeline.handles(request.getScheduleId())) {
+            // 일정의 단일 소비자가 순서대로 처리하므로 여기서는 결과만 기다린다
+            return awaitPersisted(reservationPipeline.submit(
+                    request.getScheduleId(), request.getSeatNumber(), userId, concertScope));
+        }
+        if (seatHoldEngine.handles(request.getScheduleId())) {
+            // 커밋 확인을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리한다
+            return reserveInMemory(userId, request, concertScope);
+        }
+        // 같은 좌석을 노리는 동시 요청은 트랜잭션을 열기 전에 걸러 커넥션과 락 대기를 아낀다
+        return seatSingleFlight.execute(request.getScheduleId(), request.getSeatNumber(),
+                () -> reserveInTransaction(userId, request, concertScope));
+    }
+
+    /**
+     * 조건에 맞는 가장 좋은 좌석 count 개를 한꺼번에 임시 예약합니다. 모든 좌석을 잡거나 하나도 잡지 않습니다.
+     * 좌석은 이 노드의 좌석 배치도 스냅샷에서 고르고, 좌석 번호 순으로 행을 잠가 다른 노드와의 경합을 가립니다.
+     * 스냅샷이 늦어 이미 팔린 좌석을 골랐으면 그 좌석을 빼고 다시 고릅니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 일정, 등급, 좌석 수, 연석 여부
+     * @param concertScope 대기열 토큰의 콘서트 ID (공용 대기열이면 null)
+     * @return 좌석별 예약 정보 (좌석 번호 순)
+     */
+    @AdmissionSignal("reservation.reserve-seat")
+    public List<Reservation> reserveBestAvailable(String userId, BestAvailableRequest request, Long concertScope) {
+        Long scheduleId = request.getScheduleId();
+        if (reservationPipeline.handles(scheduleId) || seatHoldEngine.handles(scheduleId)) {
+            // 이 일정의 좌석은 메모리 엔진이 배정하므로 DB 행 락으로 여러 좌석을 잡으면 엔진과 어긋난다
+            throw new IllegalStateException("자동 좌석 배정을 지원하지 않는 일정입니다");
+        }
+        for (int attempt = 0; attempt < BEST_AVAILABLE_ATTEMPTS; attempt++) {
+            int[] seatNumbers = seatMapCache.claimBestAvailable(
+                    scheduleId, request.getGrade(), request.getCount(), request.isAdjacent());
+            if (seatNumbers.length == 0) {
+                throw new SeatAlreadyTakenException("조건에 맞는 좌석이 없습니다");
+            }
+            List<Integer> claimed = Arrays.stream(seatNumbers).sorted().boxed().toList();
+            BlockHold hold;
+            try {
+                hold = executeReservation(userId, scheduleId, status -> holdBlock(userId, scheduleId, claimed, concertScope));
+            } catch (RuntimeException e) {
+                seatMapCache.unclaim(scheduleId, claimed);
+                throw e;
+            }
+            if (hold.unavailableSeatNumbers().isEmpty()) {
+                // 커밋된 좌석만 마감 휠에 올려 롤백된 배정이 휠에 남지 않게 한다
+                hold.seats().forEach(seatHoldExpiryScheduler::register);
+                return hold.reservations();
+            }
+            // 이미 팔린 좌석은 예약 불가로 남기고 나머지만 되돌려 다음 시도에서 다시 고를 수 있게 한다
+            seatMapCache.unclaim(scheduleId, claimed.stream()
+                    .filter(seatNumber -> !hold.unavailableSeatNumbers().contains(seatNumber))
+                    .toList());
+        }
+        throw new SeatAlreadyTakenException("좌석이 빠르게 팔리고 있습니다. 잠시 후 다시 시도해 주세요");
+    }
+
+    /**
+     * 좌석을 좌석 번호 순으로 잠근다. 하나라도 예약할 수 없으면 아무것도 바꾸지 않고 그 좌석 번호를 돌려준다.
+     */
+    private BlockHold holdBlock(String userId, Long scheduleId, List<Integer> seatNumbers, Long concertScope) {
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        validateSchedule(schedule, concertScope);
+        validateNoExistingReservation(userId, scheduleId);
+
+        List<Seat> seats = seatRepository.findByScheduleIdAndSeatNumbersForUpdate(scheduleId, seatNumbers);
+        List<Integer> unavailable = seatNumbers.stream()
+                .filter(seatNumber -> seats.stream()
+                        .noneMatch(seat -> seat.getSeatNumber().equals(seatNumber) && seat.isAvailable()))
+                .toList();
+        if (!unavailable.isEmpty()) {
+            return new BlockHold(List.of(), List.of(), unavailable);
+        }
+        // 좌석 행을 쓰기 전에 남은 좌석 수부터 줄인다. 보통은 stripe 하나에서 한 번에 줄이고, 매진 직전에는 여러 stripe 에서 모은다
+        if (!seatCounter.reserve(scheduleId, seats.size())) {
+            throw new IllegalStateException("매진된 일정입니다");
+        }
+
+        List<Reservation> reservations = new ArrayList<>(seats.size());
+        for (Seat seat : seats) {
+            seat.temporaryReserve(userId);
+            seatRepository.save(seat);
+            seatMapCache.seatTaken(seat);
+            // 진행 중인 예약 유니크 키는 첫 좌석의 예약만 차지한다
+            reservations.add(reservationRepository.save(newReservation(userId, scheduleId, seat, !reservations.isEmpty())));
+        }
+        return new BlockHold(seats, reservations, List.of());
+    }
+
+    private Reservation reserveInTransaction(String userId, ReservationRequest request, Long concertScope) {
+        if (claimMode == SeatClaimMode.CONDITIONAL) {
+            return executeReservation(userId, request.getScheduleId(),
+                    status -> reserveWithConditionalUpdate(userId, request, concertScope));
+        }
+        if (claimMode == SeatClaimMode.NOWAIT) {
+            return executeReservation(userId, request.getScheduleId(),
+                    status -> reserveWithSeatLockNoWait(userId, request, concertScope));
+        }
+        return transactionTemplate.execute(status -> reserveWithScheduleLock(userId, request, concertScope));
+    }
 
+    /**
+     * 좌석은 SeatHoldEngine 이 메모리에서 정하고, 이긴 요청만 write-behind 로 저장한다.
+     * 저장이 커밋된 뒤 응답하며, 저장이 실패하면 메모리 배정을 DB 의 좌석 상태에 맞춘다.
+     */
+    private Reservation reserveInMemory(String userId, ReservationRequest request, Long concertScope) {
+        Seat seat = seatHoldEngine.hold(request.getScheduleId(), request.getSeatNumber(), userId, concertScope);
+        PendingHold pending = reservationWriteBehind.submit(seat, newReservation(userId, request.getScheduleId(), seat));
+        CompletableFuture<Reservation> persisted = pending.whenComplete((reservation, error) -> {
+            if (error != null) {
+                seatHoldEngine.reconcile(seat.getScheduleId(), seat.getSeatNumber(), userId);
+            }
+        });
+        Reservation reservation = awaitPersisted(pending, persisted);
+        seatHoldExpiryScheduler.register(seat);
+        return reservation;
+    }
+
+    private Reservation awaitPersisted(PendingHold pending) {
+        return awaitPersisted(pending, pending);
+    }
+
+    /**
+     * 저장 확인을 write-ack 시간만큼 기다린다. 그 안에 끝나지 않으면 배정을 거둬 뒤늦게 커밋되지 않게 하고 실패로 응답한다.
+     * 이미 트랜잭션에 들어가 거둘 수 없는 배정은 커밋 결과를 끝까지 기다려 응답과 DB 가 어긋나지 않게 한다.
+     *
+     * @param persisted 실패 시 정리까지 끝나야 완료되는 pending 의 후속 단계
+     */
+    private Reservation awaitPersisted(PendingHold pending, CompletableFuture<Reservation> persisted) {
+        try {
+            try {
+                return persisted.get(writeAckTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                pending.abandon();
+                return persisted.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("예약을 저장하지 못했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.abandon();
+            throw new IllegalStateException("예약을 저장하지 못했습니다");
+        }
+    }
+
+    private Reservation reserveWithScheduleLock(String userId, ReservationRequest request, Long concertScope) {
         Schedule schedule = scheduleRepository.findByIdWithLock(request.getScheduleId())
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        validateSchedule(schedule, concertScope);
+        validateNoExistingReservation(userId, request.getScheduleId());
+
+        Seat seat = seatRepository
+                .findByScheduleIdAndSeatNumberWithLock(request.getScheduleId(), request.getSeatNumber())
+                .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다"));
+
+        return holdLockedSeat(userId, request, seat);
+    }
+
+    /**
+     * 일정 행을 잠그지 않고 좌석 행만 NOWAIT 로 잠근다. 다른 요청이 잠근 좌석이면 락을 기다리지 않고
+     * SeatAlreadyTakenException 으로 끝나므로 진 요청이 커넥션을 오래 잡지 않는다.
+     */
+    private Reservation reserveWithSeatLockNoWait(String userId, ReservationRequest request, Long concertScope) {
+        Schedule schedule = scheduleRepository.findById(request.getScheduleId())
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        validateSchedule(schedule, concertScope);
+        validateNoExistingReservation(userId, request.getScheduleId());
+
+        Seat seat = seatRepository
+                .findByScheduleIdAndSeatNumberWithLock(request.getScheduleId(), request.getSeatNumber(), SeatLockStrategy.NOWAIT)
+                .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다"));
+
+        return holdLockedSeat(userId, request, seat);
+    }
+
+    private Reservation holdLockedSeat(String userId, ReservationRequest request, Seat seat) {
+        if (!seat.isAvailable()) {
+            throw new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다");
+        }
+
+        seat.temporaryReserve(userId);
+        seatRepository.save(seat);
+        seatMapCache.seatTaken(seat);
+        // 롤백되어도 마감 시 조건부 해제가 아무 일도 하지 않으므로 커밋 전에 등록해도 된다
+        seatHoldExpiryScheduler.register(seat);
+
+        reserveAvailableSeat(request.getScheduleId());
+
+        return reservationRepository.save(newReservation(userId, request.getScheduleId(), seat));
+    }
+
+    /**
+     * 일정 행을 잠그지 않는다. 좌석은 조건부 UPDATE 로 선점해 0건이면 이미 선점된 것으로 보고,
+     * 남은 좌석 수 감소는 마지막에 두어 stripe 행 락을 커밋 직전까지만 잡는다.
+     * 매진이면 예외로 롤백되어 좌석 선점도 함께 취소된다.
+     */
+    private Reservation reserveWithConditionalUpdate(String userId, ReservationRequest request, Long concertScope) {
+        Schedule schedule = scheduleRepository.findById(request.getScheduleId())
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        validateSchedule(schedule, concertScope);
+        validateNoExistingReservation(userId, request.getScheduleId());
+
+        Seat seat = seatRepository
+                .findByScheduleIdAndSeatNumber(request.getScheduleId(), request.getSeatNumber())
+                .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다"));
+        
+        if (!seat.isAvailable()) {
+            throw new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다");
+        }
+
+        seat.temporaryReserve(userId);
+        if (!seatRepository.claimIfAvailable(seat)) {
+            throw new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다");
+        }
+        seatHoldExpiryScheduler.register(seat);
+        seatMapCache.seatTaken(seat);
+
+        Reservation reservation = reservationRepository.save(newReservation(userId, request.getScheduleId(), seat));
+
+        reserveAvailableSeat(request.getScheduleId());
+        return reservation;
+    }
+
+    /**
+     * 같은 사용자의 동시 요청이 모두 기존 예약 확인을 통과하면 늦게 커밋하는 쪽이 진행 중인 예약 유니크 키에 걸린다.
+     * 그 실패를 기존 예약 확인과 같은 오류로 돌려준다.
+     */
+    private <T> T executeReservation(String userId, Long scheduleId, TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(action);
+        } catch (DataIntegrityViolationException e) {
+            if (reservationRepository.existsByUserIdAndScheduleIdAndStatusIn(userId, scheduleId, ACTIVE_STATUSES)) {
+                throw new IllegalStateException(DUPLICATE_RESERVATION_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
+    private void reserveAvailableSeat(Long scheduleId) {
+        if (!seatCounter.reserve(scheduleId)) {
+            throw new IllegalStateException("매진된 일정입니다");
+        }
+    }
+
+    private void validateSchedule(Schedule schedule, Long concertScope) {
+        if (concertScope != null && !concertScope.equals(schedule.getConcertId())) {
+            throw new IllegalStateException("다른 콘서트의 대기열 토큰으로는 예약할 수 없습니다");
+        }
         
         if (schedule.isPast()) {
             throw new IllegalStateException("지난 일정은 예약할 수 없습니다");
@@ -46,41 +361,32 @@ public class ReservationCreateService {
         if (schedule.isSoldOut()) {
             throw new IllegalStateException("매진된 일정입니다");
         }
+    }
 
-        List<Reservation.Status> activeStatuses = Arrays.asList(
-            Reservation.Status.TEMPORARY_RESERVED,
-            Reservation.Status.CONFIRMED
-        );
-        
+    private void validateNoExistingReservation(String userId, Long scheduleId) {
         boolean hasExistingReservation = reservationRepository
-                .existsByUserIdAndScheduleIdAndStatusIn(userId, request.getScheduleId(), activeStatuses);
+                .existsByUserIdAndScheduleIdAndStatusIn(userId, scheduleId, ACTIVE_STATUSES);
         
         if (hasExistingReservation) {
-            throw new IllegalStateException("이미 해당 일정에 예약이 있습니다");
-        }
-
-        Seat seat = seatRepository
-                .findByScheduleIdAndSeatNumberWithLock(request.getScheduleId(), request.getSeatNumber())
-                .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다"));
-        
-        if (!seat.isAvailable()) {
-            throw new IllegalStateException("예약 가능한 좌석이 아닙니다");
+            throw new IllegalStateException(DUPLICATE_RESERVATION_MESSAGE);
         }
+    }
 
-        seat.temporaryReserve(userId);
-        seatRepository.save(seat);
+    private record BlockHold(List<Seat> seats, List<Reservation> reservations, List<Integer> unavailableSeatNumbers) {
+    }
 
-        schedule.reserveSeat();
-        scheduleRepository.save(schedule);
+    private Reservation newReservation(String userId, Long scheduleId, Seat seat) {
+        return newReservation(userId, scheduleId, seat, false);
+    }
 
-        Reservation reservation = Reservation.builder()
+    private Reservation newReservation(String userId, Long scheduleId, Seat seat, boolean additionalSeat) {
+        return Reservation.builder()
                 .userId(userId)
-                .scheduleId(request.getScheduleId())
+                .scheduleId(scheduleId)
                 .seatId(seat.getId())
                 .status(Reservation.Status.TEMPORARY_RESERVED)
                 .reservedAt(LocalDateTime.now())
+                .additionalSeat(additionalSeat)
                 .build();
-        
-        return reservationRepository.save(reservation);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,264 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.reservation.application.SeatHoldBatchCommitter.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정별 단일 소비자 예약 파이프라인
+ * 선택한 일정의 예약 요청은 일정마다 크기가 고정된 링 버퍼에 들어가고, 일정당 스레드 하나가 들어온 순서대로 처리한다.
+ * 좌석 배정은 SeatHoldEngine 의 메모리 상태로 정하고, 쌓인 만큼(group-commit-size 까지) 모아 한 트랜잭션으로 커밋한 뒤 응답한다.
+ * 버퍼가 가득 차면 기다리지 않고 거절한다. 좌석 상태는 노드 로컬이므로 한 일정의 예약 요청은 한 노드로만 들어와야 한다.
+ */
+@Slf4j
+@Component
+public class ReservationPipeline {
+
+    private final SeatHoldEngine seatHoldEngine;
+    private final SeatHoldBatchCommitter committer;
+    private final SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+    private final MeterRegistry meterRegistry;
+    private final Set<Long> configuredScheduleIds;
+    private final int capacity;
+    private final int groupCommitSize;
+    private final Map<Long, ScheduleLane> lanes = new ConcurrentHashMap<>();
+    private final DistributionSummary groupSizeSummary;
+    private final Counter bufferFullCounter;
+
+    public ReservationPipeline(SeatHoldEngine seatHoldEngine,
+                               SeatHoldBatchCommitter committer,
+                               SeatHoldExpiryScheduler seatHoldExpiryScheduler,
+                               MeterRegistry meterRegistry,
+                               @Value("${reservation.pipeline.schedule-ids:}") Set<Long> configuredScheduleIds,
+                               @Value("${reservation.pipeline.capacity:4096}") int capacity,
+                               @Value("${reservation.pipeline.group-commit-size:64}") int groupCommitSize) {
+        this.seatHoldEngine = seatHoldEngine;
+        this.committer = committer;
+        this.seatHoldExpiryScheduler = seatHoldExpiryScheduler;
+        this.meterRegistry = meterRegistry;
+        this.configuredScheduleIds = configuredScheduleIds == null ? Set.of() : configuredScheduleIds;
+        this.capacity = capacity;
+        this.groupCommitSize = groupCommitSize;
+        this.groupSizeSummary = DistributionSummary.builder("reservation.pipeline.group.size")
+                .description("Reservations committed per pipeline transaction")
+                .register(meterRegistry);
+        this.bufferFullCounter = Counter.builder("reservation.pipeline.rejected")
+                .tag("reason", "buffer_full")
+                .description("Reservation requests rejected by the pipeline before processing")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        configuredScheduleIds.forEach(this::enable);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (Long scheduleId : List.copyOf(lanes.keySet())) {
+            disable(scheduleId);
+        }
+    }
+
+    /**
+     * 일정을 파이프라인으로 전환한다. 좌석 상태는 SeatHoldEngine 에 올린다.
+     */
+    public void enable(Long scheduleId) {
+        seatHoldEngine.enable(scheduleId);
+        if (!seatHoldEngine.handles(scheduleId)) {
+            return;
+        }
+        lanes.computeIfAbsent(scheduleId, id -> {
+            ScheduleLane lane = new ScheduleLane(id);
+            lane.start();
+            return lane;
+        });
+    }
+
+    /**
+     * 파이프라인을 멈춘다. 이미 받은 요청은 처리한 뒤 멈춘다.
+     */
+    public void disable(Long scheduleId) throws InterruptedException {
+        ScheduleLane lane = lanes.remove(scheduleId);
+        if (lane != null) {
+            lane.stop();
+        }
+    }
+
+    public boolean handles(Long scheduleId) {
+        return scheduleId != null && lanes.containsKey(scheduleId);
+    }
+
+    /**
+     * 예약 요청을 일정의 링 버퍼에 넣는다. 커밋되면 id 가 채워진 예약으로 완료된다.
+     *
+     * @param concertScope 대기열 토큰의 콘서트 ID (공용 대기열이면 null)
+     */
+    public PendingHold submit(Long scheduleId, Integer seatNumber, String userId, Long concertScope) {
+        ScheduleLane lane = lanes.get(scheduleId);
+        if (lane == null) {
+            throw new IllegalStateException("파이프라인 대상 일정이 아닙니다");
+        }
+        PendingRequest request = new PendingRequest(seatNumber, userId, concertScope);
+        if (!lane.running || !lane.buffer.offer(request)) {
+            bufferFullCounter.increment();
+            throw new IllegalStateException("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+        }
+        return request.future;
+    }
+
+    private class ScheduleLane {
+
+        private final Long scheduleId;
+        // ArrayBlockingQueue 는 고정 크기 배열 위의 링 버퍼다
+        private final BlockingQueue<PendingRequest> buffer = new ArrayBlockingQueue<>(capacity);
+        private final Gauge pendingGauge;
+        private volatile boolean running;
+        private Thread consumer;
+
+        private ScheduleLane(Long scheduleId) {
+            this.scheduleId = scheduleId;
+            this.pendingGauge = Gauge.builder("reservation.pipeline.pending", buffer, BlockingQueue::size)
+                    .tag("schedule", String.valueOf(scheduleId))
+                    .description("Reservation requests waiting in the schedule ring buffer")
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            running = true;
+            consumer = new Thread(this::run, "reservation-pipeline-" + scheduleId);
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+
+        private void stop() throws InterruptedException {
+            running = false;
+            consumer.interrupt();
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+            meterRegistry.remove(pendingGauge);
+        }
+
+        private void run() {
+            List<PendingRequest> group = new ArrayList<>(groupCommitSize);
+            while (running || !buffer.isEmpty()) {
+                try {
+                    PendingRequest first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    group.add(first);
+                    // 기다리지 않고 이미 쌓인 만큼만 묶는다
+                    buffer.drainTo(group, groupCommitSize - 1);
+                    process(group);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        buffer.drainTo(group);
+                        process(group);
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.error("Error processing reservation pipeline for schedule: {}", scheduleId, e);
+                    group.forEach(request -> request.future.completeExceptionally(
+                            new IllegalStateException("예약을 처리하지 못했습니다")));
+                } finally {
+                    group.clear();
+                }
+            }
+        }
+
+        private void process(List<PendingRequest> group) {
+            List<PendingRequest> held = new ArrayList<>(group.size());
+            for (PendingRequest request : group) {
+                if (!request.future.claim()) {
+                    // 기다리다 포기한 요청은 좌석을 배정하지 않는다
+                    continue;
+                }
+                try {
+                    // 이 스레드만 이 일정의 좌석을 배정하므로 CAS 는 경합 없이 성공하거나 바로 진다
+                    Seat seat = seatHoldEngine.hold(scheduleId, request.seatNumber, request.userId, request.concertScope);
+                    request.hold = new SeatHold(seat, newReservation(request.userId, seat));
+                    held.add(request);
+                } catch (RuntimeException e) {
+                    request.future.completeExceptionally(e);
+                }
+            }
+            if (held.isEmpty()) {
+                return;
+            }
+
+            Set<SeatHold> rejected;
+            try {
+                rejected = committer.commit(held.stream().map(request -> request.hold).toList());
+            } catch (Exception e) {
+                log.error("Error committing {} reservations for schedule: {}", held.size(), scheduleId, e);
+                for (PendingRequest request : held) {
+                    reconcile(request);
+                    request.future.completeExceptionally(new IllegalStateException("예약을 저장하지 못했습니다"));
+                }
+                return;
+            }
+
+            groupSizeSummary.record(held.size() - rejected.size());
+            for (PendingRequest request : held) {
+                if (rejected.contains(request.hold)) {
+                    reconcile(request);
+                    request.future.completeExceptionally(new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다"));
+                } else {
+                    seatHoldExpiryScheduler.register(request.hold.seat());
+                    request.future.complete(request.hold.reservation());
+                }
+            }
+        }
+
+        private void reconcile(PendingRequest request) {
+            seatHoldEngine.reconcile(scheduleId, request.seatNumber, request.userId);
+        }
+
+        private Reservation newReservation(String userId, Seat seat) {
+            return Reservation.builder()
+                    .userId(userId)
+                    .scheduleId(scheduleId)
+                    .seatId(seat.getId())
+                    .status(Reservation.Status.TEMPORARY_RESERVED)
+                    .reservedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+
+    private static class PendingRequest {
+
+        private final Integer seatNumber;
+        private final String userId;
+        private final Long concertScope;
+        private final PendingHold future = new PendingHold();
+        private SeatHold hold;
+
+        private PendingRequest(Integer seatNumber, String userId, Long concertScope) {
+            this.seatNumber = seatNumber;
+            this.userId = userId;
+            this.concertScope = concertScope;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.reservation.application.SeatHoldBatchCommitter.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리로 배정된 좌석의 write-behind 저장
+ * 쌓인 요청을 SeatHoldBatchCommitter 로 한 트랜잭션에 모아 커밋한다.
+ * 커밋된 뒤에 future 를 완료하므로 호출자는 저장이 확정된 다음 응답한다.
+ * 기다리다 포기한 호출자가 거둔 배정(PendingHold.abandon)은 트랜잭션에 넣지 않는다.
+ */
+@Slf4j
+@Component
+public class ReservationWriteBehind {
+
+    private final SeatHoldBatchCommitter committer;
+    private final int batchSize;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizeSummary;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ReservationWriteBehind(SeatHoldBatchCommitter committer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${seat.hold.engine.batch-size:200}") int batchSize) {
+        this.committer = committer;
+        this.batchSize = batchSize;
+        this.batchSizeSummary = DistributionSummary.builder("seat.hold.writebehind.batch.size")
+                .description("Seat holds committed per write-behind transaction")
+                .register(meterRegistry);
+        Gauge.builder("seat.hold.writebehind.pending", queue, BlockingQueue::size)
+                .description("Seat holds waiting to be persisted")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::run, "seat-hold-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 좌석과 예약을 저장 대기열에 넣는다. 커밋되면 id 가 채워진 예약으로 완료된다.
+     */
+    public PendingHold submit(Seat seat, Reservation reservation) {
+        PendingWrite write = new PendingWrite(seat, reservation);
+        if (!running) {
+            write.future.completeExceptionally(new IllegalStateException("예약 저장을 처리할 수 없습니다"));
+            return write.future;
+        }
+        queue.add(write);
+        return write.future;
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 기다리지 않고 이미 쌓인 만큼만 묶는다. 부하가 클수록 배치가 커진다
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    queue.drainTo(batch);
+                    flush(batch);
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> pending) {
+        List<PendingWrite> batch = pending.stream().filter(write -> write.future.claim()).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<SeatHold> rejected;
+        try {
+            rejected = committer.commit(batch.stream().map(write -> write.hold).toList());
+        } catch (Exception e) {
+            log.error("Error persisting {} seat holds", batch.size(), e);
+            batch.forEach(write -> write.future.completeExceptionally(
+                    new IllegalStateException("예약을 저장하지 못했습니다")));
+            return;
+        }
+        batchSizeSummary.record(batch.size() - rejected.size());
+        for (PendingWrite write : batch) {
+            if (rejected.contains(write.hold)) {
+                write.future.completeExceptionally(new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다"));
+            } else {
+                write.future.complete(write.hold.reservation());
+            }
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final SeatHold hold;
+        private final PendingHold future = new PendingHold();
+
+        private PendingWrite(Seat seat, Reservation reservation) {
+            this.hold = new SeatHold(seat, reservation);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.reservation.application;
+
+/**
+ * 좌석 선점 방식
+ */
+public enum SeatClaimMode {
+
+    /**
+     * 일정 행과 좌석 행을 PESSIMISTIC_WRITE 로 잠근 뒤 검사하고 갱신한다. 같은 일정의 예약은 모두 직렬화된다.
+     */
+    LOCK,
+
+    /**
+     * 잠금 없이 읽고, 좌석은 status = 'AVAILABLE' 조건부 UPDATE 로 선점한다.
+     * 남은 좌석 수는 트랜잭션 마지막에 줄여 카운터 행 락을 커밋 직전까지만 잡는다.
+     */
+    CONDITIONAL,
+
+    /**
+     * 일정 행은 잠그지 않고 좌석 행만 FOR UPDATE NOWAIT 로 잠근다.
+     * 먼저 잠근 요청이 이기고, 잠금을 얻지 못한 요청은 기다리지 않고 이미 배정된 좌석으로 실패한다.
+     */
+    NOWAIT
+}
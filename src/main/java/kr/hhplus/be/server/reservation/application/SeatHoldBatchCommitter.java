@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에서 배정한 좌석의 그룹 커밋
+ * 여러 건의 좌석 선점, 예약 저장, 남은 좌석 수 감소를 한 트랜잭션으로 커밋한다.
+ */
+@Slf4j
+@Component
+public class SeatHoldBatchCommitter {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ScheduleSeatCounter seatCounter;
+    private final SeatMapCache seatMapCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public SeatHoldBatchCommitter(ReservationRepository reservationRepository,
+                                  SeatRepository seatRepository,
+                                  ScheduleSeatCounter seatCounter,
+                                  SeatMapCache seatMapCache,
+                                  PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.seatRepository = seatRepository;
+        this.seatCounter = seatCounter;
+        this.seatMapCache = seatMapCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * holds 를 한 트랜잭션으로 커밋한다. 트랜잭션이 실패하면 예외를 그대로 던진다.
+     * 같은 일정에 이미 진행 중인 예약이 있는 사용자의 배정은 미리 빼서, 한 건이 유니크 키에 걸려 그룹 전체가 롤백되지 않게 한다.
+     *
+     * @return DB 에서 이미 선점되었거나 사용자의 진행 중인 예약이 있어 저장하지 않은 배정
+     */
+    public Set<SeatHold> commit(List<SeatHold> holds) {
+        Set<SeatHold> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (holds.isEmpty()) {
+            return rejected;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<SeatHold> persisted = new ArrayList<>(holds.size());
+            Map<Long, Set<String>> reservedUsers = findReservedUsers(holds);
+            for (SeatHold hold : holds) {
+                Reservation reservation = hold.reservation();
+                if (reservedUsers.get(reservation.getScheduleId()).contains(reservation.getUserId())) {
+                    rejected.add(hold);
+                    continue;
+                }
+                // 메모리와 DB 가 어긋난 좌석은 조건부 선점에서 걸러진다
+                if (seatRepository.claimIfAvailable(hold.seat())) {
+                    persisted.add(hold);
+                } else {
+                    rejected.add(hold);
+                }
+            }
+            reservationRepository.saveAll(persisted.stream().map(SeatHold::reservation).toList());
+            for (SeatHold hold : persisted) {
+                if (!seatCounter.reserve(hold.seat().getScheduleId())) {
+                    log.warn("Seat counter already empty for schedule: {}", hold.seat().getScheduleId());
+                }
+                seatMapCache.seatTaken(hold.seat());
+            }
+        });
+        return rejected;
+    }
+
+    /**
+     * 일정별로 한 번씩, 그룹의 사용자 중 진행 중인 예약이 있는 사용자를 읽는다.
+     */
+    private Map<Long, Set<String>> findReservedUsers(List<SeatHold> holds) {
+        Map<Long, Set<String>> reservedUsers = new HashMap<>();
+        holds.stream()
+                .map(SeatHold::reservation)
+                .collect(Collectors.groupingBy(Reservation::getScheduleId,
+                        Collectors.mapping(Reservation::getUserId, Collectors.toSet())))
+                .forEach((scheduleId, userIds) -> reservedUsers.put(scheduleId,
+                        new HashSet<>(reservationRepository.findUserIdsWithActiveReservation(scheduleId, userIds))));
+        return reservedUsers;
+    }
+
+    public record SeatHold(Seat seat, Reservation reservation) {
+    }
+}
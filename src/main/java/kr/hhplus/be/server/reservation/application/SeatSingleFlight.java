@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.reservation.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 좌석별 single-flight 게이트
+ * 같은 좌석에는 한 번에 한 요청(leader)만 DB 로 보내고, 그동안 들어온 요청은 트랜잭션을 열지 않고 바로 실패한다.
+ * follower-wait 를 주면 그만큼(최대 50ms) leader 의 결과를 기다려, leader 가 좌석과 무관한 이유로 실패했을 때 다시 시도한다.
+ * 선점이 커밋된 좌석은 잠시(taken-ttl) 기억해 뒤이은 요청도 DB 를 거치지 않고, 좌석이 풀리면 커밋된 뒤 바로 잊는다.
+ * 노드 로컬이므로 최종 판정은 여전히 DB 가 한다.
+ */
+@Component
+public class SeatSingleFlight {
+
+    static final long MAX_FOLLOWER_WAIT_MILLIS = 50;
+
+    private final Map<SeatKey, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<SeatKey, Boolean> takenSeats;
+    private final long followerWaitMillis;
+    private final Counter leaderCounter;
+    private final Counter inFlightRejectedCounter;
+    private final Counter takenRejectedCounter;
+
+    public SeatSingleFlight(MeterRegistry meterRegistry,
+                            @Value("${reservation.single-flight.maximum-size:100000}") long maximumSize,
+                            @Value("${reservation.single-flight.taken-ttl-millis:2000}") long takenTtlMillis,
+                            @Value("${reservation.single-flight.follower-wait-millis:0}") long followerWaitMillis) {
+        if (followerWaitMillis < 0 || followerWaitMillis > MAX_FOLLOWER_WAIT_MILLIS) {
+            throw new IllegalArgumentException("follower 대기 시간은 0부터 " + MAX_FOLLOWER_WAIT_MILLIS + "ms 사이여야 합니다");
+        }
+        this.takenSeats = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(takenTtlMillis))
+                .build();
+        this.followerWaitMillis = followerWaitMillis;
+        this.leaderCounter = outcomeCounter(meterRegistry, "leader");
+        this.inFlightRejectedCounter = outcomeCounter(meterRegistry, "rejected_in_flight");
+        this.takenRejectedCounter = outcomeCounter(meterRegistry, "rejected_taken");
+    }
+
+    /**
+     * 좌석에 대한 첫 요청만 action 을 실행하고, 뒤이은 요청은 실패한다.
+     * 선점이 커밋됐거나 이미 선점된 좌석으로 끝나면 결과를 기억하고, 그 밖의 실패는 기다리던 요청이 다시 시도한다.
+     */
+    public <T> T execute(Long scheduleId, Integer seatNumber, Supplier<T> action) {
+        SeatKey key = new SeatKey(scheduleId, seatNumber);
+        while (true) {
+            if (takenSeats.getIfPresent(key) != null) {
+                takenRejectedCounter.increment();
+                throw new SeatAlreadyTakenException();
+            }
+            CompletableFuture<Boolean> flight = new CompletableFuture<>();
+            CompletableFuture<Boolean> leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                return lead(key, flight, action);
+            }
+            if (awaitLeader(leader)) {
+                inFlightRejectedCounter.increment();
+                throw new SeatAlreadyTakenException();
+            }
+        }
+    }
+
+    /**
+     * 좌석이 다시 예약 가능해졌다. 기억해 둔 선점을 트랜잭션 안이면 커밋된 뒤 지운다.
+     */
+    public void seatReleased(Long scheduleId, Integer seatNumber) {
+        SeatKey key = new SeatKey(scheduleId, seatNumber);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            takenSeats.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                takenSeats.invalidate(key);
+            }
+        });
+    }
+
+    private <T> T lead(SeatKey key, CompletableFuture<Boolean> flight, Supplier<T> action) {
+        leaderCounter.increment();
+        boolean taken = false;
+        boolean deferred = false;
+        try {
+            T result = action.get();
+            taken = true;
+            deferred = finishAfterCompletion(key, flight);
+            return result;
+        } catch (SeatAlreadyTakenException e) {
+            taken = true;
+            throw e;
+        } finally {
+            if (!deferred) {
+                finish(key, flight, taken);
+            }
+        }
+    }
+
+    /**
+     * 바깥 트랜잭션 안에서 불렸으면 커밋 여부가 정해진 뒤에 결과를 알린다.
+     */
+    private boolean finishAfterCompletion(SeatKey key, CompletableFuture<Boolean> flight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish(key, flight, status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+
+    private void finish(SeatKey key, CompletableFuture<Boolean> flight, boolean taken) {
+        if (taken) {
+            takenSeats.put(key, Boolean.TRUE);
+        }
+        inFlight.remove(key, flight);
+        flight.complete(taken);
+    }
+
+    /**
+     * @return leader 가 좌석을 잡았거나 follower-wait 안에 끝나지 않았으면 true, 다시 시도해야 하면 false
+     */
+    private boolean awaitLeader(CompletableFuture<Boolean> leader) {
+        try {
+            return leader.get(followerWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예약을 처리하지 못했습니다");
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("reservation.seat.single_flight")
+                .tag("outcome", outcome)
+                .description("Seat reservation attempts by single-flight outcome")
+                .register(meterRegistry);
+    }
+
+    private record SeatKey(Long scheduleId, Integer seatNumber) {
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.reservation.domain;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
@@ -14,8 +15,23 @@ public interface ReservationRepository  {
 
     boolean existsByUserIdAndScheduleIdAndStatusIn(String userId, Long scheduleId, List<Status> statuses);
 
+    /**
+     * userIds 중 scheduleId 에 진행 중인(임시 예약·확정) 예약이 있는 사용자를 돌려준다.
+     */
+    List<String> findUserIdsWithActiveReservation(Long scheduleId, Collection<String> userIds);
+
     List<Reservation> findExpiredTemporaryReservations(Reservation.Status status, LocalDateTime expirationTime);
 
+    /**
+     * [from, expirationTime) 구간에 임시 예약된 예약을 예약 시각 순으로 limit 건까지 읽는다.
+     */
+    List<Reservation> findExpiredTemporaryReservations(LocalDateTime from, LocalDateTime expirationTime, int limit);
+
+    /**
+     * Reservation.expire() 와 같은 규칙(임시 예약만 EXPIRED 로 전이)을 UPDATE 한 번으로 적용하고 바뀐 건수를 반환한다.
+     */
+    int expireTemporaryReservations(Collection<Long> ids, LocalDateTime expiredAt);
+
     List<Reservation> findByUserIdAndStatus(String userId, Reservation.Status status);
 
     Optional<Reservation> findByUserIdAndSeatId(String userId, Long seatId);
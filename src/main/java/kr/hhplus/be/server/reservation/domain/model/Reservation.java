@@ -26,6 +26,12 @@ public class Reservation {
     private LocalDateTime cancelledAt;
     
     private Long paymentId;
+
+    /**
+     * 한 번에 여러 좌석을 잡은 예약에서 첫 좌석이 아닌 좌석의 예약.
+     * 사용자당 일정별 진행 중인 예약은 하나라는 규칙은 첫 좌석의 예약이 대표한다.
+     */
+    private boolean additionalSeat;
     
     public enum Status {
         TEMPORARY_RESERVED,
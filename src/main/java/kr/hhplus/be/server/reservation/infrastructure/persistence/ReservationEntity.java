@@ -8,8 +8,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +23,10 @@ import lombok.NoArgsConstructor;
 @Table(name = "reservations", indexes = {
     @Index(name = "idx_user_schedule", columnList = "userId,scheduleId"),
     @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_reserved_at", columnList = "reservedAt")
+    @Index(name = "idx_reserved_at", columnList = "reservedAt"),
+    @Index(name = "idx_status_reserved_at", columnList = "status,reservedAt")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_user_active_schedule", columnNames = {"userId", "activeScheduleId"})
 })
 @Getter
 @Builder
@@ -28,7 +34,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ReservationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_entity_id")
+    @SequenceGenerator(name = "reservation_entity_id", sequenceName = "reservations_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -55,6 +62,17 @@ public class ReservationEntity {
 
     private Long paymentId;
 
+    @Column(nullable = false)
+    private boolean additionalSeat;
+
+    /**
+     * 진행 중인(임시 예약·확정) 대표 예약이면 일정 ID, 아니면 NULL 인 생성 컬럼.
+     * (userId, activeScheduleId) 유니크 키가 사용자당 일정별 진행 중인 예약을 하나로 막는다. 만료·취소되면 DB 가 NULL 로 바꾼다.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT AS (CASE WHEN status IN "
+        + "('TEMPORARY_RESERVED', 'CONFIRMED') AND additional_seat = 0 THEN schedule_id END) STORED")
+    private Long activeScheduleId;
+
     public enum Status {
         TEMPORARY_RESERVED,
         CONFIRMED,
@@ -63,4 +81,15 @@ public class ReservationEntity {
     }
 
     private static final int TEMPORARY_RESERVATION_MINUTES = 5;
+
+    /**
+     * 도메인 모델에서 바뀔 수 있는 상태만 옮긴다.
+     */
+    public void apply(Reservation reservation) {
+        this.status = reservation.getStatus();
+        this.confirmedAt = reservation.getConfirmedAt();
+        this.expiredAt = reservation.getExpiredAt();
+        this.cancelledAt = reservation.getCancelledAt();
+        this.paymentId = reservation.getPaymentId();
+    }
 }
@@ -1,8 +1,10 @@
 package kr.hhplus.be.server.reservation.infrastructure.persistence;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import kr.hhplus.be.server.common.persistence.ManagedEntities;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.Reservation.Status;
@@ -28,6 +30,14 @@ public class ReservationJpaRepository implements ReservationRepository{
             , statuses);
     }
 
+    @Override
+    public List<String> findUserIdsWithActiveReservation(Long scheduleId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return springReservationJpa.findUserIdsWithActiveReservation(scheduleId, userIds);
+    }
+
     @Override
     public List<Reservation> findExpiredTemporaryReservations(Status status,
         LocalDateTime expirationTime) {
@@ -38,6 +48,22 @@ public class ReservationJpaRepository implements ReservationRepository{
             .toList();
     }
 
+    @Override
+    public List<Reservation> findExpiredTemporaryReservations(LocalDateTime from, LocalDateTime expirationTime, int limit) {
+        return springReservationJpa.findExpiredTemporaryReservations(from, expirationTime, limit)
+            .stream()
+            .map(this::toDomainModel)
+            .toList();
+    }
+
+    @Override
+    public int expireTemporaryReservations(Collection<Long> ids, LocalDateTime expiredAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return springReservationJpa.expireTemporaryReservations(ids, expiredAt);
+    }
+
     @Override
     public List<Reservation> findByUserIdAndStatus(String userId, Status status) {
         return springReservationJpa.findByUserIdAndStatus(userId, status)
@@ -62,26 +88,16 @@ public class ReservationJpaRepository implements ReservationRepository{
 
 
     public Reservation save(Reservation reservation) {
-        ReservationEntity entity = toEntity(reservation);
-        ReservationEntity savedEntity = springReservationJpa.save(entity);
+        ReservationEntity savedEntity = ManagedEntities.save(springReservationJpa, reservation.getId(),
+            () -> toEntity(reservation), entity -> entity.apply(reservation));
         reservation.assignId(savedEntity.getId());
         return reservation;
     }
 
     @Override
-    public void saveAll(List<Reservation> expiredReservations) {
-        List<ReservationEntity> entities = expiredReservations.stream()
-            .map(this::toEntity)
-            .toList();
-        springReservationJpa.saveAll(entities);
-        expiredReservations.forEach(reservation -> {
-            reservation.assignId(entities.stream()
-                .filter(entity -> entity.getUserId().equals(reservation.getUserId())
-                    && entity.getScheduleId().equals(reservation.getScheduleId()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("ID에 대한 매핑 실패"))
-                .getId());
-        });
+    public void saveAll(List<Reservation> reservations) {
+        // INSERT 는 flush 때 배치로 나간다
+        reservations.forEach(this::save);
     }
 
     public Optional<Reservation> findById(Long id) {
@@ -105,6 +121,7 @@ public class ReservationJpaRepository implements ReservationRepository{
             .expiredAt(reservation.getExpiredAt())
             .cancelledAt(reservation.getCancelledAt())
             .paymentId(reservation.getPaymentId())
+            .additionalSeat(reservation.isAdditionalSeat())
             .build();
     }
 
@@ -120,6 +137,7 @@ public class ReservationJpaRepository implements ReservationRepository{
             .expiredAt(entity.getExpiredAt())
             .cancelledAt(entity.getCancelledAt())
             .paymentId(entity.getPaymentId())
+            .additionalSeat(entity.isAdditionalSeat())
             .build();
     }
 }
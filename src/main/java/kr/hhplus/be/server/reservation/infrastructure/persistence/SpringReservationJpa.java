@@ -5,11 +5,13 @@ import kr.hhplus.be.server.reservation.domain.model.Reservation;
 import kr.hhplus.be.server.reservation.domain.model.Reservation.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +28,29 @@ public interface SpringReservationJpa extends JpaRepository<ReservationEntity, L
         @Param("scheduleId") Long scheduleId,
         @Param("statuses") List<Status> statuses);
 
+    @Query("SELECT r.userId FROM ReservationEntity r WHERE r.scheduleId = :scheduleId AND r.userId IN :userIds " +
+        "AND r.status IN ('TEMPORARY_RESERVED', 'CONFIRMED')")
+    List<String> findUserIdsWithActiveReservation(@Param("scheduleId") Long scheduleId,
+        @Param("userIds") Collection<String> userIds);
+
     @Query("SELECT r FROM ReservationEntity r WHERE r.status = :status AND r.reservedAt < "
         + ":expirationTime")
     List<ReservationEntity> findExpiredTemporaryReservations(@Param("status") Reservation.Status status,
         @Param("expirationTime") LocalDateTime expirationTime);
 
+    @Query(value = "SELECT * FROM reservations WHERE status = 'TEMPORARY_RESERVED' " +
+        "AND reserved_at >= :from AND reserved_at < :expirationTime " +
+        "ORDER BY reserved_at LIMIT :limit", nativeQuery = true)
+    List<ReservationEntity> findExpiredTemporaryReservations(@Param("from") LocalDateTime from,
+        @Param("expirationTime") LocalDateTime expirationTime,
+        @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.status = kr.hhplus.be.server.reservation.domain.model.Reservation$Status.EXPIRED, " +
+        "r.expiredAt = :expiredAt " +
+        "WHERE r.id IN :ids AND r.status = kr.hhplus.be.server.reservation.domain.model.Reservation$Status.TEMPORARY_RESERVED")
+    int expireTemporaryReservations(@Param("ids") Collection<Long> ids, @Param("expiredAt") LocalDateTime expiredAt);
+
     List<ReservationEntity> findByUserIdAndStatus(String userId, Reservation.Status status);
 
     Optional<ReservationEntity> findByUserIdAndSeatId(String userId, Long seatId);
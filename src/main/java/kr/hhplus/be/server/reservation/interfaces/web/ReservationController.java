@@ -9,19 +9,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.common.interceptor.QueueTokenInterceptor;
 import kr.hhplus.be.server.reservation.application.ReservationCreateService;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "예약 API", description = "좌석 예약 관련 API")
 @SecurityRequirement(name = "Queue-Token")
 @RestController
@@ -30,7 +33,6 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReservationController {
 
     private final ReservationCreateService reservationCreateService;
-    private final QueueService queueService;
 
     @Operation(summary = "좌석 예약", description = "좌석을 임시 예약합니다. 5분 이내에 결제를 완료해야 합니다.")
     @ApiResponses(value = {
@@ -42,15 +44,37 @@ public class ReservationController {
     })
     @PostMapping
     public ResponseEntity<ReservationResponse> reserveSeat(
-            @Parameter(description = "대기열 토큰", required = true)
-            @RequestHeader("Queue-Token") String token,
-            @Valid @RequestBody ReservationRequest request) {
-        // 대기열 토큰 검증
-        queueService.validateToken(token);
+            @Parameter(hidden = true)
+            @RequestAttribute(QueueTokenInterceptor.USER_ID_ATTRIBUTE) String userId,
+            @Valid @RequestBody ReservationRequest request,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_CONCERT_ID_ATTRIBUTE, required = false) Long concertScope) {
+        // 대기열 토큰은 인터셉터가 검증했다. 서명된 접근 토큰이면 토큰 저장소를 다시 조회하지 않는다
         // 좌석 예약 처리
-        Reservation reservation = reservationCreateService.reserveSeat(token, request);
-        // 예약 응답 생성
-        ReservationResponse response = ReservationResponse.builder()
+        Reservation reservation = reservationCreateService.reserveSeat(userId, request, concertScope);
+        // 예약 응답 반환
+        return ResponseEntity.ok(toResponse(reservation));
+    }
+
+    @Operation(summary = "최적 좌석 자동 배정", description = "등급과 좌석 수를 받아 앞 열 가운데에 가까운 붙은 좌석을 한꺼번에 임시 예약합니다. "
+            + "모든 좌석을 잡거나 하나도 잡지 않으며, adjacent 가 false 이면 붙은 좌석이 없을 때 떨어진 좌석을 배정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "배정 성공 (좌석 번호 순 예약 목록)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 조건에 맞는 좌석 없음"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰 또는 활성화되지 않은 토큰"),
+            @ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+    })
+    @PostMapping("/best-available")
+    public ResponseEntity<List<ReservationResponse>> reserveBestAvailable(
+            @Parameter(hidden = true)
+            @RequestAttribute(QueueTokenInterceptor.USER_ID_ATTRIBUTE) String userId,
+            @Valid @RequestBody BestAvailableRequest request,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_CONCERT_ID_ATTRIBUTE, required = false) Long concertScope) {
+        List<Reservation> reservations = reservationCreateService.reserveBestAvailable(userId, request, concertScope);
+        return ResponseEntity.ok(reservations.stream().map(this::toResponse).toList());
+    }
+
+    private ReservationResponse toResponse(Reservation reservation) {
+        return ReservationResponse.builder()
                 .reservationId(reservation.getId())
                 .userId(reservation.getUserId())
                 .scheduleId(reservation.getScheduleId())
@@ -62,8 +86,5 @@ public class ReservationController {
                         reservation.getExpirationTime() : null)
                 .confirmedAt(reservation.getConfirmedAt())
                 .build();
-
-        // 예약 응답 반환
-        return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.reservation.interfaces.web.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최적 좌석 자동 배정 요청
+ * grade 가 없으면 모든 등급에서 고른다. adjacent 가 false 이면 붙은 좌석이 없을 때 떨어진 좌석이라도 배정한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BestAvailableRequest {
+
+    @NotNull(message = "Schedule ID is required")
+    private Long scheduleId;
+
+    private String grade;
+
+    @NotNull(message = "Seat count is required")
+    @Min(value = 1, message = "Seat count must be at least 1")
+    @Max(value = 10, message = "Seat count must be at most 10")
+    private Integer count;
+
+    @Builder.Default
+    private boolean adjacent = true;
+}
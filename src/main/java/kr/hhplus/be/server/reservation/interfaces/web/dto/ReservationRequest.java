@@ -19,6 +19,6 @@ public class ReservationRequest {
     
     @NotNull(message = "Seat number is required")
     @Min(value = 1, message = "Seat number must be at least 1")
-    @Max(value = 50, message = "Seat number must be at most 50")
+    @Max(value = 100000, message = "Seat number must be at most 100000")
     private Integer seatNumber;
 }
\ No newline at end of file
@@ -8,7 +8,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.common.interceptor.QueueTokenInterceptor;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.schedule.dto.ScheduleResponse;
 import kr.hhplus.be.server.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +26,6 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
-    private final QueueService queueService;
 
     @Operation(summary = "예약 가능 일정 조회", description = "특정 콘서트의 예약 가능한 일정 목록을 조회합니다.")
     @ApiResponses(value = {
@@ -39,8 +39,9 @@ public class ScheduleController {
             @Parameter(description = "콘서트 ID", required = true)
             @PathVariable Long concertId,
             @Parameter(description = "대기열 토큰", required = true)
-            @RequestHeader("Queue-Token") String token) {
-        if (!queueService.validateToken(token)) {
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
             return ResponseEntity.status(401).build();
         }
         List<ScheduleResponse> schedules = scheduleService.getAvailableSchedules(concertId);
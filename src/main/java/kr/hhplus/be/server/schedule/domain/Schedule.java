@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.schedule.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class Schedule {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_id")
+    @SequenceGenerator(name = "schedule_id", sequenceName = "schedules_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.schedule.domain;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 일정별 남은 좌석 수를 여러 stripe 로 나눠 저장하는 카운터 저장소.
+ * 예약/해제는 stripe 하나만 갱신하므로 일정 행 하나에 쓰기가 몰리지 않는다.
+ */
+public interface ScheduleSeatCounterRepository {
+    
+    /**
+     * stripe 에서 하나를 뺀다. 그 stripe 가 비었으면 남은 좌석이 있는 다른 stripe 에서 뺀다.
+     * 모든 stripe 가 비었거나 카운터가 없으면 false 를 반환한다.
+     */
+    boolean decrement(Long scheduleId, int stripe);
+    
+    /**
+     * stripe 에서 amount 를 한 번에 뺀다. 그 stripe 에 모자라면 amount 이상 남은 다른 stripe 에서 뺀다.
+     * amount 만큼 남은 stripe 가 없거나 카운터가 없으면 false 를 반환한다.
+     */
+    boolean decrement(Long scheduleId, int stripe, int amount);
+    
+    /**
+     * stripe 에서 amount 까지 남은 만큼만 뺀다. 트랜잭션 안이면 stripe 행 락은 트랜잭션이 끝날 때까지 유지된다.
+     *
+     * @return 실제로 뺀 수. stripe 가 비었거나 없으면 0
+     */
+    int decrementUpTo(Long scheduleId, int stripe, int amount);
+    
+    /**
+     * stripe 에 amount 를 더한다. 그 stripe 가 없으면 다른 stripe 에 더하고, 카운터가 없으면 false 를 반환한다.
+     */
+    boolean increment(Long scheduleId, int stripe, int amount);
+    
+    /**
+     * 카운터가 없을 때만 available 을 stripes 개로 나눠 만든다. 이미 있는 stripe 는 건드리지 않는다.
+     */
+    void seed(Long scheduleId, int available, int stripes);
+    
+    void delete(Long scheduleId);
+    
+    long sumAvailable(Long scheduleId);
+    
+    /**
+     * 카운터가 있는 일정별 stripe 합
+     */
+    Map<Long, Long> sumAvailableBySchedule();
+    
+    /**
+     * stripe 합을 schedules.availableSeats 에 옮긴다. 일정 목록 조회는 이 값을 그대로 읽는다.
+     */
+    int rollup(Collection<Long> scheduleIds);
+}
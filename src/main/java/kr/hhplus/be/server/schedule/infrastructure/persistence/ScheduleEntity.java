@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.schedule.infrastructure.persistence;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +23,8 @@ import java.time.LocalDateTime;
 public class ScheduleEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_entity_id")
+    @SequenceGenerator(name = "schedule_entity_id", sequenceName = "schedules_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -38,4 +41,11 @@ public class ScheduleEntity {
     
     @Column(nullable = false)
     private Integer availableSeats;
+    
+    /**
+     * 도메인 모델에서 바뀔 수 있는 상태만 옮긴다.
+     */
+    public void apply(Schedule schedule) {
+        this.availableSeats = schedule.getAvailableSeats();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.schedule.infrastructure.persistence;
 
+import kr.hhplus.be.server.common.persistence.ManagedEntities;
 import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
 import kr.hhplus.be.server.schedule.domain.model.Schedule;
 import lombok.RequiredArgsConstructor;
@@ -18,8 +19,8 @@ public class ScheduleJpaRepository implements ScheduleRepository {
     
     @Override
     public Schedule save(Schedule schedule) {
-        ScheduleEntity entity = toEntity(schedule);
-        ScheduleEntity savedEntity = springScheduleJpa.save(entity);
+        ScheduleEntity savedEntity = ManagedEntities.save(springScheduleJpa, schedule.getId(),
+                () -> toEntity(schedule), entity -> entity.apply(schedule));
         schedule.assignId(savedEntity.getId());
         return schedule;
     }
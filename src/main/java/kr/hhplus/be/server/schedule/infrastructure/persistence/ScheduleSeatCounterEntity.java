@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.schedule.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정별 남은 좌석 수를 stripe 개로 나눈 부분 카운터. 남은 좌석 수는 같은 일정의 stripe 합이다.
+ */
+@Entity
+@Table(name = "schedule_seat_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_schedule_stripe", columnNames = {"scheduleId", "stripe"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSeatCounterEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long scheduleId;
+    
+    @Column(nullable = false)
+    private Integer stripe;
+    
+    @Column(nullable = false)
+    private Integer available;
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.schedule.infrastructure.persistence;
+
+import kr.hhplus.be.server.schedule.domain.ScheduleSeatCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSeatCounterJpaRepository implements ScheduleSeatCounterRepository {
+    
+    private final SpringScheduleSeatCounterJpa springScheduleSeatCounterJpa;
+    
+    @Override
+    public boolean decrement(Long scheduleId, int stripe) {
+        return springScheduleSeatCounterJpa.decrementStripe(scheduleId, stripe) > 0
+                || springScheduleSeatCounterJpa.decrementAnyStripe(scheduleId) > 0;
+    }
+    
+    @Override
+    public boolean decrement(Long scheduleId, int stripe, int amount) {
+        return springScheduleSeatCounterJpa.decrementStripeBy(scheduleId, stripe, amount) > 0
+                || springScheduleSeatCounterJpa.decrementAnyStripeBy(scheduleId, amount) > 0;
+    }
+    
+    @Override
+    public int decrementUpTo(Long scheduleId, int stripe, int amount) {
+        Integer available = springScheduleSeatCounterJpa.findAvailableForUpdate(scheduleId, stripe);
+        int taken = available == null ? 0 : Math.min(available, amount);
+        if (taken == 0) {
+            return 0;
+        }
+        // 트랜잭션 밖이라 락이 풀린 사이 줄었으면 조건에 걸려 아무것도 빼지 않는다
+        return springScheduleSeatCounterJpa.decrementStripeBy(scheduleId, stripe, taken) > 0 ? taken : 0;
+    }
+    
+    @Override
+    public boolean increment(Long scheduleId, int stripe, int amount) {
+        return springScheduleSeatCounterJpa.incrementStripe(scheduleId, stripe, amount) > 0
+                || springScheduleSeatCounterJpa.incrementAnyStripe(scheduleId, amount) > 0;
+    }
+    
+    @Override
+    public void seed(Long scheduleId, int available, int stripes) {
+        // 동시에 seed 해도 INSERT IGNORE 라 먼저 들어간 stripe 가 남는다
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            springScheduleSeatCounterJpa.insertIgnore(scheduleId, stripe, share(available, stripes, stripe));
+        }
+    }
+    
+    @Override
+    public void delete(Long scheduleId) {
+        springScheduleSeatCounterJpa.deleteByScheduleId(scheduleId);
+    }
+    
+    @Override
+    public long sumAvailable(Long scheduleId) {
+        return springScheduleSeatCounterJpa.sumAvailable(scheduleId);
+    }
+    
+    @Override
+    public Map<Long, Long> sumAvailableBySchedule() {
+        Map<Long, Long> sums = new HashMap<>();
+        for (Object[] row : springScheduleSeatCounterJpa.sumAvailableGroupByScheduleId()) {
+            sums.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return sums;
+    }
+    
+    @Override
+    public int rollup(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return 0;
+        }
+        return springScheduleSeatCounterJpa.rollupAvailableSeats(scheduleIds);
+    }
+    
+    private int share(int available, int stripes, int stripe) {
+        return available / stripes + (stripe < available % stripes ? 1 : 0);
+    }
+}
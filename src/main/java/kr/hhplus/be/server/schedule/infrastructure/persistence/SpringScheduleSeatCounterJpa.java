@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.schedule.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SpringScheduleSeatCounterJpa extends JpaRepository<ScheduleSeatCounterEntity, Long> {
+    
+    @Modifying
+    @Query("UPDATE ScheduleSeatCounterEntity c SET c.available = c.available - 1 " +
+           "WHERE c.scheduleId = :scheduleId AND c.stripe = :stripe AND c.available > 0")
+    int decrementStripe(@Param("scheduleId") Long scheduleId, @Param("stripe") int stripe);
+    
+    @Modifying
+    @Query(value = "UPDATE schedule_seat_counters SET available = available - 1 " +
+                   "WHERE schedule_id = :scheduleId AND available > 0 LIMIT 1",
+           nativeQuery = true)
+    int decrementAnyStripe(@Param("scheduleId") Long scheduleId);
+    
+    @Modifying
+    @Query("UPDATE ScheduleSeatCounterEntity c SET c.available = c.available - :amount " +
+           "WHERE c.scheduleId = :scheduleId AND c.stripe = :stripe AND c.available >= :amount")
+    int decrementStripeBy(@Param("scheduleId") Long scheduleId, @Param("stripe") int stripe, @Param("amount") int amount);
+    
+    @Modifying
+    @Query(value = "UPDATE schedule_seat_counters SET available = available - :amount " +
+                   "WHERE schedule_id = :scheduleId AND available >= :amount LIMIT 1",
+           nativeQuery = true)
+    int decrementAnyStripeBy(@Param("scheduleId") Long scheduleId, @Param("amount") int amount);
+    
+    @Query(value = "SELECT available FROM schedule_seat_counters " +
+                   "WHERE schedule_id = :scheduleId AND stripe = :stripe FOR UPDATE",
+           nativeQuery = true)
+    Integer findAvailableForUpdate(@Param("scheduleId") Long scheduleId, @Param("stripe") int stripe);
+    
+    @Modifying
+    @Query("UPDATE ScheduleSeatCounterEntity c SET c.available = c.available + :amount " +
+           "WHERE c.scheduleId = :scheduleId AND c.stripe = :stripe")
+    int incrementStripe(@Param("scheduleId") Long scheduleId, @Param("stripe") int stripe, @Param("amount") int amount);
+    
+    @Modifying
+    @Query(value = "UPDATE schedule_seat_counters SET available = available + :amount " +
+                   "WHERE schedule_id = :scheduleId LIMIT 1",
+           nativeQuery = true)
+    int incrementAnyStripe(@Param("scheduleId") Long scheduleId, @Param("amount") int amount);
+    
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO schedule_seat_counters (schedule_id, stripe, available) " +
+                   "VALUES (:scheduleId, :stripe, :available)",
+           nativeQuery = true)
+    int insertIgnore(@Param("scheduleId") Long scheduleId, @Param("stripe") int stripe, @Param("available") int available);
+    
+    @Modifying
+    @Query("DELETE FROM ScheduleSeatCounterEntity c WHERE c.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+    
+    @Query("SELECT COALESCE(SUM(c.available), 0) FROM ScheduleSeatCounterEntity c WHERE c.scheduleId = :scheduleId")
+    long sumAvailable(@Param("scheduleId") Long scheduleId);
+    
+    @Query("SELECT c.scheduleId, SUM(c.available) FROM ScheduleSeatCounterEntity c GROUP BY c.scheduleId")
+    List<Object[]> sumAvailableGroupByScheduleId();
+    
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE schedules s SET s.available_seats = " +
+                   "(SELECT SUM(c.available) FROM schedule_seat_counters c WHERE c.schedule_id = s.id) " +
+                   "WHERE s.id IN (:scheduleIds) " +
+                   "AND EXISTS (SELECT 1 FROM schedule_seat_counters c WHERE c.schedule_id = s.id)",
+           nativeQuery = true)
+    int rollupAvailableSeats(@Param("scheduleIds") Collection<Long> scheduleIds);
+}
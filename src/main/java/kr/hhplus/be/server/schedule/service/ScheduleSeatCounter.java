@@ -0,0 +1,225 @@
+package kr.hhplus.be.server.schedule.service;
+
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.ScheduleSeatCounterRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일정별 남은 좌석 수 카운터
+ * 남은 좌석 수를 stripe 개의 행으로 나눠 예약/해제마다 임의의 stripe 하나만 갱신하고, 남은 좌석 수는 stripe 합으로 구한다.
+ * schedules.availableSeats 는 변경된 일정만 모아 주기적으로 stripe 합으로 맞추므로, 일정 목록 조회는 지금처럼 컬럼 하나만 읽는다.
+ * 카운터가 없는 일정은 처음 갱신할 때 schedules.availableSeats 값으로 만든다.
+ */
+@Slf4j
+@Component
+public class ScheduleSeatCounter {
+
+    private final ScheduleSeatCounterRepository counterRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final int stripes;
+    private final Set<Long> seededScheduleIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyScheduleIds = ConcurrentHashMap.newKeySet();
+
+    public ScheduleSeatCounter(ScheduleSeatCounterRepository counterRepository,
+                               ScheduleRepository scheduleRepository,
+                               SeatRepository seatRepository,
+                               @Value("${schedule.seat-counter.stripes:8}") int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripe 수는 1 이상이어야 합니다");
+        }
+        this.counterRepository = counterRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.stripes = stripes;
+    }
+
+    /**
+     * 새 일정의 카운터를 만든다. 만들지 않아도 첫 예약 때 만들어지지만, 오픈 직후 동시에 seed 하는 경합을 피할 수 있다.
+     */
+    @Transactional
+    public void initialize(Long scheduleId, int availableSeats) {
+        counterRepository.seed(scheduleId, availableSeats, stripes);
+        markChanged(scheduleId);
+    }
+
+    /**
+     * 남은 좌석 수를 하나 줄인다. 남은 좌석이 없으면 false 를 반환한다.
+     */
+    public boolean reserve(Long scheduleId) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        boolean reserved = counterRepository.decrement(scheduleId, stripe)
+                || (seedIfAbsent(scheduleId) && counterRepository.decrement(scheduleId, stripe));
+        if (reserved) {
+            markChanged(scheduleId);
+        }
+        return reserved;
+    }
+
+    /**
+     * 남은 좌석 수를 count 만큼 한 번에 줄인다. 보통은 count 만큼 남은 stripe 하나만 잠근다.
+     * 남은 좌석이 stripe 마다 흩어진 매진 직전에는 stripe 순서대로 남은 만큼씩 모아 뺀다. 모두 합쳐도 모자라면 false 를 반환한다.
+     */
+    public boolean reserve(Long scheduleId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("예약할 좌석 수는 1 이상이어야 합니다");
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        boolean reserved = counterRepository.decrement(scheduleId, stripe, count)
+                || (seedIfAbsent(scheduleId) && counterRepository.decrement(scheduleId, stripe, count))
+                || drain(scheduleId, count);
+        if (reserved) {
+            markChanged(scheduleId);
+        }
+        return reserved;
+    }
+
+    /**
+     * stripe 순서대로 남은 만큼씩 빼서 count 를 모은다. 모두 같은 순서로 잠그므로 여러 stripe 를 잠가도 서로 엇갈려 기다리지 않는다.
+     * 모자라면 뺀 만큼 되돌리고 false 를 반환한다.
+     */
+    private boolean drain(Long scheduleId, int count) {
+        int[] taken = new int[stripes];
+        int remaining = count;
+        for (int stripe = 0; stripe < stripes && remaining > 0; stripe++) {
+            taken[stripe] = counterRepository.decrementUpTo(scheduleId, stripe, remaining);
+            remaining -= taken[stripe];
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (taken[stripe] > 0) {
+                counterRepository.increment(scheduleId, stripe, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 남은 좌석 수를 하나 늘린다.
+     */
+    public void release(Long scheduleId) {
+        release(scheduleId, 1);
+    }
+
+    /**
+     * 남은 좌석 수를 count 만큼 한 번에 늘린다. 여러 좌석을 함께 해제할 때 일정마다 한 번만 갱신한다.
+     */
+    public void release(Long scheduleId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        boolean released = counterRepository.increment(scheduleId, stripe, count)
+                || (seedIfAbsent(scheduleId) && counterRepository.increment(scheduleId, stripe, count));
+        if (released) {
+            markChanged(scheduleId);
+        }
+    }
+
+    public long availableSeats(Long scheduleId) {
+        return counterRepository.sumAvailable(scheduleId);
+    }
+
+    /**
+     * stripe 합과 실제 AVAILABLE 좌석 수가 다른 일정을 찾는다. 두 값을 같은 스냅샷에서 읽는다.
+     *
+     * @return 일정 ID 별 (실제 좌석 수 - stripe 합)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findDrift() {
+        Map<Long, Long> counted = counterRepository.sumAvailableBySchedule();
+        if (counted.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> actual = seatRepository.countAvailableByScheduleIds(counted.keySet());
+        Map<Long, Long> drift = new HashMap<>();
+        counted.forEach((scheduleId, sum) -> {
+            long delta = actual.getOrDefault(scheduleId, 0L) - sum;
+            if (delta != 0) {
+                drift.put(scheduleId, delta);
+            }
+        });
+        return drift;
+    }
+
+    /**
+     * 카운터를 실제 AVAILABLE 좌석 수로 다시 만든다.
+     * stripe 를 먼저 지워 행 락을 잡은 뒤 좌석을 세므로, 그 사이 예약은 다시 만든 stripe 에 반영된다.
+     */
+    @Transactional
+    public void repair(Long scheduleId) {
+        counterRepository.delete(scheduleId);
+        int available = (int) seatRepository.countAvailableByScheduleId(scheduleId);
+        counterRepository.seed(scheduleId, available, stripes);
+        markChanged(scheduleId);
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.seat-counter.rollup-millis:1000}")
+    public void rollup() {
+        if (dirtyScheduleIds.isEmpty()) {
+            return;
+        }
+        List<Long> scheduleIds = new ArrayList<>(dirtyScheduleIds);
+        dirtyScheduleIds.removeAll(scheduleIds);
+        try {
+            counterRepository.rollup(scheduleIds);
+        } catch (Exception e) {
+            dirtyScheduleIds.addAll(scheduleIds);
+            log.error("Error rolling up seat counters for {} schedules", scheduleIds.size(), e);
+        }
+    }
+
+    int dirtyCount() {
+        return dirtyScheduleIds.size();
+    }
+
+    private boolean seedIfAbsent(Long scheduleId) {
+        if (seededScheduleIds.contains(scheduleId)) {
+            return false;
+        }
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+        if (schedule == null) {
+            return false;
+        }
+        counterRepository.seed(scheduleId, schedule.getAvailableSeats(), stripes);
+        return true;
+    }
+
+    private void markChanged(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seededScheduleIds.add(scheduleId);
+            dirtyScheduleIds.add(scheduleId);
+            return;
+        }
+        // 커밋 전에 합을 옮기면 이번 변경이 빠지고, 롤백되면 seed 한 stripe 도 사라지므로 트랜잭션이 끝난 뒤 표시한다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seededScheduleIds.add(scheduleId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                dirtyScheduleIds.add(scheduleId);
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.schedule.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 남은 좌석 수 카운터 대사(reconciliation)
+ * stripe 합이 실제 AVAILABLE 좌석 수와 같은지 주기적으로 확인하고, 다르면 좌석 기준으로 카운터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ScheduleSeatCounterReconciler {
+
+    private final ScheduleSeatCounter seatCounter;
+    private final Counter driftCounter;
+    private final Counter repairFailureCounter;
+
+    public ScheduleSeatCounterReconciler(ScheduleSeatCounter seatCounter, MeterRegistry meterRegistry) {
+        this.seatCounter = seatCounter;
+        this.driftCounter = Counter.builder("schedule.seat_counter.drift")
+                .description("Schedules whose striped counter differed from the available seat count")
+                .register(meterRegistry);
+        this.repairFailureCounter = Counter.builder("schedule.seat_counter.repair_failed")
+                .description("Striped counter repairs that failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.seat-counter.reconcile-millis:300000}")
+    public void reconcile() {
+        Map<Long, Long> drift;
+        try {
+            drift = seatCounter.findDrift();
+        } catch (Exception e) {
+            log.error("Error checking seat counters", e);
+            return;
+        }
+        drift.forEach((scheduleId, delta) -> {
+            log.warn("Seat counter drift for schedule {}: {} seats", scheduleId, delta);
+            driftCounter.increment();
+            try {
+                seatCounter.repair(scheduleId);
+            } catch (Exception e) {
+                repairFailureCounter.increment();
+                log.error("Error repairing seat counter for schedule: {}", scheduleId, e);
+            }
+        });
+    }
+}
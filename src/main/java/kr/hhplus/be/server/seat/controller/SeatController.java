@@ -8,16 +8,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import kr.hhplus.be.server.queue.service.QueueService;
-import kr.hhplus.be.server.seat.dto.SeatResponse;
+import kr.hhplus.be.server.common.interceptor.QueueTokenInterceptor;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
+import kr.hhplus.be.server.seat.dto.SeatMapView;
+import kr.hhplus.be.server.seat.dto.SeatSectionPage;
 import kr.hhplus.be.server.seat.service.SeatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 @Tag(name = "좌석 API", description = "좌석 조회 API")
@@ -28,12 +31,13 @@ import java.util.Map;
 public class SeatController {
 
     private final SeatService seatService;
-    private final QueueService queueService;
 
-    @Operation(summary = "예약 가능 좌석 조회", description = "특정 일정의 예약 가능한 좌석 목록을 조회합니다.")
+    @Operation(summary = "예약 가능 좌석 조회", description = "특정 일정의 예약 가능한 좌석 목록을 조회합니다. "
+            + "응답의 version 을 sinceVersion 으로 보내면 그 뒤 바뀐 좌석만 받고, ETag 를 If-None-Match 로 보내면 바뀐 것이 없을 때 304 를 받습니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = SeatResponse.class))),
+                    content = @Content(schema = @Schema(implementation = SeatMapView.class))),
+            @ApiResponse(responseCode = "304", description = "좌석 배치도가 바뀌지 않음"),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰"),
             @ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
     })
@@ -43,17 +47,98 @@ public class SeatController {
             @PathVariable Long scheduleId,
             @Parameter(description = "공연 날짜")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "마지막으로 받은 좌석 배치도 version")
+            @RequestParam(required = false) Long sinceVersion,
+            @Parameter(description = "마지막으로 받은 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @Parameter(description = "대기열 토큰", required = true)
-            @RequestHeader("Queue-Token") String token) {
-        if (!queueService.validateToken(token)) {
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
             return ResponseEntity.status(401).build();
         }
-        List<SeatResponse> availableSeats = seatService.getAvailableSeats(scheduleId);
+        SeatMapView seatMap = seatService.getSeatMap(scheduleId, sinceVersion);
+        String eTag = eTag(scheduleId, seatMap.getVersion());
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         Map<String, Object> response = Map.of(
                 "scheduleId", scheduleId,
                 "date", date != null ? date.toString() : "",
-                "availableSeats", availableSeats
+                "version", seatMap.getVersion(),
+                "delta", seatMap.isDelta(),
+                "availableSeats", seatMap.getAvailableSeats(),
+                "unavailableSeatNumbers", seatMap.getUnavailableSeatNumbers()
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @Operation(summary = "구역별 예약 가능 좌석 수 조회", description = "일정의 구역별 예약 가능 좌석 수를 조회합니다. 예약 가능한 좌석이 없는 구역은 빠집니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰")
+    })
+    @GetMapping("/{scheduleId}/sections")
+    public ResponseEntity<Map<String, Object>> getSections(
+            @Parameter(description = "일정 ID", required = true)
+            @PathVariable Long scheduleId,
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "scheduleId", scheduleId,
+                "sections", seatService.getSectionAvailability(scheduleId)
+        ));
+    }
+
+    @Operation(summary = "구역 좌석 조회", description = "구역의 예약 가능 좌석을 좌석 번호 순으로 나눠 조회합니다. "
+            + "응답의 nextAfterSeatNumber 를 afterSeatNumber 로 보내면 다음 페이지를 받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SeatSectionPage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰")
+    })
+    @GetMapping("/{scheduleId}/sections/{section}/seats")
+    public ResponseEntity<SeatSectionPage> getSectionSeats(
+            @Parameter(description = "일정 ID", required = true)
+            @PathVariable Long scheduleId,
+            @Parameter(description = "구역", required = true)
+            @PathVariable String section,
+            @Parameter(description = "이 좌석 번호 다음부터 조회")
+            @RequestParam(defaultValue = "0") int afterSeatNumber,
+            @Parameter(description = "페이지 크기 (최대 1000)")
+            @RequestParam(defaultValue = "500") int size,
+            @Parameter(description = "대기열 토큰", required = true)
+            @RequestHeader("Queue-Token") String token,
+            @RequestAttribute(name = QueueTokenInterceptor.QUEUE_TOKEN_ATTRIBUTE, required = false) QueueTokenSnapshot queueToken) {
+        if (queueToken == null || !queueToken.isActive()) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(seatService.getSectionSeats(scheduleId, section, afterSeatNumber, size));
+    }
+
+    private static String eTag(Long scheduleId, long version) {
+        return "W/\"" + scheduleId + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 는 여러 태그나 * 를 담을 수 있고, 약한 비교이므로 W/ 접두사는 무시한다.
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = eTag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
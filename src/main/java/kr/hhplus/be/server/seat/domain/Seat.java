@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.seat.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -19,7 +20,8 @@ import java.time.temporal.ChronoUnit;
 public class Seat {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_id")
+    @SequenceGenerator(name = "seat_id", sequenceName = "seats_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
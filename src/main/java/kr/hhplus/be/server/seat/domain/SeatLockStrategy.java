@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.seat.domain;
+
+/**
+ * 좌석 행 잠금 방식
+ */
+public enum SeatLockStrategy {
+
+    /**
+     * FOR UPDATE. 다른 트랜잭션이 잠근 좌석이면 커밋될 때까지 기다린다.
+     */
+    WAIT,
+
+    /**
+     * FOR UPDATE NOWAIT. 다른 트랜잭션이 잠근 좌석이면 기다리지 않고 바로 실패한다.
+     */
+    NOWAIT,
+
+    /**
+     * FOR UPDATE SKIP LOCKED. 다른 트랜잭션이 잠근 좌석은 결과에서 빠진다.
+     */
+    SKIP_LOCKED
+}
@@ -3,7 +3,9 @@ package kr.hhplus.be.server.seat.domain;
 import kr.hhplus.be.server.seat.domain.model.Seat;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SeatRepository {
@@ -16,9 +18,66 @@ public interface SeatRepository {
     
     Optional<Seat> findByScheduleIdAndSeatNumberWithLock(Long scheduleId, Integer seatNumber);
     
+    /**
+     * 좌석 행을 strategy 로 잠가 읽는다. NOWAIT, SKIP_LOCKED 는 다른 트랜잭션이 잠근 좌석이면
+     * 기다리지 않고 SeatAlreadyTakenException 을 던진다.
+     */
+    Optional<Seat> findByScheduleIdAndSeatNumberWithLock(Long scheduleId, Integer seatNumber, SeatLockStrategy strategy);
+    
+    Optional<Seat> findByScheduleIdAndSeatNumber(Long scheduleId, Integer seatNumber);
+    
+    /**
+     * 일정의 좌석들을 좌석 번호 순으로 잠가 읽는다. 항상 같은 순서로 잠그므로 여러 좌석을 함께 잡아도 교착하지 않는다.
+     */
+    List<Seat> findByScheduleIdAndSeatNumbersForUpdate(Long scheduleId, Collection<Integer> seatNumbers);
+    
+    /**
+     * 예약 가능한 좌석일 때만 seat 의 예약자/예약 시각으로 임시 예약한다. 이미 선점된 좌석이면 false 를 반환한다.
+     */
+    boolean claimIfAvailable(Seat seat);
+    
     List<Seat> findByScheduleId(Long scheduleId);
     
+    /**
+     * 일정에 만들어진 가장 큰 좌석 번호. 좌석이 없으면 0 이다.
+     */
+    int findMaxSeatNumber(Long scheduleId);
+    
+    /**
+     * 구역의 예약 가능 좌석을 afterSeatNumber 다음부터 좌석 번호 순으로 limit 개 읽는다.
+     */
+    List<Seat> findAvailableInSection(Long scheduleId, String section, int afterSeatNumber, int limit);
+    
+    /**
+     * 구역별 AVAILABLE 좌석 수. 예약 가능한 좌석이 없는 구역은 결과에 없다.
+     */
+    Map<String, Long> countAvailableBySection(Long scheduleId);
+    
     List<Seat> findAvailableSeatsByScheduleId(Long scheduleId);
     
+    long countAvailableByScheduleId(Long scheduleId);
+    
+    /**
+     * 일정별 AVAILABLE 좌석 수. 예약 가능한 좌석이 없는 일정은 결과에 없다.
+     */
+    Map<Long, Long> countAvailableByScheduleIds(Collection<Long> scheduleIds);
+    
     List<Seat> findExpiredTemporaryReservations(LocalDateTime expirationTime);
+    
+    List<Seat> findTemporaryReservedSeats();
+    
+    /**
+     * expirationTime 이전에 임시 예약된 좌석이면 예약 가능 상태로 되돌린다. 그 사이 결제로 확정된 좌석은 건드리지 않는다.
+     */
+    boolean releaseExpiredHold(Long seatId, LocalDateTime expirationTime);
+    
+    /**
+     * seatIds 중 expirationTime 이전에 임시 예약된 좌석을 잠가 읽는다. 그 사이 해제되거나 결제된 좌석은 빠진다.
+     */
+    List<Seat> findExpiredHoldsForUpdate(Collection<Long> seatIds, LocalDateTime expirationTime);
+    
+    /**
+     * 임시 예약 상태인 좌석을 UPDATE 한 번으로 예약 가능 상태로 되돌리고 바뀐 건수를 반환한다.
+     */
+    int releaseHolds(Collection<Long> seatIds);
 }
\ No newline at end of file
@@ -13,6 +13,9 @@ public class Seat {
     private Long id;
     private final Long scheduleId;
     private final Integer seatNumber;
+    private final String section;
+    private final String rowLabel;
+    private final Integer seatInRow;
     private final String grade;
     private final BigDecimal price;
     private Status status;
@@ -26,14 +29,29 @@ public class Seat {
     }
     
     private static final int MIN_SEAT_NUMBER = 1;
-    private static final int MAX_SEAT_NUMBER = 50;
-    private static final int TEMPORARY_RESERVATION_MINUTES = 5;
+    private static final int MAX_SEAT_NUMBER = 100_000;
+    public static final int TEMPORARY_RESERVATION_MINUTES = 5;
+    public static final String DEFAULT_SECTION = "A";
     
+    /**
+     * 구역 구분이 없는 좌석. 한 구역의 한 줄에 좌석 번호 순서로 놓인다.
+     */
     public static Seat create(Long scheduleId, Integer seatNumber, String grade, BigDecimal price) {
+        return create(scheduleId, seatNumber, DEFAULT_SECTION, "1", seatNumber, grade, price);
+    }
+    
+    /**
+     * seatNumber 는 일정 안에서 유일한 좌석 번호이고, 구역/열/열 안 번호는 공연장 위치이다.
+     */
+    public static Seat create(Long scheduleId, Integer seatNumber, String section, String rowLabel, Integer seatInRow,
+                              String grade, BigDecimal price) {
         validateSeatNumber(seatNumber);
         return Seat.builder()
                 .scheduleId(scheduleId)
                 .seatNumber(seatNumber)
+                .section(section)
+                .rowLabel(rowLabel)
+                .seatInRow(seatInRow)
                 .grade(grade)
                 .price(price)
                 .status(Status.AVAILABLE)
@@ -72,6 +90,13 @@ public class Seat {
         this.reservedAt = null;
     }
     
+    public LocalDateTime getTemporaryReservationExpiresAt() {
+        if (status != Status.TEMPORARY_RESERVED || reservedAt == null) {
+            return null;
+        }
+        return reservedAt.plusMinutes(TEMPORARY_RESERVATION_MINUTES);
+    }
+    
     public boolean isTemporaryReservationExpired() {
         if (status != Status.TEMPORARY_RESERVED || reservedAt == null) {
             return false;
@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.seat.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 일정의 좌석 배치
+ * 구역마다 열 수와 열당 좌석 수, 등급과 가격을 정한다. 좌석 번호는 구역 순서, 열 순서대로 1부터 매긴다.
+ */
+@Getter
+@Builder
+public class SeatLayout {
+
+    private final List<Section> sections;
+
+    @Getter
+    @Builder
+    public static class Section {
+        private final String name;
+        private final int rows;
+        private final int seatsPerRow;
+        private final String grade;
+        private final BigDecimal price;
+
+        private int seatCount() {
+            return rows * seatsPerRow;
+        }
+    }
+
+    public int seatCount() {
+        if (sections == null) {
+            return 0;
+        }
+        return sections.stream().mapToInt(Section::seatCount).sum();
+    }
+
+    /**
+     * 배치대로 일정의 좌석을 만든다.
+     */
+    public List<Seat> createSeats(Long scheduleId) {
+        validate();
+        List<Seat> seats = new ArrayList<>(seatCount());
+        int seatNumber = 1;
+        for (Section section : sections) {
+            for (int row = 1; row <= section.rows; row++) {
+                String rowLabel = String.valueOf(row);
+                for (int seatInRow = 1; seatInRow <= section.seatsPerRow; seatInRow++) {
+                    seats.add(Seat.create(scheduleId, seatNumber++, section.name, rowLabel, seatInRow,
+                            section.grade, section.price));
+                }
+            }
+        }
+        return seats;
+    }
+
+    private void validate() {
+        if (sections == null || sections.isEmpty()) {
+            throw new IllegalArgumentException("좌석 배치에 구역이 없습니다");
+        }
+        Set<String> names = new HashSet<>();
+        for (Section section : sections) {
+            if (section.rows <= 0 || section.seatsPerRow <= 0) {
+                throw new IllegalArgumentException("구역의 열 수와 열당 좌석 수는 1 이상이어야 합니다");
+            }
+            if (!names.add(section.name)) {
+                throw new IllegalArgumentException("구역 이름이 중복되었습니다: " + section.name);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌석 배치도 조회 결과
+ * delta 이면 sinceVersion 이후 상태가 바뀐 좌석만 담는다. 새로 예약 가능해진 좌석은 availableSeats, 예약 불가가 된 좌석은 unavailableSeatNumbers 에 들어간다.
+ * delta 가 아니면 availableSeats 가 예약 가능한 좌석 전체이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapView {
+    private Long scheduleId;
+    private long version;
+    private boolean delta;
+    private List<SeatResponse> availableSeats;
+    private List<Integer> unavailableSeatNumbers;
+
+    public static SeatMapView full(Long scheduleId, long version, List<SeatResponse> availableSeats) {
+        return SeatMapView.builder()
+                .scheduleId(scheduleId)
+                .version(version)
+                .delta(false)
+                .availableSeats(availableSeats)
+                .unavailableSeatNumbers(List.of())
+                .build();
+    }
+
+    public static SeatMapView delta(Long scheduleId, long version, List<SeatResponse> availableSeats,
+                                    List<Integer> unavailableSeatNumbers) {
+        return SeatMapView.builder()
+                .scheduleId(scheduleId)
+                .version(version)
+                .delta(true)
+                .availableSeats(availableSeats)
+                .unavailableSeatNumbers(unavailableSeatNumbers)
+                .build();
+    }
+}
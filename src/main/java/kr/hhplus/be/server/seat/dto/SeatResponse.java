@@ -14,6 +14,9 @@ import java.math.BigDecimal;
 public class SeatResponse {
     private Long seatId;
     private Integer seatNumber;
+    private String section;
+    private String rowLabel;
+    private Integer seatInRow;
     private String grade;
     private BigDecimal price;
     private String status;
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 구역의 예약 가능 좌석 한 페이지
+ * 좌석마다 객체를 만들지 않고 같은 인덱스끼리 한 좌석인 열 배열로 내려준다. 등급과 가격은 tiers 에 한 번만 싣고 좌석은 tierIndexes 로 가리킨다.
+ * nextAfterSeatNumber 를 afterSeatNumber 로 보내면 다음 페이지를 받는다. 마지막 페이지면 null 이다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatSectionPage {
+    private Long scheduleId;
+    private String section;
+    private List<Tier> tiers;
+    private long[] seatIds;
+    private int[] seatNumbers;
+    private String[] rowLabels;
+    private int[] seatsInRow;
+    private int[] tierIndexes;
+    private Integer nextAfterSeatNumber;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tier {
+        private String grade;
+        private BigDecimal price;
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.seat.exception;
+
+/**
+ * 다른 요청이 먼저 선점한 좌석. 경합에서 진 요청마다 던져지므로 스택 트레이스를 만들지 않는다.
+ */
+public class SeatAlreadyTakenException extends IllegalStateException {
+    
+    public SeatAlreadyTakenException() {
+        super("이미 임시 배정된 좌석입니다");
+    }
+    
+    public SeatAlreadyTakenException(String message) {
+        super(message);
+    }
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
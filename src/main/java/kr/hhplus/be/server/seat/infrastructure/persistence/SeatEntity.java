@@ -1,18 +1,23 @@
 package kr.hhplus.be.server.seat.infrastructure.persistence;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
 import kr.hhplus.be.server.seat.domain.model.Seat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 좌석 행. 등급과 가격은 seat_tiers 사전의 tierCode 로만 가진다.
+ * 구역 단위 조회는 (scheduleId, section, status, seatNumber) 인덱스만 타고 좌석 번호 순으로 이어서 읽는다.
+ */
 @Entity
 @Table(name = "seats", indexes = {
     @Index(name = "idx_schedule_seat", columnList = "scheduleId,seatNumber", unique = true),
+    @Index(name = "idx_schedule_section_status", columnList = "scheduleId,section,status,seatNumber"),
     @Index(name = "idx_status", columnList = "status")
 })
 @Getter
@@ -22,7 +27,8 @@ import java.time.LocalDateTime;
 public class SeatEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_entity_id")
+    @SequenceGenerator(name = "seat_entity_id", sequenceName = "seats_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -31,11 +37,16 @@ public class SeatEntity {
     @Column(nullable = false)
     private Integer seatNumber;
     
-    @Column(nullable = false)
-    private String grade;
+    @Column(nullable = false, length = 20)
+    private String section;
+    
+    @Column(length = 10)
+    private String rowLabel;
+    
+    private Integer seatInRow;
     
     @Column(nullable = false)
-    private BigDecimal price;
+    private Short tierCode;
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -44,4 +55,13 @@ public class SeatEntity {
     private String reservedBy;
     
     private LocalDateTime reservedAt;
+    
+    /**
+     * 도메인 모델에서 바뀔 수 있는 상태만 옮긴다.
+     */
+    public void apply(Seat seat) {
+        this.status = seat.getStatus();
+        this.reservedBy = seat.getReservedBy();
+        this.reservedAt = seat.getReservedAt();
+    }
 }
\ No newline at end of file
@@ -1,39 +1,45 @@
 package kr.hhplus.be.server.seat.infrastructure.persistence;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.persistence.ManagedEntities;
+import kr.hhplus.be.server.seat.domain.SeatLockStrategy;
 import kr.hhplus.be.server.seat.domain.SeatRepository;
 import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
 public class SeatJpaRepository implements SeatRepository {
     
     private final SpringSeatJpa springSeatJpa;
+    private final SeatTierDictionary seatTierDictionary;
+    private final MeterRegistry meterRegistry;
     
     @Override
     public Seat save(Seat seat) {
-        SeatEntity entity = toEntity(seat);
-        SeatEntity savedEntity = springSeatJpa.save(entity);
+        SeatEntity savedEntity = ManagedEntities.save(springSeatJpa, seat.getId(),
+                () -> toEntity(seat), entity -> entity.apply(seat));
         seat.assignId(savedEntity.getId());
         return seat;
     }
     
     @Override
     public void saveAll(List<Seat> seats) {
-        List<SeatEntity> entities = seats.stream()
-                .map(this::toEntity)
-                .toList();
-        List<SeatEntity> savedEntities = springSeatJpa.saveAll(entities);
-        
-        // Assign IDs back to domain models
-        for (int i = 0; i < seats.size(); i++) {
-            seats.get(i).assignId(savedEntities.get(i).getId());
-        }
+        // INSERT 는 flush 때 배치로 나간다
+        seats.forEach(this::save);
     }
     
     @Override
@@ -48,6 +54,65 @@ public class SeatJpaRepository implements SeatRepository {
                 .map(this::toDomainModel);
     }
     
+    @Override
+    public Optional<Seat> findByScheduleIdAndSeatNumberWithLock(Long scheduleId, Integer seatNumber,
+                                                                SeatLockStrategy strategy) {
+        Optional<SeatEntity> entity = switch (strategy) {
+            case WAIT -> springSeatJpa.findByScheduleIdAndSeatNumberWithLock(scheduleId, seatNumber);
+            case NOWAIT -> findWithNoWait(scheduleId, seatNumber);
+            case SKIP_LOCKED -> findWithSkipLocked(scheduleId, seatNumber);
+        };
+        return entity.map(this::toDomainModel);
+    }
+    
+    @Override
+    public List<Seat> findByScheduleIdAndSeatNumbersForUpdate(Long scheduleId, Collection<Integer> seatNumbers) {
+        if (seatNumbers.isEmpty()) {
+            return List.of();
+        }
+        return springSeatJpa.findByScheduleIdAndSeatNumbersForUpdate(scheduleId, seatNumbers)
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+    
+    private Optional<SeatEntity> findWithNoWait(Long scheduleId, Integer seatNumber) {
+        try {
+            return springSeatJpa.findByScheduleIdAndSeatNumberWithLockNoWait(scheduleId, seatNumber);
+        } catch (PessimisticLockingFailureException e) {
+            throw lockFailed(SeatLockStrategy.NOWAIT);
+        }
+    }
+    
+    private Optional<SeatEntity> findWithSkipLocked(Long scheduleId, Integer seatNumber) {
+        Optional<SeatEntity> entity = springSeatJpa.findByScheduleIdAndSeatNumberWithLockSkipLocked(scheduleId, seatNumber);
+        // 건너뛴 행과 없는 행이 같아 보이므로, 비었을 때만 존재 여부를 잠금 없이 확인한다
+        if (entity.isEmpty() && springSeatJpa.existsByScheduleIdAndSeatNumber(scheduleId, seatNumber)) {
+            throw lockFailed(SeatLockStrategy.SKIP_LOCKED);
+        }
+        return entity;
+    }
+    
+    private SeatAlreadyTakenException lockFailed(SeatLockStrategy strategy) {
+        Counter.builder("seat.lock.failed")
+                .tag("strategy", strategy.name())
+                .description("Seat row locks that failed fast because another transaction held them")
+                .register(meterRegistry)
+                .increment();
+        return new SeatAlreadyTakenException();
+    }
+    
+    @Override
+    public Optional<Seat> findByScheduleIdAndSeatNumber(Long scheduleId, Integer seatNumber) {
+        return springSeatJpa.findByScheduleIdAndSeatNumber(scheduleId, seatNumber)
+                .map(this::toDomainModel);
+    }
+    
+    @Override
+    public boolean claimIfAvailable(Seat seat) {
+        return springSeatJpa.claimIfAvailable(seat.getId(), seat.getReservedBy(), seat.getReservedAt()) > 0;
+    }
+    
     @Override
     public List<Seat> findByScheduleId(Long scheduleId) {
         return springSeatJpa.findByScheduleId(scheduleId)
@@ -56,6 +121,28 @@ public class SeatJpaRepository implements SeatRepository {
                 .toList();
     }
     
+    @Override
+    public int findMaxSeatNumber(Long scheduleId) {
+        return springSeatJpa.findMaxSeatNumber(scheduleId);
+    }
+    
+    @Override
+    public List<Seat> findAvailableInSection(Long scheduleId, String section, int afterSeatNumber, int limit) {
+        return springSeatJpa.findAvailableInSection(scheduleId, section, afterSeatNumber, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+    
+    @Override
+    public Map<String, Long> countAvailableBySection(Long scheduleId) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : springSeatJpa.countAvailableGroupBySection(scheduleId)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+    
     @Override
     public List<Seat> findAvailableSeatsByScheduleId(Long scheduleId) {
         return springSeatJpa.findAvailableSeatsByScheduleId(scheduleId)
@@ -64,6 +151,23 @@ public class SeatJpaRepository implements SeatRepository {
                 .toList();
     }
     
+    @Override
+    public long countAvailableByScheduleId(Long scheduleId) {
+        return springSeatJpa.countAvailableByScheduleId(scheduleId);
+    }
+    
+    @Override
+    public Map<Long, Long> countAvailableByScheduleIds(Collection<Long> scheduleIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (scheduleIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : springSeatJpa.countAvailableGroupByScheduleId(scheduleIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+    
     @Override
     public List<Seat> findExpiredTemporaryReservations(LocalDateTime expirationTime) {
         return springSeatJpa.findExpiredTemporaryReservations(expirationTime)
@@ -72,14 +176,47 @@ public class SeatJpaRepository implements SeatRepository {
                 .toList();
     }
     
+    @Override
+    public List<Seat> findTemporaryReservedSeats() {
+        return springSeatJpa.findByStatus(Seat.Status.TEMPORARY_RESERVED)
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+    
+    @Override
+    public boolean releaseExpiredHold(Long seatId, LocalDateTime expirationTime) {
+        return springSeatJpa.releaseExpiredHold(seatId, expirationTime) > 0;
+    }
+    
+    @Override
+    public List<Seat> findExpiredHoldsForUpdate(Collection<Long> seatIds, LocalDateTime expirationTime) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+        return springSeatJpa.findExpiredHoldsForUpdate(seatIds, expirationTime)
+                .stream()
+                .map(this::toDomainModel)
+                .toList();
+    }
+    
+    @Override
+    public int releaseHolds(Collection<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        return springSeatJpa.releaseHolds(seatIds);
+    }
     
     private SeatEntity toEntity(Seat seat) {
         return SeatEntity.builder()
                 .id(seat.getId())
                 .scheduleId(seat.getScheduleId())
                 .seatNumber(seat.getSeatNumber())
-                .grade(seat.getGrade())
-                .price(seat.getPrice())
+                .section(seat.getSection() != null ? seat.getSection() : Seat.DEFAULT_SECTION)
+                .rowLabel(seat.getRowLabel())
+                .seatInRow(seat.getSeatInRow())
+                .tierCode(seatTierDictionary.encode(seat.getScheduleId(), seat.getGrade(), seat.getPrice()))
                 .status(seat.getStatus())
                 .reservedBy(seat.getReservedBy())
                 .reservedAt(seat.getReservedAt())
@@ -87,12 +224,16 @@ public class SeatJpaRepository implements SeatRepository {
     }
     
     private Seat toDomainModel(SeatEntity entity) {
+        SeatTierEntity tier = seatTierDictionary.decode(entity.getScheduleId(), entity.getTierCode());
         return Seat.builder()
                 .id(entity.getId())
                 .scheduleId(entity.getScheduleId())
                 .seatNumber(entity.getSeatNumber())
-                .grade(entity.getGrade())
-                .price(entity.getPrice())
+                .section(entity.getSection())
+                .rowLabel(entity.getRowLabel())
+                .seatInRow(entity.getSeatInRow())
+                .grade(tier.getGrade())
+                .price(tier.getPrice())
                 .status(entity.getStatus())
                 .reservedBy(entity.getReservedBy())
                 .reservedAt(entity.getReservedAt())
@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.seat.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 등급·가격 사전 캐시
+ * 좌석 행의 tierCode 를 등급과 가격으로 풀고, 저장할 좌석의 등급과 가격을 tierCode 로 바꾼다.
+ * 사전 항목은 바뀌지 않으므로 일정별로 한 번 읽어 두고, 모르는 code 나 등급을 만났을 때만 다시 읽는다.
+ * 새 항목은 별도 트랜잭션에서 추가한다. 다른 요청이 같은 등급·가격이나 같은 code 를 먼저 추가해 유니크 키에 걸리면 다시 읽고 재시도한다.
+ */
+@Component
+public class SeatTierDictionary {
+
+    private static final int MAX_ENCODE_ATTEMPTS = 5;
+
+    private final SpringSeatTierJpa springSeatTierJpa;
+    private final TransactionTemplate newTransaction;
+    private final Cache<Long, List<SeatTierEntity>> tiersBySchedule;
+
+    public SeatTierDictionary(SpringSeatTierJpa springSeatTierJpa,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${seat.tier.cache-size:10000}") long cacheSize) {
+        this.springSeatTierJpa = springSeatTierJpa;
+        // 유니크 키 위반이 호출한 쪽의 트랜잭션을 롤백 전용으로 만들지 않도록 따로 커밋한다
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tiersBySchedule = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    public SeatTierEntity decode(Long scheduleId, Short code) {
+        SeatTierEntity tier = find(tiers(scheduleId), code);
+        if (tier == null) {
+            tier = find(reload(scheduleId), code);
+        }
+        if (tier == null) {
+            throw new IllegalStateException("좌석 등급 정보를 찾을 수 없습니다");
+        }
+        return tier;
+    }
+
+    /**
+     * 등급과 가격에 맞는 code 를 돌려준다. 없으면 사전에 새로 추가한다.
+     */
+    public short encode(Long scheduleId, String grade, BigDecimal price) {
+        SeatTierEntity tier = find(tiers(scheduleId), grade, price);
+        if (tier != null) {
+            return tier.getCode();
+        }
+        for (int attempt = 1; attempt <= MAX_ENCODE_ATTEMPTS; attempt++) {
+            try {
+                List<SeatTierEntity> tiers = newTransaction.execute(status -> findOrInsert(scheduleId, grade, price));
+                // 커밋된 뒤에만 캐시에 넣는다. 호출한 쪽의 트랜잭션이 새 항목을 아직 못 읽어도 캐시에서 풀 수 있다
+                tiersBySchedule.put(scheduleId, tiers);
+                return find(tiers, grade, price).getCode();
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 추가했다. 다음 시도에서 다시 읽는다
+            }
+        }
+        throw new IllegalStateException("좌석 등급 정보를 추가하지 못했습니다");
+    }
+
+    /**
+     * 새 트랜잭션에서 사전을 다시 읽고, 등급과 가격이 없으면 다음 code 로 추가한다.
+     *
+     * @return 등급과 가격이 들어 있는 사전
+     */
+    private List<SeatTierEntity> findOrInsert(Long scheduleId, String grade, BigDecimal price) {
+        List<SeatTierEntity> tiers = springSeatTierJpa.findByScheduleIdOrderByCode(scheduleId);
+        if (find(tiers, grade, price) != null) {
+            return tiers;
+        }
+        short code = (short) (tiers.stream().mapToInt(SeatTierEntity::getCode).max().orElse(0) + 1);
+        // 유니크 키 위반이 이 트랜잭션 안에서 드러나도록 바로 flush 한다
+        SeatTierEntity saved = springSeatTierJpa.saveAndFlush(SeatTierEntity.builder()
+                .scheduleId(scheduleId)
+                .code(code)
+                .grade(grade)
+                .price(price)
+                .build());
+        List<SeatTierEntity> updated = new ArrayList<>(tiers);
+        updated.add(saved);
+        return updated;
+    }
+
+    private List<SeatTierEntity> tiers(Long scheduleId) {
+        return tiersBySchedule.get(scheduleId, springSeatTierJpa::findByScheduleIdOrderByCode);
+    }
+
+    private List<SeatTierEntity> reload(Long scheduleId) {
+        List<SeatTierEntity> tiers = springSeatTierJpa.findByScheduleIdOrderByCode(scheduleId);
+        tiersBySchedule.put(scheduleId, tiers);
+        return tiers;
+    }
+
+    private static SeatTierEntity find(List<SeatTierEntity> tiers, Short code) {
+        for (SeatTierEntity tier : tiers) {
+            if (tier.getCode().equals(code)) {
+                return tier;
+            }
+        }
+        return null;
+    }
+
+    private static SeatTierEntity find(List<SeatTierEntity> tiers, String grade, BigDecimal price) {
+        for (SeatTierEntity tier : tiers) {
+            // DB 에서 읽은 가격은 scale 이 다를 수 있어 compareTo 로 비교한다
+            if (tier.getGrade().equals(grade) && tier.getPrice().compareTo(price) == 0) {
+                return tier;
+            }
+        }
+        return null;
+    }
+}
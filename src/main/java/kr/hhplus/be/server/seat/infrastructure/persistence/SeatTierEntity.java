@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.seat.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.common.persistence.PooledIds;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 일정별 좌석 등급·가격 사전. 좌석 행은 등급 문자열과 가격 대신 이 사전의 code 만 가진다.
+ * 한 번 만든 항목은 바꾸지 않는다. 가격이 바뀌면 새 code 를 만든다.
+ */
+@Entity
+@Table(name = "seat_tiers", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_schedule_tier_code", columnNames = {"scheduleId", "code"}),
+    @UniqueConstraint(name = "uk_schedule_tier_grade_price", columnNames = {"scheduleId", "grade", "price"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatTierEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_tier_entity_id")
+    @SequenceGenerator(name = "seat_tier_entity_id", sequenceName = "seat_tiers_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long scheduleId;
+    
+    @Column(nullable = false)
+    private Short code;
+    
+    @Column(nullable = false)
+    private String grade;
+    
+    @Column(nullable = false)
+    private BigDecimal price;
+}
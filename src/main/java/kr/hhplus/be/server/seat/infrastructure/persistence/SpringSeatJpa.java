@@ -1,13 +1,19 @@
 package kr.hhplus.be.server.seat.infrastructure.persistence;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,14 +25,99 @@ public interface SpringSeatJpa extends JpaRepository<SeatEntity, Long> {
     Optional<SeatEntity> findByScheduleIdAndSeatNumberWithLock(@Param("scheduleId") Long scheduleId,
                                                               @Param("seatNumber") Integer seatNumber);
     
+    // lock.timeout 0 은 FOR UPDATE NOWAIT 로 나간다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId AND s.seatNumber = :seatNumber")
+    Optional<SeatEntity> findByScheduleIdAndSeatNumberWithLockNoWait(@Param("scheduleId") Long scheduleId,
+                                                                    @Param("seatNumber") Integer seatNumber);
+    
+    // lock.timeout -2 는 Hibernate 의 SKIP_LOCKED 로 FOR UPDATE SKIP LOCKED 로 나간다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId AND s.seatNumber = :seatNumber")
+    Optional<SeatEntity> findByScheduleIdAndSeatNumberWithLockSkipLocked(@Param("scheduleId") Long scheduleId,
+                                                                        @Param("seatNumber") Integer seatNumber);
+    
+    // 유니크 인덱스 (scheduleId, seatNumber) 를 좌석 번호 순으로 훑으며 잠그므로 여러 좌석을 잡는 트랜잭션끼리 교착하지 않는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId AND s.seatNumber IN :seatNumbers " +
+           "ORDER BY s.seatNumber")
+    List<SeatEntity> findByScheduleIdAndSeatNumbersForUpdate(@Param("scheduleId") Long scheduleId,
+                                                             @Param("seatNumbers") Collection<Integer> seatNumbers);
+    
+    boolean existsByScheduleIdAndSeatNumber(Long scheduleId, Integer seatNumber);
+    
+    Optional<SeatEntity> findByScheduleIdAndSeatNumber(Long scheduleId, Integer seatNumber);
+    
     List<SeatEntity> findByScheduleId(Long scheduleId);
     
+    @Query("SELECT COALESCE(MAX(s.seatNumber), 0) FROM SeatEntity s WHERE s.scheduleId = :scheduleId")
+    int findMaxSeatNumber(@Param("scheduleId") Long scheduleId);
+    
+    // idx_schedule_section_status 만으로 찾고 정렬한다
+    @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId AND s.section = :section " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE " +
+           "AND s.seatNumber > :afterSeatNumber " +
+           "ORDER BY s.seatNumber")
+    List<SeatEntity> findAvailableInSection(@Param("scheduleId") Long scheduleId,
+                                            @Param("section") String section,
+                                            @Param("afterSeatNumber") int afterSeatNumber,
+                                            Pageable pageable);
+    
+    @Query("SELECT s.section, COUNT(s) FROM SeatEntity s WHERE s.scheduleId = :scheduleId " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE " +
+           "GROUP BY s.section")
+    List<Object[]> countAvailableGroupBySection(@Param("scheduleId") Long scheduleId);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatEntity s SET s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.TEMPORARY_RESERVED, " +
+           "s.reservedBy = :reservedBy, s.reservedAt = :reservedAt " +
+           "WHERE s.id = :seatId " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE")
+    int claimIfAvailable(@Param("seatId") Long seatId,
+                         @Param("reservedBy") String reservedBy,
+                         @Param("reservedAt") LocalDateTime reservedAt);
+    
     @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId " +
            "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE " +
            "ORDER BY s.seatNumber")
     List<SeatEntity> findAvailableSeatsByScheduleId(@Param("scheduleId") Long scheduleId);
     
+    @Query("SELECT COUNT(s) FROM SeatEntity s WHERE s.scheduleId = :scheduleId " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE")
+    long countAvailableByScheduleId(@Param("scheduleId") Long scheduleId);
+    
+    @Query("SELECT s.scheduleId, COUNT(s) FROM SeatEntity s WHERE s.scheduleId IN :scheduleIds " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE " +
+           "GROUP BY s.scheduleId")
+    List<Object[]> countAvailableGroupByScheduleId(@Param("scheduleIds") Collection<Long> scheduleIds);
+    
     @Query("SELECT s FROM SeatEntity s WHERE s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.TEMPORARY_RESERVED " +
            "AND s.reservedAt < :expirationTime")
     List<SeatEntity> findExpiredTemporaryReservations(@Param("expirationTime") LocalDateTime expirationTime);
+    
+    List<SeatEntity> findByStatus(Seat.Status status);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatEntity s SET s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE, " +
+           "s.reservedBy = null, s.reservedAt = null " +
+           "WHERE s.id = :seatId " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.TEMPORARY_RESERVED " +
+           "AND s.reservedAt <= :expirationTime")
+    int releaseExpiredHold(@Param("seatId") Long seatId, @Param("expirationTime") LocalDateTime expirationTime);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SeatEntity s WHERE s.id IN :seatIds " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.TEMPORARY_RESERVED " +
+           "AND s.reservedAt <= :expirationTime")
+    List<SeatEntity> findExpiredHoldsForUpdate(@Param("seatIds") Collection<Long> seatIds,
+                                               @Param("expirationTime") LocalDateTime expirationTime);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatEntity s SET s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.AVAILABLE, " +
+           "s.reservedBy = null, s.reservedAt = null " +
+           "WHERE s.id IN :seatIds " +
+           "AND s.status = kr.hhplus.be.server.seat.domain.model.Seat$Status.TEMPORARY_RESERVED")
+    int releaseHolds(@Param("seatIds") Collection<Long> seatIds);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.seat.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringSeatTierJpa extends JpaRepository<SeatTierEntity, Long> {
+    
+    List<SeatTierEntity> findByScheduleIdOrderByCode(Long scheduleId);
+}
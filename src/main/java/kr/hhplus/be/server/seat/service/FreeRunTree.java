@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.seat.service;
+
+/**
+ * 한 열의 빈 좌석 구간 세그먼트 트리
+ * 노드마다 왼쪽 끝에서 이어진 빈 칸 수, 오른쪽 끝에서 이어진 빈 칸 수, 가장 긴 빈 구간 길이를 둔다.
+ * 한 칸을 바꾸면 O(log n) 으로 갱신되고, 열에서 가장 긴 빈 구간은 루트에서 바로 읽는다.
+ * 배열 크기를 2 의 거듭제곱으로 맞추며 남는 칸은 좌석이 없는 칸으로 둔다.
+ */
+final class FreeRunTree {
+
+    private final int width;
+    private final int size;
+    private final int[] prefix;
+    private final int[] suffix;
+    private final int[] best;
+
+    FreeRunTree(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("열의 좌석 수는 1 이상이어야 합니다");
+        }
+        this.width = width;
+        this.size = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.prefix = new int[size << 1];
+        this.suffix = new int[size << 1];
+        this.best = new int[size << 1];
+    }
+
+    int width() {
+        return width;
+    }
+
+    boolean isFree(int position) {
+        return position >= 0 && position < width && best[size + position] == 1;
+    }
+
+    void set(int position, boolean free) {
+        if (position < 0 || position >= width) {
+            throw new IllegalArgumentException("열 범위를 벗어난 위치입니다: " + position);
+        }
+        int node = size + position;
+        int value = free ? 1 : 0;
+        if (best[node] == value) {
+            return;
+        }
+        prefix[node] = value;
+        suffix[node] = value;
+        best[node] = value;
+        for (node >>= 1; node > 0; node >>= 1) {
+            pull(node);
+        }
+    }
+
+    /**
+     * 열에서 가장 긴 빈 구간의 길이
+     */
+    int longestRun() {
+        return best[1];
+    }
+
+    /**
+     * length 칸이 이어져 비어 있는 구간 중 시작 위치가 target 에 가장 가까운 것을 찾는다. 거리가 같으면 앞쪽을 고른다.
+     * 가장 긴 빈 구간이 length 보다 짧으면 열을 훑지 않고 -1 을 반환한다.
+     */
+    int closestRunStart(int length, int target) {
+        if (length <= 0 || best[1] < length) {
+            return -1;
+        }
+        int bestStart = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        int position = 0;
+        while (position < width) {
+            if (!isFree(position)) {
+                position++;
+                continue;
+            }
+            int runEnd = position;
+            while (runEnd + 1 < width && isFree(runEnd + 1)) {
+                runEnd++;
+            }
+            int lastStart = runEnd - length + 1;
+            if (lastStart >= position) {
+                int start = Math.max(position, Math.min(target, lastStart));
+                int distance = Math.abs(start - target);
+                if (distance < bestDistance) {
+                    bestStart = start;
+                    bestDistance = distance;
+                }
+            }
+            position = runEnd + 1;
+        }
+        return bestStart;
+    }
+
+    private void pull(int node) {
+        int left = node << 1;
+        int right = left | 1;
+        int childLength = size / Integer.highestOneBit(node) >> 1;
+        prefix[node] = prefix[left] == childLength ? childLength + prefix[right] : prefix[left];
+        suffix[node] = suffix[right] == childLength ? childLength + suffix[left] : suffix[right];
+        best[node] = Math.max(Math.max(best[left], best[right]), suffix[left] + prefix[right]);
+    }
+}
@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.seat.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * 연석 배정용 열 인덱스
+ * 구역·열·등급이 같은 좌석을 한 열로 묶어 열마다 FreeRunTree 를 둔다. 열은 첫 좌석 번호 순이고, 앞 번호 열을 더 좋은 열로 본다.
+ * 열 안의 위치는 seatInRow 를 쓰며, 없으면 좌석 번호 순서로 매긴다.
+ * 스냅샷의 잠금 안에서만 읽고 바꾼다.
+ */
+final class SeatBlockIndex {
+
+    private final List<Row> rows;
+    private final int[] rowOfSeat;
+    private final int[] positionOfSeat;
+
+    private SeatBlockIndex(List<Row> rows, int[] rowOfSeat, int[] positionOfSeat) {
+        this.rows = rows;
+        this.rowOfSeat = rowOfSeat;
+        this.positionOfSeat = positionOfSeat;
+    }
+
+    /**
+     * 좌석 번호를 인덱스로 쓰는 스냅샷 배열로 인덱스를 만든다. seatIds 가 null 인 번호는 좌석이 없는 번호다.
+     */
+    static SeatBlockIndex build(Long[] seatIds, String[] sections, String[] rowLabels, int[] seatsInRow,
+                                String[] grades, IntPredicate available) {
+        Map<RowKey, List<Integer>> seatsByRow = new LinkedHashMap<>();
+        for (int seatNumber = 1; seatNumber < seatIds.length; seatNumber++) {
+            if (seatIds[seatNumber] != null) {
+                seatsByRow.computeIfAbsent(new RowKey(sections[seatNumber], rowLabels[seatNumber], grades[seatNumber]),
+                        key -> new ArrayList<>()).add(seatNumber);
+            }
+        }
+        int[] rowOfSeat = new int[seatIds.length];
+        int[] positionOfSeat = new int[seatIds.length];
+        Arrays.fill(rowOfSeat, -1);
+        List<Row> rows = new ArrayList<>(seatsByRow.size());
+        for (Map.Entry<RowKey, List<Integer>> entry : seatsByRow.entrySet()) {
+            List<Integer> seatNumbers = entry.getValue();
+            int[] positions = positions(seatNumbers, seatsInRow);
+            int width = Arrays.stream(positions).max().orElse(0) + 1;
+            int[] seatAt = new int[width];
+            FreeRunTree tree = new FreeRunTree(width);
+            for (int i = 0; i < positions.length; i++) {
+                int seatNumber = seatNumbers.get(i);
+                seatAt[positions[i]] = seatNumber;
+                rowOfSeat[seatNumber] = rows.size();
+                positionOfSeat[seatNumber] = positions[i];
+                tree.set(positions[i], available.test(seatNumber));
+            }
+            rows.add(new Row(entry.getKey().grade(), seatAt, tree));
+        }
+        return new SeatBlockIndex(rows, rowOfSeat, positionOfSeat);
+    }
+
+    void set(int seatNumber, boolean available) {
+        if (seatNumber <= 0 || seatNumber >= rowOfSeat.length || rowOfSeat[seatNumber] < 0) {
+            return;
+        }
+        rows.get(rowOfSeat[seatNumber]).tree().set(positionOfSeat[seatNumber], available);
+    }
+
+    /**
+     * 등급이 grade 인 열에서 count 석이 붙어 있는 가장 좋은 구간을 찾는다. 앞 열을 먼저 보고, 열 안에서는 가운데에 가까운 구간을 고른다.
+     * grade 가 null 이면 모든 등급을 본다. 붙은 구간이 없고 adjacent 가 false 이면 앞 열의 가운데 좌석부터 count 석을 모은다.
+     *
+     * @return 좌석 번호 오름차순. 조건에 맞는 좌석이 없으면 빈 배열
+     */
+    int[] find(String grade, int count, boolean adjacent) {
+        for (Row row : rows) {
+            if (!row.matches(grade) || row.tree().longestRun() < count) {
+                continue;
+            }
+            int start = row.tree().closestRunStart(count, (row.seatAt().length - count) / 2);
+            int[] seatNumbers = new int[count];
+            for (int i = 0; i < count; i++) {
+                seatNumbers[i] = row.seatAt()[start + i];
+            }
+            return seatNumbers;
+        }
+        return adjacent ? new int[0] : scatter(grade, count);
+    }
+
+    private int[] scatter(String grade, int count) {
+        int[] seatNumbers = new int[count];
+        int found = 0;
+        for (Row row : rows) {
+            if (!row.matches(grade) || row.tree().longestRun() == 0) {
+                continue;
+            }
+            int width = row.seatAt().length;
+            int center = (width - 1) / 2;
+            // 가운데에서 시작해 오른쪽, 왼쪽을 번갈아 본다. 열 밖 위치는 isFree 가 false 라 건너뛴다
+            for (int offset = 0; offset < width * 2 && found < count; offset++) {
+                int position = (offset & 1) == 0 ? center + (offset + 1) / 2 : center - (offset + 1) / 2;
+                if (row.tree().isFree(position)) {
+                    seatNumbers[found++] = row.seatAt()[position];
+                }
+            }
+            if (found == count) {
+                Arrays.sort(seatNumbers);
+                return seatNumbers;
+            }
+        }
+        return new int[0];
+    }
+
+    private static int[] positions(List<Integer> seatNumbers, int[] seatsInRow) {
+        int[] positions = new int[seatNumbers.size()];
+        boolean numbered = seatNumbers.stream().allMatch(seatNumber -> seatsInRow[seatNumber] > 0);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = numbered ? seatsInRow[seatNumbers.get(i)] - 1 : i;
+        }
+        if (numbered && Arrays.stream(positions).distinct().count() != positions.length) {
+            // 열 안 번호가 겹치면 위치를 믿을 수 없어 좌석 번호 순서로 매긴다
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+        }
+        return positions;
+    }
+
+    private record RowKey(String section, String rowLabel, String grade) {
+    }
+
+    private record Row(String grade, int[] seatAt, FreeRunTree tree) {
+
+        boolean matches(String requestedGrade) {
+            return requestedGrade == null || Objects.equals(grade, requestedGrade);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 인메모리 좌석 임시 배정 엔진
+ * 선택한 일정은 좌석 상태를 메모리의 원자 배열로 들고 CAS 로 첫 요청자를 정한다. 진 요청은 DB 를 거치지 않고 바로 실패한다.
+ * 이긴 요청의 저장은 호출자가 맡고, 저장이 실패하면 reconcile 로 DB 의 좌석 상태에 맞춘다.
+ * 상태는 노드 로컬이므로 한 일정의 예약 요청은 한 노드로만 들어와야 한다.
+ */
+@Slf4j
+@Component
+public class SeatHoldEngine {
+
+    private static final int AVAILABLE = 0;
+    private static final int HELD = 1;
+
+    private final ScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final Set<Long> configuredScheduleIds;
+    private final Map<Long, ScheduleSeatBoard> boards = new ConcurrentHashMap<>();
+    private final Counter wonCounter;
+    private final Counter lostCounter;
+
+    public SeatHoldEngine(ScheduleRepository scheduleRepository,
+                          SeatRepository seatRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${seat.hold.engine.schedule-ids:}") Set<Long> configuredScheduleIds) {
+        this.scheduleRepository = scheduleRepository;
+        this.seatRepository = seatRepository;
+        this.configuredScheduleIds = configuredScheduleIds == null ? Set.of() : configuredScheduleIds;
+        this.wonCounter = Counter.builder("seat.hold.engine.result")
+                .tag("result", "won")
+                .description("In-memory seat hold attempts")
+                .register(meterRegistry);
+        this.lostCounter = Counter.builder("seat.hold.engine.result")
+                .tag("result", "lost")
+                .description("In-memory seat hold attempts")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        configuredScheduleIds.forEach(this::enable);
+    }
+
+    /**
+     * 일정을 인메모리 배정으로 전환한다. DB 의 좌석 상태로 보드를 만든다.
+     */
+    public void enable(Long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+        if (schedule == null) {
+            log.warn("Seat hold engine skipped unknown schedule: {}", scheduleId);
+            return;
+        }
+        List<Seat> seats = seatRepository.findByScheduleId(scheduleId);
+        boards.put(scheduleId, new ScheduleSeatBoard(schedule, seats));
+        log.info("Seat hold engine enabled for schedule {} with {} seats", scheduleId, seats.size());
+    }
+
+    public void disable(Long scheduleId) {
+        boards.remove(scheduleId);
+    }
+
+    public boolean handles(Long scheduleId) {
+        return scheduleId != null && boards.containsKey(scheduleId);
+    }
+
+    /**
+     * 좌석을 메모리에서 임시 배정하고, 저장할 좌석을 돌려준다.
+     *
+     * @param concertScope 대기열 토큰의 콘서트 ID (공용 대기열이면 null)
+     */
+    public Seat hold(Long scheduleId, Integer seatNumber, String userId, Long concertScope) {
+        ScheduleSeatBoard board = boards.get(scheduleId);
+        if (board == null) {
+            throw new IllegalStateException("인메모리 배정 대상 일정이 아닙니다");
+        }
+        board.validate(concertScope);
+        Seat template = board.seat(seatNumber);
+
+        if (board.holderSeats.putIfAbsent(userId, seatNumber) != null) {
+            throw new IllegalStateException("이미 해당 일정에 예약이 있습니다");
+        }
+        if (!board.states.compareAndSet(seatNumber, AVAILABLE, HELD)) {
+            board.holderSeats.remove(userId, seatNumber);
+            lostCounter.increment();
+            throw new SeatAlreadyTakenException();
+        }
+        wonCounter.increment();
+
+        Seat seat = Seat.builder()
+                .id(template.getId())
+                .scheduleId(scheduleId)
+                .seatNumber(seatNumber)
+                .section(template.getSection())
+                .rowLabel(template.getRowLabel())
+                .seatInRow(template.getSeatInRow())
+                .grade(template.getGrade())
+                .price(template.getPrice())
+                .status(Seat.Status.AVAILABLE)
+                .build();
+        seat.temporaryReserve(userId);
+        return seat;
+    }
+
+    /**
+     * 임시 배정을 되돌린다. 저장 실패와 임시 예약 만료 때 호출한다.
+     * 다른 사용자가 이미 다시 배정받은 좌석이면 건드리지 않는다.
+     */
+    public void release(Long scheduleId, Integer seatNumber, String userId) {
+        ScheduleSeatBoard board = boards.get(scheduleId);
+        if (board == null || userId == null || !board.holderSeats.remove(userId, seatNumber)) {
+            return;
+        }
+        board.states.compareAndSet(seatNumber, HELD, AVAILABLE);
+    }
+
+    /**
+     * 저장하지 못한 배정을 DB 의 좌석 상태에 맞춘다.
+     * DB 에서 비어 있는 좌석만 다시 풀고, 이미 선점된 좌석은 잡힌 채로 두며 선점한 사용자를 기록해 만료 때 풀리게 한다.
+     * DB 를 읽지 못하면 좌석을 잡힌 채로 둔다.
+     */
+    public void reconcile(Long scheduleId, Integer seatNumber, String userId) {
+        ScheduleSeatBoard board = boards.get(scheduleId);
+        if (board == null || userId == null || !board.holderSeats.remove(userId, seatNumber)) {
+            return;
+        }
+        Seat stored;
+        try {
+            stored = seatRepository.findByScheduleIdAndSeatNumber(scheduleId, seatNumber).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Keeping seat {} of schedule {} held; failed to read its stored state", seatNumber, scheduleId, e);
+            return;
+        }
+        if (stored == null) {
+            log.warn("Keeping seat {} of schedule {} held; seat not found in storage", seatNumber, scheduleId);
+            return;
+        }
+        if (stored.isAvailable()) {
+            board.states.compareAndSet(seatNumber, HELD, AVAILABLE);
+        } else if (stored.getReservedBy() != null) {
+            board.holderSeats.putIfAbsent(stored.getReservedBy(), seatNumber);
+        }
+    }
+
+    private static class ScheduleSeatBoard {
+
+        private final Long concertId;
+        private final LocalDateTime performanceTime;
+        // 좌석 번호를 그대로 인덱스로 쓴다
+        private final Seat[] seats;
+        private final AtomicIntegerArray states;
+        private final Map<String, Integer> holderSeats = new ConcurrentHashMap<>();
+
+        private ScheduleSeatBoard(Schedule schedule, List<Seat> seatList) {
+            this.concertId = schedule.getConcertId();
+            this.performanceTime = schedule.getPerformanceTime();
+            int maxSeatNumber = seatList.stream().mapToInt(Seat::getSeatNumber).max().orElse(0);
+            this.seats = new Seat[maxSeatNumber + 1];
+            this.states = new AtomicIntegerArray(maxSeatNumber + 1);
+            for (Seat seat : seatList) {
+                seats[seat.getSeatNumber()] = seat;
+                if (!seat.isAvailable()) {
+                    states.set(seat.getSeatNumber(), HELD);
+                    if (seat.getReservedBy() != null) {
+                        holderSeats.put(seat.getReservedBy(), seat.getSeatNumber());
+                    }
+                }
+            }
+        }
+
+        private void validate(Long concertScope) {
+            if (concertScope != null && !concertScope.equals(concertId)) {
+                throw new IllegalStateException("다른 콘서트의 대기열 토큰으로는 예약할 수 없습니다");
+            }
+            if (performanceTime.isBefore(LocalDateTime.now())) {
+                throw new IllegalStateException("지난 일정은 예약할 수 없습니다");
+            }
+        }
+
+        private Seat seat(Integer seatNumber) {
+            if (seatNumber == null || seatNumber <= 0 || seatNumber >= seats.length || seats[seatNumber] == null) {
+                throw new IllegalArgumentException("좌석을 찾을 수 없습니다");
+            }
+            return seats[seatNumber];
+        }
+    }
+}
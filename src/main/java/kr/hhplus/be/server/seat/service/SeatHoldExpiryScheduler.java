@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.common.expiry.HierarchicalTimingWheel;
+import kr.hhplus.be.server.config.SchedulingConfig;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 좌석 임시 예약 만료 스케줄러
+ * 좌석을 임시 예약할 때 만료 시각을 타이밍 휠에 등록하고, 마감이 지난 좌석만 한 건씩 해제한다.
+ * 재시작 시에는 임시 예약 상태인 좌석으로 휠을 다시 채운다. 휠이 놓친 좌석과 예약 만료는 HoldExpiryPipeline 이 처리한다.
+ */
+@Slf4j
+@Component
+public class SeatHoldExpiryScheduler {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final SeatRepository seatRepository;
+    private final SeatService seatService;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Counter releasedCounter;
+
+    @Autowired
+    public SeatHoldExpiryScheduler(SeatRepository seatRepository,
+                                   SeatService seatService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${seat.hold.wheel-tick-millis:250}") long tickMillis) {
+        this(seatRepository, seatService, meterRegistry, tickMillis, Clock.systemDefaultZone());
+    }
+
+    SeatHoldExpiryScheduler(SeatRepository seatRepository,
+                            SeatService seatService,
+                            MeterRegistry meterRegistry,
+                            long tickMillis,
+                            Clock clock) {
+        this.seatRepository = seatRepository;
+        this.seatService = seatService;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_BITS, WHEEL_LEVELS, clock.millis());
+        this.releasedCounter = Counter.builder("expiry.wheel.expired")
+                .tag("wheel", "seat-hold")
+                .description("Entries expired by the timing wheel")
+                .register(meterRegistry);
+        Gauge.builder("expiry.wheel.pending", wheel, HierarchicalTimingWheel::size)
+                .tag("wheel", "seat-hold")
+                .description("Deadlines registered in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void rebuild() {
+        List<Seat> heldSeats = seatRepository.findTemporaryReservedSeats();
+        heldSeats.forEach(this::register);
+        log.info("Seat hold expiry wheel rebuilt with {} seats", heldSeats.size());
+    }
+
+    public void register(Seat seat) {
+        LocalDateTime expiresAt = seat.getTemporaryReservationExpiresAt();
+        if (seat.getId() != null && expiresAt != null) {
+            wheel.schedule(seat.getId(), expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seat.hold.wheel-tick-millis:250}", scheduler = SchedulingConfig.TICK_SCHEDULER)
+    public void releaseDue() {
+        for (Long seatId : wheel.advance(clock.millis())) {
+            try {
+                if (seatService.releaseExpiredHold(seatId)) {
+                    releasedCounter.increment();
+                }
+            } catch (Exception e) {
+                // 실패한 좌석은 HoldExpiryPipeline 이 처리한다
+                log.error("Error releasing expired hold for seat: {}", seatId, e);
+            }
+        }
+    }
+
+    int pendingCount() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 일정의 좌석 재고 일괄 생성
+ * 배치(SeatLayout)대로 만든 좌석을 chunk 단위 트랜잭션으로 배치 INSERT 한다. 수만 석도 영속성 컨텍스트가 chunk 크기 이상 커지지 않는다.
+ * 좌석 번호는 배치에서 정해지므로 중간에 실패하면 다시 호출해 이미 만든 좌석 번호 다음부터 이어서 만든다.
+ */
+@Slf4j
+@Service
+public class SeatInventoryService {
+
+    private final SeatRepository seatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SeatInventoryService(SeatRepository seatRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${seat.inventory.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("좌석 생성 단위는 1 이상이어야 합니다");
+        }
+        this.seatRepository = seatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 배치대로 일정의 좌석을 만들고 배치의 전체 좌석 수를 반환한다.
+     * 호출한 쪽에 트랜잭션이 있으면 모든 chunk 가 그 트랜잭션에 참여한다.
+     */
+    public int createInventory(Long scheduleId, SeatLayout layout) {
+        List<Seat> seats = layout.createSeats(scheduleId);
+        int existing = seatRepository.findMaxSeatNumber(scheduleId);
+        if (existing > seats.size()) {
+            throw new IllegalStateException("좌석 배치보다 많은 좌석이 이미 있습니다");
+        }
+        List<Seat> remaining = seats.subList(existing, seats.size());
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            List<Seat> chunk = remaining.subList(from, Math.min(from + chunkSize, remaining.size()));
+            transactionTemplate.executeWithoutResult(status -> seatRepository.saveAll(chunk));
+        }
+        if (!remaining.isEmpty()) {
+            log.info("Created {} seats for schedule {} ({} already existed)", remaining.size(), scheduleId, existing);
+        }
+        return seats.size();
+    }
+}
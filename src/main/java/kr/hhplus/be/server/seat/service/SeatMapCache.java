@@ -0,0 +1,291 @@
+package kr.hhplus.be.server.seat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.schedule.repository.ScheduleRepository;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일정별 좌석 배치도 캐시
+ * 좌석 조회는 SeatMapSnapshot 에서 바로 응답한다. 이 노드의 선점과 해제는 커밋된 뒤 스냅샷의 비트를 바꾼다.
+ * 다른 노드의 변경은 보지 못하므로 스냅샷이 refresh-millis 보다 오래되면 백그라운드에서 DB 를 다시 읽고, 그동안은 기존 스냅샷으로 응답한다.
+ * 다시 읽는 동안 이 노드에서 바뀐 좌석은 모아 두었다가 새 스냅샷에 다시 반영한다. 스냅샷이 없을 때만 요청 스레드가 DB 를 읽는다.
+ * 결제 확정은 이미 선점 때 비트가 꺼졌으므로 스냅샷을 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class SeatMapCache {
+
+    private final SeatRepository seatRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final Clock clock;
+    private final long refreshMillis;
+    private final int changeLogSize;
+    private final Executor refreshExecutor;
+    private final Cache<Long, SeatMapSnapshot> snapshots;
+    // 다시 읽는 중인 일정과, 그동안 이 노드에서 바뀐 좌석
+    private final Map<Long, Queue<SeatChange>> refreshing = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter loadCounter;
+    private final Counter updateCounter;
+    private final DistributionSummary stalenessSummary;
+
+    @Autowired
+    public SeatMapCache(SeatRepository seatRepository,
+                        ScheduleRepository scheduleRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${seat.map.refresh-millis:5000}") long refreshMillis,
+                        @Value("${seat.map.idle-expiry-minutes:30}") long idleExpiryMinutes,
+                        @Value("${seat.map.change-log-size:1024}") int changeLogSize,
+                        @Value("${seat.map.refresh-threads:2}") int refreshThreads) {
+        this(seatRepository, scheduleRepository, meterRegistry, refreshMillis, idleExpiryMinutes, changeLogSize,
+                Clock.systemDefaultZone(), newRefreshExecutor(refreshThreads));
+    }
+
+    SeatMapCache(SeatRepository seatRepository,
+                 ScheduleRepository scheduleRepository,
+                 MeterRegistry meterRegistry,
+                 long refreshMillis,
+                 long idleExpiryMinutes,
+                 int changeLogSize,
+                 Clock clock,
+                 Executor refreshExecutor) {
+        if (changeLogSize <= 0) {
+            throw new IllegalArgumentException("좌석 변경 기록 크기는 1 이상이어야 합니다");
+        }
+        this.seatRepository = seatRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.clock = clock;
+        this.refreshMillis = refreshMillis;
+        this.changeLogSize = changeLogSize;
+        this.refreshExecutor = refreshExecutor;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleExpiryMinutes))
+                .build();
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.staleCounter = requestCounter(meterRegistry, "stale");
+        this.loadCounter = requestCounter(meterRegistry, "load");
+        this.updateCounter = Counter.builder("seat.map.updates")
+                .description("Seat availability changes applied to cached seat maps")
+                .register(meterRegistry);
+        this.stalenessSummary = DistributionSummary.builder("seat.map.staleness")
+                .baseUnit("milliseconds")
+                .description("Age of the seat map snapshot a request was served from")
+                .register(meterRegistry);
+        Gauge.builder("seat.map.snapshots", snapshots, Cache::estimatedSize)
+                .description("Schedules with a cached seat map")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일정의 좌석 배치도를 돌려준다. 없으면 DB 에서 읽고, 오래되었으면 다시 읽기를 맡기고 지금 스냅샷을 돌려준다.
+     */
+    public SeatMapSnapshot get(Long scheduleId) {
+        SeatMapSnapshot snapshot = snapshots.getIfPresent(scheduleId);
+        if (snapshot == null) {
+            // 같은 일정을 동시에 처음 읽으면 한 요청만 DB 를 읽고 나머지는 그 결과를 쓴다
+            snapshot = snapshots.asMap().computeIfAbsent(scheduleId, id -> {
+                loadCounter.increment();
+                return load(id);
+            });
+        } else if (snapshot.ageMillis(clock.millis()) > refreshMillis) {
+            staleCounter.increment();
+            scheduleRefresh(scheduleId);
+            SeatMapSnapshot current = snapshots.getIfPresent(scheduleId);
+            if (current != null) {
+                snapshot = current;
+            }
+        } else {
+            hitCounter.increment();
+        }
+        stalenessSummary.record(snapshot.ageMillis(clock.millis()));
+        return snapshot;
+    }
+
+    /**
+     * 좌석이 선점되었다. 트랜잭션 안이면 커밋된 뒤 반영한다.
+     */
+    public void seatTaken(Seat seat) {
+        afterCommit(seat, false);
+    }
+
+    /**
+     * 좌석이 다시 예약 가능해졌다. 트랜잭션 안이면 커밋된 뒤 반영한다.
+     */
+    public void seatReleased(Seat seat) {
+        afterCommit(seat, true);
+    }
+
+    /**
+     * 연석 배정 후보를 스냅샷에서 고르고 바로 예약 불가로 표시한다. DB 에서 잡기 전의 잠정 선점이므로 실패하면 unclaim 으로 되돌린다.
+     *
+     * @return 좌석 번호 오름차순. 조건에 맞는 좌석이 없으면 빈 배열
+     */
+    public int[] claimBestAvailable(Long scheduleId, String grade, int count, boolean adjacent) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("좌석 수는 1 이상이어야 합니다");
+        }
+        int[] seatNumbers = get(scheduleId).claimBestAvailable(grade, count, adjacent);
+        for (int seatNumber : seatNumbers) {
+            recordWhileRefreshing(scheduleId, seatNumber, false);
+        }
+        updateCounter.increment(seatNumbers.length);
+        return seatNumbers;
+    }
+
+    /**
+     * claimBestAvailable 로 잠정 선점한 좌석을 다시 예약 가능으로 표시한다.
+     */
+    public void unclaim(Long scheduleId, Collection<Integer> seatNumbers) {
+        for (int seatNumber : seatNumbers) {
+            recordWhileRefreshing(scheduleId, seatNumber, true);
+        }
+        SeatMapSnapshot snapshot = snapshots.getIfPresent(scheduleId);
+        if (snapshot == null) {
+            return;
+        }
+        for (int seatNumber : seatNumbers) {
+            if (snapshot.mark(seatNumber, true)) {
+                updateCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private SeatMapSnapshot load(Long scheduleId) {
+        scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+        return SeatMapSnapshot.load(scheduleId, seatRepository.findByScheduleId(scheduleId), null,
+                clock.millis(), changeLogSize);
+    }
+
+    private void scheduleRefresh(Long scheduleId) {
+        if (refreshing.putIfAbsent(scheduleId, new ConcurrentLinkedQueue<>()) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(scheduleId));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(scheduleId);
+        }
+    }
+
+    /**
+     * 읽는 동안 이 노드에서 바뀐 좌석을 새 스냅샷에 먼저 반영한 다음 스냅샷을 바꾼다.
+     * 반영하는 사이 새로 쌓인 변경은 바꾼 뒤 기록을 떼어 내고 한 번 더 반영하고, 그 뒤의 변경은 새 스냅샷에 바로 반영된다.
+     * 그래서 조회는 이 노드의 변경이 빠진 스냅샷을 보지 않는다.
+     */
+    private void refresh(Long scheduleId) {
+        SeatMapSnapshot loaded;
+        try {
+            SeatMapSnapshot previous = snapshots.getIfPresent(scheduleId);
+            if (previous == null) {
+                refreshing.remove(scheduleId);
+                return;
+            }
+            List<Seat> seats = seatRepository.findByScheduleId(scheduleId);
+            loaded = SeatMapSnapshot.load(scheduleId, seats, previous, clock.millis(), changeLogSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh seat map of schedule {}; serving the previous snapshot", scheduleId, e);
+            refreshing.remove(scheduleId);
+            return;
+        }
+        loadCounter.increment();
+        replay(refreshing.get(scheduleId), loaded);
+        snapshots.put(scheduleId, loaded);
+        replay(refreshing.remove(scheduleId), loaded);
+    }
+
+    private void replay(Queue<SeatChange> changes, SeatMapSnapshot snapshot) {
+        if (changes == null) {
+            return;
+        }
+        SeatChange change;
+        while ((change = changes.poll()) != null) {
+            snapshot.mark(change.seatNumber(), change.available());
+        }
+    }
+
+    private void recordWhileRefreshing(Long scheduleId, int seatNumber, boolean available) {
+        Queue<SeatChange> changes = refreshing.get(scheduleId);
+        if (changes != null) {
+            changes.add(new SeatChange(seatNumber, available));
+        }
+    }
+
+    private void afterCommit(Seat seat, boolean available) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(seat, available);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(seat, available);
+            }
+        });
+    }
+
+    private void apply(Seat seat, boolean available) {
+        recordWhileRefreshing(seat.getScheduleId(), seat.getSeatNumber(), available);
+        SeatMapSnapshot snapshot = snapshots.getIfPresent(seat.getScheduleId());
+        if (snapshot != null && snapshot.mark(seat.getSeatNumber(), available)) {
+            updateCounter.increment();
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("좌석 배치도 갱신 스레드 수는 1 이상이어야 합니다");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-map-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("seat.map.requests")
+                .tag("result", result)
+                .description("Seat map reads by whether the cached snapshot was used")
+                .register(meterRegistry);
+    }
+
+    private record SeatChange(int seatNumber, boolean available) {
+    }
+}
@@ -0,0 +1,270 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.dto.SeatMapView;
+import kr.hhplus.be.server.seat.dto.SeatResponse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 한 일정의 좌석 배치도 스냅샷
+ * 좌석 번호를 인덱스로 쓰는 예약 가능 비트셋과, 바뀌지 않는 좌석 ID·등급·가격 배열로 이루어진다.
+ * 비트가 바뀔 때마다 version 이 오르고, 응답 목록은 version 이 같으면 다시 만들지 않는다.
+ * 바뀐 좌석 번호는 크기가 정해진 변경 링에 version 과 함께 남겨 sinceVersion 이후의 변경만 돌려줄 수 있다.
+ * version 은 노드마다 임의의 값에서 시작하므로 다른 노드가 준 version 으로 물으면 전체 목록을 돌려준다.
+ * 연석 배정 요청이 처음 오면 열별 빈 구간 인덱스(SeatBlockIndex)를 만들고, 그 뒤로는 비트와 함께 갱신한다.
+ */
+public final class SeatMapSnapshot {
+
+    private final Long scheduleId;
+    private final Long[] seatIds;
+    private final String[] sections;
+    private final String[] rowLabels;
+    private final int[] seatsInRow;
+    private final String[] grades;
+    private final BigDecimal[] prices;
+    private final AtomicLongArray availableBits;
+    private final AtomicLong version;
+    private final long loadedAtMillis;
+    private final int[] changedSeats;
+    private final long[] changedVersions;
+    private long changeCount;
+    private long floorVersion;
+    private volatile RenderedSeats rendered;
+    private SeatBlockIndex blockIndex;
+
+    private SeatMapSnapshot(Long scheduleId, int maxSeatNumber, long version, long loadedAtMillis, int changeLogSize) {
+        this.scheduleId = scheduleId;
+        this.seatIds = new Long[maxSeatNumber + 1];
+        this.sections = new String[maxSeatNumber + 1];
+        this.rowLabels = new String[maxSeatNumber + 1];
+        this.seatsInRow = new int[maxSeatNumber + 1];
+        this.grades = new String[maxSeatNumber + 1];
+        this.prices = new BigDecimal[maxSeatNumber + 1];
+        this.availableBits = new AtomicLongArray((maxSeatNumber >> 6) + 1);
+        this.version = new AtomicLong(version);
+        this.loadedAtMillis = loadedAtMillis;
+        this.changedSeats = new int[changeLogSize];
+        this.changedVersions = new long[changeLogSize];
+        this.floorVersion = version;
+    }
+
+    /**
+     * DB 에서 읽은 좌석으로 스냅샷을 만든다. 이전 스냅샷의 version 과 변경 링을 이어받고, 달라진 좌석은 새 version 하나로 남긴다.
+     */
+    static SeatMapSnapshot load(Long scheduleId, List<Seat> seats, SeatMapSnapshot previous,
+                                long loadedAtMillis, int changeLogSize) {
+        int maxSeatNumber = seats.stream().mapToInt(Seat::getSeatNumber).max().orElse(0);
+        long initialVersion = previous == null ? ThreadLocalRandom.current().nextLong(1, 1L << 52) : 0;
+        SeatMapSnapshot snapshot = new SeatMapSnapshot(scheduleId, maxSeatNumber, initialVersion, loadedAtMillis, changeLogSize);
+        // 수만 석이어도 구역·열 이름은 몇 개뿐이므로 같은 문자열을 나눠 쓴다
+        Map<String, String> labels = new HashMap<>();
+        for (Seat seat : seats) {
+            int seatNumber = seat.getSeatNumber();
+            snapshot.seatIds[seatNumber] = seat.getId();
+            snapshot.sections[seatNumber] = intern(labels, seat.getSection());
+            snapshot.rowLabels[seatNumber] = intern(labels, seat.getRowLabel());
+            snapshot.seatsInRow[seatNumber] = seat.getSeatInRow() != null ? seat.getSeatInRow() : 0;
+            snapshot.grades[seatNumber] = seat.getGrade();
+            snapshot.prices[seatNumber] = seat.getPrice();
+            if (seat.isAvailable()) {
+                snapshot.setBit(seatNumber, true);
+            }
+        }
+        if (previous != null) {
+            snapshot.continueFrom(previous);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 좌석 하나의 예약 가능 여부를 바꾼다. 실제로 바뀌었을 때만 version 이 오른다.
+     */
+    synchronized boolean mark(int seatNumber, boolean available) {
+        if (seatNumber <= 0 || seatNumber >= seatIds.length || seatIds[seatNumber] == null) {
+            return false;
+        }
+        if (!setBit(seatNumber, available)) {
+            return false;
+        }
+        if (blockIndex != null) {
+            blockIndex.set(seatNumber, available);
+        }
+        recordChange(seatNumber, version.incrementAndGet());
+        return true;
+    }
+
+    /**
+     * 조건에 맞는 가장 좋은 좌석 count 개를 골라 바로 예약 불가로 표시한다. 이 노드의 다른 요청은 같은 좌석을 고르지 않는다.
+     * 고른 좌석을 DB 에서 잡지 못하면 호출한 쪽이 mark 로 되돌린다.
+     *
+     * @return 좌석 번호 오름차순. 조건에 맞는 좌석이 없으면 빈 배열
+     */
+    synchronized int[] claimBestAvailable(String grade, int count, boolean adjacent) {
+        if (blockIndex == null) {
+            blockIndex = SeatBlockIndex.build(seatIds, sections, rowLabels, seatsInRow, grades, this::isAvailable);
+        }
+        int[] seatNumbers = blockIndex.find(grade, count, adjacent);
+        for (int seatNumber : seatNumbers) {
+            mark(seatNumber, false);
+        }
+        return seatNumbers;
+    }
+
+    /**
+     * sinceVersion 이후 바뀐 좌석만 돌려준다. sinceVersion 이 없거나, 변경 링에서 이미 밀려났거나, 이 스냅샷의 version 이 아니면 전체 목록을 돌려준다.
+     */
+    public synchronized SeatMapView view(Long sinceVersion) {
+        long currentVersion = version();
+        if (sinceVersion == null || sinceVersion < floorVersion || sinceVersion > currentVersion) {
+            return SeatMapView.full(scheduleId, currentVersion, availableSeats());
+        }
+        BitSet changed = new BitSet(seatIds.length);
+        long retained = Math.min(changeCount, changedSeats.length);
+        for (long i = changeCount - retained; i < changeCount; i++) {
+            int slot = (int) (i % changedSeats.length);
+            if (changedVersions[slot] > sinceVersion) {
+                changed.set(changedSeats[slot]);
+            }
+        }
+        List<SeatResponse> available = new ArrayList<>();
+        List<Integer> unavailable = new ArrayList<>();
+        for (int seatNumber = changed.nextSetBit(0); seatNumber >= 0; seatNumber = changed.nextSetBit(seatNumber + 1)) {
+            if (isAvailable(seatNumber)) {
+                available.add(response(seatNumber));
+            } else {
+                unavailable.add(seatNumber);
+            }
+        }
+        return SeatMapView.delta(scheduleId, currentVersion, available, unavailable);
+    }
+
+    public Long scheduleId() {
+        return scheduleId;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public boolean isAvailable(int seatNumber) {
+        if (seatNumber <= 0 || seatNumber >= seatIds.length) {
+            return false;
+        }
+        return (availableBits.get(seatNumber >> 6) & (1L << seatNumber)) != 0;
+    }
+
+    public int availableCount() {
+        int count = 0;
+        for (int i = 0; i < availableBits.length(); i++) {
+            count += Long.bitCount(availableBits.get(i));
+        }
+        return count;
+    }
+
+    public List<SeatResponse> availableSeats() {
+        long currentVersion = version();
+        RenderedSeats current = rendered;
+        if (current != null && current.version() == currentVersion) {
+            return current.seats();
+        }
+        List<SeatResponse> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber < seatIds.length; seatNumber++) {
+            if (isAvailable(seatNumber)) {
+                seats.add(response(seatNumber));
+            }
+        }
+        List<SeatResponse> immutableSeats = List.copyOf(seats);
+        rendered = new RenderedSeats(currentVersion, immutableSeats);
+        return immutableSeats;
+    }
+
+    long ageMillis(long nowMillis) {
+        return nowMillis - loadedAtMillis;
+    }
+
+    private SeatResponse response(int seatNumber) {
+        return SeatResponse.builder()
+                .seatId(seatIds[seatNumber])
+                .seatNumber(seatNumber)
+                .section(sections[seatNumber])
+                .rowLabel(rowLabels[seatNumber])
+                .seatInRow(seatsInRow[seatNumber] > 0 ? seatsInRow[seatNumber] : null)
+                .grade(grades[seatNumber])
+                .price(prices[seatNumber])
+                .status(Seat.Status.AVAILABLE.name())
+                .build();
+    }
+
+    private boolean setBit(int seatNumber, boolean available) {
+        int word = seatNumber >> 6;
+        long mask = 1L << seatNumber;
+        while (true) {
+            long current = availableBits.get(word);
+            long next = available ? current | mask : current & ~mask;
+            if (current == next) {
+                return false;
+            }
+            if (availableBits.compareAndSet(word, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static String intern(Map<String, String> labels, String label) {
+        return label == null ? null : labels.computeIfAbsent(label, key -> key);
+    }
+
+    private void continueFrom(SeatMapSnapshot previous) {
+        synchronized (previous) {
+            version.set(previous.version());
+            floorVersion = previous.floorVersion;
+            long previousRetained = Math.min(previous.changeCount, previous.changedSeats.length);
+            long retained = Math.min(previousRetained, changedSeats.length);
+            if (retained < previousRetained) {
+                // 링이 작아져 옮기지 못한 변경까지는 delta 로 답할 수 없다
+                int dropped = (int) ((previous.changeCount - retained - 1) % previous.changedSeats.length);
+                floorVersion = Math.max(floorVersion, previous.changedVersions[dropped]);
+            }
+            for (long i = previous.changeCount - retained; i < previous.changeCount; i++) {
+                int slot = (int) (i % previous.changedSeats.length);
+                recordChange(previous.changedSeats[slot], previous.changedVersions[slot]);
+            }
+        }
+        // 다른 노드에서 바뀐 좌석은 새 version 하나로 묶어 남긴다
+        int maxSeatNumber = Math.max(seatIds.length, previous.seatIds.length);
+        long reloadedVersion = version() + 1;
+        boolean changed = false;
+        for (int seatNumber = 1; seatNumber < maxSeatNumber; seatNumber++) {
+            if (isAvailable(seatNumber) != previous.isAvailable(seatNumber)) {
+                recordChange(seatNumber, reloadedVersion);
+                changed = true;
+            }
+        }
+        if (changed) {
+            version.set(reloadedVersion);
+        }
+    }
+
+    private void recordChange(int seatNumber, long changedVersion) {
+        int slot = (int) (changeCount % changedSeats.length);
+        if (changeCount >= changedSeats.length) {
+            // 밀려나는 변경까지는 더 이상 delta 로 답할 수 없다
+            floorVersion = Math.max(floorVersion, changedVersions[slot]);
+        }
+        changedSeats[slot] = seatNumber;
+        changedVersions[slot] = changedVersion;
+        changeCount++;
+    }
+
+    private record RenderedSeats(long version, List<SeatResponse> seats) {
+    }
+}
@@ -1,78 +1,127 @@
 package kr.hhplus.be.server.seat.service;
 
-import kr.hhplus.be.server.schedule.repository.ScheduleRepository;
+import kr.hhplus.be.server.reservation.application.SeatSingleFlight;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
 import kr.hhplus.be.server.seat.domain.model.Seat;
-import kr.hhplus.be.server.seat.dto.SeatResponse;
+import kr.hhplus.be.server.seat.dto.SeatMapView;
+import kr.hhplus.be.server.seat.dto.SeatSectionPage;
 import kr.hhplus.be.server.seat.domain.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatService {
 
+    private static final int MAX_SECTION_PAGE_SIZE = 1000;
+
     private final SeatRepository seatRepository;
-    private final ScheduleRepository scheduleRepository;
+    private final ScheduleSeatCounter seatCounter;
+    private final SeatHoldEngine seatHoldEngine;
+    private final SeatMapCache seatMapCache;
+    private final SeatSingleFlight seatSingleFlight;
 
-    @Transactional(readOnly = true)
-    public List<SeatResponse> getAvailableSeats(Long scheduleId) {
-        // Verify schedule exists
-        scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
-        
-        List<Seat> availableSeats = seatRepository
-                .findAvailableSeatsByScheduleId(scheduleId);
-        
-        return availableSeats.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    /**
+     * 좌석 배치도 스냅샷에서 바로 응답한다. 일정 확인과 좌석 조회는 스냅샷을 다시 읽을 때만 한다.
+     * sinceVersion 을 주면 그 뒤 바뀐 좌석만 돌려주고, 답할 수 없으면 전체 목록을 돌려준다.
+     */
+    public SeatMapView getSeatMap(Long scheduleId, Long sinceVersion) {
+        return seatMapCache.get(scheduleId).view(sinceVersion);
+    }
+
+    /**
+     * 구역별 예약 가능 좌석 수
+     */
+    public Map<String, Long> getSectionAvailability(Long scheduleId) {
+        return seatRepository.countAvailableBySection(scheduleId);
     }
 
-    @Scheduled(fixedDelay = 60000) // Every minute
+    /**
+     * 구역의 예약 가능 좌석을 afterSeatNumber 다음부터 size 개 돌려준다.
+     */
+    public SeatSectionPage getSectionSeats(Long scheduleId, String section, int afterSeatNumber, int size) {
+        if (size <= 0 || size > MAX_SECTION_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1부터 " + MAX_SECTION_PAGE_SIZE + " 사이여야 합니다");
+        }
+        List<Seat> seats = seatRepository.findAvailableInSection(scheduleId, section, afterSeatNumber, size);
+        int count = seats.size();
+        long[] seatIds = new long[count];
+        int[] seatNumbers = new int[count];
+        String[] rowLabels = new String[count];
+        int[] seatsInRow = new int[count];
+        int[] tierIndexes = new int[count];
+        List<SeatSectionPage.Tier> tiers = new ArrayList<>();
+        Map<String, Integer> tierIndexByKey = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Seat seat = seats.get(i);
+            seatIds[i] = seat.getId();
+            seatNumbers[i] = seat.getSeatNumber();
+            rowLabels[i] = seat.getRowLabel();
+            seatsInRow[i] = seat.getSeatInRow() != null ? seat.getSeatInRow() : 0;
+            String tierKey = seat.getGrade() + "|" + seat.getPrice().stripTrailingZeros().toPlainString();
+            tierIndexes[i] = tierIndexByKey.computeIfAbsent(tierKey, key -> {
+                tiers.add(new SeatSectionPage.Tier(seat.getGrade(), seat.getPrice()));
+                return tiers.size() - 1;
+            });
+        }
+        return SeatSectionPage.builder()
+                .scheduleId(scheduleId)
+                .section(section)
+                .tiers(tiers)
+                .seatIds(seatIds)
+                .seatNumbers(seatNumbers)
+                .rowLabels(rowLabels)
+                .seatsInRow(seatsInRow)
+                .tierIndexes(tierIndexes)
+                .nextAfterSeatNumber(count == size ? seatNumbers[count - 1] : null)
+                .build();
+    }
+
+    /**
+     * 마감이 지난 임시 예약 한 건을 해제한다. 타이밍 휠(SeatHoldExpiryScheduler)이 마감 시각에 호출한다.
+     */
     @Transactional
-    public void releaseExpiredTemporaryReservations() {
-        try {
-            LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(5);
-            List<Seat> expiredSeats = seatRepository
-                    .findExpiredTemporaryReservations(expirationTime);
-            
-            for (Seat seat : expiredSeats) {
-                seat.releaseReservation();
-                log.info("Released expired temporary reservation for seat: {} in schedule: {}", 
-                        seat.getSeatNumber(), seat.getScheduleId());
-                
-                // Update available seats count in schedule
-                scheduleRepository.findById(seat.getScheduleId())
-                        .ifPresent(schedule -> {
-                            schedule.cancelSeatReservation();
-                            scheduleRepository.save(schedule);
-                        });
-            }
-            
-            if (!expiredSeats.isEmpty()) {
-                seatRepository.saveAll(expiredSeats);
-            }
-            
-        } catch (Exception e) {
-            log.error("Error releasing expired temporary reservations", e);
+    public boolean releaseExpiredHold(Long seatId) {
+        Seat seat = seatRepository.findById(seatId).orElse(null);
+        if (seat == null) {
+            return false;
+        }
+        LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(Seat.TEMPORARY_RESERVATION_MINUTES);
+        if (!seatRepository.releaseExpiredHold(seatId, expirationTime)) {
+            return false;
         }
+        
+        seatCounter.release(seat.getScheduleId());
+        releaseHoldAfterCommit(seat.getScheduleId(), seat.getSeatNumber(), seat.getReservedBy());
+        seatMapCache.seatReleased(seat);
+        seatSingleFlight.seatReleased(seat.getScheduleId(), seat.getSeatNumber());
+        return true;
     }
 
-    private SeatResponse convertToResponse(Seat seat) {
-        return SeatResponse.builder()
-                .seatId(seat.getId())
-                .seatNumber(seat.getSeatNumber())
-                .grade(seat.getGrade())
-                .price(seat.getPrice())
-                .status(seat.getStatus().name())
-                .build();
+    /**
+     * 인메모리 배정은 해제가 커밋된 뒤에 지운다. 롤백되면 DB 에는 여전히 선점된 좌석이 메모리에서만 비어 보이지 않게 한다.
+     */
+    private void releaseHoldAfterCommit(Long scheduleId, Integer seatNumber, String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seatHoldEngine.release(scheduleId, seatNumber, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatHoldEngine.release(scheduleId, seatNumber, userId);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+-- 엔티티 ID 를 IDENTITY 에서 테이블별 시퀀스 테이블({테이블}_seq, PooledIds.ALLOCATION_SIZE = 50)로 옮긴다.
+-- 운영은 ddl-auto: none 이므로 애플리케이션을 새 버전으로 올리기 전에 이 스크립트를 먼저 적용한다.
+--
+-- Hibernate pooled 옵티마이저는 next_val 로 v 를 읽으면 (v - 49) ~ v 구간을 나눠 준다.
+-- 기존 ID 와 겹치지 않도록 각 시퀀스를 MAX(id) + ALLOCATION_SIZE + 1 에서 시작한다.
+-- 기존 테이블의 AUTO_INCREMENT 속성은 그대로 두어도 된다. ID 를 직접 넣으므로 쓰이지 않는다.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE IF NOT EXISTS amounts_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO amounts_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM amounts;
+
+CREATE TABLE IF NOT EXISTS amount_histories_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO amount_histories_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM amount_histories;
+
+CREATE TABLE IF NOT EXISTS concerts_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO concerts_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM concerts;
+
+CREATE TABLE IF NOT EXISTS schedules_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO schedules_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM schedules;
+
+CREATE TABLE IF NOT EXISTS seats_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO seats_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM seats;
+
+CREATE TABLE IF NOT EXISTS reservations_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO reservations_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM reservations;
+
+CREATE TABLE IF NOT EXISTS payments_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO payments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM payments;
+
+CREATE TABLE IF NOT EXISTS queue_tokens_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO queue_tokens_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM queue_tokens;
@@ -0,0 +1,45 @@
+-- 좌석 행의 등급 문자열과 가격을 일정별 등급 사전(seat_tiers)의 code 로 바꾸고, 구역·열 정보를 더한다.
+-- 운영은 ddl-auto: none 이므로 애플리케이션을 새 버전으로 올리기 전에 이 스크립트를 먼저 적용한다.
+-- 기존 좌석은 모두 구역 'A' 로 옮기고 열 정보는 비워 둔다.
+
+CREATE TABLE seat_tiers (
+    id          BIGINT         NOT NULL,
+    schedule_id BIGINT         NOT NULL,
+    code        SMALLINT       NOT NULL,
+    grade       VARCHAR(255)   NOT NULL,
+    price       DECIMAL(38, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_schedule_tier_code UNIQUE (schedule_id, code),
+    CONSTRAINT uk_schedule_tier_grade_price UNIQUE (schedule_id, grade, price)
+) ENGINE = InnoDB;
+
+-- 일정마다 기존 (등급, 가격) 조합에 1부터 code 를 매긴다. SeatTierDictionary 도 1부터 이어서 매긴다.
+INSERT INTO seat_tiers (id, schedule_id, code, grade, price)
+SELECT ROW_NUMBER() OVER (ORDER BY schedule_id, grade, price),
+       schedule_id,
+       ROW_NUMBER() OVER (PARTITION BY schedule_id ORDER BY grade, price),
+       grade,
+       price
+FROM (SELECT DISTINCT schedule_id, grade, price FROM seats) tiers;
+
+-- pooled 옵티마이저가 (v - 49) ~ v 를 나눠 주므로 V1 과 같이 MAX(id) + 51 에서 시작한다.
+CREATE TABLE seat_tiers_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO seat_tiers_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM seat_tiers;
+
+ALTER TABLE seats
+    ADD COLUMN section      VARCHAR(20) NULL,
+    ADD COLUMN row_label    VARCHAR(10) NULL,
+    ADD COLUMN seat_in_row  INT         NULL,
+    ADD COLUMN tier_code    SMALLINT    NULL;
+
+UPDATE seats s
+    JOIN seat_tiers t ON t.schedule_id = s.schedule_id AND t.grade = s.grade AND t.price = s.price
+SET s.tier_code = t.code,
+    s.section   = 'A';
+
+ALTER TABLE seats
+    MODIFY COLUMN section   VARCHAR(20) NOT NULL,
+    MODIFY COLUMN tier_code SMALLINT    NOT NULL,
+    DROP COLUMN grade,
+    DROP COLUMN price,
+    ADD INDEX idx_schedule_section_status (schedule_id, section, status, seat_number);
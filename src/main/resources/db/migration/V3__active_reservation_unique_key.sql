@@ -0,0 +1,23 @@
+-- 사용자당 일정별 진행 중인(임시 예약·확정) 예약을 하나로 DB 에서 막는다.
+-- 일정 행을 잠그지 않는 선점 방식(CONDITIONAL, NOWAIT, 자동 좌석 배정)은 기존 예약 확인과 INSERT 사이가 비어 있어 유니크 키로 막는다.
+-- 운영은 ddl-auto: none 이므로 애플리케이션을 새 버전으로 올리기 전에 이 스크립트를 먼저 적용한다.
+
+ALTER TABLE reservations
+    ADD COLUMN additional_seat BIT(1) NOT NULL DEFAULT b'0';
+
+-- 여러 좌석을 한 번에 잡은 예약과, 키가 없던 동안 생긴 중복 예약은 가장 먼저 만든 예약 하나만 대표로 남긴다.
+UPDATE reservations r
+    JOIN (SELECT user_id, schedule_id, MIN(id) AS lead_id
+          FROM reservations
+          WHERE status IN ('TEMPORARY_RESERVED', 'CONFIRMED')
+          GROUP BY user_id, schedule_id) lead_reservation
+        ON lead_reservation.user_id = r.user_id AND lead_reservation.schedule_id = r.schedule_id
+SET r.additional_seat = b'1'
+WHERE r.status IN ('TEMPORARY_RESERVED', 'CONFIRMED')
+  AND r.id <> lead_reservation.lead_id;
+
+-- 만료·취소되면 NULL 이 되어 같은 일정을 다시 예약할 수 있다. NULL 은 유니크 키에서 서로 겹치지 않는다.
+ALTER TABLE reservations
+    ADD COLUMN active_schedule_id BIGINT AS (CASE WHEN status IN ('TEMPORARY_RESERVED', 'CONFIRMED')
+        AND additional_seat = 0 THEN schedule_id END) STORED,
+    ADD CONSTRAINT uk_user_active_schedule UNIQUE (user_id, active_schedule_id);
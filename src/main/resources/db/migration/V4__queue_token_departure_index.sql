@@ -0,0 +1,4 @@
+-- 대기 순번 갱신은 지난 확인 이후 대기열을 떠난 토큰만 읽는다. 콘서트·상태·만료 시각 순으로 범위를 좁힌다.
+-- 운영은 ddl-auto: none 이므로 애플리케이션을 새 버전으로 올리기 전에 이 스크립트를 먼저 적용한다.
+
+CREATE INDEX idx_concert_status_expired_at ON queue_tokens (concert_id, status, expired_at);
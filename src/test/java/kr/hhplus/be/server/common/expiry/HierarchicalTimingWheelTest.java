@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.common.expiry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MILLIS = 250;
+
+    private long now;
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000;
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, 6, 3, now);
+    }
+
+    @Test
+    @DisplayName("마감 전에는 꺼내지 않고, 마감이 지난 첫 tick 에 꺼낸다")
+    void expireAtDeadline() {
+        // given
+        wheel.schedule("token", now + 1_100);
+
+        // when & then
+        assertThat(wheel.advance(now + 1_000)).isEmpty();
+        assertThat(wheel.advance(now + 1_250)).containsExactly("token");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("하위 휠 범위를 넘는 마감도 상위 휠에서 내려와 제시간에 만료된다")
+    void cascadeFromUpperLevels() {
+        // given: 5분, 2시간 뒤 마감은 각각 2, 3단계 휠에 놓인다
+        wheel.schedule("five-minutes", now + 300_000);
+        wheel.schedule("two-hours", now + 7_200_000);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        long firedFiveMinutesAt = -1;
+        for (long t = now; t <= now + 7_200_000 + TICK_MILLIS; t += TICK_MILLIS) {
+            List<String> due = wheel.advance(t);
+            if (due.contains("five-minutes")) {
+                firedFiveMinutesAt = t;
+            }
+            expired.addAll(due);
+        }
+
+        // then
+        assertThat(expired).containsExactly("five-minutes", "two-hours");
+        assertThat(firedFiveMinutesAt).isBetween(now + 300_000, now + 300_000 + TICK_MILLIS);
+    }
+
+    @Test
+    @DisplayName("최상위 휠 범위를 넘는 마감도 일찍 만료되지 않는다")
+    void deadlineBeyondTopLevel() {
+        // given: 64^3 tick(약 18시간)을 넘는 마감
+        long deadline = now + 30L * 3_600_000;
+        wheel.schedule("far", deadline);
+
+        // when & then
+        assertThat(wheel.advance(deadline - TICK_MILLIS)).isEmpty();
+        assertThat(wheel.advance(deadline)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록한 키는 이전 마감에 만료되지 않는다")
+    void cancelAndReschedule() {
+        // given
+        wheel.schedule("cancelled", now + 1_000);
+        wheel.schedule("rescheduled", now + 1_000);
+        wheel.cancel("cancelled");
+        wheel.schedule("rescheduled", now + 5_000);
+
+        // when & then
+        assertThat(wheel.advance(now + 2_000)).isEmpty();
+        assertThat(wheel.advance(now + 5_000)).containsExactly("rescheduled");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 진행에서 바로 만료된다")
+    void expireOverdueImmediately() {
+        // given
+        wheel.schedule("overdue", now - 10_000);
+
+        // when & then
+        assertThat(wheel.advance(now)).containsExactly("overdue");
+    }
+
+    @Test
+    @DisplayName("tick 길이와 휠 크기는 양수여야 한다")
+    void rejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 6, 3, now))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(250, 0, 3, now))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,207 @@
+package kr.hhplus.be.server.common.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyKeyFilterTest {
+
+    private static final String BODY = "{\"scheduleId\":1,\"seatNumber\":10}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyFilter filter;
+    private AtomicInteger executions;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyKeyFilter(meterRegistry, 1000, 60, 1000);
+        executions = new AtomicInteger();
+        chain = (request, response) -> {
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"execution\":" + executions.incrementAndGet() + ",\"request\":" + body + "}");
+        };
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 온 요청은 처리하지 않고 첫 응답을 돌려준다")
+    void replayStoredResponse() throws Exception {
+        // given
+        MockHttpServletResponse first = send("token-1", "key-1", BODY);
+
+        // when
+        MockHttpServletResponse repeated = send("token-1", "key-1", BODY);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(repeated.getStatus()).isEqualTo(200);
+        assertThat(repeated.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(repeated.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(count("replayed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패 응답도 저장해 다시 처리하지 않는다")
+    void replayClientError() throws Exception {
+        // given
+        chain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(400);
+            response.getWriter().write("{\"message\":\"이미 해당 일정에 예약이 있습니다\"}");
+        };
+        send("token-1", "key-1", BODY);
+
+        // when
+        MockHttpServletResponse repeated = send("token-1", "key-1", BODY);
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(repeated.getStatus()).isEqualTo(400);
+        assertThat(repeated.getContentAsString()).contains("이미 해당 일정에 예약이 있습니다");
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 다시 처리한다")
+    void doNotStoreServerError() throws Exception {
+        // given
+        chain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        send("token-1", "key-1", BODY);
+
+        // when
+        send("token-1", "key-1", BODY);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인증, 충돌, 요청 제한 응답은 저장하지 않아 다시 처리한다")
+    void doNotStoreTransientClientErrors() throws Exception {
+        for (int status : new int[]{401, 403, 408, 409, 429}) {
+            // given
+            executions.set(0);
+            chain = (request, response) -> {
+                executions.incrementAndGet();
+                ((HttpServletResponse) response).setStatus(status);
+            };
+            send("token-1", "key-" + status, BODY);
+
+            // when
+            send("token-1", "key-" + status, BODY);
+
+            // then
+            assertThat(executions.get()).as("status %d", status).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("키는 대기열 토큰별로 구분한다")
+    void separateKeysPerToken() throws Exception {
+        // when
+        send("token-1", "key-1", BODY);
+        send("token-2", "key-1", BODY);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 거절한다")
+    void rejectDifferentBodyForSameKey() throws Exception {
+        // given
+        send("token-1", "key-1", BODY);
+
+        // when
+        MockHttpServletResponse response = send("token-1", "key-1", "{\"scheduleId\":1,\"seatNumber\":11}");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키의 요청은 결과를 기다려 같은 응답을 받는다")
+    void duplicateWaitsForInFlightRequest() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = chain;
+        chain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slowChain.doFilter(request, response);
+        };
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendQuietly("key-1"));
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> sendQuietly("key-1"));
+
+        // when
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        String firstBody = first.get(1, TimeUnit.SECONDS).getContentAsString();
+        assertThat(duplicate.get(1, TimeUnit.SECONDS).getContentAsString()).isEqualTo(firstBody);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("joined")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("키가 없는 요청은 그대로 처리한다")
+    void passThroughWithoutKey() throws Exception {
+        // when
+        send("token-1", null, BODY);
+        send("token-1", null, BODY);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse send(String token, String idempotencyKey, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/reservations");
+        request.addHeader("Queue-Token", token);
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyKeyFilter.HEADER, idempotencyKey);
+        }
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse sendQuietly(String idempotencyKey) {
+        try {
+            return send("token-1", idempotencyKey, BODY);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+}
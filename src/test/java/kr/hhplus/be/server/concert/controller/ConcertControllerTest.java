@@ -3,6 +3,8 @@ package kr.hhplus.be.server.concert.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.concert.dto.ConcertResponse;
 import kr.hhplus.be.server.concert.service.ConcertService;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.queue.service.QueueService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +14,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -50,7 +54,7 @@ class ConcertControllerTest {
                 LocalDate.now().plusDays(21)
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
         given(concertService.getAvailableDates(concertId)).willReturn(availableDates);
 
         // when & then
@@ -70,7 +74,7 @@ class ConcertControllerTest {
         String invalidToken = "invalid-token";
         Long concertId = 1L;
 
-        given(queueService.validateToken(invalidToken)).willReturn(false);
+        given(queueService.resolveToken(invalidToken)).willReturn(Optional.empty());
 
         // when & then
         mockMvc.perform(get("/api/concerts/{concertId}/available-dates", concertId)
@@ -100,7 +104,7 @@ class ConcertControllerTest {
                         .build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
         given(concertService.getAllConcerts()).willReturn(concerts);
 
         // when & then
@@ -113,4 +117,15 @@ class ConcertControllerTest {
                 .andExpect(jsonPath("$[0].title").value("아이유 콘서트"))
                 .andExpect(jsonPath("$[1].title").value("BTS 월드투어"));
     }
-}
\ No newline at end of file
+
+    private QueueTokenSnapshot activeToken(String token) {
+        return QueueTokenSnapshot.from(QueueToken.builder()
+                .token(token)
+                .userId("user123")
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .activatedAt(LocalDateTime.now())
+                .build());
+    }
+}
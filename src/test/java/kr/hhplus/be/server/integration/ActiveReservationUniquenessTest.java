@@ -0,0 +1,215 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.reservation.application.ReservationCreateService;
+import kr.hhplus.be.server.reservation.application.ReservationPipeline;
+import kr.hhplus.be.server.reservation.application.ReservationWriteBehind;
+import kr.hhplus.be.server.reservation.application.SeatClaimMode;
+import kr.hhplus.be.server.reservation.application.SeatSingleFlight;
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 행을 잠그지 않는 선점 방식에서도 사용자당 일정별 진행 중인 예약이 하나로 지켜지는지 확인한다.
+ * 같은 사용자가 서로 다른 좌석을 동시에 요청해 기존 예약 확인을 함께 통과하게 만들고, 유니크 키가 한쪽만 남기는지 본다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("진행 중인 예약 유니크 키 테스트")
+class ActiveReservationUniquenessTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+
+    @Autowired
+    private ScheduleSeatCounter seatCounter;
+
+    @Autowired
+    private SeatHoldEngine seatHoldEngine;
+
+    @Autowired
+    private ReservationWriteBehind reservationWriteBehind;
+
+    @Autowired
+    private ReservationPipeline reservationPipeline;
+
+    @Autowired
+    private SeatSingleFlight seatSingleFlight;
+
+    @Autowired
+    private SeatMapCache seatMapCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("조건부 선점에서 같은 사용자의 동시 예약은 하나만 성공한다")
+    void conditionalClaimAllowsOneReservationPerUser() throws Exception {
+        ReservationCreateService service = service(SeatClaimMode.CONDITIONAL);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // given
+            Long scheduleId = createSchedule(2);
+            String userId = UUID.randomUUID().toString();
+
+            // when
+            List<Throwable> failures = raceSameUser(
+                    () -> service.reserveSeat(userId, request(scheduleId, 1)),
+                    () -> service.reserveSeat(userId, request(scheduleId, 2)));
+
+            // then
+            assertOneReservation(userId, scheduleId, failures);
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 행만 NOWAIT 로 잠가도 같은 사용자의 동시 예약은 하나만 성공한다")
+    void noWaitClaimAllowsOneReservationPerUser() throws Exception {
+        ReservationCreateService service = service(SeatClaimMode.NOWAIT);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // given
+            Long scheduleId = createSchedule(2);
+            String userId = UUID.randomUUID().toString();
+
+            // when
+            List<Throwable> failures = raceSameUser(
+                    () -> service.reserveSeat(userId, request(scheduleId, 1)),
+                    () -> service.reserveSeat(userId, request(scheduleId, 2)));
+
+            // then
+            assertOneReservation(userId, scheduleId, failures);
+        }
+    }
+
+    @Test
+    @DisplayName("자동 배정에서 같은 사용자의 동시 요청은 하나만 성공한다")
+    void bestAvailableAllowsOneReservationPerUser() throws Exception {
+        ReservationCreateService service = service(SeatClaimMode.LOCK);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // given
+            Long scheduleId = createSchedule(2);
+            String userId = UUID.randomUUID().toString();
+            BestAvailableRequest request = BestAvailableRequest.builder()
+                    .scheduleId(scheduleId)
+                    .count(1)
+                    .build();
+
+            // when
+            List<Throwable> failures = raceSameUser(
+                    () -> service.reserveBestAvailable(userId, request, null),
+                    () -> service.reserveBestAvailable(userId, request, null));
+
+            // then
+            assertOneReservation(userId, scheduleId, failures);
+        }
+    }
+
+    private void assertOneReservation(String userId, Long scheduleId, List<Throwable> failures) {
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 해당 일정에 예약이 있습니다");
+        assertThat(reservationRepository.findActiveReservationsByUserId(userId))
+                .hasSize(1)
+                .allSatisfy(reservation -> assertThat(reservation.getScheduleId()).isEqualTo(scheduleId));
+    }
+
+    /**
+     * 두 요청을 동시에 시작하고 실패한 요청의 예외를 모은다.
+     */
+    private List<Throwable> raceSameUser(Callable<?> first, Callable<?> second) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (Callable<?> request : List.of(first, second)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReservationCreateService service(SeatClaimMode mode) {
+        return new ReservationCreateService(
+                reservationRepository, seatRepository, scheduleRepository, seatHoldExpiryScheduler, seatCounter,
+                seatHoldEngine, reservationWriteBehind, reservationPipeline, seatSingleFlight, seatMapCache,
+                transactionManager, mode, 3000);
+    }
+
+    private ReservationRequest request(Long scheduleId, int seatNumber) {
+        return ReservationRequest.builder()
+                .scheduleId(scheduleId)
+                .seatNumber(seatNumber)
+                .build();
+    }
+
+    private Long createSchedule(int seats) {
+        Schedule schedule = scheduleRepository.save(Schedule.create(
+                1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), seats));
+        for (int seatNumber = 1; seatNumber <= seats; seatNumber++) {
+            seatRepository.save(Seat.create(schedule.getId(), seatNumber, "R", BigDecimal.valueOf(100000)));
+        }
+        seatCounter.initialize(schedule.getId(), seats);
+        return schedule.getId();
+    }
+}
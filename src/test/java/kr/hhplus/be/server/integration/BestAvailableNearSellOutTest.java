@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.reservation.application.ReservationCreateService;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 남은 좌석이 카운터 stripe 마다 흩어진 매진 직전에도 자동 배정이 여러 좌석을 잡는지 확인한다.
+ */
+@SpringBootTest(properties = "schedule.seat-counter.stripes=8")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("매진 직전 자동 배정 테스트")
+class BestAvailableNearSellOutTest {
+
+    private static final int SEATS = 8;
+
+    @Autowired
+    private ReservationCreateService reservationCreateService;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ScheduleSeatCounter seatCounter;
+
+    @Test
+    @DisplayName("stripe 마다 한 좌석씩 남아도 두 좌석 자동 배정이 성공한다")
+    void holdBlockWhenSeatsAreSpreadAcrossStripes() {
+        // given
+        Long scheduleId = createSchedule();
+        BestAvailableRequest request = BestAvailableRequest.builder()
+                .scheduleId(scheduleId)
+                .count(2)
+                .build();
+
+        // when
+        List<Reservation> reservations = reservationCreateService
+                .reserveBestAvailable(UUID.randomUUID().toString(), request, null);
+
+        // then
+        assertThat(reservations).hasSize(2);
+        assertThat(seatCounter.availableSeats(scheduleId)).isEqualTo(SEATS - 2);
+    }
+
+    private Long createSchedule() {
+        Schedule schedule = scheduleRepository.save(Schedule.create(
+                1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), SEATS));
+        for (int seatNumber = 1; seatNumber <= SEATS; seatNumber++) {
+            seatRepository.save(Seat.create(schedule.getId(), seatNumber, "R", BigDecimal.valueOf(100000)));
+        }
+        // stripe 8개에 한 좌석씩 나뉘어 어느 stripe 도 두 좌석을 혼자 내주지 못한다
+        seatCounter.initialize(schedule.getId(), SEATS);
+        return schedule.getId();
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.amount.domain.AmountRepository;
+import kr.hhplus.be.server.amount.domain.model.Amount;
+import kr.hhplus.be.server.amount.infrastructure.persistence.AmountEntity;
+import kr.hhplus.be.server.payment.application.ProcessPaymentUseCase;
+import kr.hhplus.be.server.payment.infrastructure.persistence.PaymentEntity;
+import kr.hhplus.be.server.reservation.application.ReservationCreateService;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.infrastructure.persistence.ReservationEntity;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.infrastructure.persistence.SeatEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약과 결제 흐름에서 저장할 때 엔티티를 다시 읽지 않는지 Hibernate 통계로 확인한다.
+ * 각 엔티티는 흐름 안에서 처음 읽을 때 한 번만 로드되어야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("저장 시 SQL 문 수 테스트")
+class PersistenceStatementCountTest {
+
+    @Autowired
+    private ReservationCreateService reservationCreateService;
+
+    @Autowired
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private AmountRepository amountRepository;
+
+    @Autowired
+    private ScheduleSeatCounter seatCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("좌석 예약은 좌석을 잠가 읽은 한 번 외에 다시 읽지 않는다")
+    void reserveSeatDoesNotReloadSeat() {
+        // given
+        Long scheduleId = createSchedule();
+        statistics.clear();
+
+        // when
+        reservationCreateService.reserveSeat(UUID.randomUUID().toString(), request(scheduleId));
+
+        // then
+        assertThat(loadCount(SeatEntity.class)).isEqualTo(1);
+        assertThat(loadCount(ReservationEntity.class)).isZero();
+        assertThat(statistics.getEntityStatistics(SeatEntity.class.getName()).getUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(ReservationEntity.class.getName()).getInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제는 예약, 좌석, 잔액을 한 번씩만 읽고 새로 만든 결제는 다시 읽지 않는다")
+    void paymentDoesNotReloadEntities() {
+        // given
+        String userId = UUID.randomUUID().toString();
+        amountRepository.save(Amount.createWithBalance(userId, BigDecimal.valueOf(1_000_000)));
+        Reservation reservation = reservationCreateService.reserveSeat(userId, request(createSchedule()));
+        statistics.clear();
+
+        // when
+        processPaymentUseCase.execute(userId, reservation.getId());
+
+        // then
+        assertThat(loadCount(ReservationEntity.class)).isEqualTo(1);
+        assertThat(loadCount(SeatEntity.class)).isEqualTo(1);
+        assertThat(loadCount(AmountEntity.class)).isEqualTo(1);
+        assertThat(loadCount(PaymentEntity.class)).isZero();
+        assertThat(statistics.getEntityStatistics(PaymentEntity.class.getName()).getInsertCount()).isEqualTo(1);
+    }
+
+    private long loadCount(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+
+    private ReservationRequest request(Long scheduleId) {
+        return ReservationRequest.builder()
+                .scheduleId(scheduleId)
+                .seatNumber(1)
+                .build();
+    }
+
+    private Long createSchedule() {
+        Schedule schedule = scheduleRepository.save(Schedule.create(
+                1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), 1));
+        seatRepository.save(Seat.create(schedule.getId(), 1, "R", BigDecimal.valueOf(100000)));
+        seatCounter.initialize(schedule.getId(), 1);
+        return schedule.getId();
+    }
+}
@@ -12,12 +12,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -52,7 +55,7 @@ class QueueControllerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(queueService.issueToken(any(String.class))).willReturn(response);
+        given(queueService.issueToken(any(String.class), any())).willReturn(response);
 
         // when & then
         mockMvc.perform(post("/api/queue/token")
@@ -139,4 +142,36 @@ class QueueControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대기 중인 토큰으로 대기열에서 나갈 수 있다")
+    void leaveQueue() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+
+        // when & then
+        mockMvc.perform(delete("/api/queue/token")
+                        .header("Queue-Token", token))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(queueService).leaveQueue(token);
+    }
+
+    @Test
+    @DisplayName("대기열 상태를 SSE 스트림으로 구독할 수 있다")
+    void streamQueueStatus() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        given(queueService.subscribeQueueStatus(token)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/api/queue/status/stream")
+                        .header("Queue-Token", token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andDo(print())
+                .andExpect(request().asyncStarted());
+
+        verify(queueService).subscribeQueueStatus(token);
+    }
+}
@@ -132,6 +132,43 @@ class QueueTokenTest {
                 .hasMessage("Cannot expire waiting token");
     }
 
+    @Test
+    @DisplayName("대기 중인 토큰은 대기열을 떠날 수 있다")
+    void leaveWaitingToken() {
+        // given
+        QueueToken waitingToken = QueueToken.builder()
+                .token(UUID.randomUUID().toString())
+                .userId(UUID.randomUUID().toString())
+                .position(5)
+                .admissionSeq(5L)
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // when
+        waitingToken.leave();
+
+        // then
+        assertThat(waitingToken.getStatus()).isEqualTo(QueueToken.Status.EXPIRED);
+        assertThat(waitingToken.getActivatedAt()).isNull();
+        assertThat(waitingToken.getExpiredAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("활성화된 토큰은 대기열 이탈로 처리할 수 없다")
+    void cannotLeaveActiveToken() {
+        // given
+        QueueToken activeToken = QueueToken.builder()
+                .status(QueueToken.Status.ACTIVE)
+                .activatedAt(LocalDateTime.now())
+                .build();
+
+        // when & then
+        assertThatThrownBy(activeToken::leave)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("대기 중인 토큰만 대기열을 떠날 수 있습니다");
+    }
+
     @Test
     @DisplayName("토큰이 활성 상태인지 확인한다")
     void isActive() {
@@ -0,0 +1,232 @@
+package kr.hhplus.be.server.queue.infrastructure.memory;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryQueueStoreTest {
+
+    private static final long GENERAL = QueueToken.GENERAL_QUEUE_ID;
+
+    private InMemoryQueueStore queueStore;
+
+    @BeforeEach
+    void setUp() {
+        queueStore = new InMemoryQueueStore(600);
+    }
+
+    @Test
+    @DisplayName("입장 순번이 빠른 대기 토큰부터 활성화한다")
+    void activateInAdmissionOrder() {
+        // given
+        QueueToken third = queueStore.save(waitingToken("user-3", 3L));
+        QueueToken first = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken second = queueStore.save(waitingToken("user-2", 2L));
+
+        // when
+        List<QueueToken> activated = queueStore.activateNext(GENERAL, 2);
+
+        // then
+        assertThat(activated).extracting(QueueToken::getToken).containsExactly(first.getToken(), second.getToken());
+        assertThat(activated).allMatch(QueueToken::isActive);
+        assertThat(queueStore.countActive()).isEqualTo(2);
+        assertThat(queueStore.findMinWaitingAdmissionSeq(GENERAL)).contains(3L);
+        assertThat(queueStore.findByToken(third.getToken())).get().matches(QueueToken::isWaiting);
+    }
+
+    @Test
+    @DisplayName("발급할 때 대기열마다 다음 입장 순번을 붙이고, 기존 토큰을 돌려주면 순번을 소비하지 않는다")
+    void issueAssignsNextSequencePerRoom() {
+        // given
+        QueueToken first = queueStore.issue(newToken("user-1", GENERAL));
+        QueueToken duplicate = queueStore.issue(newToken("user-1", GENERAL));
+
+        // when
+        QueueToken second = queueStore.issue(newToken("user-2", GENERAL));
+        QueueToken otherRoom = queueStore.issue(newToken("user-3", 7L));
+
+        // then
+        assertThat(duplicate.getToken()).isEqualTo(first.getToken());
+        assertThat(first.getAdmissionSeq()).isEqualTo(1L);
+        assertThat(second.getAdmissionSeq()).isEqualTo(2L);
+        assertThat(otherRoom.getAdmissionSeq()).isEqualTo(1L);
+        assertThat(queueStore.findMaxAdmissionSeq(GENERAL)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 대기 토큰이 있으면 새 토큰 대신 기존 토큰을 반환한다")
+    void returnExistingLiveTokenForSameUser() {
+        // given
+        QueueToken existing = queueStore.save(waitingToken("user-1", 1L));
+
+        // when
+        QueueToken saved = queueStore.save(waitingToken("user-1", 2L));
+
+        // then
+        assertThat(saved.getToken()).isEqualTo(existing.getToken());
+        assertThat(queueStore.findLiveTokenByUserId("user-1", GENERAL)).get()
+                .extracting(QueueToken::getToken).isEqualTo(existing.getToken());
+    }
+
+    @Test
+    @DisplayName("활성화 후 기준 시간이 지난 토큰을 만료시키고 대기열에서 뺀다")
+    void expireActivatedBefore() {
+        // given
+        QueueToken token = queueStore.save(waitingToken("user-1", 1L));
+        queueStore.activateNext(GENERAL, 1);
+
+        // when
+        long expired = queueStore.expireActivatedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(queueStore.countActive()).isZero();
+        assertThat(queueStore.findByToken(token.getToken())).get().matches(QueueToken::isExpired);
+        assertThat(queueStore.findLiveTokenByUserId("user-1", GENERAL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 보관 시간이 지나면 저장소에서 사라진다")
+    void dropTombstoneAfterRetention() {
+        // given
+        queueStore = new InMemoryQueueStore(0);
+        QueueToken token = queueStore.save(waitingToken("user-1", 1L));
+        queueStore.activateNext(GENERAL, 1);
+
+        // when
+        queueStore.expireActivatedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(queueStore.findByToken(token.getToken())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰이 섞여 있어도 나머지 토큰은 만료시킨다")
+    void expireSkipsTokensExpiredConcurrently() {
+        // given
+        QueueToken first = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken second = queueStore.save(waitingToken("user-2", 2L));
+        queueStore.activateNext(GENERAL, 2);
+        QueueToken expiring = queueStore.findByToken(first.getToken()).orElseThrow();
+        expiring.expire();
+        queueStore.save(expiring);
+
+        // when
+        long expired = queueStore.expireActivatedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(queueStore.findByToken(second.getToken())).get().matches(QueueToken::isExpired);
+        assertThat(queueStore.countActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열을 떠난 토큰은 활성화 대상에서 빠진다")
+    void leftTokenIsNotActivated() {
+        // given
+        QueueToken leaving = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken staying = queueStore.save(waitingToken("user-2", 2L));
+        leaving.leave();
+        queueStore.save(leaving);
+
+        // when
+        List<QueueToken> activated = queueStore.activateNext(GENERAL, 10);
+
+        // then
+        assertThat(activated).extracting(QueueToken::getToken).containsExactly(staying.getToken());
+        assertThat(queueStore.findMaxAdmissionSeq(GENERAL)).isEqualTo(2L);
+        assertThat(queueStore.findByToken(leaving.getToken())).get().matches(QueueToken::isExpired);
+    }
+
+    @Test
+    @DisplayName("콘서트별 대기열은 입장 순서와 활성 인원을 따로 관리한다")
+    void roomsAreIsolatedPerConcert() {
+        // given
+        QueueToken general = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken concert = queueStore.save(waitingToken("user-1", 1L, 7L));
+
+        // when
+        List<QueueToken> activated = queueStore.activateNext(7L, 10);
+
+        // then
+        assertThat(activated).extracting(QueueToken::getToken).containsExactly(concert.getToken());
+        assertThat(queueStore.findByToken(general.getToken())).get().matches(QueueToken::isWaiting);
+        assertThat(queueStore.countActive(7L)).isEqualTo(1);
+        assertThat(queueStore.countActive(GENERAL)).isZero();
+        assertThat(queueStore.countActive()).isEqualTo(1);
+        assertThat(queueStore.findLiveTokenByUserId("user-1", GENERAL)).get()
+                .extracting(QueueToken::getToken).isEqualTo(general.getToken());
+        assertThat(queueStore.findLiveTokenByUserId("user-1", 7L)).get()
+                .extracting(QueueToken::getToken).isEqualTo(concert.getToken());
+        assertThat(queueStore.findLiveQueueIds()).containsExactlyInAnyOrder(GENERAL, 7L);
+    }
+
+    @Test
+    @DisplayName("돌려받은 토큰을 바꿔도 저장소의 상태는 바뀌지 않는다")
+    void returnedTokensAreCopies() {
+        // given
+        QueueToken saved = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken found = queueStore.findByToken(saved.getToken()).orElseThrow();
+
+        // when
+        saved.leave();
+        found.leave();
+
+        // then
+        assertThat(queueStore.findByToken(saved.getToken())).get().matches(QueueToken::isWaiting);
+        assertThat(queueStore.activateNext(GENERAL, 1)).extracting(QueueToken::getToken)
+                .containsExactly(saved.getToken());
+    }
+
+    @Test
+    @DisplayName("먼저 만료된 토큰은 낡은 활성 토큰으로 덮어써도 되살아나지 않는다")
+    void staleSaveDoesNotReviveExpiredToken() {
+        // given
+        QueueToken waiting = queueStore.save(waitingToken("user-1", 1L));
+        QueueToken stale = queueStore.activateNext(GENERAL, 1).get(0);
+        queueStore.expireActivatedBefore(LocalDateTime.now().plusSeconds(1));
+
+        // when
+        QueueToken saved = queueStore.save(stale);
+
+        // then
+        assertThat(saved.isExpired()).isTrue();
+        assertThat(queueStore.countActive()).isZero();
+        assertThat(queueStore.findLiveTokenByUserId("user-1", GENERAL)).isEmpty();
+        assertThat(queueStore.findByToken(waiting.getToken())).get().matches(QueueToken::isExpired);
+    }
+
+    private QueueToken newToken(String userId, long concertId) {
+        return QueueToken.builder()
+                .token(UUID.randomUUID().toString())
+                .userId(userId)
+                .concertId(concertId)
+                .position(1)
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private QueueToken waitingToken(String userId, Long admissionSeq) {
+        return waitingToken(userId, admissionSeq, GENERAL);
+    }
+
+    private QueueToken waitingToken(String userId, Long admissionSeq, long concertId) {
+        return QueueToken.builder()
+                .token(UUID.randomUUID().toString())
+                .userId(userId)
+                .concertId(concertId)
+                .admissionSeq(admissionSeq)
+                .position(admissionSeq.intValue())
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
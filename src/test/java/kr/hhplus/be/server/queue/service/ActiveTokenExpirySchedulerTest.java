@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.infrastructure.memory.InMemoryQueueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveTokenExpirySchedulerTest {
+
+    private InMemoryQueueStore queueStore;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        queueStore = new InMemoryQueueStore(600);
+        clock = new MutableClock(Instant.now());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("활성화 후 5분이 지나면 다음 tick 에 토큰을 만료시킨다")
+    void expireTokenAtDeadline() {
+        // given
+        ActiveTokenExpiryScheduler scheduler = createScheduler();
+        QueueToken token = activeToken("user-1");
+        scheduler.register(token);
+
+        // when
+        clock.advance(Duration.ofMinutes(5).minusSeconds(1));
+        scheduler.expireDue();
+
+        // then
+        assertThat(queueStore.findByToken(token.getToken())).get().matches(QueueToken::isActive);
+
+        // when
+        clock.advance(Duration.ofSeconds(2));
+        scheduler.expireDue();
+
+        // then
+        assertThat(queueStore.findByToken(token.getToken())).get().matches(QueueToken::isExpired);
+        assertThat(queueStore.countActive()).isZero();
+        assertThat(meterRegistry.get("expiry.wheel.expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("먼저 만료 처리한 토큰은 휠에서 취소된다")
+    void cancelledTokenIsNotExpiredAgain() {
+        // given
+        ActiveTokenExpiryScheduler scheduler = createScheduler();
+        QueueToken token = activeToken("user-1");
+        scheduler.register(token);
+
+        // when
+        scheduler.cancel(token.getToken());
+
+        // then
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 시 저장소의 활성 토큰으로 휠을 다시 채운다")
+    void rebuildFromStore() {
+        // given
+        activeToken("user-1");
+        activeToken("user-2");
+        ActiveTokenExpiryScheduler scheduler = createScheduler();
+
+        // when
+        scheduler.rebuild();
+        clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+        scheduler.expireDue();
+
+        // then
+        assertThat(queueStore.countActive()).isZero();
+    }
+
+    private ActiveTokenExpiryScheduler createScheduler() {
+        return new ActiveTokenExpiryScheduler(queueStore, new QueueTokenCache(1000, 60, meterRegistry),
+                meterRegistry, 250, clock);
+    }
+
+    private QueueToken activeToken(String userId) {
+        queueStore.save(QueueToken.builder()
+                .token(UUID.randomUUID().toString())
+                .userId(userId)
+                .admissionSeq(queueStore.findMaxAdmissionSeq(QueueToken.GENERAL_QUEUE_ID) + 1)
+                .position(1)
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now(clock))
+                .build());
+        return queueStore.activateNext(QueueToken.GENERAL_QUEUE_ID, 1).get(0);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
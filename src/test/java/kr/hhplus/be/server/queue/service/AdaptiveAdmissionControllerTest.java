@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveAdmissionControllerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveAdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionController = createController(meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("지연이 목표보다 낮고 상한을 거의 다 쓰면 상한을 일정량씩 늘린다")
+    void additiveIncreaseWhenHealthy() {
+        // given
+        admissionController.recordLatency("reservation.reserve-seat", TimeUnit.MILLISECONDS.toNanos(50));
+
+        // when
+        admissionController.recordActive(100);
+        admissionController.evaluate();
+        admissionController.recordActive(95);
+        admissionController.evaluate();
+
+        // then
+        assertThat(admissionController.getCeiling()).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("활성 인원이 상한보다 한참 적으면 여유가 있어도 상한을 늘리지 않는다")
+    void noIncreaseWhenCeilingIsUnused() {
+        // given
+        admissionController.recordLatency("reservation.reserve-seat", TimeUnit.MILLISECONDS.toNanos(50));
+        admissionController.recordActive(40);
+        admissionController.recordActive(60);
+
+        // when
+        admissionController.evaluate();
+        admissionController.evaluate();
+
+        // then
+        assertThat(admissionController.getCeiling()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("p99 지연이 목표를 넘으면 상한을 비율로 줄인다")
+    void multiplicativeDecreaseOnSlowLatency() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            admissionController.recordLatency("payment.execute", TimeUnit.MILLISECONDS.toNanos(800));
+        }
+
+        // when
+        admissionController.evaluate();
+
+        // then
+        assertThat(admissionController.getCeiling()).isEqualTo(70);
+        assertThat(meterRegistry.get("queue.admission.signal.p99").gauge().value()).isGreaterThan(500);
+    }
+
+    @Test
+    @DisplayName("락 대기 실패가 새로 발생한 구간에만 상한을 줄인다")
+    void decreaseOnlyOnNewLockTimeouts() {
+        // given
+        admissionController.recordFailure(new RuntimeException(new CannotAcquireLockException("lock wait timeout")));
+
+        // when
+        admissionController.evaluate();
+        int afterTimeout = admissionController.getCeiling();
+        admissionController.recordActive(70);
+        admissionController.evaluate();
+
+        // then
+        assertThat(afterTimeout).isEqualTo(70);
+        assertThat(admissionController.getCeiling()).isEqualTo(75);
+    }
+
+    @Test
+    @DisplayName("커넥션 대기 스레드가 임계치를 넘으면 상한을 줄인다")
+    void decreaseOnHikariPendingThreads() {
+        // given
+        AtomicInteger pending = new AtomicInteger(5);
+        Gauge.builder("hikaricp.connections.pending", pending, AtomicInteger::get)
+                .tag("pool", "HangHaePlusDataSource")
+                .register(meterRegistry);
+
+        // when
+        admissionController.evaluate();
+
+        // then
+        assertThat(admissionController.getCeiling()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("상한은 설정한 최소/최대 범위를 벗어나지 않는다")
+    void ceilingStaysWithinBounds() {
+        // given
+        AdaptiveAdmissionController nearMax = createController(new SimpleMeterRegistry(), 998);
+        AdaptiveAdmissionController nearMin = createController(new SimpleMeterRegistry(), 25);
+        nearMin.recordFailure(new CannotAcquireLockException("lock wait timeout"));
+        nearMax.recordActive(998);
+
+        // when
+        nearMax.evaluate();
+        nearMin.evaluate();
+
+        // then
+        assertThat(nearMax.getCeiling()).isEqualTo(1000);
+        assertThat(nearMin.getCeiling()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("잘못된 범위나 감소 비율로는 생성할 수 없다")
+    void rejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AdaptiveAdmissionController(new SimpleMeterRegistry(), 100, 200, 100, 5, 0.7, 500, 2, 0.9))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveAdmissionController(new SimpleMeterRegistry(), 100, 20, 1000, 5, 1.5, 500, 2, 0.9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveAdmissionController createController(SimpleMeterRegistry registry, int initialCeiling) {
+        return new AdaptiveAdmissionController(registry, initialCeiling, 20, 1000, 5, 0.7, 500, 2, 0.9);
+    }
+}
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.queue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionRateLimiterTest {
+
+    private AtomicLong nanoTime;
+    private AdmissionRateLimiter admissionRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+        admissionRateLimiter = new AdmissionRateLimiter(20, 50, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("버스트 크기만큼은 한 번에 입장시킬 수 있다")
+    void acquireUpToBurst() {
+        // when
+        int acquired = admissionRateLimiter.tryAcquire(100);
+
+        // then
+        assertThat(acquired).isEqualTo(50);
+        assertThat(admissionRateLimiter.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("허가는 설정한 속도로 초 단위보다 잘게 채워진다")
+    void refillAtConfiguredRate() {
+        // given
+        admissionRateLimiter.tryAcquire(50);
+
+        // when
+        nanoTime.addAndGet(250_000_000L); // 0.25s at 20/s
+
+        // then
+        assertThat(admissionRateLimiter.tryAcquire(100)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("허가는 버스트 크기 이상 쌓이지 않는다")
+    void permitsAreCappedAtBurst() {
+        // given
+        admissionRateLimiter.tryAcquire(50);
+
+        // when
+        nanoTime.addAndGet(60_000_000_000L);
+
+        // then
+        assertThat(admissionRateLimiter.availablePermits()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("사용하지 않은 허가는 되돌릴 수 있다")
+    void refundUnusedPermits() {
+        // given
+        admissionRateLimiter.tryAcquire(30);
+
+        // when
+        admissionRateLimiter.refund(10);
+
+        // then
+        assertThat(admissionRateLimiter.availablePermits()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("속도나 버스트 크기가 0 이하이면 생성할 수 없다")
+    void rejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AdmissionRateLimiter(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdmissionRateLimiter(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,176 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.QueueAccessClaims;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueueAccessTokenServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private MutableClock clock;
+    private QueueAccessTokenService accessTokenService;
+    private QueueToken activeToken;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        accessTokenService = new QueueAccessTokenService(SECRET, Duration.ofMinutes(60), clock);
+        activeToken = QueueToken.builder()
+                .token(UUID.randomUUID().toString())
+                .userId("user123")
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now(clock))
+                .activatedAt(LocalDateTime.now(clock))
+                .build();
+    }
+
+    @Test
+    @DisplayName("발급한 접근 토큰을 DB 조회 없이 검증할 수 있다")
+    void issueAndVerify() {
+        // when
+        String accessToken = accessTokenService.issue(activeToken);
+        QueueAccessClaims claims = accessTokenService.verify(accessToken);
+
+        // then
+        assertThat(accessToken).startsWith("v1.");
+        assertThat(claims.getUserId()).isEqualTo("user123");
+        assertThat(claims.getToken()).isEqualTo(activeToken.getToken());
+    }
+
+    @Test
+    @DisplayName("같은 시크릿을 공유하는 다른 노드에서도 검증된다")
+    void verifyOnAnotherNodeWithSameSecret() {
+        // given
+        String accessToken = accessTokenService.issue(activeToken);
+        QueueAccessTokenService otherNode = new QueueAccessTokenService(SECRET, Duration.ofMinutes(60), clock);
+
+        // when & then
+        assertThat(otherNode.verify(accessToken).getUserId()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 접근 토큰은 거부한다")
+    void rejectTamperedToken() {
+        // given
+        String accessToken = accessTokenService.issue(activeToken);
+        QueueAccessTokenService otherSecret = new QueueAccessTokenService("other-secret", Duration.ofMinutes(60), clock);
+
+        // when & then
+        assertThatThrownBy(() -> otherSecret.verify(accessToken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("서명이 올바르지 않은 접근 토큰입니다");
+        assertThatThrownBy(() -> accessTokenService.verify("v1.1.abc"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("유효하지 않은 접근 토큰입니다");
+    }
+
+    @Test
+    @DisplayName("활성 시간이 지난 접근 토큰은 거부한다")
+    void rejectExpiredToken() {
+        // given
+        String accessToken = accessTokenService.issue(activeToken);
+
+        // when
+        clock.advance(Duration.ofMinutes(5));
+
+        // then
+        assertThatThrownBy(() -> accessTokenService.verify(accessToken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("접근 토큰이 만료되었습니다");
+    }
+
+    @Test
+    @DisplayName("폐기된 접근 토큰은 거부하고, 자연 만료 후에는 폐기 목록에서 정리된다")
+    void rejectRevokedToken() {
+        // given
+        String accessToken = accessTokenService.issue(activeToken);
+
+        // when
+        accessTokenService.revoke(activeToken);
+
+        // then
+        assertThatThrownBy(() -> accessTokenService.verify(accessToken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("폐기된 접근 토큰입니다");
+
+        clock.advance(Duration.ofMinutes(5));
+        accessTokenService.purgeExpired();
+        assertThat(accessTokenService.revokedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("키가 두 번 회전하면 이전 키로 서명한 접근 토큰은 거부한다")
+    void rejectTokenSignedWithRetiredKey() {
+        // given
+        QueueAccessTokenService shortRotation = new QueueAccessTokenService(SECRET, Duration.ofMinutes(1), clock);
+        String accessToken = shortRotation.issue(activeToken);
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThatThrownBy(() -> shortRotation.verify(accessToken))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("서명 키가 만료된 접근 토큰입니다");
+    }
+
+    @Test
+    @DisplayName("local, test 프로필이 아니면 시크릿 없이 시작하지 않는다")
+    void requireSecretOutsideLocalAndTest() {
+        // given
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("prod");
+        MockEnvironment test = new MockEnvironment();
+        test.setActiveProfiles("test");
+
+        // when & then
+        assertThatThrownBy(() -> QueueAccessTokenService.resolveSecret("", production))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("queue.access-token.secret 을 설정해야 합니다");
+        assertThat(QueueAccessTokenService.resolveSecret(SECRET, production)).isEqualTo(SECRET);
+        assertThat(QueueAccessTokenService.resolveSecret(" ", test)).isNotBlank();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
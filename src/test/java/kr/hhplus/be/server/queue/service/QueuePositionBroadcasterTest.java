@@ -0,0 +1,169 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.queue.dto.QueuePositionEvent;
+import kr.hhplus.be.server.queue.dto.QueueTokenResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueuePositionBroadcasterTest {
+
+    private QueuePositionTracker positionTracker;
+    private WaitingRoom room;
+    private SimpleMeterRegistry meterRegistry;
+    private QueuePositionBroadcaster positionBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        positionTracker = new QueuePositionTracker();
+        positionTracker.restore(10, 0, List.of());
+        meterRegistry = new SimpleMeterRegistry();
+        AdmissionRateLimiter admissionRateLimiter = new AdmissionRateLimiter(1, 10);
+        room = new WaitingRoom(0L, 100, positionTracker, admissionRateLimiter,
+                new QueueAdmissionMetrics(meterRegistry, 0L, admissionRateLimiter, positionTracker));
+        positionBroadcaster = new QueuePositionBroadcaster(meterRegistry, 60000, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 순번을 바로 보낸다")
+    void sendCurrentPositionOnSubscribe() {
+        // given
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        // when
+        positionBroadcaster.register(waiting("token-5", 5), 5L, room, emitter);
+
+        // then
+        assertThat(emitter.positions()).containsExactly(5);
+        assertThat(meterRegistry.get("queue.stream.connections").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순번 변경은 flush 한 번에 모아서, 바뀐 구독자에게만 보낸다")
+    void coalescePositionChanges() {
+        // given
+        CapturingEmitter fifth = new CapturingEmitter();
+        CapturingEmitter ninth = new CapturingEmitter();
+        positionBroadcaster.register(waiting("token-5", 5), 5L, room, fifth);
+        positionBroadcaster.register(waiting("token-9", 9), 9L, room, ninth);
+
+        // when
+        positionTracker.advanceServedTo(2);
+        positionBroadcaster.markPositionsChanged();
+        positionTracker.advanceServedTo(3);
+        positionBroadcaster.markPositionsChanged();
+        positionBroadcaster.flush();
+        positionBroadcaster.flush();
+
+        // then
+        assertThat(fifth.positions()).containsExactly(5, 2);
+        assertThat(ninth.positions()).containsExactly(9, 6);
+        assertThat(meterRegistry.get("queue.stream.push.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("순번이 바뀌지 않은 flush 에서는 아무것도 보내지 않는다")
+    void skipUnchangedPositions() {
+        // given
+        CapturingEmitter emitter = new CapturingEmitter();
+        positionBroadcaster.register(waiting("token-5", 5), 5L, room, emitter);
+
+        // when
+        positionBroadcaster.markPositionsChanged();
+        positionBroadcaster.flush();
+
+        // then
+        assertThat(emitter.positions()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("전송 풀이 가득 차면 flush 를 막지 않고 다음 flush 에서 마지막 순번을 보낸다")
+    void retryRejectedPushOnNextFlush() {
+        // given
+        AtomicBoolean rejecting = new AtomicBoolean(true);
+        Executor executor = task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        };
+        positionBroadcaster = new QueuePositionBroadcaster(meterRegistry, 60000, executor);
+        CapturingEmitter emitter = new CapturingEmitter();
+        positionBroadcaster.register(waiting("token-5", 5), 5L, room, emitter);
+
+        // when
+        positionTracker.advanceServedTo(2);
+        positionBroadcaster.markPositionsChanged();
+        positionBroadcaster.flush();
+        rejecting.set(false);
+        positionTracker.advanceServedTo(3);
+        positionBroadcaster.flush();
+
+        // then
+        assertThat(emitter.positions()).containsExactly(5, 2);
+        assertThat(meterRegistry.get("queue.stream.send.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("활성화되면 activated 이벤트를 보내고 스트림을 닫는다")
+    void publishActivatedAndClose() {
+        // given
+        CapturingEmitter emitter = new CapturingEmitter();
+        positionBroadcaster.register(waiting("token-1", 1), 1L, room, emitter);
+
+        // when
+        positionBroadcaster.publishActivated("token-1", () -> QueueTokenResponse.builder()
+                .token("token-1")
+                .status("ACTIVE")
+                .queuePosition(0)
+                .accessToken("v1.access")
+                .build());
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).isInstanceOf(QueueTokenResponse.class);
+        assertThat(positionBroadcaster.connectionCount()).isZero();
+    }
+
+    private QueueTokenResponse waiting(String token, int position) {
+        return QueueTokenResponse.builder()
+                .token(token)
+                .status("WAITING")
+                .queuePosition(position)
+                .build();
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final List<Object> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // event/data 접두어는 문자열로, 본문 객체는 그대로 담겨 있다
+            Set<ResponseBodyEmitter.DataWithMediaType> data = builder.build();
+            data.stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(item -> !(item instanceof String))
+                    .forEach(events::add);
+        }
+
+        List<Integer> positions() {
+            return events.stream()
+                    .filter(QueuePositionEvent.class::isInstance)
+                    .map(event -> ((QueuePositionEvent) event).getQueuePosition())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.queue.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueuePositionTrackerTest {
+
+    @Test
+    @DisplayName("앞에서 떠난 토큰 수만큼 대기 순번이 줄고, 워터마크가 지나간 이탈은 세지 않는다")
+    void positionSkipsDepartedSeqs() {
+        // given
+        QueuePositionTracker tracker = new QueuePositionTracker();
+        tracker.restore(10, 0, List.of(3L));
+
+        // when
+        tracker.markDeparted(7);
+        tracker.advanceServedTo(4);
+
+        // then
+        assertThat(tracker.positionOf(10)).isEqualTo(5); // 5, 6, 8, 9 앞
+        assertThat(tracker.positionOf(5)).isEqualTo(1);
+        assertThat(tracker.waitingCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장소에서 다시 읽은 상태는 앞으로만 합친다")
+    void refreshOnlyMovesForward() {
+        // given
+        QueuePositionTracker tracker = new QueuePositionTracker();
+        tracker.restore(10, 4, List.of());
+        tracker.observeIssued(12);
+
+        // when
+        tracker.refresh(11, 6, List.of(8L));
+
+        // then
+        assertThat(tracker.getLastIssuedSeq()).isEqualTo(12);
+        assertThat(tracker.getServedWatermark()).isEqualTo(6);
+        assertThat(tracker.positionOf(12)).isEqualTo(5); // 7, 9, 10, 11 앞
+        assertThat(tracker.waitingCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이탈 카운터는 범위가 늘거나 워터마크가 당겨져도 직접 센 값과 같다")
+    void departedCounterMatchesLinearCount() {
+        // given
+        Random random = new Random(42);
+        DepartedSeqCounter counter = new DepartedSeqCounter();
+        TreeSet<Long> departed = new TreeSet<>();
+        long floor = 0;
+        long lastSeq = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            // when
+            lastSeq += random.nextInt(3);
+            if (random.nextInt(4) == 0) {
+                floor = Math.min(lastSeq, floor + random.nextInt(200));
+                counter.advanceFloor(floor);
+            } else {
+                long seq = floor + 1 + random.nextInt((int) Math.max(1, lastSeq - floor));
+                counter.add(seq);
+                departed.add(seq);
+            }
+
+            // then
+            long from = floor + random.nextInt(50);
+            long to = from + random.nextInt(3000);
+            assertThat(counter.countBetween(from, to))
+                    .isEqualTo(departed.subSet(Math.max(from, floor), false, to, false).size());
+        }
+        assertThat(counter.countAfter(floor)).isEqualTo(departed.tailSet(floor, false).size());
+    }
+}
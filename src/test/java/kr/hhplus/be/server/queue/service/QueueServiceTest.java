@@ -1,30 +1,40 @@
 package kr.hhplus.be.server.queue.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.queue.domain.QueueStore;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.queue.dto.QueueTokenResponse;
 import kr.hhplus.be.server.queue.exception.QueueTokenNotFoundException;
-import kr.hhplus.be.server.queue.repository.QueueTokenRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -33,11 +43,45 @@ import static org.mockito.Mockito.*;
 class QueueServiceTest {
 
     @Mock
-    private QueueTokenRepository queueTokenRepository;
+    private QueueStore queueStore;
+
+    @Spy
+    private QueuePositionTracker positionTracker = new QueuePositionTracker();
+
+    @Mock
+    private QueueAccessTokenService accessTokenService;
+
+    @Spy
+    private QueueTokenCache tokenCache = new QueueTokenCache(1000, 60, new SimpleMeterRegistry());
+
+    @Spy
+    private AdmissionRateLimiter admissionRateLimiter = new AdmissionRateLimiter(1, 10);
+
+    @Mock
+    private QueueAdmissionMetrics admissionMetrics;
+
+    @Mock
+    private AdaptiveAdmissionController admissionController;
+
+    @Mock
+    private QueuePositionBroadcaster positionBroadcaster;
+
+    @Mock
+    private WaitingRoomRegistry waitingRooms;
+
+    @Mock
+    private ActiveTokenExpiryScheduler expiryScheduler;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private QueueService queueService;
 
+    private WaitingRoom generalRoom;
     private String userId;
     private String token;
 
@@ -45,6 +89,10 @@ class QueueServiceTest {
     void setUp() {
         userId = UUID.randomUUID().toString();
         token = UUID.randomUUID().toString();
+        generalRoom = new WaitingRoom(QueueToken.GENERAL_QUEUE_ID, 100,
+                positionTracker, admissionRateLimiter, admissionMetrics);
+        lenient().when(waitingRooms.room(anyLong())).thenReturn(generalRoom);
+        lenient().when(waitingRooms.rooms()).thenReturn(List.of(generalRoom));
     }
 
     @Test
@@ -59,9 +107,7 @@ class QueueServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(queueTokenRepository.save(any(QueueToken.class))).willReturn(queueToken);
-        given(queueTokenRepository.countByStatusAndCreatedAtBefore(
-                eq(QueueToken.Status.WAITING), any(LocalDateTime.class))).willReturn(9L);
+        given(queueStore.issue(any(QueueToken.class))).willReturn(queueToken);
 
         // when
         QueueTokenResponse response = queueService.issueToken(userId);
@@ -71,7 +117,52 @@ class QueueServiceTest {
         assertThat(response.getUserId()).isEqualTo(userId);
         assertThat(response.getQueuePosition()).isEqualTo(10);
         assertThat(response.getStatus()).isEqualTo("WAITING");
-        verify(queueTokenRepository).save(any(QueueToken.class));
+        verify(queueStore).issue(any(QueueToken.class));
+        verify(queueStore, never()).countWaitingCreatedBefore(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("새 토큰은 입장 순번과 활성화 워터마크의 차이로 대기 순번을 받는다")
+    void issueTokenWithAdmissionSequence() {
+        // given
+        positionTracker.restore(20, 15, List.of());
+        given(queueStore.issue(any(QueueToken.class))).willAnswer(invocation -> issued(invocation.getArgument(0), 21));
+
+        // when
+        QueueTokenResponse response = queueService.issueToken(userId);
+
+        // then
+        assertThat(response.getQueuePosition()).isEqualTo(6); // seq 21 - watermark 15
+        assertThat(positionTracker.getLastIssuedSeq()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발급한 순번도 저장소가 돌려준 순번으로 따라잡는다")
+    void issueTokenFollowsStoreSequence() {
+        // given
+        positionTracker.restore(20, 15, List.of());
+        given(queueStore.issue(any(QueueToken.class))).willAnswer(invocation -> issued(invocation.getArgument(0), 30));
+
+        // when
+        QueueTokenResponse response = queueService.issueToken(userId);
+
+        // then
+        assertThat(response.getQueuePosition()).isEqualTo(15); // seq 30 - watermark 15
+        assertThat(positionTracker.getLastIssuedSeq()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("토큰 저장에 실패하면 입장 순번을 소비하지 않는다")
+    void failedIssueDoesNotConsumeSequence() {
+        // given
+        positionTracker.restore(20, 15, List.of());
+        given(queueStore.issue(any(QueueToken.class))).willThrow(new IllegalStateException("저장 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> queueService.issueToken(userId))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(positionTracker.getLastIssuedSeq()).isEqualTo(20);
+        assertThat(positionTracker.waitingCount()).isEqualTo(5);
     }
 
     @Test
@@ -86,9 +177,7 @@ class QueueServiceTest {
                 .createdAt(LocalDateTime.now().minusMinutes(2))
                 .build();
 
-        given(queueTokenRepository.findByUserIdAndStatusIn(
-                eq(userId), 
-                eq(Arrays.asList(QueueToken.Status.WAITING, QueueToken.Status.ACTIVE))))
+        given(queueStore.findLiveTokenByUserId(userId, QueueToken.GENERAL_QUEUE_ID))
                 .willReturn(Optional.of(existingToken));
 
         // when
@@ -97,7 +186,8 @@ class QueueServiceTest {
         // then
         assertThat(response.getToken()).isEqualTo(token);
         assertThat(response.getQueuePosition()).isEqualTo(5);
-        verify(queueTokenRepository, never()).save(any(QueueToken.class));
+        verify(queueStore, never()).save(any(QueueToken.class));
+        verify(queueStore, never()).issue(any(QueueToken.class));
     }
 
     @Test
@@ -107,21 +197,48 @@ class QueueServiceTest {
         QueueToken queueToken = QueueToken.builder()
                 .token(token)
                 .userId(userId)
-                .position(3)
+                .position(8)
+                .admissionSeq(10L)
                 .status(QueueToken.Status.WAITING)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(queueTokenRepository.findByToken(token)).willReturn(Optional.of(queueToken));
-        given(queueTokenRepository.countByStatusAndCreatedAtBefore(
-                eq(QueueToken.Status.WAITING), any(LocalDateTime.class))).willReturn(2L);
+        positionTracker.restore(10, 7, List.of());
+        given(queueStore.findByToken(token)).willReturn(Optional.of(queueToken));
 
         // when
         QueueTokenResponse response = queueService.getQueueStatus(token);
 
         // then
         assertThat(response.getQueuePosition()).isEqualTo(3);
-        assertThat(response.getEstimatedWaitTime()).isEqualTo(90); // 3 * 30 seconds
+        assertThat(response.getEstimatedWaitTime()).isEqualTo(3); // 3 positions at 1 user/sec
+        assertThat(queueToken.getPosition()).isEqualTo(8);
+        verify(queueStore, never()).countWaitingCreatedBefore(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("앞선 대기자가 이탈하거나 활성화되면 대기 순번이 줄어든다")
+    void positionShrinksWhenTokensAheadLeaveOrActivate() {
+        // given
+        QueueToken queueToken = QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .position(10)
+                .admissionSeq(10L)
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        positionTracker.restore(10, 0, List.of());
+        given(queueStore.findByToken(token)).willReturn(Optional.of(queueToken));
+
+        // when
+        positionTracker.markDeparted(7);
+        positionTracker.markDeparted(3);
+        positionTracker.advanceServedTo(4);
+
+        // then
+        assertThat(queueService.getQueueStatus(token).getQueuePosition()).isEqualTo(5); // 5,6,8,9,10
     }
 
     @Test
@@ -136,7 +253,7 @@ class QueueServiceTest {
                 .activatedAt(LocalDateTime.now())
                 .build();
 
-        given(queueTokenRepository.findByToken(token)).willReturn(Optional.of(activeToken));
+        given(queueStore.findByToken(token)).willReturn(Optional.of(activeToken));
 
         // when
         QueueTokenResponse response = queueService.getQueueStatus(token);
@@ -151,7 +268,7 @@ class QueueServiceTest {
     @DisplayName("존재하지 않는 토큰 조회시 예외가 발생한다")
     void throwExceptionWhenTokenNotFound() {
         // given
-        given(queueTokenRepository.findByToken(anyString())).willReturn(Optional.empty());
+        given(queueStore.findByToken(anyString())).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> queueService.getQueueStatus("invalid-token"))
@@ -170,7 +287,7 @@ class QueueServiceTest {
                 .expiredAt(LocalDateTime.now().minusMinutes(10))
                 .build();
 
-        given(queueTokenRepository.findByToken(token)).willReturn(Optional.of(expiredToken));
+        given(queueStore.findByToken(token)).willReturn(Optional.of(expiredToken));
 
         // when & then
         assertThatThrownBy(() -> queueService.getQueueStatus(token))
@@ -188,20 +305,252 @@ class QueueServiceTest {
                 createWaitingToken(3)
         );
 
-        given(queueTokenRepository.findWaitingTokensToActivate(10))
+        positionTracker.restore(3, 0, List.of());
+
+        given(queueStore.activateNext(QueueToken.GENERAL_QUEUE_ID, 10))
                 .willReturn(waitingTokens);
 
-        given(queueTokenRepository.countByStatus(QueueToken.Status.ACTIVE))
-                .willReturn(90L); // max 100
-                
-        given(queueTokenRepository.findExpiredActiveTokens(any(LocalDateTime.class)))
-                .willReturn(List.of());
+        given(admissionController.getCeiling())
+                .willReturn(100);
+
+        given(queueStore.countActive())
+                .willReturn(90L);
+
+        given(queueStore.countActive(QueueToken.GENERAL_QUEUE_ID))
+                .willReturn(90L);
+
+        // when
+        queueService.activateWaitingTokens();
+
+        // then
+        verify(queueStore).activateNext(QueueToken.GENERAL_QUEUE_ID, 10);
+        verify(admissionMetrics).recordTick(93, 100, 3);
+        verify(positionBroadcaster, times(3)).publishActivated(anyString(), any());
+        verify(expiryScheduler, times(3)).register(any(QueueToken.class));
+        verify(positionBroadcaster).markPositionsChanged();
+    }
+
+    @Test
+    @DisplayName("대기 중인 토큰은 현재 순번으로 상태 스트림을 구독한다")
+    void subscribeQueueStatusForWaitingToken() {
+        // given
+        QueueToken queueToken = QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .position(8)
+                .admissionSeq(10L)
+                .status(QueueToken.Status.WAITING)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        positionTracker.restore(10, 7, List.of());
+        given(queueStore.findByToken(token)).willReturn(Optional.of(queueToken));
+
+        // when
+        queueService.subscribeQueueStatus(token);
+
+        // then
+        verify(positionBroadcaster).subscribe(argThat(response -> response.getQueuePosition() == 3), eq(10L), eq(generalRoom));
+        verify(queueStore, never()).countWaitingCreatedBefore(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("대기열을 떠나면 상태 스트림을 닫고 다른 대기자의 순번 갱신을 예약한다")
+    void leaveQueueClosesStream() {
+        // given
+        QueueToken queueToken = createWaitingToken(1);
+        given(queueStore.findByToken(queueToken.getToken())).willReturn(Optional.of(queueToken));
+
+        // when
+        queueService.leaveQueue(queueToken.getToken());
+
+        // then
+        verify(positionBroadcaster).close(queueToken.getToken());
+        verify(positionBroadcaster).markPositionsChanged();
+    }
+
+    @Test
+    @DisplayName("입장 허가가 남아 있지 않으면 DB 를 조회하지 않는다")
+    void skipActivationWithoutPermits() {
+        // given
+        positionTracker.restore(3, 0, List.of());
+        admissionRateLimiter.tryAcquire(10);
+
+        // when
+        queueService.activateWaitingTokens();
+
+        // then
+        verify(queueStore, never()).countActive();
+        verify(queueStore, never()).activateNext(anyLong(), anyInt());
+    }
 
+    @Test
+    @DisplayName("대기자가 없는 대기열은 DB 를 조회하지 않는다")
+    void skipActivationWithoutWaitingTokens() {
         // when
         queueService.activateWaitingTokens();
 
         // then
-        verify(queueTokenRepository).saveAll(anyList());
+        verify(queueStore, never()).countActive();
+        verify(queueStore, never()).activateNext(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("콘서트 대기열 토큰은 해당 콘서트 대기열에 줄을 선다")
+    void issueConcertScopedToken() {
+        // given
+        WaitingRoom concertRoom = createRoom(7L, 100);
+        concertRoom.getPositionTracker().restore(4, 2, List.of());
+        given(waitingRooms.room(7L)).willReturn(concertRoom);
+        given(concertRepository.existsById(7L)).willReturn(true);
+        given(queueStore.issue(any(QueueToken.class))).willAnswer(invocation -> issued(invocation.getArgument(0), 5));
+
+        // when
+        QueueTokenResponse response = queueService.issueToken(userId, 7L);
+
+        // then
+        assertThat(response.getConcertId()).isEqualTo(7L);
+        assertThat(response.getQueuePosition()).isEqualTo(3); // seq 5 - watermark 2
+        verify(queueStore).issue(argThat(saved -> saved.getConcertId() == 7L && saved.getAdmissionSeq() == 5L));
+        assertThat(positionTracker.getLastIssuedSeq()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 콘서트의 대기열 토큰은 발급하지 않는다")
+    void rejectTokenForUnknownConcert() {
+        // given
+        given(concertRepository.existsById(99L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> queueService.issueToken(userId, 99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("콘서트를 찾을 수 없습니다");
+        verify(queueStore, never()).issue(any(QueueToken.class));
+    }
+
+    @Test
+    @DisplayName("대기열마다 수용량을 넘겨 활성화하지 않는다")
+    void activationRespectsRoomCapacity() {
+        // given
+        WaitingRoom concertRoom = createRoom(7L, 5);
+        concertRoom.getPositionTracker().restore(20, 0, List.of());
+        given(waitingRooms.rooms()).willReturn(List.of(concertRoom));
+        given(admissionController.getCeiling()).willReturn(100);
+        given(queueStore.countActive()).willReturn(3L);
+        given(queueStore.countActive(7L)).willReturn(3L);
+        given(queueStore.activateNext(7L, 2)).willReturn(List.of(createWaitingToken(1), createWaitingToken(2)));
+
+        // when
+        queueService.activateWaitingTokens();
+
+        // then
+        verify(queueStore).activateNext(7L, 2);
+        assertThat(concertRoom.getAdmissionRateLimiter().availablePermits()).isEqualTo(8);
+        verify(admissionController).recordActive(5L);
+    }
+
+    @Test
+    @DisplayName("전체 활성 상한에 닿으면 다른 대기열도 활성화하지 않는다")
+    void activationRespectsGlobalCeiling() {
+        // given
+        WaitingRoom first = createRoom(1L, 100);
+        WaitingRoom second = createRoom(2L, 100);
+        first.getPositionTracker().restore(10, 0, List.of());
+        second.getPositionTracker().restore(10, 0, List.of());
+        given(waitingRooms.rooms()).willReturn(List.of(first, second));
+        given(admissionController.getCeiling()).willReturn(50);
+        given(queueStore.countActive()).willReturn(50L);
+
+        // when
+        queueService.activateWaitingTokens();
+
+        // then
+        verify(queueStore, never()).countActive(anyLong());
+        verify(queueStore, never()).activateNext(anyLong(), anyInt());
+        verify(admissionController).recordActive(50L);
+    }
+
+    @Test
+    @DisplayName("활성화된 지 5분이 지난 토큰을 만료시킨다")
+    void expireOldActiveTokens() {
+        // given
+        given(queueStore.expireActivatedBefore(any(LocalDateTime.class)))
+                .willReturn(3L);
+
+        // when
+        queueService.expireOldActiveTokens();
+
+        // then
+        verify(queueStore).expireActivatedBefore(any(LocalDateTime.class));
+        verify(queueStore, never()).findByToken(anyString());
+        assertThat(meterRegistry.get("queue.token.expired").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일괄 만료 후 캐시에 남은 활성 스냅샷도 5분이 지났으면 유효하지 않다")
+    void validateTokenRejectsCachedSnapshotPastActiveWindow() {
+        // given
+        QueueToken staleToken = QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now().minusMinutes(10))
+                .activatedAt(LocalDateTime.now().minusMinutes(6))
+                .build();
+        given(queueStore.findByToken(token)).willReturn(Optional.of(staleToken));
+
+        // when & then
+        assertThat(queueService.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 반복 검증하면 캐시된 결과를 재사용한다")
+    void validateTokenUsesCache() {
+        // given
+        QueueToken activeToken = QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .activatedAt(LocalDateTime.now())
+                .build();
+        given(queueStore.findByToken(token)).willReturn(Optional.of(activeToken));
+
+        // when
+        boolean valid = queueService.validateToken(token);
+        String resolvedUserId = queueService.validateAndGetUserId(token);
+
+        // then
+        assertThat(valid).isTrue();
+        assertThat(resolvedUserId).isEqualTo(userId);
+        verify(queueStore, times(1)).findByToken(token);
+    }
+
+    @Test
+    @DisplayName("토큰을 만료시키면 캐시된 검증 결과도 무효화된다")
+    void expireTokenInvalidatesCache() {
+        // given
+        QueueToken activeToken = QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .activatedAt(LocalDateTime.now())
+                .build();
+        given(queueStore.findByToken(token)).willReturn(Optional.of(activeToken));
+        assertThat(queueService.validateToken(token)).isTrue();
+
+        // when
+        queueService.expireToken(token);
+
+        // then
+        assertThat(queueService.validateToken(token)).isFalse();
+        verify(tokenCache).invalidate(token);
+        verify(expiryScheduler).cancel(token);
+        verify(accessTokenService).revoke(activeToken);
     }
 
     @Test
@@ -213,16 +562,15 @@ class QueueServiceTest {
         CountDownLatch latch = new CountDownLatch(threadCount);
         AtomicInteger successCount = new AtomicInteger();
 
-        given(queueTokenRepository.save(any(QueueToken.class))).willAnswer(invocation -> {
-            QueueToken token = invocation.getArgument(0);
-            token.setPosition(successCount.incrementAndGet());
+        Set<Long> admissionSeqs = ConcurrentHashMap.newKeySet();
+        AtomicLong storeSeq = new AtomicLong();
+        given(queueStore.issue(any(QueueToken.class))).willAnswer(invocation -> {
+            QueueToken token = issued(invocation.getArgument(0), storeSeq.incrementAndGet());
+            admissionSeqs.add(token.getAdmissionSeq());
+            successCount.incrementAndGet();
             return token;
         });
 
-        given(queueTokenRepository.countByStatusAndCreatedAtBefore(
-                any(QueueToken.Status.class), any(LocalDateTime.class)))
-                .willAnswer(invocation -> (long) successCount.get());
-
         // when
         for (int i = 0; i < threadCount; i++) {
             String testUserId = "user-" + i;
@@ -240,7 +588,21 @@ class QueueServiceTest {
 
         // then
         assertThat(successCount.get()).isEqualTo(threadCount);
-        verify(queueTokenRepository, times(threadCount)).save(any(QueueToken.class));
+        assertThat(admissionSeqs).hasSize(threadCount);
+        assertThat(positionTracker.getLastIssuedSeq()).isEqualTo(threadCount);
+        verify(queueStore, times(threadCount)).issue(any(QueueToken.class));
+    }
+
+    private QueueToken issued(QueueToken token, long admissionSeq) {
+        token.assignAdmissionSeq(admissionSeq);
+        return token;
+    }
+
+    private WaitingRoom createRoom(long concertId, int capacity) {
+        QueuePositionTracker tracker = new QueuePositionTracker();
+        AdmissionRateLimiter limiter = new AdmissionRateLimiter(1, 10);
+        return new WaitingRoom(concertId, capacity, tracker, limiter,
+                new QueueAdmissionMetrics(new SimpleMeterRegistry(), concertId, limiter, tracker));
     }
 
     private QueueToken createWaitingToken(int position) {
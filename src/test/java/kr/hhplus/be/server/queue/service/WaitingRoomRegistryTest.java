@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.queue.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    @Mock
+    private QueueStore queueStore;
+
+    private WaitingRoomRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WaitingRoomRegistry(queueStore, new SimpleMeterRegistry(), new MockEnvironment(),
+                5000, Clock.fixed(NOW, ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("복원할 때만 이탈 순번을 전부 읽고, 갱신 때는 지난 확인 이후 떠난 몫만 읽는다")
+    void refreshLoadsDeparturesSinceLastCheck() {
+        // given
+        given(queueStore.findMaxAdmissionSeq(7L)).willReturn(10L, 12L);
+        given(queueStore.findMinWaitingAdmissionSeq(7L)).willReturn(Optional.of(5L), Optional.of(6L));
+        given(queueStore.findDepartedAdmissionSeqsAfter(7L, 4L)).willReturn(List.of(7L));
+        LocalDateTime since = LocalDateTime.now(Clock.fixed(NOW, ZoneId.systemDefault())).minusSeconds(5);
+        given(queueStore.findDepartedAdmissionSeqsSince(7L, 5L, since)).willReturn(List.of(9L));
+        QueuePositionTracker tracker = registry.room(7L).getPositionTracker();
+
+        // when
+        registry.refreshPositions();
+
+        // then
+        verify(queueStore, times(1)).findDepartedAdmissionSeqsAfter(anyLong(), anyLong());
+        assertThat(tracker.getServedWatermark()).isEqualTo(5);
+        assertThat(tracker.positionOf(12)).isEqualTo(5); // 6, 8, 10, 11 앞
+    }
+
+    @Test
+    @DisplayName("대기자가 없는 대기열은 이탈 순번을 읽지 않는다")
+    void refreshSkipsDeparturesWithoutWaiters() {
+        // given
+        given(queueStore.findMaxAdmissionSeq(7L)).willReturn(10L);
+        given(queueStore.findMinWaitingAdmissionSeq(7L)).willReturn(Optional.empty());
+        registry.room(7L);
+
+        // when
+        registry.refreshPositions();
+
+        // then
+        verify(queueStore, never()).findDepartedAdmissionSeqsSince(anyLong(), anyLong(), any());
+        assertThat(registry.room(7L).getPositionTracker().waitingCount()).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최적 좌석 자동 배정 벤치마크
+ * 5만 석 일정(10개 구역 x 100열 x 50석)을 만들고 여러 스레드가 동시에 서로 다른 사용자로 4연석을 요청한다.
+ * 처리량과 지연 백분위를 남기고, 잡힌 좌석 수가 성공한 요청 x 4 와 같은지 확인한다.
+ * 실행: RUN_BENCHMARKS=true ./gradlew test --tests '*BestAvailableBenchmarkTest'
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@DisplayName("최적 좌석 자동 배정 벤치마크")
+class BestAvailableBenchmarkTest {
+
+    private static final int SECTIONS = 10;
+    private static final int ROWS_PER_SECTION = 100;
+    private static final int SEATS_PER_ROW = 50;
+    private static final int SEATS = SECTIONS * ROWS_PER_SECTION * SEATS_PER_ROW;
+    private static final int BLOCK_SIZE = 4;
+    private static final int THREADS = 32;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int MEASURED_REQUESTS = 5000;
+
+    @Autowired
+    private ReservationCreateService reservationCreateService;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleSeatCounter seatCounter;
+
+    @Test
+    @DisplayName("5만 석 일정에서 4연석 자동 배정 처리량을 잰다")
+    void bestAvailableAtFiftyThousandSeats() throws InterruptedException {
+        Long scheduleId = createSchedule();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            int warmedUp = run(scheduleId, executor, "warmup", WARMUP_REQUESTS, new AtomicLongArray(WARMUP_REQUESTS));
+
+            AtomicLongArray latencies = new AtomicLongArray(MEASURED_REQUESTS);
+            long startedAt = System.nanoTime();
+            int succeeded = run(scheduleId, executor, "bench", MEASURED_REQUESTS, latencies);
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            long[] sorted = new long[MEASURED_REQUESTS];
+            for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                sorted[i] = latencies.get(i);
+            }
+            Arrays.sort(sorted);
+            log.info("Best-available {}-seat blocks on {} seats - {} req/s, p50 {}ms, p99 {}ms, succeeded {}/{}",
+                    BLOCK_SIZE, SEATS, String.format("%.1f", MEASURED_REQUESTS / elapsedSeconds),
+                    String.format("%.2f", percentile(sorted, 0.50) / 1_000_000.0),
+                    String.format("%.2f", percentile(sorted, 0.99) / 1_000_000.0),
+                    succeeded, MEASURED_REQUESTS);
+
+            int held = (warmedUp + succeeded) * BLOCK_SIZE;
+            assertThat(succeeded).isEqualTo(MEASURED_REQUESTS);
+            assertThat(seatRepository.countAvailableByScheduleId(scheduleId)).isEqualTo(SEATS - held);
+            assertThat(seatCounter.availableSeats(scheduleId)).isEqualTo(SEATS - held);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int run(Long scheduleId, ExecutorService executor, String prefix, int requests,
+                    AtomicLongArray latencies) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger successCount = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            String userId = prefix + "-" + scheduleId + "-" + i;
+            tasks.add(() -> {
+                try {
+                    start.await();
+                    long requestedAt = System.nanoTime();
+                    List<Reservation> reservations = reservationCreateService.reserveBestAvailable(userId,
+                            BestAvailableRequest.builder()
+                                    .scheduleId(scheduleId)
+                                    .count(BLOCK_SIZE)
+                                    .build(),
+                            null);
+                    latencies.set(index, System.nanoTime() - requestedAt);
+                    if (reservations.size() == BLOCK_SIZE) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.warn("Best-available reservation failed in benchmark: {}", e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        tasks.forEach(executor::execute);
+        start.countDown();
+        done.await();
+        return successCount.get();
+    }
+
+    private Long createSchedule() {
+        Schedule schedule = scheduleRepository.save(Schedule.create(
+                1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), SEATS));
+        List<SeatLayout.Section> sections = new ArrayList<>();
+        for (int section = 0; section < SECTIONS; section++) {
+            sections.add(SeatLayout.Section.builder()
+                    .name("S" + section)
+                    .rows(ROWS_PER_SECTION)
+                    .seatsPerRow(SEATS_PER_ROW)
+                    .grade(section < 2 ? "VIP" : "R")
+                    .price(BigDecimal.valueOf(section < 2 ? 150000 : 100000))
+                    .build());
+        }
+        long startedAt = System.nanoTime();
+        seatInventoryService.createInventory(schedule.getId(), SeatLayout.builder().sections(sections).build());
+        log.info("Created {} seats in {}ms", SEATS, (System.nanoTime() - startedAt) / 1_000_000);
+        seatCounter.initialize(schedule.getId(), SEATS);
+        return schedule.getId();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
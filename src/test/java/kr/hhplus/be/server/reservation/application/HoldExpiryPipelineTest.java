@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HoldExpiryPipelineTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final long GRACE_SECONDS = 60;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ScheduleSeatCounter seatCounter;
+
+    @Mock
+    private SeatHoldEngine seatHoldEngine;
+
+    @Mock
+    private SeatMapCache seatMapCache;
+
+    @Mock
+    private SeatSingleFlight seatSingleFlight;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HoldExpiryPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new HoldExpiryPipeline(reservationRepository, seatRepository, seatCounter,
+                seatHoldEngine, seatMapCache, seatSingleFlight, transactionManager, new SimpleMeterRegistry(), CHUNK_SIZE, GRACE_SECONDS);
+    }
+
+    @Test
+    @DisplayName("만료 처리 단위가 1 미만이면 생성할 수 없다")
+    void rejectNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new HoldExpiryPipeline(reservationRepository, seatRepository, seatCounter,
+                seatHoldEngine, seatMapCache, seatSingleFlight, transactionManager, new SimpleMeterRegistry(), 0, GRACE_SECONDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("만료 처리 단위는 1 이상이어야 합니다");
+    }
+
+    @Test
+    @DisplayName("청크 단위로 좌석과 예약을 한 번에 해제하고 잔여석은 일정별로 한 번만 늘린다")
+    void releaseInChunks() {
+        // given
+        Reservation first = reservation(1L, 10L, 1L);
+        Reservation second = reservation(2L, 20L, 1L);
+        Reservation third = reservation(3L, 30L, 2L);
+        given(reservationRepository.findExpiredTemporaryReservations(any(LocalDateTime.class), any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of(first, second), List.of(third));
+        given(seatRepository.findExpiredHoldsForUpdate(eq(Set.of(10L, 20L)), any(LocalDateTime.class)))
+                .willReturn(List.of(heldSeat(10L, 1L, 1, "user-1"), heldSeat(20L, 1L, 2, "user-2")));
+        given(seatRepository.findExpiredHoldsForUpdate(eq(Set.of(30L)), any(LocalDateTime.class)))
+                .willReturn(List.of(heldSeat(30L, 2L, 1, "user-3")));
+        given(reservationRepository.expireTemporaryReservations(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(2, 1);
+
+        // when
+        pipeline.releaseExpiredReservations();
+
+        // then
+        verify(seatRepository).releaseHolds(List.of(10L, 20L));
+        verify(seatRepository).releaseHolds(List.of(30L));
+        verify(seatCounter).release(1L, 2);
+        verify(seatCounter).release(2L, 1);
+        verify(reservationRepository).expireTemporaryReservations(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(reservationRepository).expireTemporaryReservations(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+        verify(seatHoldEngine).release(1L, 1, "user-1");
+        verify(seatHoldEngine).release(2L, 1, "user-3");
+        verify(seatMapCache, times(3)).seatReleased(any(Seat.class));
+        verify(seatSingleFlight).seatReleased(1L, 1);
+        verify(seatSingleFlight).seatReleased(1L, 2);
+        verify(seatSingleFlight).seatReleased(2L, 1);
+        verify(reservationRepository, never()).saveAll(any());
+        verify(seatRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("그 사이 결제된 좌석은 되돌리지 않고 예약만 만료한다")
+    void skipSeatsNoLongerHeld() {
+        // given
+        Reservation reservation = reservation(1L, 10L, 1L);
+        given(reservationRepository.findExpiredTemporaryReservations(any(LocalDateTime.class), any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of(reservation));
+        given(seatRepository.findExpiredHoldsForUpdate(eq(Set.of(10L)), any(LocalDateTime.class)))
+                .willReturn(List.of());
+        given(reservationRepository.expireTemporaryReservations(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        pipeline.releaseExpiredReservations();
+
+        // then
+        verify(seatRepository, never()).releaseHolds(anyCollection());
+        verify(seatCounter, never()).release(any(), anyInt());
+        verifyNoInteractions(seatHoldEngine, seatMapCache);
+    }
+
+    @Test
+    @DisplayName("만료된 예약이 없으면 아무것도 갱신하지 않는다")
+    void doNothingWithoutExpiredReservations() {
+        // given
+        given(reservationRepository.findExpiredTemporaryReservations(any(LocalDateTime.class), any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of());
+
+        // when
+        pipeline.releaseExpiredReservations();
+
+        // then
+        verifyNoInteractions(seatRepository, seatCounter, seatHoldEngine);
+        verify(reservationRepository, never()).expireTemporaryReservations(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("끝까지 처리하면 다음 실행은 checkpoint 에서 grace 만큼만 겹쳐 읽는다")
+    void readFromCheckpointOnNextRun() {
+        // given
+        given(reservationRepository.findExpiredTemporaryReservations(any(LocalDateTime.class), any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of());
+        pipeline.releaseExpiredReservations();
+        LocalDateTime checkpoint = pipeline.checkpoint();
+
+        // when
+        pipeline.releaseExpiredReservations();
+
+        // then
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reservationRepository, times(2))
+                .findExpiredTemporaryReservations(from.capture(), any(LocalDateTime.class), eq(CHUNK_SIZE));
+        assertThat(from.getAllValues().get(0)).isBefore(LocalDateTime.of(1971, 1, 1, 0, 0));
+        assertThat(from.getAllValues().get(1)).isEqualTo(checkpoint.minusSeconds(GRACE_SECONDS));
+        assertThat(checkpoint).isBefore(LocalDateTime.now().minusMinutes(Seat.TEMPORARY_RESERVATION_MINUTES).plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("청크를 다 읽지 못하고 멈추면 checkpoint 를 옮기지 않는다")
+    void keepCheckpointWhenNotCaughtUp() {
+        // given
+        Reservation first = reservation(1L, 10L, 1L);
+        Reservation second = reservation(2L, 20L, 1L);
+        given(reservationRepository.findExpiredTemporaryReservations(any(LocalDateTime.class), any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .willReturn(List.of(first, second));
+        given(seatRepository.findExpiredHoldsForUpdate(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(List.of());
+        // 그 사이 모두 결제되어 만료할 예약이 없다
+        given(reservationRepository.expireTemporaryReservations(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(0);
+        LocalDateTime before = pipeline.checkpoint();
+
+        // when
+        pipeline.releaseExpiredReservations();
+
+        // then
+        assertThat(pipeline.checkpoint()).isEqualTo(before);
+    }
+
+    private Reservation reservation(Long id, Long seatId, Long scheduleId) {
+        return Reservation.builder()
+                .id(id)
+                .userId("user-" + id)
+                .scheduleId(scheduleId)
+                .seatId(seatId)
+                .status(Reservation.Status.TEMPORARY_RESERVED)
+                .reservedAt(LocalDateTime.now().minusMinutes(10))
+                .build();
+    }
+
+    private Seat heldSeat(Long id, Long scheduleId, Integer seatNumber, String userId) {
+        return Seat.builder()
+                .id(id)
+                .scheduleId(scheduleId)
+                .seatNumber(seatNumber)
+                .grade("VIP")
+                .price(new BigDecimal("150000"))
+                .status(Seat.Status.TEMPORARY_RESERVED)
+                .reservedBy(userId)
+                .reservedAt(LocalDateTime.now().minusMinutes(10))
+                .build();
+    }
+}
@@ -1,30 +1,42 @@
 package kr.hhplus.be.server.reservation.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationResponse;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
 import kr.hhplus.be.server.schedule.domain.model.Schedule;
 import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
 import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.domain.SeatLockStrategy;
 import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,7 +58,27 @@ class ReservationCreateServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
 
-    @InjectMocks
+    @Mock
+    private SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+
+    @Mock
+    private ScheduleSeatCounter seatCounter;
+
+    @Mock
+    private SeatHoldEngine seatHoldEngine;
+
+    @Mock
+    private ReservationWriteBehind reservationWriteBehind;
+
+    @Mock
+    private ReservationPipeline reservationPipeline;
+
+    @Mock
+    private SeatMapCache seatMapCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ReservationCreateService reservationCreateService;
 
     private String userId;
@@ -56,6 +88,7 @@ class ReservationCreateServiceTest {
 
     @BeforeEach
     void setUp() {
+        reservationCreateService = createService(SeatClaimMode.LOCK);
         userId = "user123";
         request = ReservationRequest.builder()
                 .scheduleId(1L)
@@ -88,6 +121,7 @@ class ReservationCreateServiceTest {
                 .build();
 
         given(reservationRepository.save(any(Reservation.class))).willReturn(savedReservation);
+        given(seatCounter.reserve(1L)).willReturn(true);
 
         // when
         Reservation response = reservationCreateService.reserveSeat(userId, request);
@@ -100,6 +134,8 @@ class ReservationCreateServiceTest {
         assertThat(response.getExpirationTime()).isNotNull();
 
         verify(seatRepository).save(seat);
+        verify(seatHoldExpiryScheduler).register(seat);
+        verify(scheduleRepository, never()).save(any());
         assertThat(seat.getStatus()).isEqualTo(Seat.Status.TEMPORARY_RESERVED);
         assertThat(seat.getReservedBy()).isEqualTo(userId);
     }
@@ -120,6 +156,38 @@ class ReservationCreateServiceTest {
                 .hasMessage("예약 가능한 좌석이 아닙니다");
     }
 
+    @Test
+    @DisplayName("선점된 좌석을 다시 요청하면 DB 를 조회하지 않고 거절한다")
+    void rejectsTakenSeatWithoutQuery() {
+        // given
+        seat.temporaryReserve("otherUser");
+
+        given(scheduleRepository.findByIdWithLock(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumberWithLock(1L, 10))
+                .willReturn(Optional.of(seat));
+        assertThatThrownBy(() -> reservationCreateService.reserveSeat(userId, request))
+                .isInstanceOf(SeatAlreadyTakenException.class);
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveSeat("user456", request))
+                .isInstanceOf(SeatAlreadyTakenException.class);
+        verify(scheduleRepository, times(1)).findByIdWithLock(1L);
+        verify(seatRepository, times(1)).findByScheduleIdAndSeatNumberWithLock(1L, 10);
+    }
+
+    @Test
+    @DisplayName("다른 콘서트의 대기열 토큰으로는 예약할 수 없다")
+    void cannotReserveWithOtherConcertQueueToken() {
+        // given
+        given(scheduleRepository.findByIdWithLock(1L)).willReturn(Optional.of(schedule));
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveSeat(userId, request, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("다른 콘서트의 대기열 토큰으로는 예약할 수 없습니다");
+        verify(seatRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("한 유저가 같은 스케줄에 중복 예약할 수 없다")
     void cannotDuplicateReservationForSameSchedule() {
@@ -195,6 +263,402 @@ class ReservationCreateServiceTest {
                 .hasMessage("매진된 일정입니다");
     }
 
+    @Test
+    @DisplayName("조건부 갱신 모드에서는 일정 행을 잠그지 않고 좌석을 선점한다")
+    void conditionalModeClaimsSeatWithoutScheduleLock() {
+        // given
+        ReservationCreateService conditionalService = conditionalService();
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 10)).willReturn(Optional.of(seat));
+        given(reservationRepository.existsByUserIdAndScheduleIdAndStatusIn(
+                eq(userId), eq(1L), any())).willReturn(false);
+        given(seatRepository.claimIfAvailable(seat)).willReturn(true);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatCounter.reserve(1L)).willReturn(true);
+
+        // when
+        Reservation response = conditionalService.reserveSeat(userId, request);
+
+        // then
+        assertThat(response.getSeatId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(Reservation.Status.TEMPORARY_RESERVED);
+        verify(seatHoldExpiryScheduler).register(seat);
+        verify(scheduleRepository, never()).findByIdWithLock(any());
+        verify(seatRepository, never()).findByScheduleIdAndSeatNumberWithLock(any(), any());
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건부 갱신 모드에서 다른 사용자가 먼저 선점한 좌석은 예약할 수 없다")
+    void conditionalModeFailsWhenSeatClaimedConcurrently() {
+        // given
+        ReservationCreateService conditionalService = conditionalService();
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 10)).willReturn(Optional.of(seat));
+        given(reservationRepository.existsByUserIdAndScheduleIdAndStatusIn(
+                eq(userId), eq(1L), any())).willReturn(false);
+        given(seatRepository.claimIfAvailable(seat)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> conditionalService.reserveSeat(userId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("예약 가능한 좌석이 아닙니다");
+        verify(seatHoldExpiryScheduler, never()).register(any());
+        verify(reservationRepository, never()).save(any());
+        verify(seatCounter, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("조건부 갱신 모드에서 남은 좌석 수 감소가 실패하면 매진으로 처리한다")
+    void conditionalModeFailsWhenAvailableSeatsRunOut() {
+        // given
+        ReservationCreateService conditionalService = conditionalService();
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 10)).willReturn(Optional.of(seat));
+        given(reservationRepository.existsByUserIdAndScheduleIdAndStatusIn(
+                eq(userId), eq(1L), any())).willReturn(false);
+        given(seatRepository.claimIfAvailable(seat)).willReturn(true);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatCounter.reserve(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> conditionalService.reserveSeat(userId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("매진된 일정입니다");
+    }
+
+    @Test
+    @DisplayName("인메모리 배정 일정은 DB 를 읽지 않고 배정한 뒤 저장 확인을 받고 응답한다")
+    void inMemoryScheduleWaitsForWriteBehind() {
+        // given
+        seat.temporaryReserve(userId);
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        given(seatHoldEngine.hold(1L, 10, userId, null)).willReturn(seat);
+        given(reservationWriteBehind.submit(eq(seat), any(Reservation.class)))
+                .willAnswer(invocation -> completed(invocation.getArgument(1)));
+
+        // when
+        Reservation response = reservationCreateService.reserveSeat(userId, request);
+
+        // then
+        assertThat(response.getSeatId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(Reservation.Status.TEMPORARY_RESERVED);
+        verify(seatHoldExpiryScheduler).register(seat);
+        verify(seatHoldEngine, never()).reconcile(any(), any(), any());
+        verifyNoInteractions(scheduleRepository, seatRepository, reservationRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("인메모리 배정에서 진 요청은 저장을 요청하지 않는다")
+    void inMemoryLoserDoesNotTouchStorage() {
+        // given
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        given(seatHoldEngine.hold(1L, 10, userId, null))
+                .willThrow(new IllegalStateException("이미 임시 배정된 좌석입니다"));
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveSeat(userId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 임시 배정된 좌석입니다");
+        verifyNoInteractions(reservationWriteBehind, scheduleRepository, seatRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("write-behind 저장이 실패하면 메모리 배정을 DB 상태에 맞춘다")
+    void inMemoryHoldReleasedWhenPersistFails() {
+        // given
+        seat.temporaryReserve(userId);
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        given(seatHoldEngine.hold(1L, 10, userId, null)).willReturn(seat);
+        given(reservationWriteBehind.submit(eq(seat), any(Reservation.class)))
+                .willReturn(failed(new IllegalStateException("예약 가능한 좌석이 아닙니다")));
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveSeat(userId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("예약 가능한 좌석이 아닙니다");
+        verify(seatHoldEngine).reconcile(1L, 10, userId);
+        verify(seatHoldExpiryScheduler, never()).register(any());
+    }
+
+    @Test
+    @DisplayName("저장 확인이 제때 오지 않으면 배정을 거두고 실패로 응답해 뒤늦게 커밋되지 않게 한다")
+    void inMemoryHoldAbandonedWhenAckTimesOut() {
+        // given
+        ReservationCreateService service = createService(SeatClaimMode.LOCK, 50);
+        seat.temporaryReserve(userId);
+        PendingHold pending = new PendingHold();
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        given(seatHoldEngine.hold(1L, 10, userId, null)).willReturn(seat);
+        given(reservationWriteBehind.submit(eq(seat), any(Reservation.class))).willReturn(pending);
+
+        // when & then
+        assertThatThrownBy(() -> service.reserveSeat(userId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(PendingHold.ABANDONED_MESSAGE);
+        assertThat(pending.claim()).isFalse();
+        verify(seatHoldEngine).reconcile(1L, 10, userId);
+        verify(seatHoldExpiryScheduler, never()).register(any());
+    }
+
+    @Test
+    @DisplayName("저장 확인이 늦어도 이미 트랜잭션에 들어간 배정은 커밋 결과를 기다려 응답한다")
+    void inMemoryHoldWaitsForClaimedCommitAfterTimeout() {
+        // given
+        ReservationCreateService service = createService(SeatClaimMode.LOCK, 50);
+        seat.temporaryReserve(userId);
+        PendingHold pending = new PendingHold();
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        given(seatHoldEngine.hold(1L, 10, userId, null)).willReturn(seat);
+        given(reservationWriteBehind.submit(eq(seat), any(Reservation.class))).willAnswer(invocation -> {
+            pending.claim();
+            CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)
+                    .execute(() -> pending.complete(invocation.getArgument(1)));
+            return pending;
+        });
+
+        // when
+        Reservation response = service.reserveSeat(userId, request);
+
+        // then
+        assertThat(response.getSeatId()).isEqualTo(10L);
+        verify(seatHoldExpiryScheduler).register(seat);
+        verify(seatHoldEngine, never()).reconcile(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("파이프라인 대상 일정은 링 버퍼에 넣고 결과를 기다린다")
+    void reserveThroughPipeline() {
+        // given
+        Reservation committed = Reservation.builder()
+                .id(1L)
+                .userId(userId)
+                .scheduleId(1L)
+                .seatId(10L)
+                .status(Reservation.Status.TEMPORARY_RESERVED)
+                .reservedAt(LocalDateTime.now())
+                .build();
+        given(reservationPipeline.handles(1L)).willReturn(true);
+        given(reservationPipeline.submit(1L, 10, userId, null)).willReturn(completed(committed));
+
+        // when
+        Reservation response = reservationCreateService.reserveSeat(userId, request);
+
+        // then
+        assertThat(response).isSameAs(committed);
+        verifyNoInteractions(seatHoldEngine, scheduleRepository, seatRepository, reservationRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("NOWAIT 방식은 일정 행을 잠그지 않고 좌석 행만 NOWAIT 로 잠가 예약한다")
+    void reserveWithSeatLockNoWait() {
+        // given
+        ReservationCreateService service = createService(SeatClaimMode.NOWAIT);
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumberWithLock(1L, 10, SeatLockStrategy.NOWAIT))
+                .willReturn(Optional.of(seat));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatCounter.reserve(1L)).willReturn(true);
+
+        // when
+        Reservation response = service.reserveSeat(userId, request);
+
+        // then
+        assertThat(response.getSeatId()).isEqualTo(10L);
+        assertThat(seat.getReservedBy()).isEqualTo(userId);
+        verify(seatRepository).save(seat);
+        verify(scheduleRepository, never()).findByIdWithLock(any());
+    }
+
+    @Test
+    @DisplayName("NOWAIT 방식에서 좌석 잠금을 얻지 못하면 기다리지 않고 이미 배정된 좌석으로 실패한다")
+    void seatLockNoWaitFailsFast() {
+        // given
+        ReservationCreateService service = createService(SeatClaimMode.NOWAIT);
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumberWithLock(1L, 10, SeatLockStrategy.NOWAIT))
+                .willThrow(new SeatAlreadyTakenException());
+
+        // when & then
+        assertThatThrownBy(() -> service.reserveSeat(userId, request))
+                .isInstanceOf(SeatAlreadyTakenException.class)
+                .hasMessage("이미 임시 배정된 좌석입니다");
+        verify(seatRepository, never()).save(any());
+        verify(reservationRepository, never()).save(any());
+        verify(seatCounter, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("자동 배정은 고른 좌석을 좌석 번호 순으로 잠가 모두 임시 예약한다")
+    void reserveBestAvailableHoldsWholeBlock() {
+        // given
+        BestAvailableRequest bestRequest = bestAvailableRequest(2);
+        Seat first = vipSeat(11);
+        Seat second = vipSeat(12);
+        given(seatMapCache.claimBestAvailable(1L, "VIP", 2, true)).willReturn(new int[]{12, 11});
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumbersForUpdate(1L, List.of(11, 12)))
+                .willReturn(List.of(first, second));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatCounter.reserve(1L, 2)).willReturn(true);
+
+        // when
+        List<Reservation> reservations = reservationCreateService.reserveBestAvailable(userId, bestRequest, null);
+
+        // then
+        assertThat(reservations).extracting(Reservation::getSeatId).containsExactly(11L, 12L);
+        assertThat(reservations).extracting(Reservation::isAdditionalSeat).containsExactly(false, true);
+        assertThat(first.getReservedBy()).isEqualTo(userId);
+        assertThat(second.getReservedBy()).isEqualTo(userId);
+        verify(seatRepository).save(first);
+        verify(seatRepository).save(second);
+        verify(seatHoldExpiryScheduler).register(first);
+        verify(seatHoldExpiryScheduler).register(second);
+        verify(seatCounter, never()).reserve(any());
+        verify(seatMapCache, never()).unclaim(any(), any());
+    }
+
+    @Test
+    @DisplayName("자동 배정에서 고른 좌석 하나가 이미 팔렸으면 아무것도 잡지 않고 다시 고른다")
+    void reserveBestAvailableRetriesWhenSeatTaken() {
+        // given
+        BestAvailableRequest bestRequest = bestAvailableRequest(2);
+        Seat taken = vipSeat(11);
+        taken.temporaryReserve("other-node");
+        Seat free = vipSeat(12);
+        Seat retryFirst = vipSeat(21);
+        Seat retrySecond = vipSeat(22);
+        given(seatMapCache.claimBestAvailable(1L, "VIP", 2, true)).willReturn(new int[]{11, 12}, new int[]{21, 22});
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumbersForUpdate(1L, List.of(11, 12)))
+                .willReturn(List.of(taken, free));
+        given(seatRepository.findByScheduleIdAndSeatNumbersForUpdate(1L, List.of(21, 22)))
+                .willReturn(List.of(retryFirst, retrySecond));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatCounter.reserve(1L, 2)).willReturn(true);
+
+        // when
+        List<Reservation> reservations = reservationCreateService.reserveBestAvailable(userId, bestRequest, null);
+
+        // then
+        assertThat(reservations).extracting(Reservation::getSeatId).containsExactly(21L, 22L);
+        assertThat(free.isAvailable()).isTrue();
+        verify(seatRepository, never()).save(free);
+        verify(seatHoldExpiryScheduler, never()).register(free);
+        verify(seatMapCache).unclaim(1L, List.of(12));
+        verify(seatCounter, times(1)).reserve(1L, 2);
+    }
+
+    @Test
+    @DisplayName("자동 배정할 좌석이 없으면 DB 를 읽지 않고 실패한다")
+    void reserveBestAvailableFailsWhenNothingFits() {
+        // given
+        given(seatMapCache.claimBestAvailable(1L, "VIP", 4, true)).willReturn(new int[0]);
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveBestAvailable(userId, bestAvailableRequest(4), null))
+                .isInstanceOf(SeatAlreadyTakenException.class)
+                .hasMessage("조건에 맞는 좌석이 없습니다");
+        verifyNoInteractions(scheduleRepository, seatRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("자동 배정 중 매진되면 잠정 선점한 좌석을 모두 되돌린다")
+    void reserveBestAvailableUnclaimsOnFailure() {
+        // given
+        given(seatMapCache.claimBestAvailable(1L, "VIP", 2, true)).willReturn(new int[]{11, 12});
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleIdAndSeatNumbersForUpdate(1L, List.of(11, 12)))
+                .willReturn(List.of(vipSeat(11), vipSeat(12)));
+        given(seatCounter.reserve(1L, 2)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveBestAvailable(userId, bestAvailableRequest(2), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("매진된 일정입니다");
+        verify(seatMapCache).unclaim(1L, List.of(11, 12));
+        verify(seatRepository, never()).save(any(Seat.class));
+        verify(reservationRepository, never()).save(any());
+        verify(seatMapCache, never()).seatTaken(any());
+        verify(seatHoldExpiryScheduler, never()).register(any(Seat.class));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 다른 자동 배정이 먼저 커밋되면 유니크 키 위반을 기존 예약 오류로 돌려준다")
+    void reserveBestAvailableMapsActiveReservationKeyViolation() {
+        // given
+        given(seatMapCache.claimBestAvailable(1L, "VIP", 2, true)).willReturn(new int[]{11, 12});
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(reservationRepository.existsByUserIdAndScheduleIdAndStatusIn(eq(userId), eq(1L), any()))
+                .willReturn(false, true);
+        given(seatRepository.findByScheduleIdAndSeatNumbersForUpdate(1L, List.of(11, 12)))
+                .willReturn(List.of(vipSeat(11), vipSeat(12)));
+        given(seatCounter.reserve(1L, 2)).willReturn(true);
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("uk_user_active_schedule")).when(transactionManager).commit(any());
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveBestAvailable(userId, bestAvailableRequest(2), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 해당 일정에 예약이 있습니다");
+        verify(seatMapCache).unclaim(1L, List.of(11, 12));
+        verify(seatHoldExpiryScheduler, never()).register(any(Seat.class));
+    }
+
+    @Test
+    @DisplayName("메모리 엔진이 배정하는 일정은 자동 배정할 수 없다")
+    void reserveBestAvailableRejectsInMemorySchedule() {
+        // given
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationCreateService.reserveBestAvailable(userId, bestAvailableRequest(2), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("자동 좌석 배정을 지원하지 않는 일정입니다");
+        verifyNoInteractions(seatMapCache, seatRepository);
+    }
+
+    private BestAvailableRequest bestAvailableRequest(int count) {
+        return BestAvailableRequest.builder()
+                .scheduleId(1L)
+                .grade("VIP")
+                .count(count)
+                .build();
+    }
+
+    private Seat vipSeat(int seatNumber) {
+        Seat seat = Seat.create(1L, seatNumber, "VIP", BigDecimal.valueOf(150000));
+        seat.assignId((long) seatNumber);
+        return seat;
+    }
+
+    private ReservationCreateService conditionalService() {
+        return createService(SeatClaimMode.CONDITIONAL);
+    }
+
+    private ReservationCreateService createService(SeatClaimMode claimMode) {
+        return createService(claimMode, 1000);
+    }
+
+    private ReservationCreateService createService(SeatClaimMode claimMode, long ackTimeoutMillis) {
+        return new ReservationCreateService(reservationRepository, seatRepository, scheduleRepository,
+                seatHoldExpiryScheduler, seatCounter, seatHoldEngine, reservationWriteBehind, reservationPipeline,
+                new SeatSingleFlight(new SimpleMeterRegistry(), 1000, 2000, 0), seatMapCache, transactionManager,
+                claimMode, ackTimeoutMillis);
+    }
+
+    private PendingHold completed(Reservation reservation) {
+        PendingHold pending = new PendingHold();
+        pending.complete(reservation);
+        return pending;
+    }
+
+    private PendingHold failed(Throwable error) {
+        PendingHold pending = new PendingHold();
+        pending.completeExceptionally(error);
+        return pending;
+    }
+
     @Test
     @Disabled("동시성 테스트 수정 필요")
     @DisplayName("동시에 여러 사용자가 같은 좌석을 예약하려 할 때 한 명만 성공한다")
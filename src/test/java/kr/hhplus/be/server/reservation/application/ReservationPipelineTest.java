@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.reservation.application.SeatHoldBatchCommitter.SeatHold;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationPipelineTest {
+
+    @Mock
+    private SeatHoldEngine seatHoldEngine;
+
+    @Mock
+    private SeatHoldBatchCommitter committer;
+
+    @Mock
+    private SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+
+    private ReservationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("배정된 요청을 커밋한 뒤 예약으로 완료한다")
+    void completeAfterCommit() throws Exception {
+        // given
+        pipeline = startPipeline(16);
+        Seat seat = heldSeat(1, "user-1");
+        given(seatHoldEngine.hold(1L, 1, "user-1", null)).willReturn(seat);
+        given(committer.commit(any())).willReturn(noneRejected());
+
+        // when
+        Reservation reservation = pipeline.submit(1L, 1, "user-1", null).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(reservation.getSeatId()).isEqualTo(seat.getId());
+        assertThat(reservation.getUserId()).isEqualTo("user-1");
+        verify(seatHoldExpiryScheduler).register(seat);
+    }
+
+    @Test
+    @DisplayName("메모리 배정에서 진 요청은 커밋하지 않고 실패한다")
+    void loserIsNotCommitted() {
+        // given
+        pipeline = startPipeline(16);
+        given(seatHoldEngine.hold(1L, 1, "user-2", null)).willThrow(new SeatAlreadyTakenException());
+
+        // when
+        CompletableFuture<Reservation> future = pipeline.submit(1L, 1, "user-2", null);
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SeatAlreadyTakenException.class);
+        verifyNoInteractions(committer, seatHoldExpiryScheduler);
+    }
+
+    @Test
+    @DisplayName("DB 에서 이미 선점된 좌석은 메모리 배정을 DB 상태에 맞추고 실패한다")
+    void reconcileWhenRejectedByDatabase() {
+        // given
+        pipeline = startPipeline(16);
+        Seat seat = heldSeat(1, "user-1");
+        given(seatHoldEngine.hold(1L, 1, "user-1", null)).willReturn(seat);
+        given(committer.commit(any())).willAnswer(invocation -> {
+            List<SeatHold> holds = invocation.getArgument(0);
+            Set<SeatHold> rejected = noneRejected();
+            rejected.addAll(holds);
+            return rejected;
+        });
+
+        // when
+        CompletableFuture<Reservation> future = pipeline.submit(1L, 1, "user-1", null);
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SeatAlreadyTakenException.class);
+        verify(seatHoldEngine).reconcile(1L, 1, "user-1");
+        verify(seatHoldExpiryScheduler, never()).register(any());
+    }
+
+    @Test
+    @DisplayName("커밋이 실패하면 그룹의 배정을 모두 DB 상태에 맞춘다")
+    void reconcileGroupWhenCommitFails() {
+        // given
+        pipeline = startPipeline(16);
+        given(seatHoldEngine.hold(1L, 1, "user-1", null)).willReturn(heldSeat(1, "user-1"));
+        given(committer.commit(any())).willThrow(new RuntimeException("deadlock"));
+
+        // when
+        CompletableFuture<Reservation> future = pipeline.submit(1L, 1, "user-1", null);
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasRootCauseMessage("예약을 저장하지 못했습니다");
+        verify(seatHoldEngine).reconcile(1L, 1, "user-1");
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 기다리지 않고 거절한다")
+    void rejectWhenBufferIsFull() throws Exception {
+        // given
+        pipeline = startPipeline(1);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(seatHoldEngine.hold(any(), any(), any(), any()))
+                .willAnswer(invocation -> heldSeat(invocation.getArgument(1), invocation.getArgument(2)));
+        given(committer.commit(any())).willAnswer(invocation -> {
+            committing.countDown();
+            proceed.await(1, TimeUnit.SECONDS);
+            return noneRejected();
+        });
+        CompletableFuture<Reservation> first = pipeline.submit(1L, 1, "user-1", null);
+        assertThat(committing.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Reservation> queued = pipeline.submit(1L, 2, "user-2", null);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.submit(1L, 3, "user-3", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+
+        proceed.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS).getUserId()).isEqualTo("user-1");
+        assertThat(queued.get(1, TimeUnit.SECONDS).getUserId()).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("파이프라인 대상이 아닌 일정은 받지 않는다")
+    void rejectUnknownSchedule() {
+        // given
+        pipeline = new ReservationPipeline(seatHoldEngine, committer, seatHoldExpiryScheduler,
+                new SimpleMeterRegistry(), Set.of(), 16, 8);
+
+        // when & then
+        assertThat(pipeline.handles(1L)).isFalse();
+        assertThatThrownBy(() -> pipeline.submit(1L, 1, "user-1", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("파이프라인 대상 일정이 아닙니다");
+    }
+
+    private ReservationPipeline startPipeline(int capacity) {
+        given(seatHoldEngine.handles(1L)).willReturn(true);
+        ReservationPipeline started = new ReservationPipeline(seatHoldEngine, committer, seatHoldExpiryScheduler,
+                new SimpleMeterRegistry(), Set.of(1L), capacity, 8);
+        started.warmUp();
+        return started;
+    }
+
+    private static Set<SeatHold> noneRejected() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Seat heldSeat(int seatNumber, String userId) {
+        Seat seat = Seat.create(1L, seatNumber, "R", BigDecimal.valueOf(100000));
+        seat.assignId(100L + seatNumber);
+        seat.temporaryReserve(userId);
+        return seat;
+    }
+}
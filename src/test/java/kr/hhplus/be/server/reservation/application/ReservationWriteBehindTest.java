@@ -0,0 +1,206 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationWriteBehindTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ScheduleSeatCounter seatCounter;
+
+    @Mock
+    private SeatMapCache seatMapCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        SeatHoldBatchCommitter committer = new SeatHoldBatchCommitter(
+                reservationRepository, seatRepository, seatCounter, seatMapCache, transactionManager);
+        writeBehind = new ReservationWriteBehind(committer, new SimpleMeterRegistry(), 100);
+        writeBehind.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.stop();
+    }
+
+    @Test
+    @DisplayName("커밋된 뒤에 예약으로 완료한다")
+    void completeAfterCommit() throws Exception {
+        // given
+        Seat seat = heldSeat(1, "user-1");
+        given(seatRepository.claimIfAvailable(seat)).willReturn(true);
+        given(seatCounter.reserve(1L)).willReturn(true);
+
+        // when
+        Reservation reservation = writeBehind.submit(seat, reservation(seat)).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(reservation.getSeatId()).isEqualTo(seat.getId());
+        verify(reservationRepository).saveAll(List.of(reservation));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("DB 에서 이미 선점된 좌석은 그 요청만 실패한다")
+    void rejectSeatAlreadyClaimedInDatabase() throws Exception {
+        // given
+        Seat taken = heldSeat(1, "user-1");
+        Seat free = heldSeat(2, "user-2");
+        given(seatRepository.claimIfAvailable(taken)).willReturn(false);
+        given(seatRepository.claimIfAvailable(free)).willReturn(true);
+        given(seatCounter.reserve(1L)).willReturn(true);
+
+        // when
+        CompletableFuture<Reservation> rejected = writeBehind.submit(taken, reservation(taken));
+        CompletableFuture<Reservation> accepted = writeBehind.submit(free, reservation(free));
+
+        // then
+        assertThat(accepted.get(1, TimeUnit.SECONDS).getSeatId()).isEqualTo(free.getId());
+        assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("예약 가능한 좌석이 아닙니다");
+    }
+
+    @Test
+    @DisplayName("같은 일정에 진행 중인 예약이 있는 사용자의 요청만 빼고 커밋한다")
+    void rejectUserWithActiveReservation() throws Exception {
+        // given
+        Seat duplicate = heldSeat(1, "user-1");
+        Seat free = heldSeat(2, "user-2");
+        given(reservationRepository.findUserIdsWithActiveReservation(eq(1L), any()))
+                .willReturn(List.of("user-1"));
+        given(seatRepository.claimIfAvailable(free)).willReturn(true);
+        given(seatCounter.reserve(1L)).willReturn(true);
+
+        // when
+        CompletableFuture<Reservation> rejected = writeBehind.submit(duplicate, reservation(duplicate));
+        CompletableFuture<Reservation> accepted = writeBehind.submit(free, reservation(free));
+
+        // then
+        assertThat(accepted.get(1, TimeUnit.SECONDS).getSeatId()).isEqualTo(free.getId());
+        assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(seatRepository, never()).claimIfAvailable(duplicate);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 실패하면 배치의 모든 요청이 실패한다")
+    void failWholeBatchWhenTransactionFails() {
+        // given
+        Seat seat = heldSeat(1, "user-1");
+        given(seatRepository.claimIfAvailable(seat)).willReturn(true);
+        doThrow(new RuntimeException("deadlock")).when(reservationRepository).saveAll(any());
+
+        // when
+        CompletableFuture<Reservation> future = writeBehind.submit(seat, reservation(seat));
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasRootCauseMessage("예약을 저장하지 못했습니다");
+        verify(transactionManager).rollback(any());
+        verify(seatCounter, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("호출자가 거둔 배정은 트랜잭션에 넣지 않고, 트랜잭션에 들어간 배정은 거둘 수 없다")
+    void skipAbandonedHold() throws Exception {
+        // given
+        Seat inFlight = heldSeat(1, "user-1");
+        Seat abandoned = heldSeat(2, "user-2");
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(seatRepository.claimIfAvailable(inFlight)).willAnswer(invocation -> {
+            claiming.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return true;
+        });
+        given(seatCounter.reserve(1L)).willReturn(true);
+        PendingHold first = writeBehind.submit(inFlight, reservation(inFlight));
+        claiming.await(1, TimeUnit.SECONDS);
+
+        // when
+        PendingHold second = writeBehind.submit(abandoned, reservation(abandoned));
+        boolean abandonedSecond = second.abandon();
+        boolean abandonedFirst = first.abandon();
+        release.countDown();
+
+        // then
+        assertThat(abandonedSecond).isTrue();
+        assertThat(abandonedFirst).isFalse();
+        assertThat(first.get(1, TimeUnit.SECONDS).getSeatId()).isEqualTo(inFlight.getId());
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .hasRootCauseMessage(PendingHold.ABANDONED_MESSAGE);
+        writeBehind.stop();
+        verify(seatRepository, never()).claimIfAvailable(abandoned);
+    }
+
+    @Test
+    @DisplayName("중지된 뒤에는 요청을 받지 않는다")
+    void rejectAfterStop() throws InterruptedException {
+        // given
+        writeBehind.stop();
+
+        // when
+        CompletableFuture<Reservation> future = writeBehind.submit(heldSeat(1, "user-1"), reservation(heldSeat(1, "user-1")));
+
+        // then
+        assertThat(future).isCompletedExceptionally();
+        verifyNoInteractions(seatRepository, reservationRepository);
+    }
+
+    private Seat heldSeat(int seatNumber, String userId) {
+        Seat seat = Seat.create(1L, seatNumber, "R", BigDecimal.valueOf(100000));
+        seat.assignId(100L + seatNumber);
+        seat.temporaryReserve(userId);
+        return seat;
+    }
+
+    private Reservation reservation(Seat seat) {
+        return Reservation.builder()
+                .userId(seat.getReservedBy())
+                .scheduleId(seat.getScheduleId())
+                .seatId(seat.getId())
+                .status(Reservation.Status.TEMPORARY_RESERVED)
+                .reservedAt(LocalDateTime.now())
+                .build();
+    }
+}
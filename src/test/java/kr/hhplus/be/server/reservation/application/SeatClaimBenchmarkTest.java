@@ -0,0 +1,179 @@
+package kr.hhplus.be.server.reservation.application;
+
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.reservation.domain.ReservationRepository;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.service.SeatHoldEngine;
+import kr.hhplus.be.server.seat.service.SeatHoldExpiryScheduler;
+import kr.hhplus.be.server.seat.service.SeatMapCache;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 방식별 처리량 비교
+ * 라운드마다 새 일정을 만들고 좌석 수만큼의 사용자가 동시에 서로 다른 좌석을 예약한다.
+ * IN-MEMORY 는 일정을 SeatHoldEngine 에, PIPELINE 은 ReservationPipeline 에 올린 뒤 같은 부하를 건다.
+ * 실행: RUN_BENCHMARKS=true ./gradlew test --tests '*SeatClaimBenchmarkTest'
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@DisplayName("좌석 선점 방식 벤치마크")
+class SeatClaimBenchmarkTest {
+
+    private static final int SEATS_PER_SCHEDULE = 50;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private SeatHoldExpiryScheduler seatHoldExpiryScheduler;
+
+    @Autowired
+    private ScheduleSeatCounter seatCounter;
+
+    @Autowired
+    private SeatHoldEngine seatHoldEngine;
+
+    @Autowired
+    private ReservationWriteBehind reservationWriteBehind;
+
+    @Autowired
+    private ReservationPipeline reservationPipeline;
+
+    @Autowired
+    private SeatSingleFlight seatSingleFlight;
+
+    @Autowired
+    private SeatMapCache seatMapCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("좌석 선점 방식별 예약 처리량을 비교한다")
+    void compareSeatClaimModes() throws InterruptedException {
+        double lockThroughput = measure(SeatClaimMode.LOCK, Routing.DATABASE);
+        double conditionalThroughput = measure(SeatClaimMode.CONDITIONAL, Routing.DATABASE);
+        double noWaitThroughput = measure(SeatClaimMode.NOWAIT, Routing.DATABASE);
+        double inMemoryThroughput = measure(SeatClaimMode.LOCK, Routing.IN_MEMORY);
+        double pipelineThroughput = measure(SeatClaimMode.LOCK, Routing.PIPELINE);
+
+        log.info("Seat claim throughput (reservations/s) - LOCK: {}, CONDITIONAL: {}, NOWAIT: {}, IN-MEMORY: {}, PIPELINE: {}",
+                String.format("%.1f", lockThroughput), String.format("%.1f", conditionalThroughput),
+                String.format("%.1f", noWaitThroughput), String.format("%.1f", inMemoryThroughput),
+                String.format("%.1f", pipelineThroughput));
+    }
+
+    private double measure(SeatClaimMode mode, Routing routing) throws InterruptedException {
+        ReservationCreateService service = new ReservationCreateService(
+                reservationRepository, seatRepository, scheduleRepository, seatHoldExpiryScheduler, seatCounter,
+                seatHoldEngine, reservationWriteBehind, reservationPipeline, seatSingleFlight, seatMapCache, transactionManager, mode, 3000);
+        ExecutorService executor = Executors.newFixedThreadPool(SEATS_PER_SCHEDULE);
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                runRound(service, routing, executor);
+            }
+            long elapsedNanos = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                elapsedNanos += runRound(service, routing, executor);
+            }
+            return (double) SEATS_PER_SCHEDULE * MEASURED_ROUNDS / (elapsedNanos / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long runRound(ReservationCreateService service, Routing routing,
+                          ExecutorService executor) throws InterruptedException {
+        Long scheduleId = createSchedule();
+        if (routing == Routing.IN_MEMORY) {
+            seatHoldEngine.enable(scheduleId);
+        } else if (routing == Routing.PIPELINE) {
+            reservationPipeline.enable(scheduleId);
+        }
+        CountDownLatch ready = new CountDownLatch(SEATS_PER_SCHEDULE);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(SEATS_PER_SCHEDULE);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int seatNumber = 1; seatNumber <= SEATS_PER_SCHEDULE; seatNumber++) {
+            ReservationRequest request = ReservationRequest.builder()
+                    .scheduleId(scheduleId)
+                    .seatNumber(seatNumber)
+                    .build();
+            String userId = "bench-" + scheduleId + "-" + seatNumber;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    service.reserveSeat(userId, request);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.warn("Reservation failed in benchmark: {}", e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        if (routing == Routing.PIPELINE) {
+            reservationPipeline.disable(scheduleId);
+        }
+        assertThat(successCount.get()).isEqualTo(SEATS_PER_SCHEDULE);
+        assertThat(seatCounter.availableSeats(scheduleId)).isZero();
+        return elapsedNanos;
+    }
+
+    private Long createSchedule() {
+        Schedule schedule = scheduleRepository.save(Schedule.create(
+                1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), SEATS_PER_SCHEDULE));
+        for (int seatNumber = 1; seatNumber <= SEATS_PER_SCHEDULE; seatNumber++) {
+            seatRepository.save(Seat.create(schedule.getId(), seatNumber, "R", BigDecimal.valueOf(100000)));
+        }
+        seatCounter.initialize(schedule.getId(), SEATS_PER_SCHEDULE);
+        return schedule.getId();
+    }
+
+    private enum Routing {
+        DATABASE, IN_MEMORY, PIPELINE
+    }
+}
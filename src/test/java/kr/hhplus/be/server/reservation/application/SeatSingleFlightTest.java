@@ -0,0 +1,216 @@
+package kr.hhplus.be.server.reservation.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatSingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SeatSingleFlight(meterRegistry, 1000, 60000, 0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 좌석에 들어온 요청은 action 을 실행하지 않고 leader 가 잡으면 실패한다")
+    void followerFailsWhenLeaderTakesSeat() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, 10, () -> {
+                executions.incrementAndGet();
+                entered.countDown();
+                awaitQuietly(release);
+                return "reserved";
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, 10, () -> {
+                executions.incrementAndGet();
+                return "reserved";
+            }));
+
+            release.countDown();
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("reserved");
+            assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SeatAlreadyTakenException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1.0);
+        assertThat(count("rejected_in_flight") + count("rejected_taken")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기본값에서는 leader 가 끝나기를 기다리지 않고 바로 실패한다")
+    void followerFailsImmediatelyByDefault() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, 10, () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                throw new IllegalStateException("이미 해당 일정에 예약이 있습니다");
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> "reserved"))
+                    .isInstanceOf(SeatAlreadyTakenException.class);
+            release.countDown();
+            assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(count("rejected_in_flight")).isEqualTo(1.0);
+        assertThat(singleFlight.execute(1L, 10, () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("follower-wait 는 짧은 시간으로만 줄 수 있다")
+    void rejectLongFollowerWait() {
+        assertThatThrownBy(() -> new SeatSingleFlight(meterRegistry, 1000, 60000,
+                SeatSingleFlight.MAX_FOLLOWER_WAIT_MILLIS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("follower-wait 를 주면 leader 가 좌석과 무관한 이유로 실패했을 때 기다리던 요청이 다시 시도한다")
+    void followerRetriesWhenLeaderFails() throws Exception {
+        singleFlight = new SeatSingleFlight(meterRegistry, 1000, 60000, SeatSingleFlight.MAX_FOLLOWER_WAIT_MILLIS);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, 10, () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                throw new IllegalStateException("이미 해당 일정에 예약이 있습니다");
+            }));
+            assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, 10, () -> "reserved"));
+
+            release.countDown();
+            assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("reserved");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션이 롤백되면 선점을 기억하지 않는다")
+    void doesNotRememberRolledBackClaim() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            singleFlight.execute(1L, 10, () -> "reserved");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(singleFlight.execute(1L, 10, () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("선점된 좌석은 기억해 두고 뒤이은 요청을 DB 없이 거절한다")
+    void rejectsTakenSeatWithoutExecuting() {
+        singleFlight.execute(1L, 10, () -> "reserved");
+
+        AtomicInteger executions = new AtomicInteger();
+        assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> executions.incrementAndGet()))
+                .isInstanceOf(SeatAlreadyTakenException.class);
+
+        assertThat(executions.get()).isZero();
+        assertThat(count("rejected_taken")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 선점된 좌석으로 끝난 결과도 기억한다")
+    void remembersSeatAlreadyTakenOutcome() {
+        assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> {
+            throw new SeatAlreadyTakenException("예약 가능한 좌석이 아닙니다");
+        })).isInstanceOf(SeatAlreadyTakenException.class);
+
+        assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> "reserved"))
+                .isInstanceOf(SeatAlreadyTakenException.class);
+        assertThat(count("rejected_taken")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("좌석과 무관한 실패는 기억하지 않아 다음 요청이 다시 시도한다")
+    void doesNotRememberOtherFailures() {
+        assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> {
+            throw new IllegalStateException("이미 해당 일정에 예약이 있습니다");
+        })).isInstanceOf(IllegalStateException.class)
+                .isNotInstanceOf(SeatAlreadyTakenException.class);
+
+        assertThat(singleFlight.execute(1L, 10, () -> "reserved")).isEqualTo("reserved");
+        assertThat(singleFlight.execute(1L, 11, () -> "other seat")).isEqualTo("other seat");
+    }
+
+    @Test
+    @DisplayName("좌석이 풀리면 기억해 둔 선점을 지워 TTL 전에도 다시 예약할 수 있다")
+    void forgetsReleasedSeat() {
+        singleFlight.execute(1L, 10, () -> "reserved");
+
+        singleFlight.seatReleased(1L, 10);
+
+        assertThat(singleFlight.execute(1L, 10, () -> "reserved again")).isEqualTo("reserved again");
+    }
+
+    @Test
+    @DisplayName("해제 트랜잭션이 커밋된 뒤에 선점 기억을 지운다")
+    void forgetsReleasedSeatAfterCommit() {
+        singleFlight.execute(1L, 10, () -> "reserved");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            singleFlight.seatReleased(1L, 10);
+            assertThatThrownBy(() -> singleFlight.execute(1L, 10, () -> "too early"))
+                    .isInstanceOf(SeatAlreadyTakenException.class);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(singleFlight.execute(1L, 10, () -> "reserved again")).isEqualTo("reserved again");
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("reservation.seat.single_flight").tag("outcome", outcome).counter().count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
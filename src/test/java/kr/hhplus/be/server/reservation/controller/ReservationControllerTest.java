@@ -1,12 +1,15 @@
 package kr.hhplus.be.server.reservation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.queue.domain.QueueAccessClaims;
 import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.reservation.interfaces.web.dto.BestAvailableRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationRequest;
 import kr.hhplus.be.server.reservation.interfaces.web.dto.ReservationResponse;
 import kr.hhplus.be.server.reservation.interfaces.web.ReservationController;
 import kr.hhplus.be.server.reservation.application.ReservationCreateService;
 import kr.hhplus.be.server.reservation.domain.model.Reservation;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyTakenException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,13 +19,17 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -74,8 +81,8 @@ class ReservationControllerTest {
         given(reservation.getReservedAt()).willReturn(LocalDateTime.now());
         given(reservation.getExpirationTime()).willReturn(LocalDateTime.now().plusMinutes(5));
         
-        given(queueService.validateToken(token)).willReturn(true);
-        given(reservationCreateService.reserveSeat(eq(token), any(ReservationRequest.class)))
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveSeat(eq(userId), any(ReservationRequest.class), any()))
                 .willReturn(reservation);
 
         // when & then
@@ -104,8 +111,8 @@ class ReservationControllerTest {
                 .seatNumber(10)
                 .build();
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(reservationCreateService.reserveSeat(eq(token), any(ReservationRequest.class)))
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveSeat(eq(userId), any(ReservationRequest.class), any()))
                 .willThrow(new IllegalStateException("좌석이 이미 예약되었습니다"));
 
         // when & then
@@ -122,15 +129,16 @@ class ReservationControllerTest {
     void reserveInvalidSeatNumber() throws Exception {
         // given
         String token = UUID.randomUUID().toString();
+        String userId = "user123";
         
         ReservationRequest request = ReservationRequest.builder()
                 .scheduleId(1L)
-                .seatNumber(51) // 1~50 범위 초과
+                .seatNumber(100_001) // 1~100000 범위 초과
                 .build();
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(reservationCreateService.reserveSeat(eq(token), any(ReservationRequest.class)))
-                .willThrow(new IllegalArgumentException("좌석 번호는 1부터 50 사이여야 합니다"));
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveSeat(eq(userId), any(ReservationRequest.class), any()))
+                .willThrow(new IllegalArgumentException("좌석 번호는 1부터 100000 사이여야 합니다"));
 
         // when & then
         mockMvc.perform(post("/api/reservations")
@@ -152,8 +160,8 @@ class ReservationControllerTest {
                 .seatNumber(10)
                 .build();
 
-        given(queueService.validateToken(token))
-                .willThrow(new IllegalStateException("토큰이 활성화되지 않음"));
+        given(queueService.validateAndGetUserId(token))
+                .willThrow(new IllegalStateException("활성화되지 않은 토큰입니다"));
 
         // when & then
         mockMvc.perform(post("/api/reservations")
@@ -161,7 +169,36 @@ class ReservationControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andDo(print())
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isUnauthorized());
+        verify(reservationCreateService, never()).reserveSeat(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("서명된 접근 토큰으로 예약하면 대기열 토큰을 다시 조회하지 않는다")
+    void reserveWithAccessTokenSkipsTokenLookup() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+
+        ReservationRequest request = ReservationRequest.builder()
+                .scheduleId(1L)
+                .seatNumber(10)
+                .build();
+
+        given(queueService.verifyAccessToken(token, "signed"))
+                .willReturn(new QueueAccessClaims("user123", token, 0L, Instant.now(), Instant.now().plusSeconds(300)));
+        given(reservationCreateService.reserveSeat(eq("user123"), any(ReservationRequest.class), any()))
+                .willReturn(reservation("user123", 10L));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations")
+                        .header("Queue-Token", token)
+                        .header("Queue-Access-Token", "signed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk());
+        verify(queueService, never()).validateToken(any());
+        verify(queueService, never()).resolveToken(any());
     }
 
     @Test
@@ -176,8 +213,8 @@ class ReservationControllerTest {
                 .seatNumber(20)
                 .build();
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(reservationCreateService.reserveSeat(eq(token), any(ReservationRequest.class)))
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveSeat(eq(userId), any(ReservationRequest.class), any()))
                 .willThrow(new IllegalStateException("사용자가 이미 해당 스케줄에 예약을 가지고 있습니다"));
 
         // when & then
@@ -188,4 +225,95 @@ class ReservationControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("최적 좌석 자동 배정을 요청하면 좌석별 예약 목록을 받는다")
+    void reserveBestAvailable() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        String userId = "user123";
+
+        BestAvailableRequest request = BestAvailableRequest.builder()
+                .scheduleId(1L)
+                .grade("VIP")
+                .count(2)
+                .build();
+
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveBestAvailable(eq(userId), any(BestAvailableRequest.class), any()))
+                .willReturn(List.of(reservation(userId, 11L), reservation(userId, 12L)));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/best-available")
+                        .header("Queue-Token", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].seatId").value(11))
+                .andExpect(jsonPath("$[1].seatId").value(12))
+                .andExpect(jsonPath("$[0].status").value("TEMPORARY_RESERVED"));
+    }
+
+    @Test
+    @DisplayName("자동 배정 좌석 수가 범위를 벗어나면 에러가 발생한다")
+    void reserveBestAvailableInvalidCount() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        String userId = "user123";
+
+        BestAvailableRequest request = BestAvailableRequest.builder()
+                .scheduleId(1L)
+                .count(11)
+                .build();
+
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/best-available")
+                        .header("Queue-Token", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        verify(reservationCreateService, never()).reserveBestAvailable(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 좌석이 없으면 에러가 발생한다")
+    void reserveBestAvailableNothingFits() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        String userId = "user123";
+
+        BestAvailableRequest request = BestAvailableRequest.builder()
+                .scheduleId(1L)
+                .count(4)
+                .build();
+
+        given(queueService.validateAndGetUserId(token)).willReturn(userId);
+        given(reservationCreateService.reserveBestAvailable(eq(userId), any(BestAvailableRequest.class), any()))
+                .willThrow(new SeatAlreadyTakenException("조건에 맞는 좌석이 없습니다"));
+
+        // when & then
+        mockMvc.perform(post("/api/reservations/best-available")
+                        .header("Queue-Token", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("조건에 맞는 좌석이 없습니다"));
+    }
+
+    private Reservation reservation(String userId, Long seatId) {
+        return Reservation.builder()
+                .id(seatId)
+                .userId(userId)
+                .scheduleId(1L)
+                .seatId(seatId)
+                .status(Reservation.Status.TEMPORARY_RESERVED)
+                .reservedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.schedule.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.queue.service.QueueService;
 import kr.hhplus.be.server.schedule.dto.ScheduleResponse;
 import kr.hhplus.be.server.schedule.service.ScheduleService;
@@ -15,6 +17,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -64,7 +67,7 @@ class ScheduleControllerTest {
                         .build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
         given(scheduleService.getAvailableSchedules(concertId)).willReturn(schedules);
 
         // when & then
@@ -99,7 +102,7 @@ class ScheduleControllerTest {
                         .build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
         given(scheduleService.getAvailableSchedules(concertId)).willReturn(availableSchedules);
 
         // when & then
@@ -130,7 +133,7 @@ class ScheduleControllerTest {
                         .build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
         given(scheduleService.getAvailableSchedules(concertId)).willReturn(futureSchedules);
 
         // when & then
@@ -141,4 +144,15 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].scheduleId").value(3));
     }
-}
\ No newline at end of file
+
+    private QueueTokenSnapshot activeToken(String token) {
+        return QueueTokenSnapshot.from(QueueToken.builder()
+                .token(token)
+                .userId("user123")
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .activatedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.schedule.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSeatCounterReconcilerTest {
+
+    @Mock
+    private ScheduleSeatCounter seatCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduleSeatCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new ScheduleSeatCounterReconciler(seatCounter, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("카운터가 좌석 수와 다른 일정만 복구한다")
+    void repairDriftingSchedules() {
+        // given
+        given(seatCounter.findDrift()).willReturn(Map.of(2L, 1L));
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(seatCounter, times(1)).repair(any());
+        verify(seatCounter).repair(2L);
+        assertThat(meterRegistry.get("schedule.seat_counter.drift").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터가 모두 맞으면 아무것도 고치지 않는다")
+    void noRepairWithoutDrift() {
+        // given
+        given(seatCounter.findDrift()).willReturn(Map.of());
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(seatCounter, never()).repair(any());
+        assertThat(meterRegistry.get("schedule.seat_counter.drift").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 일정의 복구가 실패해도 다른 일정은 복구한다")
+    void continueAfterRepairFailure() {
+        // given
+        given(seatCounter.findDrift()).willReturn(Map.of(1L, -1L, 2L, 3L));
+        doThrow(new RuntimeException("lock timeout")).when(seatCounter).repair(1L);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(seatCounter).repair(2L);
+        assertThat(meterRegistry.get("schedule.seat_counter.repair_failed").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,243 @@
+package kr.hhplus.be.server.schedule.service;
+
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.ScheduleSeatCounterRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSeatCounterTest {
+
+    private static final int STRIPES = 4;
+
+    @Mock
+    private ScheduleSeatCounterRepository counterRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private ScheduleSeatCounter seatCounter;
+
+    @BeforeEach
+    void setUp() {
+        seatCounter = new ScheduleSeatCounter(counterRepository, scheduleRepository, seatRepository, STRIPES);
+    }
+
+    @Test
+    @DisplayName("예약하면 stripe 하나만 줄이고 일정은 롤업 대상이 된다")
+    void reserveDecrementsOneStripe() {
+        // given
+        given(counterRepository.decrement(eq(1L), anyInt())).willReturn(true);
+
+        // when
+        boolean reserved = seatCounter.reserve(1L);
+
+        // then
+        assertThat(reserved).isTrue();
+        verify(counterRepository).decrement(eq(1L), intThat(stripe -> stripe >= 0 && stripe < STRIPES));
+        verifyNoInteractions(scheduleRepository);
+        assertThat(seatCounter.dirtyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 일정은 남은 좌석 수로 만든 뒤 줄인다")
+    void reserveSeedsCounterFromSchedule() {
+        // given
+        Schedule schedule = Schedule.create(1L, LocalDate.now().plusDays(7), LocalDateTime.now().plusDays(7), 50);
+        given(counterRepository.decrement(eq(1L), anyInt())).willReturn(false, true);
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+
+        // when
+        boolean reserved = seatCounter.reserve(1L);
+
+        // then
+        assertThat(reserved).isTrue();
+        verify(counterRepository).seed(1L, 50, STRIPES);
+    }
+
+    @Test
+    @DisplayName("카운터가 있는 일정의 stripe 가 모두 비면 매진이다")
+    void reserveFailsWhenAllStripesEmpty() {
+        // given
+        given(counterRepository.decrement(eq(1L), anyInt())).willReturn(true, false);
+        seatCounter.reserve(1L);
+
+        // when
+        boolean reserved = seatCounter.reserve(1L);
+
+        // then
+        assertThat(reserved).isFalse();
+        verify(counterRepository, never()).seed(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 좌석을 예약하면 stripe 하나에서 한 번에 줄인다")
+    void reserveManyDecrementsOneStripe() {
+        // given
+        given(counterRepository.decrement(eq(1L), anyInt(), eq(3))).willReturn(true);
+
+        // when
+        boolean reserved = seatCounter.reserve(1L, 3);
+
+        // then
+        assertThat(reserved).isTrue();
+        verify(counterRepository).decrement(eq(1L), intThat(stripe -> stripe >= 0 && stripe < STRIPES), eq(3));
+        verify(counterRepository, never()).decrement(anyLong(), anyInt());
+        assertThat(seatCounter.dirtyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 좌석이 stripe 마다 하나씩 흩어진 매진 직전에도 여러 좌석을 예약한다")
+    void reserveManyDrainsStripesNearSellOut() {
+        // given
+        ScheduleSeatCounter counter = new ScheduleSeatCounter(counterRepository, scheduleRepository, seatRepository, 8);
+        int[] available = {1, 1, 1, 1, 1, 1, 1, 1};
+        given(counterRepository.decrement(eq(1L), anyInt(), eq(2))).willReturn(false);
+        given(counterRepository.decrementUpTo(eq(1L), anyInt(), anyInt())).willAnswer(takeUpTo(available));
+
+        // when
+        boolean reserved = counter.reserve(1L, 2);
+
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(Arrays.stream(available).sum()).isEqualTo(6);
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).decrementUpTo(1L, 0, 2);
+        inOrder.verify(counterRepository).decrementUpTo(1L, 1, 1);
+        verify(counterRepository, never()).increment(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("stripe 를 모두 모아도 모자라면 뺀 만큼 되돌리고 매진으로 본다")
+    void reserveManyUndoesPartialDrain() {
+        // given
+        int[] available = {1, 0, 0, 0};
+        given(counterRepository.decrement(eq(1L), anyInt(), eq(2))).willReturn(false);
+        given(counterRepository.decrementUpTo(eq(1L), anyInt(), anyInt())).willAnswer(takeUpTo(available));
+
+        // when
+        boolean reserved = seatCounter.reserve(1L, 2);
+
+        // then
+        assertThat(reserved).isFalse();
+        verify(counterRepository).increment(1L, 0, 1);
+        assertThat(seatCounter.dirtyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("해제하면 stripe 하나를 늘린다")
+    void releaseIncrementsOneStripe() {
+        // given
+        given(counterRepository.increment(eq(1L), anyInt(), eq(1))).willReturn(true);
+
+        // when
+        seatCounter.release(1L);
+
+        // then
+        verify(counterRepository).increment(eq(1L), intThat(stripe -> stripe >= 0 && stripe < STRIPES), eq(1));
+        assertThat(seatCounter.dirtyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤업은 변경된 일정만 schedules.availableSeats 에 옮긴다")
+    void rollupOnlyChangedSchedules() {
+        // given
+        given(counterRepository.decrement(anyLong(), anyInt())).willReturn(true);
+        seatCounter.reserve(1L);
+        seatCounter.reserve(1L);
+        seatCounter.reserve(2L);
+
+        // when
+        seatCounter.rollup();
+        seatCounter.rollup();
+
+        // then
+        verify(counterRepository, times(1)).rollup(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))));
+        assertThat(seatCounter.dirtyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤업이 실패하면 다음 주기에 다시 옮긴다")
+    void rollupRetriesAfterFailure() {
+        // given
+        given(counterRepository.increment(eq(1L), anyInt(), eq(1))).willReturn(true);
+        given(counterRepository.rollup(List.of(1L))).willThrow(new RuntimeException("db down"));
+        seatCounter.release(1L);
+
+        // when
+        seatCounter.rollup();
+
+        // then
+        assertThat(seatCounter.dirtyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stripe 합과 AVAILABLE 좌석 수가 다른 일정만 차이를 돌려준다")
+    void findDriftComparesWithAvailableSeats() {
+        // given
+        given(counterRepository.sumAvailableBySchedule()).willReturn(Map.of(1L, 10L, 2L, 5L, 3L, 1L));
+        given(seatRepository.countAvailableByScheduleIds(Set.of(1L, 2L, 3L))).willReturn(Map.of(1L, 10L, 2L, 7L));
+
+        // when
+        Map<Long, Long> drift = seatCounter.findDrift();
+
+        // then
+        assertThat(drift).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 2L, 3L, -1L));
+    }
+
+    @Test
+    @DisplayName("복구는 stripe 를 지운 뒤 좌석을 세어 다시 만든다")
+    void repairRebuildsCounterFromSeats() {
+        // given
+        given(seatRepository.countAvailableByScheduleId(1L)).willReturn(7L);
+
+        // when
+        seatCounter.repair(1L);
+
+        // then
+        InOrder inOrder = inOrder(counterRepository, seatRepository);
+        inOrder.verify(counterRepository).delete(1L);
+        inOrder.verify(seatRepository).countAvailableByScheduleId(1L);
+        inOrder.verify(counterRepository).seed(1L, 7, STRIPES);
+        assertThat(seatCounter.dirtyCount()).isEqualTo(1);
+    }
+
+    /**
+     * stripe 별 남은 좌석 수 배열에서 decrementUpTo 처럼 남은 만큼만 뺀다.
+     */
+    private static Answer<Integer> takeUpTo(int[] available) {
+        return invocation -> {
+            int stripe = invocation.getArgument(1);
+            int amount = invocation.getArgument(2);
+            int taken = Math.min(available[stripe], amount);
+            available[stripe] -= taken;
+            return taken;
+        };
+    }
+}
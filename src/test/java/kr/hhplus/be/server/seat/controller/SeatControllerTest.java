@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.seat.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.domain.QueueTokenSnapshot;
 import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.seat.dto.SeatMapView;
 import kr.hhplus.be.server.seat.dto.SeatResponse;
+import kr.hhplus.be.server.seat.dto.SeatSectionPage;
 import kr.hhplus.be.server.seat.service.SeatService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,8 +17,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -70,8 +77,8 @@ class SeatControllerTest {
                         .build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(seatService.getAvailableSeats(scheduleId)).willReturn(availableSeats);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 1L, availableSeats));
 
         // when & then
         mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
@@ -100,8 +107,8 @@ class SeatControllerTest {
                 SeatResponse.builder().seatId(50L).seatNumber(50).grade("S").price(BigDecimal.valueOf(80000)).status("AVAILABLE").build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(seatService.getAvailableSeats(scheduleId)).willReturn(seats);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 1L, seats));
 
         // when & then
         mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
@@ -127,8 +134,8 @@ class SeatControllerTest {
                 SeatResponse.builder().seatId(9L).seatNumber(9).grade("R").price(BigDecimal.valueOf(100000)).status("AVAILABLE").build()
         );
 
-        given(queueService.validateToken(token)).willReturn(true);
-        given(seatService.getAvailableSeats(scheduleId)).willReturn(availableSeats);
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 1L, availableSeats));
 
         // when & then
         mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
@@ -141,6 +148,139 @@ class SeatControllerTest {
                 .andExpect(jsonPath("$.availableSeats[?(@.seatNumber == 9)]").exists());
     }
 
+    @Test
+    @DisplayName("좌석 배치도 version 을 ETag 로 내려준다")
+    void returnVersionAsETag() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 42L, List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
+                        .header("Queue-Token", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-42\""))
+                .andExpect(jsonPath("$.version").value(42))
+                .andExpect(jsonPath("$.delta").value(false));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304 를 응답한다")
+    void notModifiedWhenETagMatches() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 42L, List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
+                        .header("Queue-Token", token)
+                        .header("If-None-Match", "\"1-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"1-42\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 이전 ETag 이면 새 좌석 배치도를 응답한다")
+    void okWhenETagIsStale() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, null)).willReturn(SeatMapView.full(scheduleId, 43L, List.of()));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
+                        .header("Queue-Token", token)
+                        .header("If-None-Match", "W/\"1-42\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-43\""));
+    }
+
+    @Test
+    @DisplayName("sinceVersion 을 주면 바뀐 좌석만 응답한다")
+    void returnDeltaSinceVersion() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+        SeatResponse released = SeatResponse.builder()
+                .seatId(5L).seatNumber(5).grade("R").price(BigDecimal.valueOf(100000)).status("AVAILABLE").build();
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSeatMap(scheduleId, 40L))
+                .willReturn(SeatMapView.delta(scheduleId, 42L, List.of(released), List.of(3)));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
+                        .header("Queue-Token", token)
+                        .param("sinceVersion", "40"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.delta").value(true))
+                .andExpect(jsonPath("$.version").value(42))
+                .andExpect(jsonPath("$.availableSeats.length()").value(1))
+                .andExpect(jsonPath("$.availableSeats[0].seatNumber").value(5))
+                .andExpect(jsonPath("$.unavailableSeatNumbers[0]").value(3));
+    }
+
+    @Test
+    @DisplayName("구역별 예약 가능 좌석 수를 조회할 수 있다")
+    void getSections() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSectionAvailability(scheduleId)).willReturn(Map.of("A", 120L, "B", 3L));
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/sections", scheduleId)
+                        .header("Queue-Token", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sections.A").value(120))
+                .andExpect(jsonPath("$.sections.B").value(3));
+    }
+
+    @Test
+    @DisplayName("구역 좌석을 열 배열 형태로 나눠 조회할 수 있다")
+    void getSectionSeats() throws Exception {
+        // given
+        String token = UUID.randomUUID().toString();
+        Long scheduleId = 1L;
+        SeatSectionPage page = SeatSectionPage.builder()
+                .scheduleId(scheduleId)
+                .section("A")
+                .tiers(List.of(new SeatSectionPage.Tier("R", BigDecimal.valueOf(100000))))
+                .seatIds(new long[]{101L, 102L})
+                .seatNumbers(new int[]{501, 502})
+                .rowLabels(new String[]{"3", "3"})
+                .seatsInRow(new int[]{1, 2})
+                .tierIndexes(new int[]{0, 0})
+                .nextAfterSeatNumber(502)
+                .build();
+
+        given(queueService.resolveToken(token)).willReturn(Optional.of(activeToken(token)));
+        given(seatService.getSectionSeats(scheduleId, "A", 500, 2)).willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/sections/{section}/seats", scheduleId, "A")
+                        .header("Queue-Token", token)
+                        .param("afterSeatNumber", "500")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tiers[0].grade").value("R"))
+                .andExpect(jsonPath("$.seatNumbers[1]").value(502))
+                .andExpect(jsonPath("$.rowLabels[0]").value("3"))
+                .andExpect(jsonPath("$.tierIndexes[1]").value(0))
+                .andExpect(jsonPath("$.nextAfterSeatNumber").value(502));
+    }
+
     @Test
     @DisplayName("유효하지 않은 토큰으로 좌석 조회시 에러가 발생한다")
     void getSeatsWithInvalidToken() throws Exception {
@@ -148,7 +288,7 @@ class SeatControllerTest {
         String invalidToken = "invalid-token";
         Long scheduleId = 1L;
 
-        given(queueService.validateToken(invalidToken)).willReturn(false);
+        given(queueService.resolveToken(invalidToken)).willReturn(Optional.empty());
 
         // when & then
         mockMvc.perform(get("/api/schedules/{scheduleId}/seats", scheduleId)
@@ -156,4 +296,15 @@ class SeatControllerTest {
                 .andDo(print())
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    private QueueTokenSnapshot activeToken(String token) {
+        return QueueTokenSnapshot.from(QueueToken.builder()
+                .token(token)
+                .userId("user123")
+                .position(0)
+                .status(QueueToken.Status.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .activatedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.seat.domain;
+
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatLayoutTest {
+
+    @Test
+    @DisplayName("구역, 열 순서대로 좌석 번호를 1부터 매긴다")
+    void createSeatsInSectionAndRowOrder() {
+        // given
+        SeatLayout layout = SeatLayout.builder()
+                .sections(List.of(
+                        section("FLOOR", 2, 3, "VIP", 150000),
+                        section("101", 1, 2, "R", 100000)))
+                .build();
+
+        // when
+        List<Seat> seats = layout.createSeats(1L);
+
+        // then
+        assertThat(layout.seatCount()).isEqualTo(8);
+        assertThat(seats).extracting(Seat::getSeatNumber).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+        Seat fifth = seats.get(4);
+        assertThat(fifth.getSection()).isEqualTo("FLOOR");
+        assertThat(fifth.getRowLabel()).isEqualTo("2");
+        assertThat(fifth.getSeatInRow()).isEqualTo(2);
+        assertThat(fifth.getGrade()).isEqualTo("VIP");
+        Seat last = seats.get(7);
+        assertThat(last.getSection()).isEqualTo("101");
+        assertThat(last.getSeatInRow()).isEqualTo(2);
+        assertThat(last.getPrice()).isEqualTo(BigDecimal.valueOf(100000));
+        assertThat(seats).allMatch(Seat::isAvailable);
+    }
+
+    @Test
+    @DisplayName("대형 공연장 규모의 좌석도 만들 수 있다")
+    void createLargeVenue() {
+        // given
+        SeatLayout layout = SeatLayout.builder()
+                .sections(List.of(section("A", 200, 150, "R", 100000), section("B", 200, 150, "S", 80000)))
+                .build();
+
+        // when
+        List<Seat> seats = layout.createSeats(1L);
+
+        // then
+        assertThat(seats).hasSize(60_000);
+        assertThat(seats.get(59_999).getSeatNumber()).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("구역 이름이 겹치거나 열이 없는 배치는 만들 수 없다")
+    void rejectInvalidLayout() {
+        SeatLayout duplicated = SeatLayout.builder()
+                .sections(List.of(section("A", 1, 1, "R", 100000), section("A", 1, 1, "S", 80000)))
+                .build();
+        SeatLayout empty = SeatLayout.builder()
+                .sections(List.of(section("A", 0, 10, "R", 100000)))
+                .build();
+
+        assertThatThrownBy(() -> duplicated.createSeats(1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("구역 이름이 중복되었습니다: A");
+        assertThatThrownBy(() -> empty.createSeats(1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("구역의 열 수와 열당 좌석 수는 1 이상이어야 합니다");
+    }
+
+    private SeatLayout.Section section(String name, int rows, int seatsPerRow, String grade, long price) {
+        return SeatLayout.Section.builder()
+                .name(name)
+                .rows(rows)
+                .seatsPerRow(seatsPerRow)
+                .grade(grade)
+                .price(BigDecimal.valueOf(price))
+                .build();
+    }
+}
@@ -27,16 +27,26 @@ class SeatTest {
     }
 
     @Test
-    @DisplayName("좌석 번호는 1~50 범위여야 한다")
+    @DisplayName("좌석 번호는 1~100000 범위여야 한다")
     void seatNumberValidation() {
         // given & when & then
         assertThatThrownBy(() -> Seat.create(1L, 0, "VIP", BigDecimal.valueOf(150000)))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("좌석 번호는 1부터 50 사이여야 합니다");
+                .hasMessage("좌석 번호는 1부터 100000 사이여야 합니다");
 
-        assertThatThrownBy(() -> Seat.create(1L, 51, "VIP", BigDecimal.valueOf(150000)))
+        assertThatThrownBy(() -> Seat.create(1L, 100_001, "VIP", BigDecimal.valueOf(150000)))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("좌석 번호는 1부터 50 사이여야 합니다");
+                .hasMessage("좌석 번호는 1부터 100000 사이여야 합니다");
+    }
+
+    @Test
+    @DisplayName("좌석 번호 범위의 경계값과 이전 상한(50) 너머의 번호로 좌석을 만들 수 있다")
+    void seatNumberBoundaries() {
+        // given & when & then
+        assertThat(Seat.create(1L, 1, "VIP", BigDecimal.valueOf(150000)).getSeatNumber()).isEqualTo(1);
+        assertThat(Seat.create(1L, 50, "VIP", BigDecimal.valueOf(150000)).getSeatNumber()).isEqualTo(50);
+        assertThat(Seat.create(1L, 51, "VIP", BigDecimal.valueOf(150000)).getSeatNumber()).isEqualTo(51);
+        assertThat(Seat.create(1L, 100_000, "VIP", BigDecimal.valueOf(150000)).getSeatNumber()).isEqualTo(100_000);
     }
 
     @Test
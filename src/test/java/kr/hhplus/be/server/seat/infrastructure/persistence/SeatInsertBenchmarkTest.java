@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.seat.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.common.persistence.PooledIds;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 INSERT 처리량 비교
+ * 행마다 한 번씩 DB 를 오가는 방식(IDENTITY 와 같은 왕복 수)과 풀링된 ID 로 JDBC 배치를 쓰는 방식을 비교한다.
+ * 라운드마다 새 일정 ID 로 좌석을 한 트랜잭션에 넣는다.
+ * 실행: RUN_BENCHMARKS=true ./gradlew test --tests '*SeatInsertBenchmarkTest'
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@DisplayName("좌석 INSERT 벤치마크")
+class SeatInsertBenchmarkTest {
+
+    private static final int SEATS_PER_ROUND = 1000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private final AtomicLong scheduleIds = new AtomicLong(System.currentTimeMillis());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("행 단위 INSERT 와 배치 INSERT 의 처리량을 비교한다")
+    void compareInsertThroughput() {
+        double rowByRow = measure(1);
+        double batched = measure(PooledIds.ALLOCATION_SIZE);
+
+        log.info("Seat insert throughput (rows/s) - ROW-BY-ROW: {}, BATCHED: {}",
+                String.format("%.1f", rowByRow), String.format("%.1f", batched));
+    }
+
+    private double measure(int jdbcBatchSize) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            insertRound(jdbcBatchSize);
+        }
+        long elapsedNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            elapsedNanos += insertRound(jdbcBatchSize);
+        }
+        return (double) SEATS_PER_ROUND * MEASURED_ROUNDS / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private long insertRound(int jdbcBatchSize) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long scheduleId = scheduleIds.incrementAndGet();
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int seatNumber = 1; seatNumber <= SEATS_PER_ROUND; seatNumber++) {
+                entityManager.persist(SeatEntity.builder()
+                        .scheduleId(scheduleId)
+                        .seatNumber(seatNumber)
+                        .section(Seat.DEFAULT_SECTION)
+                        .tierCode((short) 1)
+                        .status(Seat.Status.AVAILABLE)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.seat.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatTierDictionaryTest {
+
+    @Mock
+    private SpringSeatTierJpa springSeatTierJpa;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SeatTierDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SeatTierDictionary(springSeatTierJpa, transactionManager, 100);
+    }
+
+    @Test
+    @DisplayName("같은 일정의 code 는 한 번 읽은 사전에서 푼다")
+    void decodeFromCachedDictionary() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00"), tier((short) 2, "R", "100000.00")));
+
+        // when
+        SeatTierEntity vip = dictionary.decode(1L, (short) 1);
+        SeatTierEntity r = dictionary.decode(1L, (short) 2);
+
+        // then
+        assertThat(vip.getGrade()).isEqualTo("VIP");
+        assertThat(r.getPrice()).isEqualByComparingTo("100000");
+        verify(springSeatTierJpa, times(1)).findByScheduleIdOrderByCode(1L);
+    }
+
+    @Test
+    @DisplayName("가격의 scale 이 달라도 같은 등급과 가격이면 기존 code 를 쓴다")
+    void encodeExistingTier() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00")));
+
+        // when
+        short code = dictionary.encode(1L, "VIP", BigDecimal.valueOf(150000));
+
+        // then
+        assertThat(code).isEqualTo((short) 1);
+        verify(springSeatTierJpa, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("사전에 없는 등급과 가격은 다음 code 로 추가한다")
+    void encodeNewTier() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00")));
+        given(springSeatTierJpa.saveAndFlush(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        short code = dictionary.encode(1L, "R", BigDecimal.valueOf(100000));
+
+        // then
+        assertThat(code).isEqualTo((short) 2);
+        ArgumentCaptor<SeatTierEntity> saved = ArgumentCaptor.forClass(SeatTierEntity.class);
+        verify(springSeatTierJpa).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getScheduleId()).isEqualTo(1L);
+        assertThat(saved.getValue().getGrade()).isEqualTo("R");
+        assertThat(dictionary.decode(1L, (short) 2).getGrade()).isEqualTo("R");
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 추가해 유니크 키에 걸리면 다시 읽어 그 code 를 쓴다")
+    void encodeRereadsAfterUniqueViolation() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00")))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00")))
+                .willReturn(List.of(tier((short) 1, "VIP", "150000.00"), tier((short) 2, "R", "100000.00")));
+        given(springSeatTierJpa.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("uk_schedule_tier_code"));
+
+        // when
+        short code = dictionary.encode(1L, "R", BigDecimal.valueOf(100000));
+
+        // then
+        assertThat(code).isEqualTo((short) 2);
+        verify(springSeatTierJpa, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("계속 유니크 키에 걸리면 정해진 횟수만 시도하고 예외가 발생한다")
+    void encodeGivesUpAfterRepeatedViolations() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L)).willReturn(List.of());
+        given(springSeatTierJpa.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("uk_schedule_tier_code"));
+
+        // when & then
+        assertThatThrownBy(() -> dictionary.encode(1L, "R", BigDecimal.valueOf(100000)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("좌석 등급 정보를 추가하지 못했습니다");
+        verify(springSeatTierJpa, times(5)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("다시 읽어도 없는 code 면 예외가 발생한다")
+    void throwForUnknownCode() {
+        // given
+        given(springSeatTierJpa.findByScheduleIdOrderByCode(1L)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> dictionary.decode(1L, (short) 9))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("좌석 등급 정보를 찾을 수 없습니다");
+    }
+
+    private SeatTierEntity tier(short code, String grade, String price) {
+        return SeatTierEntity.builder()
+                .scheduleId(1L)
+                .code(code)
+                .grade(grade)
+                .price(new BigDecimal(price))
+                .build();
+    }
+}
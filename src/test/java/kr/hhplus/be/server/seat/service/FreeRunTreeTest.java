@@ -0,0 +1,103 @@
+package kr.hhplus.be.server.seat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FreeRunTreeTest {
+
+    @Test
+    @DisplayName("빈 칸을 바꿀 때마다 가장 긴 빈 구간을 갱신한다")
+    void trackLongestRun() {
+        // given
+        FreeRunTree tree = freeTree(10);
+
+        // when & then
+        assertThat(tree.longestRun()).isEqualTo(10);
+        tree.set(3, false);
+        assertThat(tree.longestRun()).isEqualTo(6);
+        tree.set(7, false);
+        assertThat(tree.longestRun()).isEqualTo(3);
+        tree.set(3, true);
+        assertThat(tree.longestRun()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("2 의 거듭제곱이 아닌 열도 남는 칸을 빈 칸으로 세지 않는다")
+    void paddingIsNeverFree() {
+        // given
+        FreeRunTree tree = freeTree(5);
+
+        // when & then
+        assertThat(tree.longestRun()).isEqualTo(5);
+        assertThat(tree.isFree(5)).isFalse();
+        assertThat(tree.closestRunStart(6, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("길이가 맞는 빈 구간 중 시작 위치가 목표에 가장 가까운 것을 고른다")
+    void closestRunStart() {
+        // given
+        FreeRunTree tree = freeTree(12);
+        tree.set(5, false);
+        tree.set(6, false);
+
+        // when & then
+        assertThat(tree.closestRunStart(3, 4)).isEqualTo(2);
+        assertThat(tree.closestRunStart(3, 7)).isEqualTo(7);
+        assertThat(tree.closestRunStart(6, 5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("임의로 바꿔도 가장 긴 빈 구간이 직접 센 값과 같다")
+    void matchesLinearScan() {
+        // given
+        Random random = new Random(42);
+        FreeRunTree tree = new FreeRunTree(37);
+        boolean[] free = new boolean[37];
+
+        for (int i = 0; i < 2000; i++) {
+            // when
+            int position = random.nextInt(free.length);
+            free[position] = random.nextBoolean();
+            tree.set(position, free[position]);
+
+            // then
+            assertThat(tree.longestRun()).isEqualTo(longestRun(free));
+        }
+    }
+
+    @Test
+    @DisplayName("열 범위를 벗어난 위치는 바꿀 수 없다")
+    void rejectOutOfRange() {
+        // given
+        FreeRunTree tree = new FreeRunTree(4);
+
+        // when & then
+        assertThatThrownBy(() -> tree.set(4, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("열 범위를 벗어난 위치입니다: 4");
+    }
+
+    private FreeRunTree freeTree(int width) {
+        FreeRunTree tree = new FreeRunTree(width);
+        for (int position = 0; position < width; position++) {
+            tree.set(position, true);
+        }
+        return tree;
+    }
+
+    private int longestRun(boolean[] free) {
+        int longest = 0;
+        int current = 0;
+        for (boolean value : free) {
+            current = value ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+}
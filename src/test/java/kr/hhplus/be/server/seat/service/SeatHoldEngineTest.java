@@ -0,0 +1,236 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.schedule.domain.ScheduleRepository;
+import kr.hhplus.be.server.schedule.domain.model.Schedule;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldEngineTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Schedule schedule = Schedule.builder()
+                .id(1L)
+                .concertId(7L)
+                .performanceDate(LocalDate.now().plusDays(7))
+                .performanceTime(LocalDateTime.now().plusDays(7))
+                .totalSeats(3)
+                .availableSeats(2)
+                .build();
+        List<Seat> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= 3; seatNumber++) {
+            Seat seat = Seat.create(1L, seatNumber, "R", BigDecimal.valueOf(100000));
+            seat.assignId(100L + seatNumber);
+            seats.add(seat);
+        }
+        seats.get(2).temporaryReserve("holder");
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(schedule));
+        given(seatRepository.findByScheduleId(1L)).willReturn(seats);
+
+        engine = new SeatHoldEngine(scheduleRepository, seatRepository, meterRegistry, Set.of(1L));
+        engine.warmUp();
+    }
+
+    @Test
+    @DisplayName("설정한 일정은 시작할 때 DB 좌석 상태로 올라온다")
+    void warmUpFromDatabase() {
+        assertThat(engine.handles(1L)).isTrue();
+        assertThat(engine.handles(2L)).isFalse();
+        assertThatThrownBy(() -> engine.hold(1L, 3, "user-1", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 임시 배정된 좌석입니다");
+        assertThatThrownBy(() -> engine.hold(1L, 1, "holder", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 해당 일정에 예약이 있습니다");
+    }
+
+    @Test
+    @DisplayName("이긴 요청은 임시 예약된 좌석을 받는다")
+    void holdReturnsTemporarilyReservedSeat() {
+        // when
+        Seat seat = engine.hold(1L, 1, "user-1", 7L);
+
+        // then
+        assertThat(seat.getId()).isEqualTo(101L);
+        assertThat(seat.getStatus()).isEqualTo(Seat.Status.TEMPORARY_RESERVED);
+        assertThat(seat.getReservedBy()).isEqualTo("user-1");
+        assertThat(seat.getTemporaryReservationExpiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 좌석에 동시에 요청하면 한 명만 이긴다")
+    void onlyOneWinnerPerSeat() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger losers = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            String userId = "user-" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    engine.hold(1L, 2, userId, null);
+                    winners.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    losers.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executor.shutdown();
+
+        // then
+        assertThat(winners.get()).isEqualTo(1);
+        assertThat(losers.get()).isEqualTo(threadCount - 1);
+        assertThat(meterRegistry.get("seat.hold.engine.result").tag("result", "lost").counter().count())
+                .isEqualTo(threadCount - 1);
+    }
+
+    @Test
+    @DisplayName("진 사용자는 다른 좌석을 다시 시도할 수 있다")
+    void loserCanTryAnotherSeat() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+        assertThatThrownBy(() -> engine.hold(1L, 1, "user-2", null))
+                .hasMessage("이미 임시 배정된 좌석입니다");
+
+        // when
+        Seat seat = engine.hold(1L, 2, "user-2", null);
+
+        // then
+        assertThat(seat.getSeatNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배정을 되돌리면 좌석과 사용자가 다시 풀린다")
+    void releaseFreesSeatAndUser() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+
+        // when
+        engine.release(1L, 1, "user-1");
+
+        // then
+        assertThat(engine.hold(1L, 1, "user-2", null).getReservedBy()).isEqualTo("user-2");
+        assertThat(engine.hold(1L, 2, "user-1", null).getReservedBy()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("다른 사용자 이름으로는 배정을 되돌리지 않는다")
+    void releaseIgnoresOtherUser() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+
+        // when
+        engine.release(1L, 1, "user-2");
+
+        // then
+        assertThatThrownBy(() -> engine.hold(1L, 1, "user-3", null))
+                .hasMessage("이미 임시 배정된 좌석입니다");
+    }
+
+    @Test
+    @DisplayName("저장이 거절된 좌석은 DB 에서 선점한 사용자에게 잡힌 채로 남는다")
+    void reconcileKeepsSeatTakenInDatabase() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+        Seat stored = Seat.create(1L, 1, "R", BigDecimal.valueOf(100000));
+        stored.temporaryReserve("other-node-user");
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 1)).willReturn(Optional.of(stored));
+
+        // when
+        engine.reconcile(1L, 1, "user-1");
+
+        // then
+        assertThatThrownBy(() -> engine.hold(1L, 1, "user-2", null))
+                .hasMessage("이미 임시 배정된 좌석입니다");
+        assertThat(engine.hold(1L, 2, "user-1", null).getReservedBy()).isEqualTo("user-1");
+        engine.release(1L, 1, "other-node-user");
+        assertThat(engine.hold(1L, 1, "user-2", null).getReservedBy()).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("저장이 실패했어도 DB 에서 비어 있는 좌석은 다시 푼다")
+    void reconcileFreesSeatAvailableInDatabase() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 1))
+                .willReturn(Optional.of(Seat.create(1L, 1, "R", BigDecimal.valueOf(100000))));
+
+        // when
+        engine.reconcile(1L, 1, "user-1");
+
+        // then
+        assertThat(engine.hold(1L, 1, "user-2", null).getReservedBy()).isEqualTo("user-2");
+    }
+
+    @Test
+    @DisplayName("DB 를 읽지 못하면 좌석을 잡힌 채로 둔다")
+    void reconcileKeepsSeatHeldWhenReadFails() {
+        // given
+        engine.hold(1L, 1, "user-1", null);
+        given(seatRepository.findByScheduleIdAndSeatNumber(1L, 1)).willThrow(new RuntimeException("timeout"));
+
+        // when
+        engine.reconcile(1L, 1, "user-1");
+
+        // then
+        assertThatThrownBy(() -> engine.hold(1L, 1, "user-2", null))
+                .hasMessage("이미 임시 배정된 좌석입니다");
+    }
+
+    @Test
+    @DisplayName("다른 콘서트 토큰이나 없는 좌석은 거절한다")
+    void rejectInvalidRequests() {
+        assertThatThrownBy(() -> engine.hold(1L, 1, "user-1", 8L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("다른 콘서트의 대기열 토큰으로는 예약할 수 없습니다");
+        assertThatThrownBy(() -> engine.hold(1L, 4, "user-1", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌석을 찾을 수 없습니다");
+    }
+}
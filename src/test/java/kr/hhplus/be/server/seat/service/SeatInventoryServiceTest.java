@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryServiceTest {
+
+    private static final SeatLayout LAYOUT = SeatLayout.builder()
+            .sections(List.of(SeatLayout.Section.builder()
+                    .name("A")
+                    .rows(5)
+                    .seatsPerRow(5)
+                    .grade("R")
+                    .price(BigDecimal.valueOf(100000))
+                    .build()))
+            .build();
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("좌석을 chunk 단위로 나눠 저장한다")
+    @SuppressWarnings("unchecked")
+    void insertInChunks() {
+        // given
+        SeatInventoryService service = new SeatInventoryService(seatRepository, transactionManager, 10);
+        given(seatRepository.findMaxSeatNumber(1L)).willReturn(0);
+
+        // when
+        int total = service.createInventory(1L, LAYOUT);
+
+        // then
+        assertThat(total).isEqualTo(25);
+        ArgumentCaptor<List<Seat>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(seatRepository, times(3)).saveAll(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(10, 10, 5);
+        assertThat(chunks.getAllValues().get(2).get(0).getSeatNumber()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("이미 만든 좌석 번호 다음부터 이어서 만든다")
+    @SuppressWarnings("unchecked")
+    void resumeAfterExistingSeats() {
+        // given
+        SeatInventoryService service = new SeatInventoryService(seatRepository, transactionManager, 10);
+        given(seatRepository.findMaxSeatNumber(1L)).willReturn(18);
+
+        // when
+        service.createInventory(1L, LAYOUT);
+
+        // then
+        ArgumentCaptor<List<Seat>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(seatRepository).saveAll(chunks.capture());
+        assertThat(chunks.getValue()).extracting(Seat::getSeatNumber).containsExactly(19, 20, 21, 22, 23, 24, 25);
+    }
+
+    @Test
+    @DisplayName("모든 좌석이 이미 있으면 저장하지 않는다")
+    void skipWhenInventoryExists() {
+        // given
+        SeatInventoryService service = new SeatInventoryService(seatRepository, transactionManager, 10);
+        given(seatRepository.findMaxSeatNumber(1L)).willReturn(25);
+
+        // when
+        service.createInventory(1L, LAYOUT);
+
+        // then
+        verify(seatRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("배치보다 많은 좌석이 있으면 예외가 발생한다")
+    void rejectWhenMoreSeatsExist() {
+        // given
+        SeatInventoryService service = new SeatInventoryService(seatRepository, transactionManager, 10);
+        given(seatRepository.findMaxSeatNumber(1L)).willReturn(26);
+
+        // when & then
+        assertThatThrownBy(() -> service.createInventory(1L, LAYOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("좌석 배치보다 많은 좌석이 이미 있습니다");
+    }
+
+    @Test
+    @DisplayName("생성 단위가 1보다 작으면 예외가 발생한다")
+    void rejectInvalidChunkSize() {
+        assertThatThrownBy(() -> new SeatInventoryService(seatRepository, transactionManager, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌석 생성 단위는 1 이상이어야 합니다");
+    }
+}
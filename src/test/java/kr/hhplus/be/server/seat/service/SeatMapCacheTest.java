@@ -0,0 +1,459 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.schedule.domain.Schedule;
+import kr.hhplus.be.server.schedule.repository.ScheduleRepository;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.domain.model.SeatLayout;
+import kr.hhplus.be.server.seat.dto.SeatMapView;
+import kr.hhplus.be.server.seat.dto.SeatResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatMapCacheTest {
+
+    private static final long MAX_STALENESS_MILLIS = 1000;
+    private static final int CHANGE_LOG_SIZE = 4;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private SeatMapCache cache;
+    private List<Runnable> pendingRefreshes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        cache = new SeatMapCache(seatRepository, scheduleRepository, meterRegistry, MAX_STALENESS_MILLIS, 30, CHANGE_LOG_SIZE,
+                clock, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("신선한 스냅샷은 DB 를 다시 읽지 않고 응답한다")
+    void serveFreshSnapshotWithoutQuery() {
+        // given
+        givenSeats(seats(3));
+        SeatMapSnapshot first = cache.get(1L);
+
+        // when
+        clock.advance(MAX_STALENESS_MILLIS);
+        SeatMapSnapshot second = cache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.availableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(1, 2, 3);
+        verify(seatRepository, times(1)).findByScheduleId(1L);
+        assertThat(meterRegistry.get("seat.map.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("seat.map.requests").tag("result", "load").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 시간보다 오래된 스냅샷은 DB 에서 다시 읽는다")
+    void reloadStaleSnapshot() {
+        // given
+        givenSeats(seats(3));
+        cache.get(1L);
+        List<Seat> changed = seats(3);
+        changed.get(1).temporaryReserve("other-node");
+        given(seatRepository.findByScheduleId(1L)).willReturn(changed);
+
+        // when
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        SeatMapSnapshot snapshot = cache.get(1L);
+
+        // then
+        assertThat(snapshot.availableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(1, 3);
+        verify(seatRepository, times(2)).findByScheduleId(1L);
+    }
+
+    @Test
+    @DisplayName("다시 읽는 동안에는 기존 스냅샷으로 응답하고 한 번만 다시 읽는다")
+    void serveStaleSnapshotWhileRefreshing() {
+        // given
+        useDeferredRefresh();
+        givenSeats(seats(3));
+        SeatMapSnapshot first = cache.get(1L);
+
+        // when
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        SeatMapSnapshot during = cache.get(1L);
+        cache.get(1L);
+
+        // then
+        assertThat(during).isSameAs(first);
+        assertThat(pendingRefreshes).hasSize(1);
+        verify(seatRepository, times(1)).findByScheduleId(1L);
+        assertThat(meterRegistry.get("seat.map.requests").tag("result", "stale").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다시 읽는 동안 이 노드에서 바뀐 좌석은 새 스냅샷에도 반영한다")
+    void carryLocalChangesAcrossRefresh() {
+        // given
+        useDeferredRefresh();
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        cache.get(1L);
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        cache.get(1L);
+
+        // when
+        cache.seatTaken(seats.get(0));
+        pendingRefreshes.forEach(Runnable::run);
+        SeatMapSnapshot refreshed = cache.get(1L);
+
+        // then
+        assertThat(refreshed.isAvailable(1)).isFalse();
+        assertThat(refreshed.availableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(2, 3);
+        verify(seatRepository, times(2)).findByScheduleId(1L);
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 사이 바뀐 좌석은 새 스냅샷을 내보내기 전에 순서대로 반영한다")
+    void replayChangesBeforePublishingRefresh() {
+        // given
+        useDeferredRefresh();
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        SeatMapSnapshot first = cache.get(1L);
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        cache.get(1L);
+        given(seatRepository.findByScheduleId(1L)).willAnswer(invocation -> {
+            cache.seatTaken(seats.get(0));
+            cache.seatTaken(seats.get(1));
+            cache.seatReleased(seats.get(0));
+            return seats;
+        });
+
+        // when
+        pendingRefreshes.forEach(Runnable::run);
+        SeatMapSnapshot refreshed = cache.get(1L);
+
+        // then
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed.isAvailable(1)).isTrue();
+        assertThat(refreshed.isAvailable(2)).isFalse();
+        assertThat(refreshed.availableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 예약 가능 좌석이 같으면 version 을 유지한다")
+    void keepVersionWhenReloadIsUnchanged() {
+        // given
+        givenSeats(seats(3));
+        long version = cache.get(1L).version();
+
+        // when
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        SeatMapSnapshot snapshot = cache.get(1L);
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("선점과 해제는 비트를 바꾸고 version 을 올린다")
+    void applySeatChanges() {
+        // given
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        SeatMapSnapshot snapshot = cache.get(1L);
+        long version = snapshot.version();
+        List<SeatResponse> before = snapshot.availableSeats();
+
+        // when
+        cache.seatTaken(seats.get(0));
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(version + 1);
+        assertThat(snapshot.isAvailable(1)).isFalse();
+        assertThat(snapshot.availableCount()).isEqualTo(2);
+        assertThat(snapshot.availableSeats()).isNotSameAs(before)
+                .extracting(SeatResponse::getSeatNumber).containsExactly(2, 3);
+
+        // when
+        cache.seatReleased(seats.get(0));
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(version + 2);
+        assertThat(snapshot.isAvailable(1)).isTrue();
+        assertThat(meterRegistry.get("seat.map.updates").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 변경은 version 을 올리지 않는다")
+    void ignoreRepeatedChange() {
+        // given
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        SeatMapSnapshot snapshot = cache.get(1L);
+        cache.seatTaken(seats.get(0));
+        long version = snapshot.version();
+
+        // when
+        cache.seatTaken(seats.get(0));
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("sinceVersion 이후 바뀐 좌석만 돌려준다")
+    void viewChangesSinceVersion() {
+        // given
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        SeatMapSnapshot snapshot = cache.get(1L);
+        cache.seatTaken(seats.get(0));
+        long since = snapshot.version();
+        cache.seatTaken(seats.get(1));
+        cache.seatReleased(seats.get(0));
+
+        // when
+        SeatMapView view = snapshot.view(since);
+
+        // then
+        assertThat(view.isDelta()).isTrue();
+        assertThat(view.getVersion()).isEqualTo(since + 2);
+        assertThat(view.getAvailableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(1);
+        assertThat(view.getUnavailableSeatNumbers()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("현재 version 으로 물으면 빈 delta 를 돌려준다")
+    void emptyDeltaForCurrentVersion() {
+        // given
+        givenSeats(seats(3));
+        SeatMapSnapshot snapshot = cache.get(1L);
+
+        // when
+        SeatMapView view = snapshot.view(snapshot.version());
+
+        // then
+        assertThat(view.isDelta()).isTrue();
+        assertThat(view.getAvailableSeats()).isEmpty();
+        assertThat(view.getUnavailableSeatNumbers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 기록에서 밀려난 version 이나 모르는 version 으로 물으면 전체 목록을 돌려준다")
+    void fullViewWhenVersionIsUnknown() {
+        // given
+        List<Seat> seats = seats(3);
+        givenSeats(seats);
+        SeatMapSnapshot snapshot = cache.get(1L);
+        long since = snapshot.version();
+        for (int i = 0; i < CHANGE_LOG_SIZE; i++) {
+            cache.seatTaken(seats.get(i % 3));
+            cache.seatReleased(seats.get(i % 3));
+        }
+
+        // when
+        SeatMapView behind = snapshot.view(since);
+        SeatMapView ahead = snapshot.view(snapshot.version() + 1);
+
+        // then
+        assertThat(behind.isDelta()).isFalse();
+        assertThat(behind.getAvailableSeats()).extracting(SeatResponse::getSeatNumber).containsExactly(1, 2, 3);
+        assertThat(ahead.isDelta()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다시 읽으며 발견한 다른 노드의 변경도 delta 로 돌려준다")
+    void deltaAcrossReload() {
+        // given
+        givenSeats(seats(3));
+        long since = cache.get(1L).version();
+        List<Seat> changed = seats(3);
+        changed.get(2).temporaryReserve("other-node");
+        given(seatRepository.findByScheduleId(1L)).willReturn(changed);
+
+        // when
+        clock.advance(MAX_STALENESS_MILLIS + 1);
+        SeatMapView view = cache.get(1L).view(since);
+
+        // then
+        assertThat(view.isDelta()).isTrue();
+        assertThat(view.getVersion()).isEqualTo(since + 1);
+        assertThat(view.getUnavailableSeatNumbers()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("연석 배정은 앞 열에서 가운데에 가까운 붙은 좌석을 고르고 바로 예약 불가로 표시한다")
+    void claimBestAvailableBlock() {
+        // given
+        List<Seat> seats = layoutSeats();
+        givenSeats(seats);
+        SeatMapSnapshot snapshot = cache.get(1L);
+        long version = snapshot.version();
+
+        // when
+        int[] claimed = cache.claimBestAvailable(1L, "R", 2, true);
+
+        // then
+        assertThat(claimed).containsExactly(15, 16);
+        assertThat(snapshot.isAvailable(15)).isFalse();
+        assertThat(snapshot.isAvailable(16)).isFalse();
+        assertThat(snapshot.version()).isEqualTo(version + 2);
+    }
+
+    @Test
+    @DisplayName("열에 붙은 빈 좌석이 모자라면 다음 열에서 고른다")
+    void claimBestAvailableSkipsFragmentedRow() {
+        // given
+        List<Seat> seats = layoutSeats();
+        givenSeats(seats);
+        cache.get(1L);
+        // R 구역 첫 열(11~20)을 한 칸씩 건너 막는다
+        for (int seatNumber = 11; seatNumber <= 20; seatNumber += 2) {
+            cache.seatTaken(seats.get(seatNumber - 1));
+        }
+
+        // when
+        int[] claimed = cache.claimBestAvailable(1L, "R", 2, true);
+
+        // then
+        assertThat(claimed).containsExactly(25, 26);
+    }
+
+    @Test
+    @DisplayName("붙은 좌석이 없으면 연석 조건일 때는 빈 배열, 아닐 때는 떨어진 좌석을 돌려준다")
+    void claimBestAvailableScattered() {
+        // given
+        List<Seat> seats = layoutSeats();
+        givenSeats(seats);
+        cache.get(1L);
+        for (int seatNumber = 1; seatNumber <= 10; seatNumber += 2) {
+            cache.seatTaken(seats.get(seatNumber - 1));
+        }
+
+        // when
+        int[] adjacent = cache.claimBestAvailable(1L, "VIP", 2, true);
+        int[] scattered = cache.claimBestAvailable(1L, "VIP", 2, false);
+
+        // then
+        assertThat(adjacent).isEmpty();
+        assertThat(scattered).containsExactly(4, 6);
+    }
+
+    @Test
+    @DisplayName("되돌린 좌석과 해제된 좌석은 다시 배정할 수 있다")
+    void unclaimMakesSeatsClaimableAgain() {
+        // given
+        givenSeats(layoutSeats());
+        int[] claimed = cache.claimBestAvailable(1L, "VIP", 10, true);
+
+        // when
+        int[] whileClaimed = cache.claimBestAvailable(1L, "VIP", 1, true);
+        cache.unclaim(1L, List.of(5, 6));
+        int[] afterUnclaim = cache.claimBestAvailable(1L, "VIP", 2, true);
+
+        // then
+        assertThat(claimed).hasSize(10);
+        assertThat(whileClaimed).isEmpty();
+        assertThat(afterUnclaim).containsExactly(5, 6);
+    }
+
+    @Test
+    @DisplayName("일정이 없으면 예외가 발생한다")
+    void throwWhenScheduleNotFound() {
+        // given
+        given(scheduleRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("일정을 찾을 수 없습니다");
+    }
+
+    private void useDeferredRefresh() {
+        pendingRefreshes = new ArrayList<>();
+        cache = new SeatMapCache(seatRepository, scheduleRepository, meterRegistry, MAX_STALENESS_MILLIS, 30, CHANGE_LOG_SIZE,
+                clock, pendingRefreshes::add);
+    }
+
+    private void givenSeats(List<Seat> seats) {
+        given(scheduleRepository.findById(1L)).willReturn(Optional.of(Schedule.builder()
+                .id(1L)
+                .totalSeats(seats.size())
+                .availableSeats(seats.size())
+                .build()));
+        given(seatRepository.findByScheduleId(1L)).willReturn(seats);
+    }
+
+    /**
+     * VIP 1열, R 2열. 열마다 10석이고 좌석 번호는 1~30 이다.
+     */
+    private List<Seat> layoutSeats() {
+        List<Seat> seats = SeatLayout.builder()
+                .sections(List.of(
+                        SeatLayout.Section.builder().name("A").rows(1).seatsPerRow(10)
+                                .grade("VIP").price(BigDecimal.valueOf(150000)).build(),
+                        SeatLayout.Section.builder().name("B").rows(2).seatsPerRow(10)
+                                .grade("R").price(BigDecimal.valueOf(100000)).build()))
+                .build()
+                .createSeats(1L);
+        seats.forEach(seat -> seat.assignId(100L + seat.getSeatNumber()));
+        return seats;
+    }
+
+    private List<Seat> seats(int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= count; seatNumber++) {
+            Seat seat = Seat.create(1L, seatNumber, "R", BigDecimal.valueOf(100000));
+            seat.assignId(100L + seatNumber);
+            seats.add(seat);
+        }
+        return seats;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
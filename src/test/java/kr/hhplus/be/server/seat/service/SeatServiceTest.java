@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.reservation.application.SeatSingleFlight;
+import kr.hhplus.be.server.schedule.service.ScheduleSeatCounter;
+import kr.hhplus.be.server.seat.domain.SeatRepository;
+import kr.hhplus.be.server.seat.domain.model.Seat;
+import kr.hhplus.be.server.seat.dto.SeatSectionPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatServiceTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ScheduleSeatCounter seatCounter;
+
+    @Mock
+    private SeatHoldEngine seatHoldEngine;
+
+    @Mock
+    private SeatMapCache seatMapCache;
+
+    @Mock
+    private SeatSingleFlight seatSingleFlight;
+
+    @InjectMocks
+    private SeatService seatService;
+
+    @Test
+    @DisplayName("구역 좌석은 등급과 가격을 페이지마다 한 번만 싣는다")
+    void sectionSeatsShareTiers() {
+        // given
+        given(seatRepository.findAvailableInSection(1L, "A", 0, 3)).willReturn(List.of(
+                seat(11, "1", 1, "VIP", "150000"),
+                seat(12, "1", 2, "VIP", "150000.00"),
+                seat(13, "2", 1, "R", "100000")));
+
+        // when
+        SeatSectionPage page = seatService.getSectionSeats(1L, "A", 0, 3);
+
+        // then
+        assertThat(page.getTiers()).extracting(SeatSectionPage.Tier::getGrade).containsExactly("VIP", "R");
+        assertThat(page.getTierIndexes()).containsExactly(0, 0, 1);
+        assertThat(page.getSeatNumbers()).containsExactly(11, 12, 13);
+        assertThat(page.getRowLabels()).containsExactly("1", "1", "2");
+        assertThat(page.getNextAfterSeatNumber()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("페이지가 다 차지 않으면 다음 페이지가 없다")
+    void lastSectionPage() {
+        // given
+        given(seatRepository.findAvailableInSection(1L, "A", 13, 3)).willReturn(List.of(seat(14, "2", 2, "R", "100000")));
+
+        // when
+        SeatSectionPage page = seatService.getSectionSeats(1L, "A", 13, 3);
+
+        // then
+        assertThat(page.getSeatNumbers()).containsExactly(14);
+        assertThat(page.getNextAfterSeatNumber()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void rejectInvalidPageSize() {
+        assertThatThrownBy(() -> seatService.getSectionSeats(1L, "A", 0, 1001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("페이지 크기는 1부터 1000 사이여야 합니다");
+    }
+
+    @Test
+    @DisplayName("만료된 임시 예약을 해제하면 기억해 둔 좌석 선점도 지운다")
+    void releaseExpiredHoldForgetsTakenSeat() {
+        // given
+        Seat seat = seat(11, "1", 1, "VIP", "150000");
+        seat.temporaryReserve("user-1");
+        given(seatRepository.findById(seat.getId())).willReturn(Optional.of(seat));
+        given(seatRepository.releaseExpiredHold(eq(seat.getId()), any(LocalDateTime.class))).willReturn(true);
+
+        // when
+        boolean released = seatService.releaseExpiredHold(seat.getId());
+
+        // then
+        assertThat(released).isTrue();
+        verify(seatCounter).release(1L);
+        verify(seatMapCache).seatReleased(seat);
+        verify(seatSingleFlight).seatReleased(1L, 11);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 해제하면 인메모리 배정은 커밋된 뒤에 지운다")
+    void releaseExpiredHoldReleasesEngineAfterCommit() {
+        // given
+        Seat seat = seat(11, "1", 1, "VIP", "150000");
+        seat.temporaryReserve("user-1");
+        given(seatRepository.findById(seat.getId())).willReturn(Optional.of(seat));
+        given(seatRepository.releaseExpiredHold(eq(seat.getId()), any(LocalDateTime.class))).willReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            seatService.releaseExpiredHold(seat.getId());
+
+            // then
+            verify(seatHoldEngine, never()).release(any(), any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(seatHoldEngine).release(1L, 11, "user-1");
+    }
+
+    private Seat seat(int seatNumber, String rowLabel, int seatInRow, String grade, String price) {
+        Seat seat = Seat.create(1L, seatNumber, "A", rowLabel, seatInRow, grade, new BigDecimal(price));
+        seat.assignId(100L + seatNumber);
+        return seat;
+    }
+}